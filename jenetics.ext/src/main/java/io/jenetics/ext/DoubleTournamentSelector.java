@@ -0,0 +1,223 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Random;
+import java.util.function.ToIntFunction;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.Seq;
+
+/**
+ * Parsimony pressure selector, which implements the <em>fitness first double
+ * tournament</em> described by Luke and Panait. Two contestants are chosen by
+ * two ordinary fitness tournaments. From this two contestants, the smaller
+ * one is selected with probability {@code D/2}, where the <em>parsimony
+ * pressure</em> {@code D} is in the range of {@code [1, 2]}. A parsimony
+ * pressure of one disables the size tournament and a value of two always
+ * selects the smaller contestant. Values around {@code 1.4} are recommended
+ * for controlling the <em>bloat</em> of tree chromosomes without hurting the
+ * fitness.
+ *
+ * <pre>{@code
+ * final Engine<ProgramGene<Double>, Double> engine = Engine.builder(problem)
+ *     .minimizing()
+ *     .selector(new DoubleTournamentSelector<>(7, 1.4))
+ *     .build();
+ * }</pre>
+ *
+ * The default size of an individual is the number of genes of its genotype,
+ * which is the number of tree nodes for tree chromosomes.
+ *
+ * @see <a href="https://cs.gmu.edu/~sean/papers/fitness-first.pdf">
+ *     Fighting Bloat With Nonparametric Parsimony Pressure</a>
+ * @see io.jenetics.TournamentSelector
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+public class DoubleTournamentSelector<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Selector<G, C>
+{
+
+	private final int _sampleSize;
+	private final double _parsimony;
+	private final ToIntFunction<? super Genotype<G>> _size;
+
+	/**
+	 * Create a new double tournament selector.
+	 *
+	 * @param sampleSize the number of individuals involved in one fitness
+	 *        tournament
+	 * @param parsimony the parsimony pressure {@code D}, in the range of
+	 *        {@code [1, 2]}
+	 * @param size the function which calculates the size of an individual
+	 * @throws IllegalArgumentException if the sample size is smaller than two
+	 *         or the parsimony pressure is not in the range of {@code [1, 2]}
+	 * @throws NullPointerException if the {@code size} function is
+	 *         {@code null}
+	 */
+	public DoubleTournamentSelector(
+		final int sampleSize,
+		final double parsimony,
+		final ToIntFunction<? super Genotype<G>> size
+	) {
+		if (sampleSize < 2) {
+			throw new IllegalArgumentException(
+				"Sample size must be greater than one, but was " + sampleSize
+			);
+		}
+		if (!(parsimony >= 1 && parsimony <= 2)) {
+			throw new IllegalArgumentException(format(
+				"Parsimony pressure must be in the range [1, 2]: %f",
+				parsimony
+			));
+		}
+
+		_sampleSize = sampleSize;
+		_parsimony = parsimony;
+		_size = requireNonNull(size);
+	}
+
+	/**
+	 * Create a new double tournament selector, which uses the number of genes
+	 * as size of an individual.
+	 *
+	 * @param sampleSize the number of individuals involved in one fitness
+	 *        tournament
+	 * @param parsimony the parsimony pressure {@code D}, in the range of
+	 *        {@code [1, 2]}
+	 * @throws IllegalArgumentException if the sample size is smaller than two
+	 *         or the parsimony pressure is not in the range of {@code [1, 2]}
+	 */
+	public DoubleTournamentSelector(final int sampleSize, final double parsimony) {
+		this(sampleSize, parsimony, Genotype::geneCount);
+	}
+
+	/**
+	 * Create a new double tournament selector with a fitness tournament size
+	 * of seven and a parsimony pressure of 1.4.
+	 */
+	public DoubleTournamentSelector() {
+		this(7, 1.4);
+	}
+
+	/**
+	 * Return the sample size of the fitness tournaments.
+	 *
+	 * @return the sample size of the fitness tournaments
+	 */
+	public int sampleSize() {
+		return _sampleSize;
+	}
+
+	/**
+	 * Return the parsimony pressure of the size tournament.
+	 *
+	 * @return the parsimony pressure of the size tournament
+	 */
+	public double parsimony() {
+		return _parsimony;
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> select(
+		final Seq<Phenotype<G, C>> population,
+		final int count,
+		final Optimize opt
+	) {
+		requireNonNull(population, "Population");
+		requireNonNull(opt, "Optimization");
+		if (count < 0) {
+			throw new IllegalArgumentException(format(
+				"Selection count must be greater or equal then zero, but was %s",
+				count
+			));
+		}
+
+		final Random random = RandomRegistry.random();
+		return population.isEmpty()
+			? ISeq.empty()
+			: MSeq.<Phenotype<G, C>>ofLength(count)
+				.fill(() -> select(population, opt, random))
+				.toISeq();
+	}
+
+	private Phenotype<G, C> select(
+		final Seq<Phenotype<G, C>> population,
+		final Optimize opt,
+		final Random random
+	) {
+		final Phenotype<G, C> pt1 = tournament(population, opt, random);
+		final Phenotype<G, C> pt2 = tournament(population, opt, random);
+
+		final int size1 = _size.applyAsInt(pt1.genotype());
+		final int size2 = _size.applyAsInt(pt2.genotype());
+		if (size1 == size2) {
+			return pt1;
+		}
+
+		final Phenotype<G, C> smaller = size1 < size2 ? pt1 : pt2;
+		final Phenotype<G, C> larger = size1 < size2 ? pt2 : pt1;
+		return random.nextDouble() < _parsimony/2.0 ? smaller : larger;
+	}
+
+	private Phenotype<G, C> tournament(
+		final Seq<Phenotype<G, C>> population,
+		final Optimize opt,
+		final Random random
+	) {
+		final int N = population.size();
+
+		Phenotype<G, C> winner = population.get(random.nextInt(N));
+		for (int i = 1; i < _sampleSize; ++i) {
+			final Phenotype<G, C> pt = population.get(random.nextInt(N));
+			winner = opt.best(winner, pt);
+		}
+
+		return winner;
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"%s[s=%d, D=%f]",
+			getClass().getSimpleName(), _sampleSize, _parsimony
+		);
+	}
+
+}
@@ -0,0 +1,256 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext;
+
+import static java.lang.Math.max;
+
+import io.jenetics.util.BaseSeq;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+
+import io.jenetics.ext.util.FlatTree;
+
+/**
+ * Structural operations on flattened trees, which work directly on the
+ * breadth-first ordered node arrays, without converting the trees into
+ * {@link io.jenetics.ext.util.TreeNode} objects first.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+final class FlatTrees {
+	private FlatTrees() {}
+
+	/**
+	 * Checks the maximal tree size and depth of the tree alterers.
+	 *
+	 * @param maxSize the maximal number of nodes of an altered tree
+	 * @param maxDepth the maximal depth of an altered tree
+	 * @throws IllegalArgumentException if the {@code maxSize} is smaller than
+	 *         one or the {@code maxDepth} is negative
+	 */
+	static void checkLimits(final int maxSize, final int maxDepth) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException(
+				"Max tree size must be greater than zero: " + maxSize
+			);
+		}
+		if (maxDepth < 0) {
+			throw new IllegalArgumentException(
+				"Max tree depth must not be negative: " + maxDepth
+			);
+		}
+	}
+
+	/**
+	 * Return the number of nodes of the sub-tree with the given root
+	 * {@code index}.
+	 *
+	 * @param nodes the breadth-first ordered tree nodes
+	 * @param index the index of the sub-tree root
+	 * @return the number of nodes of the sub-tree
+	 */
+	static int size(
+		final BaseSeq<? extends FlatTree<?, ?>> nodes,
+		final int index
+	) {
+		// Children of a breadth-first ordered sub-tree are stored in a
+		// contiguous range for every level.
+		int size = 0;
+		int start = index;
+		int end = index + 1;
+		while (start < end) {
+			size += end - start;
+
+			int next = -1;
+			int count = 0;
+			for (int i = start; i < end; ++i) {
+				final FlatTree<?, ?> node = nodes.get(i);
+				if (node.childCount() > 0) {
+					if (next == -1) {
+						next = node.childOffset();
+					}
+					count += node.childCount();
+				}
+			}
+
+			start = next;
+			end = next + count;
+		}
+
+		return size;
+	}
+
+	/**
+	 * Return the depth of the sub-tree with the given root {@code index}.
+	 *
+	 * @param nodes the breadth-first ordered tree nodes
+	 * @param index the index of the sub-tree root
+	 * @return the depth of the sub-tree
+	 */
+	static int depth(
+		final BaseSeq<? extends FlatTree<?, ?>> nodes,
+		final int index
+	) {
+		int depth = -1;
+		int start = index;
+		int end = index + 1;
+		while (start < end) {
+			++depth;
+
+			int next = -1;
+			int count = 0;
+			for (int i = start; i < end; ++i) {
+				final FlatTree<?, ?> node = nodes.get(i);
+				if (node.childCount() > 0) {
+					if (next == -1) {
+						next = node.childOffset();
+					}
+					count += node.childCount();
+				}
+			}
+
+			start = next;
+			end = next + count;
+		}
+
+		return depth;
+	}
+
+	/**
+	 * Return the number of nodes of the tree, which is created by
+	 * {@link #replace(BaseSeq, int, BaseSeq, int, TreeGene)} with the same
+	 * arguments.
+	 *
+	 * @param tree the breadth-first ordered nodes of the target tree
+	 * @param index the sub-tree index of the target tree
+	 * @param other the breadth-first ordered nodes of the source tree
+	 * @param otherIndex the sub-tree index of the source tree
+	 * @return the number of nodes of the replaced tree
+	 */
+	static int size(
+		final BaseSeq<? extends FlatTree<?, ?>> tree,
+		final int index,
+		final BaseSeq<? extends FlatTree<?, ?>> other,
+		final int otherIndex
+	) {
+		return tree.length() - size(tree, index) + size(other, otherIndex);
+	}
+
+	/**
+	 * Return the depth of the tree, which is created by
+	 * {@link #replace(BaseSeq, int, BaseSeq, int, TreeGene)} with the same
+	 * arguments.
+	 *
+	 * @param tree the breadth-first ordered nodes of the target tree
+	 * @param index the sub-tree index of the target tree
+	 * @param other the breadth-first ordered nodes of the source tree
+	 * @param otherIndex the sub-tree index of the source tree
+	 * @return the depth of the replaced tree
+	 */
+	static int depth(
+		final BaseSeq<? extends FlatTree<?, ?>> tree,
+		final int index,
+		final BaseSeq<? extends FlatTree<?, ?>> other,
+		final int otherIndex
+	) {
+		// Parents are always visited before their children, which allows to
+		// propagate the node levels in one pass.
+		final int[] levels = new int[tree.length()];
+		final boolean[] replaced = new boolean[tree.length()];
+		replaced[index] = true;
+
+		int depth = 0;
+		for (int i = 0; i < tree.length(); ++i) {
+			if (!replaced[i]) {
+				depth = max(depth, levels[i]);
+			}
+
+			final FlatTree<?, ?> node = tree.get(i);
+			for (int j = 0; j < node.childCount(); ++j) {
+				final int child = node.childOffset() + j;
+				levels[child] = levels[i] + 1;
+				replaced[child] = replaced[i] || child == index;
+			}
+		}
+
+		return max(depth, levels[index] + depth(other, otherIndex));
+	}
+
+	/**
+	 * Replaces the sub-tree with the root {@code index} of the given
+	 * {@code tree} with the sub-tree of the {@code other} tree, with the root
+	 * {@code otherIndex}. The result is directly written in breadth-first
+	 * order, where the nodes are created with the given {@code template}
+	 * gene.
+	 *
+	 * @param tree the breadth-first ordered nodes of the target tree
+	 * @param index the sub-tree index of the target tree
+	 * @param other the breadth-first ordered nodes of the source tree
+	 * @param otherIndex the sub-tree index of the source tree
+	 * @param template the gene used for creating the new tree genes
+	 * @param <A> the allele type
+	 * @param <G> the gene type
+	 * @return the genes of the new tree
+	 */
+	static <A, G extends TreeGene<A, G>> ISeq<G> replace(
+		final BaseSeq<? extends FlatTree<? extends A, ?>> tree,
+		final int index,
+		final BaseSeq<? extends FlatTree<? extends A, ?>> other,
+		final int otherIndex,
+		final G template
+	) {
+		final int size = size(tree, index, other, otherIndex);
+
+		// Node references of the new tree. Nodes of the other tree are stored
+		// as negative values: ~index.
+		final int[] nodes = new int[size];
+		nodes[0] = index == 0 ? ~otherIndex : 0;
+
+		final MSeq<G> genes = MSeq.ofLength(size);
+		int next = 1;
+		for (int i = 0; i < size; ++i) {
+			final int ref = nodes[i];
+			final FlatTree<? extends A, ?> node = ref >= 0
+				? tree.get(ref)
+				: other.get(~ref);
+
+			final int count = node.childCount();
+			genes.set(i, template.newInstance(
+				node.value(),
+				count > 0 ? next : -1,
+				count
+			));
+
+			for (int j = 0; j < count; ++j) {
+				final int child = node.childOffset() + j;
+				if (ref >= 0) {
+					nodes[next++] = child == index ? ~otherIndex : child;
+				} else {
+					nodes[next++] = ~child;
+				}
+			}
+		}
+
+		return genes.toISeq();
+	}
+
+}
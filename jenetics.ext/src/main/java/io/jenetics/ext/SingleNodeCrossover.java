@@ -66,7 +66,7 @@ import io.jenetics.ext.util.TreeNode;
  * }</pre>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.2
  * @since 3.9
  */
 public class SingleNodeCrossover<
@@ -84,6 +84,27 @@ public class SingleNodeCrossover<
 		this(DEFAULT_ALTER_PROBABILITY);
 	}
 
+	/**
+	 * Create a new single node crossover, which discards offspring trees
+	 * exceeding the given size and depth limits.
+	 *
+	 * @since 6.2
+	 *
+	 * @param probability the recombination probability
+	 * @param maxSize the maximal number of nodes of an offspring tree
+	 * @param maxDepth the maximal depth of an offspring tree
+	 * @throws IllegalArgumentException if the {@code probability} is not in the
+	 *          valid range of {@code [0, 1]}, the {@code maxSize} is smaller
+	 *          than one or the {@code maxDepth} is negative
+	 */
+	public SingleNodeCrossover(
+		final double probability,
+		final int maxSize,
+		final int maxDepth
+	) {
+		super(probability, maxSize, maxDepth);
+	}
+
 	@Override
 	protected <A> int crossover(final TreeNode<A> that, final TreeNode<A> other) {
 		return swap(that, other);
@@ -0,0 +1,219 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+
+import java.util.Random;
+
+import io.jenetics.Chromosome;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.Recombinator;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * Swaps two, randomly chosen, nodes (sub-trees) from two given trees. This
+ * crossover chooses the swapped sub-trees exactly like the
+ * {@link SingleNodeCrossover}, but works directly on the flattened genes of
+ * the tree chromosomes. The trees are not converted to
+ * {@link io.jenetics.ext.util.TreeNode} objects and back, which makes this
+ * crossover considerably cheaper for big trees.
+ * <p>
+ * The size and depth of the created offspring trees can be limited, which
+ * prevents the uncontrolled growth (<em>bloat</em>) of the trees. An offspring
+ * tree which exceeds one of the limits is discarded and the parent tree is
+ * kept instead. The limits are checked before the offspring genes are
+ * created.
+ *
+ * @see SingleNodeCrossover
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+public class SubtreeCrossover<
+	G extends TreeGene<?, G>,
+	C extends Comparable<? super C>
+>
+	extends Recombinator<G, C>
+{
+
+	private final int _maxSize;
+	private final int _maxDepth;
+
+	/**
+	 * Constructs a sub-tree crossover with a given recombination probability
+	 * and the size and depth limits of the created offspring trees.
+	 *
+	 * @param probability the recombination probability
+	 * @param maxSize the maximal number of nodes of an offspring tree
+	 * @param maxDepth the maximal depth of an offspring tree
+	 * @throws IllegalArgumentException if the {@code probability} is not in the
+	 *          valid range of {@code [0, 1]}, the {@code maxSize} is smaller
+	 *          than one or the {@code maxDepth} is negative
+	 */
+	public SubtreeCrossover(
+		final double probability,
+		final int maxSize,
+		final int maxDepth
+	) {
+		super(probability, 2);
+		FlatTrees.checkLimits(maxSize, maxDepth);
+
+		_maxSize = maxSize;
+		_maxDepth = maxDepth;
+	}
+
+	/**
+	 * Constructs a sub-tree crossover with a given recombination probability.
+	 *
+	 * @param probability the recombination probability
+	 * @throws IllegalArgumentException if the {@code probability} is not in the
+	 *          valid range of {@code [0, 1]}
+	 */
+	public SubtreeCrossover(final double probability) {
+		this(probability, Integer.MAX_VALUE, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Constructs a sub-tree crossover with the default recombination
+	 * probability.
+	 */
+	public SubtreeCrossover() {
+		this(DEFAULT_ALTER_PROBABILITY);
+	}
+
+	/**
+	 * Return the maximal number of nodes of the created offspring trees.
+	 *
+	 * @return the maximal number of nodes of the offspring trees
+	 */
+	public int maxSize() {
+		return _maxSize;
+	}
+
+	/**
+	 * Return the maximal depth of the created offspring trees.
+	 *
+	 * @return the maximal depth of the offspring trees
+	 */
+	public int maxDepth() {
+		return _maxDepth;
+	}
+
+	@Override
+	protected int recombine(
+		final MSeq<Phenotype<G, C>> population,
+		final int[] individuals,
+		final long generation
+	) {
+		assert individuals.length == 2 : "Required order of 2";
+		final Random random = RandomRegistry.random();
+
+		final Phenotype<G, C> pt1 = population.get(individuals[0]);
+		final Phenotype<G, C> pt2 = population.get(individuals[1]);
+		final Genotype<G> gt1 = pt1.genotype();
+		final Genotype<G> gt2 = pt2.genotype();
+
+		//Choosing the Chromosome index for crossover.
+		final int chIndex = random.nextInt(min(gt1.length(), gt2.length()));
+
+		final MSeq<Chromosome<G>> c1 = MSeq.of(gt1);
+		final MSeq<Chromosome<G>> c2 = MSeq.of(gt2);
+
+		crossover(c1, c2, chIndex, random);
+
+		//Creating two new Phenotypes and exchanging it with the old.
+		population.set(
+			individuals[0],
+			Phenotype.of(Genotype.of(c1.toISeq()), generation)
+		);
+		population.set(
+			individuals[1],
+			Phenotype.of(Genotype.of(c2.toISeq()), generation)
+		);
+
+		return order();
+	}
+
+	private void crossover(
+		final MSeq<Chromosome<G>> c1,
+		final MSeq<Chromosome<G>> c2,
+		final int index,
+		final Random random
+	) {
+		final Chromosome<G> ch1 = c1.get(index);
+		final Chromosome<G> ch2 = c2.get(index);
+
+		if (ch1.length() > 1 && ch2.length() > 1) {
+			final int i1 = random.nextInt(ch1.length() - 1) + 1;
+			final int i2 = random.nextInt(ch2.length() - 1) + 1;
+
+			if (isValid(ch1, i1, ch2, i2)) {
+				c1.set(index, ch1.newInstance(swap(ch1, i1, ch2, i2)));
+			}
+			if (isValid(ch2, i2, ch1, i1)) {
+				c2.set(index, ch2.newInstance(swap(ch2, i2, ch1, i1)));
+			}
+		}
+	}
+
+	private boolean isValid(
+		final Chromosome<G> tree,
+		final int index,
+		final Chromosome<G> other,
+		final int otherIndex
+	) {
+		return FlatTrees.size(tree, index, other, otherIndex) <= _maxSize &&
+			(_maxDepth == Integer.MAX_VALUE ||
+				FlatTrees.depth(tree, index, other, otherIndex) <= _maxDepth);
+	}
+
+	// Since the allele type "A" is not part of the type signature, we have to
+	// do an unchecked cast to make it "visible" again.
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static <A, G extends TreeGene<?, G>> ISeq<G> swap(
+		final Chromosome<G> tree,
+		final int index,
+		final Chromosome<G> other,
+		final int otherIndex
+	) {
+		return (ISeq<G>)FlatTrees.replace(
+			(Chromosome<? extends TreeGene<A, ?>>)tree,
+			index,
+			(Chromosome<? extends TreeGene<A, ?>>)other,
+			otherIndex,
+			(TreeGene)tree.gene()
+		);
+	}
+
+	@Override
+	public String toString() {
+		return format("SubtreeCrossover[%f]", _probability);
+	}
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext;
+
+import java.util.Random;
+
+import io.jenetics.Chromosome;
+import io.jenetics.Mutator;
+import io.jenetics.MutatorResult;
+import io.jenetics.internal.math.Probabilities;
+
+import io.jenetics.ext.util.FlatTreeNode;
+import io.jenetics.ext.util.Tree;
+
+/**
+ * Abstract sub-tree mutator, which replaces a randomly chosen node (sub-tree)
+ * of a tree chromosome with a new sub-tree. The replacement is done directly
+ * on the flattened genes of the tree chromosome, without converting the tree
+ * into {@link io.jenetics.ext.util.TreeNode} objects and back. Only the
+ * {@link #newSubtree(TreeGene, Random)} method must be implemented.
+ * <p>
+ * The size and depth of the mutated trees can be limited, which prevents the
+ * uncontrolled growth (<em>bloat</em>) of the trees. A mutated tree which
+ * exceeds one of the limits is discarded and the original tree is kept. The
+ * limits are checked before the mutated genes are created.
+ *
+ * @see TreeMutator
+ *
+ * @param <A> the allele type
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+public abstract class SubtreeMutator<
+	A,
+	G extends TreeGene<A, G>,
+	C extends Comparable<? super C>
+>
+	extends Mutator<G, C>
+{
+
+	private final int _maxSize;
+	private final int _maxDepth;
+
+	/**
+	 * Constructs a sub-tree mutator with the default mutation probability.
+	 */
+	protected SubtreeMutator() {
+		this(DEFAULT_ALTER_PROBABILITY);
+	}
+
+	/**
+	 * Constructs a sub-tree mutator with the given mutation probability.
+	 *
+	 * @param probability the mutation probability
+	 * @throws IllegalArgumentException if the {@code probability} is not in the
+	 *          valid range of {@code [0, 1]}
+	 */
+	protected SubtreeMutator(final double probability) {
+		this(probability, Integer.MAX_VALUE, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Constructs a sub-tree mutator, which discards mutated trees exceeding
+	 * the given size and depth limits.
+	 *
+	 * @param probability the mutation probability
+	 * @param maxSize the maximal number of nodes of a mutated tree
+	 * @param maxDepth the maximal depth of a mutated tree
+	 * @throws IllegalArgumentException if the {@code probability} is not in the
+	 *          valid range of {@code [0, 1]}, the {@code maxSize} is smaller
+	 *          than one or the {@code maxDepth} is negative
+	 */
+	protected SubtreeMutator(
+		final double probability,
+		final int maxSize,
+		final int maxDepth
+	) {
+		super(probability);
+		FlatTrees.checkLimits(maxSize, maxDepth);
+
+		_maxSize = maxSize;
+		_maxDepth = maxDepth;
+	}
+
+	/**
+	 * Return the maximal number of nodes of the mutated trees.
+	 *
+	 * @return the maximal number of nodes of the mutated trees
+	 */
+	public int maxSize() {
+		return _maxSize;
+	}
+
+	/**
+	 * Return the maximal depth of the mutated trees.
+	 *
+	 * @return the maximal depth of the mutated trees
+	 */
+	public int maxDepth() {
+		return _maxDepth;
+	}
+
+	/**
+	 * Mutates the given chromosome.
+	 *
+	 * @param chromosome the chromosome to mutate
+	 * @param p the mutation probability for the underlying genetic objects
+	 * @param random the random engine used for the genotype mutation
+	 * @return the mutation result
+	 */
+	@Override
+	protected MutatorResult<Chromosome<G>> mutate(
+		final Chromosome<G> chromosome,
+		final double p,
+		final Random random
+	) {
+		final int P = Probabilities.toInt(p);
+		return random.nextInt() < P
+			? mutate(chromosome, random)
+			: MutatorResult.of(chromosome);
+	}
+
+	private MutatorResult<Chromosome<G>>
+	mutate(final Chromosome<G> chromosome, final Random random) {
+		final int index = random.nextInt(chromosome.length());
+		final FlatTreeNode<A> subtree =
+			FlatTreeNode.ofTree(newSubtree(chromosome.get(index), random));
+		final var nodes = subtree.flattenedNodes();
+
+		if (FlatTrees.size(chromosome, index, nodes, 0) > _maxSize ||
+			(_maxDepth != Integer.MAX_VALUE &&
+				FlatTrees.depth(chromosome, index, nodes, 0) > _maxDepth))
+		{
+			return MutatorResult.of(chromosome);
+		}
+
+		final var genes = FlatTrees.replace(
+			chromosome,
+			index,
+			nodes,
+			0,
+			chromosome.gene()
+		);
+		return MutatorResult.of(chromosome.newInstance(genes), 1);
+	}
+
+	/**
+	 * Create the new sub-tree, which replaces the given {@code node} of the
+	 * mutated tree.
+	 *
+	 * @param node the replaced tree node
+	 * @param random the random engine used for creating the new sub-tree
+	 * @return the new sub-tree
+	 */
+	protected abstract Tree<? extends A, ?>
+	newSubtree(final G node, final Random random);
+
+}
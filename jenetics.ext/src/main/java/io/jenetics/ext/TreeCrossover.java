@@ -39,9 +39,14 @@ import io.jenetics.ext.util.TreeNode;
  * simplifies the implementation of tree base crossover implementation, by doing
  * the transformation of the flattened tree genes to actual trees and vice versa.
  * Only the {@link #crossover(TreeNode, TreeNode)} method must be implemented.
+ * <p>
+ * The size and depth of the created offspring trees can be limited, which
+ * prevents the uncontrolled growth (<em>bloat</em>) of the trees. An offspring
+ * tree which exceeds one of the limits is discarded and the parent tree is
+ * kept instead.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.9
+ * @version 6.2
  * @since 3.9
  */
 public abstract class TreeCrossover<
@@ -51,6 +56,9 @@ public abstract class TreeCrossover<
 	extends Recombinator<G, C>
 {
 
+	private final int _maxSize;
+	private final int _maxDepth;
+
 	/**
 	 * Constructs an tree crossover with a given recombination probability.
 	 *
@@ -59,7 +67,54 @@ public abstract class TreeCrossover<
 	 *          valid range of {@code [0, 1]}
 	 */
 	protected TreeCrossover(final double probability) {
+		this(probability, Integer.MAX_VALUE, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Constructs an tree crossover with a given recombination probability and
+	 * the size and depth limits of the created offspring trees.
+	 *
+	 * @since 6.2
+	 *
+	 * @param probability the recombination probability
+	 * @param maxSize the maximal number of nodes of an offspring tree
+	 * @param maxDepth the maximal depth of an offspring tree
+	 * @throws IllegalArgumentException if the {@code probability} is not in the
+	 *          valid range of {@code [0, 1]}, the {@code maxSize} is smaller
+	 *          than one or the {@code maxDepth} is negative
+	 */
+	protected TreeCrossover(
+		final double probability,
+		final int maxSize,
+		final int maxDepth
+	) {
 		super(probability, 2);
+		FlatTrees.checkLimits(maxSize, maxDepth);
+
+		_maxSize = maxSize;
+		_maxDepth = maxDepth;
+	}
+
+	/**
+	 * Return the maximal number of nodes of the created offspring trees.
+	 *
+	 * @since 6.2
+	 *
+	 * @return the maximal number of nodes of the offspring trees
+	 */
+	public int maxSize() {
+		return _maxSize;
+	}
+
+	/**
+	 * Return the maximal depth of the created offspring trees.
+	 *
+	 * @since 6.2
+	 *
+	 * @return the maximal depth of the offspring trees
+	 */
+	public int maxDepth() {
+		return _maxDepth;
 	}
 
 	@Override
@@ -121,8 +176,17 @@ public abstract class TreeCrossover<
 		final var genes1 = flat1.map(tree -> gene(template, tree));
 		final var genes2 = flat2.map(tree -> gene(template, tree));
 
-		c1.set(index, c1.get(index).newInstance(genes1));
-		c2.set(index, c2.get(index).newInstance(genes2));
+		if (isValid(tree1)) {
+			c1.set(index, c1.get(index).newInstance(genes1));
+		}
+		if (isValid(tree2)) {
+			c2.set(index, c2.get(index).newInstance(genes2));
+		}
+	}
+
+	private boolean isValid(final TreeNode<?> tree) {
+		return tree.size() <= _maxSize &&
+			(_maxDepth == Integer.MAX_VALUE || tree.depth() <= _maxDepth);
 	}
 
 	@SuppressWarnings("unchecked")
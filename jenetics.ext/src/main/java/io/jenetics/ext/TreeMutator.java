@@ -30,10 +30,13 @@ import io.jenetics.ext.util.FlatTreeNode;
 import io.jenetics.ext.util.TreeNode;
 
 /**
- * Abstract class for mutating tree chromosomes.
+ * Abstract class for mutating tree chromosomes. The size and depth of the
+ * mutated trees can be limited, which prevents the uncontrolled growth
+ * (<em>bloat</em>) of the trees. A mutated tree which exceeds one of the
+ * limits is discarded and the original tree is kept instead.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 6.2
  * @since 4.1
  */
 public abstract class TreeMutator<
@@ -44,12 +47,62 @@ public abstract class TreeMutator<
 	extends Mutator<G, C>
 {
 
+	private final int _maxSize;
+	private final int _maxDepth;
+
 	public TreeMutator() {
 		this(DEFAULT_ALTER_PROBABILITY);
 	}
 
 	public TreeMutator(final double probability) {
+		this(probability, Integer.MAX_VALUE, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Create a new tree mutator, which discards mutated trees exceeding the
+	 * given size and depth limits.
+	 *
+	 * @since 6.2
+	 *
+	 * @param probability the mutation probability
+	 * @param maxSize the maximal number of nodes of a mutated tree
+	 * @param maxDepth the maximal depth of a mutated tree
+	 * @throws IllegalArgumentException if the {@code probability} is not in the
+	 *          valid range of {@code [0, 1]}, the {@code maxSize} is smaller
+	 *          than one or the {@code maxDepth} is negative
+	 */
+	public TreeMutator(
+		final double probability,
+		final int maxSize,
+		final int maxDepth
+	) {
 		super(probability);
+		FlatTrees.checkLimits(maxSize, maxDepth);
+
+		_maxSize = maxSize;
+		_maxDepth = maxDepth;
+	}
+
+	/**
+	 * Return the maximal number of nodes of the mutated trees.
+	 *
+	 * @since 6.2
+	 *
+	 * @return the maximal number of nodes of the mutated trees
+	 */
+	public int maxSize() {
+		return _maxSize;
+	}
+
+	/**
+	 * Return the maximal depth of the mutated trees.
+	 *
+	 * @since 6.2
+	 *
+	 * @return the maximal depth of the mutated trees
+	 */
+	public int maxDepth() {
+		return _maxDepth;
 	}
 
 
@@ -76,6 +129,11 @@ public abstract class TreeMutator<
 	private MutatorResult<Chromosome<G>> mutate(final Chromosome<G> chromosome) {
 		final TreeNode<A> tree = TreeNode.ofTree(chromosome.gene());
 		mutate(tree);
+		if (tree.size() > _maxSize ||
+			(_maxDepth != Integer.MAX_VALUE && tree.depth() > _maxDepth))
+		{
+			return MutatorResult.of(chromosome);
+		}
 
 		final var flat = FlatTreeNode.ofTree(tree);
 		final var genes = flat.map(t -> chromosome.gene().newInstance(t));
@@ -0,0 +1,695 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.ForkJoinPool.commonPool;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.Evolution;
+import io.jenetics.engine.EvolutionDurations;
+import io.jenetics.engine.EvolutionInit;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.engine.EvolutionStream;
+import io.jenetics.engine.EvolutionStreamable;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.Seq;
+
+/**
+ * The {@code IslandEngine} evolves several sub-populations, the
+ * <em>islands</em>, concurrently. Every island is evolved by its own
+ * {@link Engine}, which may be configured differently. Every
+ * {@link #migrationInterval()} generations, the best {@link #migrants()}
+ * individuals of every island are copied to the islands defined by the
+ * {@link MigrationTopology}, where they replace the worst individuals.
+ *
+ * <pre> {@code
+ *      +------------+  migrants  +------------+
+ *      |  Engine 1  |----------->|  Engine 2  |
+ *      +------------+            +------------+
+ *            ^                          |
+ *            |        +------------+    |
+ *            +--------|  Engine 3  |<---+
+ *                     +------------+
+ * }</pre>
+ *
+ * The island engine is itself an {@link Evolution} and an
+ * {@link EvolutionStreamable}. The population of the emitted, <em>merged</em>,
+ * {@link EvolutionResult} consists of the island populations, concatenated in
+ * the order of the island engines. The per-island results are available via
+ * the {@link #islandStream(Supplier)} method.
+ *
+ * <pre>{@code
+ * final Problem<double[], DoubleGene, Double> problem = ...;
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .populationSize(500)
+ *     .build();
+ *
+ * final IslandEngine<DoubleGene, Double> islands = IslandEngine.of(
+ *     MigrationTopology.ring(), 10, 5,
+ *     engine, engine, engine, engine
+ * );
+ *
+ * final Phenotype<DoubleGene, Double> best = islands.stream()
+ *     .limit(Limits.bySteadyFitness(50))
+ *     .collect(EvolutionResult.toBestPhenotype());
+ * }</pre>
+ *
+ * @implNote
+ * The islands are evolved with the given {@link Executor}. If the current
+ * random engine of the {@link RandomRegistry} is splittable, every island
+ * evolution step gets its own random engine, split off in the calling thread.
+ * This makes the island evolution reproducible. This class is immutable and
+ * thread-safe.
+ * <p>
+ * Islands running in other processes can be connected with a
+ * {@link MigrationTransport}, see {@link #withTransport(MigrationTransport)}.
+ *
+ * @see MigrationTopology
+ * @see MigrationTransport
+ * @see ConcatEngine
+ * @see CyclicEngine
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+public final class IslandEngine<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Evolution<G, C>, EvolutionStreamable<G, C>
+{
+
+	/**
+	 * The default number of generations between two migrations.
+	 */
+	public static final int DEFAULT_MIGRATION_INTERVAL = 10;
+
+	/**
+	 * The default number of individuals each island sends to its target
+	 * islands.
+	 */
+	public static final int DEFAULT_MIGRANTS = 1;
+
+	private final ISeq<Engine<G, C>> _islands;
+	private final MigrationTopology _topology;
+	private final int _migrationInterval;
+	private final int _migrants;
+	private final Executor _executor;
+	private final MigrationTransport<G, C> _transport;
+	private final Optimize _optimize;
+
+	/**
+	 * Create a new island engine with the given parameters.
+	 *
+	 * @param islands the engines of the islands
+	 * @param topology the migration topology
+	 * @param migrationInterval the number of generations between two
+	 *        migrations
+	 * @param migrants the number of individuals each island sends to its
+	 *        target islands
+	 * @param executor the executor used for evolving the islands concurrently
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code islands} are empty, the
+	 *         engines don't share the same optimization strategy, the
+	 *         {@code migrationInterval} is smaller than one or the number of
+	 *         {@code migrants} is negative
+	 */
+	public IslandEngine(
+		final List<? extends Engine<G, C>> islands,
+		final MigrationTopology topology,
+		final int migrationInterval,
+		final int migrants,
+		final Executor executor
+	) {
+		this(islands, topology, migrationInterval, migrants, executor, null);
+	}
+
+	private IslandEngine(
+		final List<? extends Engine<G, C>> islands,
+		final MigrationTopology topology,
+		final int migrationInterval,
+		final int migrants,
+		final Executor executor,
+		final MigrationTransport<G, C> transport
+	) {
+		islands.forEach(Objects::requireNonNull);
+		if (islands.isEmpty()) {
+			throw new IllegalArgumentException("No island engines given.");
+		}
+		if (migrationInterval < 1) {
+			throw new IllegalArgumentException(format(
+				"Migration interval must be greater than zero: %d",
+				migrationInterval
+			));
+		}
+		if (migrants < 0) {
+			throw new IllegalArgumentException(format(
+				"Number of migrants must not be negative: %d", migrants
+			));
+		}
+
+		_islands = ISeq.of(islands);
+		_optimize = _islands.get(0).optimize();
+		if (!_islands.forAll(engine -> engine.optimize() == _optimize)) {
+			throw new IllegalArgumentException(
+				"All island engines must have the same optimization strategy."
+			);
+		}
+
+		_topology = requireNonNull(topology);
+		_migrationInterval = migrationInterval;
+		_migrants = migrants;
+		_executor = requireNonNull(executor);
+		_transport = transport;
+	}
+
+	/**
+	 * Return the engines of the islands.
+	 *
+	 * @return the engines of the islands
+	 */
+	public ISeq<Engine<G, C>> islands() {
+		return _islands;
+	}
+
+	/**
+	 * Return the migration topology.
+	 *
+	 * @return the migration topology
+	 */
+	public MigrationTopology topology() {
+		return _topology;
+	}
+
+	/**
+	 * Return the number of generations between two migrations.
+	 *
+	 * @return the number of generations between two migrations
+	 */
+	public int migrationInterval() {
+		return _migrationInterval;
+	}
+
+	/**
+	 * Return the number of individuals each island sends to its target
+	 * islands.
+	 *
+	 * @return the number of migrants
+	 */
+	public int migrants() {
+		return _migrants;
+	}
+
+	/**
+	 * Return the migration transport, used for exchanging migrants with
+	 * remote islands.
+	 *
+	 * @return the migration transport, if any
+	 */
+	public Optional<MigrationTransport<G, C>> transport() {
+		return Optional.ofNullable(_transport);
+	}
+
+	/**
+	 * Return a new island engine, which additionally exchanges migrants with
+	 * remote islands, via the given {@code transport}. At every migration
+	 * step, the best {@link #migrants()} individuals of every island are sent
+	 * to the remote islands. The individuals received from the remote islands
+	 * are distributed round-robin to the local islands, where they replace
+	 * the worst individuals. The life-cycle of the {@code transport} is not
+	 * managed by the island engine.
+	 *
+	 * @param transport the migration transport
+	 * @return a new island engine with the given migration transport
+	 * @throws NullPointerException if the given {@code transport} is
+	 *         {@code null}
+	 */
+	public IslandEngine<G, C>
+	withTransport(final MigrationTransport<G, C> transport) {
+		return new IslandEngine<>(
+			_islands.asList(),
+			_topology,
+			_migrationInterval,
+			_migrants,
+			_executor,
+			requireNonNull(transport)
+		);
+	}
+
+	/**
+	 * Return the overall population size of all islands.
+	 *
+	 * @return the overall population size
+	 */
+	public int populationSize() {
+		return _islands.stream().mapToInt(Engine::populationSize).sum();
+	}
+
+	/**
+	 * Performs one evolution step of all islands. The given {@code start}
+	 * population is split into the island populations, according to the
+	 * population sizes of the island engines. The population of the returned
+	 * result contains the island populations in the order of the island
+	 * engines.
+	 *
+	 * @param start the merged evolution start object
+	 * @return the merged evolution result
+	 * @throws NullPointerException if the given {@code start} is {@code null}
+	 */
+	@Override
+	public EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
+		final long begin = System.nanoTime();
+		final ISeq<EvolutionResult<G, C>> results = evolve(split(start));
+		return merge(results, Duration.ofNanos(System.nanoTime() - begin));
+	}
+
+	/**
+	 * Performs one evolution step of all islands, with the given island start
+	 * objects. The migration is performed after the evolution step, if the
+	 * evolved generation is a multiple of the {@link #migrationInterval()}.
+	 *
+	 * @param starts the evolution start objects of the islands
+	 * @return the evolution results of the islands
+	 * @throws NullPointerException if the given {@code starts} is {@code null}
+	 * @throws IllegalArgumentException if the number of start objects doesn't
+	 *         match the number of islands
+	 */
+	public ISeq<EvolutionResult<G, C>>
+	evolve(final Seq<EvolutionStart<G, C>> starts) {
+		if (starts.size() != _islands.size()) {
+			throw new IllegalArgumentException(format(
+				"Expected %d island start objects, but got %d.",
+				_islands.size(), starts.size()
+			));
+		}
+
+		final List<CompletableFuture<EvolutionResult<G, C>>> futures =
+			new ArrayList<>(_islands.size());
+		for (int i = 0; i < _islands.size(); ++i) {
+			final Engine<G, C> engine = _islands.get(i);
+			final EvolutionStart<G, C> start = starts.get(i);
+			futures.add(supplyAsync(
+				splitRandom(() -> engine.evolve(start)),
+				_executor
+			));
+		}
+
+		final ISeq<EvolutionResult<G, C>> results = futures.stream()
+			.map(CompletableFuture::join)
+			.collect(ISeq.toISeq());
+
+		return results.get(0).generation()%_migrationInterval == 0
+			? exchange(migrate(results))
+			: results;
+	}
+
+	// Binds the given task to a random engine, split off from the current one,
+	// if the current engine is splittable.
+	private static <T> Supplier<T> splitRandom(final Supplier<T> task) {
+		return RandomRegistry.split()
+			.<Supplier<T>>map(random -> () ->
+				RandomRegistry.with(random, r -> task.get()))
+			.orElse(task);
+	}
+
+	// Splits the merged start population into the island start populations.
+	private ISeq<EvolutionStart<G, C>> split(final EvolutionStart<G, C> start) {
+		final ISeq<Phenotype<G, C>> population = start.population();
+		final MSeq<EvolutionStart<G, C>> starts = MSeq.ofLength(_islands.size());
+
+		int offset = 0;
+		for (int i = 0; i < _islands.size(); ++i) {
+			final int size = _islands.get(i).populationSize();
+			starts.set(i, EvolutionStart.of(
+				population.subSeq(
+					min(offset, population.size()),
+					min(offset + size, population.size())
+				),
+				start.generation()
+			));
+			offset += size;
+		}
+
+		return starts.toISeq();
+	}
+
+	/**
+	 * Copies the best {@link #migrants()} individuals of every island to its
+	 * target islands, defined by the {@link #topology()}. The immigrants
+	 * replace the worst individuals of the target island.
+	 *
+	 * @param results the evolution results of the islands
+	 * @return the island results after the migration
+	 */
+	ISeq<EvolutionResult<G, C>>
+	migrate(final ISeq<EvolutionResult<G, C>> results) {
+		if (_migrants == 0 || results.size() < 2) {
+			return results;
+		}
+
+		final Comparator<Phenotype<G, C>> best = Comparator.comparing(
+			Phenotype::fitness,
+			_optimize.<C>descending()
+		);
+
+		// The emigrants are selected before any island population is changed.
+		final List<List<Phenotype<G, C>>> immigrants = new ArrayList<>();
+		for (int i = 0; i < results.size(); ++i) {
+			immigrants.add(new ArrayList<>());
+		}
+		for (int i = 0; i < results.size(); ++i) {
+			final ISeq<Phenotype<G, C>> population = results.get(i).population();
+			final List<Phenotype<G, C>> emigrants = population.stream()
+				.sorted(best)
+				.limit(_migrants)
+				.collect(Collectors.toList());
+
+			for (int target : _topology.targets(i, results.size())) {
+				if (target < 0 || target >= results.size() || target == i) {
+					throw new IllegalArgumentException(format(
+						"Invalid target island %d for source island %d.",
+						target, i
+					));
+				}
+				immigrants.get(target).addAll(emigrants);
+			}
+		}
+
+		final MSeq<EvolutionResult<G, C>> migrated = MSeq.of(results);
+		for (int i = 0; i < results.size(); ++i) {
+			if (!immigrants.get(i).isEmpty()) {
+				migrated.set(i, settle(results.get(i), immigrants.get(i), best));
+			}
+		}
+
+		return migrated.toISeq();
+	}
+
+	// Sends the best individuals of every island to the remote islands and
+	// settles the immigrants received from them.
+	private ISeq<EvolutionResult<G, C>>
+	exchange(final ISeq<EvolutionResult<G, C>> results) {
+		if (_transport == null || _migrants == 0) {
+			return results;
+		}
+
+		final Comparator<Phenotype<G, C>> best = Comparator.comparing(
+			Phenotype::fitness,
+			_optimize.<C>descending()
+		);
+
+		final MSeq<Phenotype<G, C>> emigrants = results.stream()
+			.flatMap(result -> result.population().stream()
+				.sorted(best)
+				.limit(_migrants))
+			.collect(MSeq.toMSeq());
+		_transport.send(emigrants);
+
+		final ISeq<Phenotype<G, C>> received = _transport.receive();
+		if (received.isEmpty()) {
+			return results;
+		}
+
+		final List<List<Phenotype<G, C>>> immigrants = new ArrayList<>();
+		for (int i = 0; i < results.size(); ++i) {
+			immigrants.add(new ArrayList<>());
+		}
+		for (int i = 0; i < received.size(); ++i) {
+			final int island = i%results.size();
+			immigrants.get(island).add(
+				received.get(i).withGeneration(results.get(island).generation())
+			);
+		}
+
+		final MSeq<EvolutionResult<G, C>> settled = MSeq.of(results);
+		for (int i = 0; i < results.size(); ++i) {
+			if (!immigrants.get(i).isEmpty()) {
+				settled.set(i, settle(results.get(i), immigrants.get(i), best));
+			}
+		}
+
+		return settled.toISeq();
+	}
+
+	// Replaces the worst individuals of the given island with the immigrants.
+	private EvolutionResult<G, C> settle(
+		final EvolutionResult<G, C> result,
+		final List<Phenotype<G, C>> immigrants,
+		final Comparator<Phenotype<G, C>> best
+	) {
+		final ISeq<Phenotype<G, C>> population = result.population();
+		final Integer[] order = new Integer[population.size()];
+		Arrays.setAll(order, i -> i);
+		Arrays.sort(order, Comparator.comparing(population::get, best));
+
+		final MSeq<Phenotype<G, C>> pop = MSeq.of(population);
+		final int count = min(immigrants.size(), population.size());
+		for (int i = 0; i < count; ++i) {
+			pop.set(order[order.length - 1 - i], immigrants.get(i));
+		}
+
+		return EvolutionResult.of(
+			result.optimize(),
+			pop.toISeq(),
+			result.generation(),
+			result.totalGenerations(),
+			result.durations(),
+			result.killCount(),
+			result.invalidCount(),
+			result.alterCount()
+		);
+	}
+
+	/**
+	 * Merges the given island results into one result. The population of the
+	 * merged result consists of the island populations, concatenated in the
+	 * given order. The counts and durations of the island results are summed
+	 * up, except the {@link EvolutionDurations#evolveDuration()}, which is the
+	 * maximal evolve duration of the islands.
+	 *
+	 * @param results the island results to merge
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the merged evolution result
+	 * @throws NullPointerException if the given {@code results} is {@code null}
+	 * @throws IllegalArgumentException if the given {@code results} are empty
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionResult<G, C> merge(final Seq<EvolutionResult<G, C>> results) {
+		if (results.isEmpty()) {
+			throw new IllegalArgumentException("No island results given.");
+		}
+
+		final Duration evolve = results.stream()
+			.map(r -> r.durations().evolveDuration())
+			.max(Comparator.naturalOrder())
+			.orElse(Duration.ZERO);
+
+		return merge(results, evolve);
+	}
+
+	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionResult<G, C> merge(
+		final Seq<EvolutionResult<G, C>> results,
+		final Duration evolve
+	) {
+		final EvolutionResult<G, C> first = results.get(0);
+
+		EvolutionDurations durations = EvolutionDurations.ZERO;
+		int killCount = 0;
+		int invalidCount = 0;
+		int alterCount = 0;
+		int size = 0;
+		for (EvolutionResult<G, C> result : results) {
+			durations = durations.plus(result.durations());
+			killCount += result.killCount();
+			invalidCount += result.invalidCount();
+			alterCount += result.alterCount();
+			size += result.population().size();
+		}
+
+		final MSeq<Phenotype<G, C>> population = MSeq.ofLength(size);
+		int offset = 0;
+		for (EvolutionResult<G, C> result : results) {
+			for (Phenotype<G, C> pt : result.population()) {
+				population.set(offset++, pt);
+			}
+		}
+
+		return EvolutionResult.of(
+			first.optimize(),
+			population.toISeq(),
+			first.generation(),
+			first.totalGenerations(),
+			EvolutionDurations.of(
+				durations.offspringSelectionDuration(),
+				durations.survivorsSelectionDuration(),
+				durations.offspringAlterDuration(),
+				durations.offspringFilterDuration(),
+				durations.survivorFilterDuration(),
+				durations.repairDuration(),
+				durations.evaluationDuration(),
+				evolve
+			),
+			killCount,
+			invalidCount,
+			alterCount
+		);
+	}
+
+	/**
+	 * Return a stream of the per-island evolution results. Every element of
+	 * the returned stream contains the results of all islands for one
+	 * generation, in the order of the island engines. The merged results of
+	 * the {@link #stream(Supplier)} method can be created with the
+	 * {@link #merge(Seq)} method.
+	 *
+	 * <pre>{@code
+	 * final List<EvolutionResult<DoubleGene, Double>> best = engine
+	 *     .islandStream(EvolutionStart::empty)
+	 *     .limit(100)
+	 *     .reduce((a, b) -> b)
+	 *     .orElseThrow()
+	 *     .asList();
+	 * }</pre>
+	 *
+	 * @param start the merged evolution start, which is split into the
+	 *        island populations
+	 * @return a stream of the per-island evolution results
+	 * @throws NullPointerException if the given {@code start} is {@code null}
+	 */
+	public Stream<ISeq<EvolutionResult<G, C>>>
+	islandStream(final Supplier<EvolutionStart<G, C>> start) {
+		requireNonNull(start);
+
+		final AtomicReference<ISeq<EvolutionResult<G, C>>> results =
+			new AtomicReference<>();
+
+		return Stream.generate(() -> results.updateAndGet(rs -> rs == null
+			? evolve(split(start.get()))
+			: evolve(rs.map(EvolutionResult::next))
+		));
+	}
+
+	@Override
+	public EvolutionStream<G, C>
+	stream(final Supplier<EvolutionStart<G, C>> start) {
+		return EvolutionStream.ofEvolution(start, this);
+	}
+
+	@Override
+	public EvolutionStream<G, C> stream(final EvolutionInit<G> init) {
+		requireNonNull(init);
+		return stream(() -> EvolutionStart.of(
+			init.population()
+				.map(gt -> Phenotype.<G, C>of(gt, init.generation())),
+			init.generation()
+		));
+	}
+
+	/**
+	 * Create a new island engine with the given parameters. The islands are
+	 * evolved with the {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+	 *
+	 * @param topology the migration topology
+	 * @param migrationInterval the number of generations between two
+	 *        migrations
+	 * @param migrants the number of individuals each island sends to its
+	 *        target islands
+	 * @param islands the engines of the islands
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new island engine
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code islands} are empty, the
+	 *         engines don't share the same optimization strategy, the
+	 *         {@code migrationInterval} is smaller than one or the number of
+	 *         {@code migrants} is negative
+	 */
+	@SafeVarargs
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	IslandEngine<G, C> of(
+		final MigrationTopology topology,
+		final int migrationInterval,
+		final int migrants,
+		final Engine<G, C>... islands
+	) {
+		return new IslandEngine<>(
+			List.of(islands),
+			topology,
+			migrationInterval,
+			migrants,
+			commonPool()
+		);
+	}
+
+	/**
+	 * Create a new island engine with the given island engines, using a
+	 * {@link MigrationTopology#ring()} topology, the
+	 * {@link #DEFAULT_MIGRATION_INTERVAL} and {@link #DEFAULT_MIGRANTS}.
+	 *
+	 * @param islands the engines of the islands
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new island engine
+	 * @throws NullPointerException if one of the engines is {@code null}
+	 * @throws IllegalArgumentException if the {@code islands} are empty or the
+	 *         engines don't share the same optimization strategy
+	 */
+	@SafeVarargs
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	IslandEngine<G, C> of(final Engine<G, C>... islands) {
+		return of(
+			MigrationTopology.ring(),
+			DEFAULT_MIGRATION_INTERVAL,
+			DEFAULT_MIGRANTS,
+			islands
+		);
+	}
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * Defines the migration paths between the islands of an {@link IslandEngine}.
+ * For a given source island, the topology returns the indexes of the islands
+ * which receive the emigrants of the source island.
+ *
+ * <pre>{@code
+ * // Every island sends its emigrants to its right neighbour.
+ * final MigrationTopology ring = MigrationTopology.ring();
+ *
+ * // Island 0 sends its emigrants to all other islands, which send their
+ * // emigrants back to island 0.
+ * final MigrationTopology star = MigrationTopology.star();
+ * }</pre>
+ *
+ * @see IslandEngine
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+@FunctionalInterface
+public interface MigrationTopology {
+
+	/**
+	 * Return the indexes of the islands, which receive the emigrants of the
+	 * given {@code source} island. The returned indexes must be within the
+	 * range {@code [0, islands)} and must not contain the {@code source}
+	 * island itself.
+	 *
+	 * @param source the index of the source island
+	 * @param islands the number of islands
+	 * @return the indexes of the target islands, may be empty
+	 */
+	int[] targets(final int source, final int islands);
+
+	/**
+	 * Return a ring topology, where every island {@code i} sends its emigrants
+	 * to the island {@code (i + 1)%islands}.
+	 *
+	 * @return a ring topology
+	 */
+	static MigrationTopology ring() {
+		return (source, islands) -> islands > 1
+			? new int[]{(source + 1)%islands}
+			: new int[0];
+	}
+
+	/**
+	 * Return a star topology. The island with index 0 is the center of the
+	 * star. It sends its emigrants to all other islands, which send their
+	 * emigrants back to the center island.
+	 *
+	 * @return a star topology
+	 */
+	static MigrationTopology star() {
+		return (source, islands) -> {
+			final int[] targets;
+			if (source == 0) {
+				targets = new int[islands - 1];
+				for (int i = 0; i < targets.length; ++i) {
+					targets[i] = i + 1;
+				}
+			} else {
+				targets = new int[]{0};
+			}
+			return targets;
+		};
+	}
+
+	/**
+	 * Return a random topology, where every island sends its emigrants to
+	 * one, randomly chosen, other island. The target island is chosen with the
+	 * random engine of the {@link RandomRegistry}.
+	 *
+	 * @return a random topology
+	 */
+	static MigrationTopology random() {
+		return (source, islands) -> {
+			if (islands > 1) {
+				final int target = RandomRegistry.random().nextInt(islands - 1);
+				return new int[]{target >= source ? target + 1 : target};
+			} else {
+				return new int[0];
+			}
+		};
+	}
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import java.io.Closeable;
+
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Transports migrating individuals between the islands of different
+ * {@link IslandEngine}s, e.g. running in different processes. The transport
+ * is asynchronous: {@link #send(Seq)} doesn't wait for the receiving islands
+ * and {@link #receive()} returns the individuals received so far, without
+ * blocking.
+ *
+ * <pre>{@code
+ * final SocketMigrationTransport<DoubleGene, Double> transport =
+ *     SocketMigrationTransport.open(
+ *         new InetSocketAddress("localhost", 7001),
+ *         List.of(new InetSocketAddress("localhost", 7002))
+ *     );
+ *
+ * final IslandEngine<DoubleGene, Double> engine = IslandEngine
+ *     .of(engine1, engine2)
+ *     .withTransport(transport);
+ * }</pre>
+ *
+ * @see IslandEngine#withTransport(MigrationTransport)
+ * @see SocketMigrationTransport
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+public interface MigrationTransport<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	extends Closeable
+{
+
+	/**
+	 * Sends the given {@code emigrants} to the remote islands. The delivery
+	 * is not guaranteed. Remote islands, which are currently not reachable,
+	 * don't receive the emigrants.
+	 *
+	 * @param emigrants the individuals to send
+	 * @throws NullPointerException if the given {@code emigrants} are
+	 *         {@code null}
+	 * @throws java.io.UncheckedIOException if the emigrants can't be encoded
+	 */
+	void send(final Seq<Phenotype<G, C>> emigrants);
+
+	/**
+	 * Return the individuals, received since the last call of this method.
+	 * This method doesn't block.
+	 *
+	 * @return the received individuals, may be empty
+	 */
+	ISeq<Phenotype<G, C>> receive();
+
+}
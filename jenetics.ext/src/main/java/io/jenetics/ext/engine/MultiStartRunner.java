@@ -0,0 +1,427 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+
+import io.jenetics.Gene;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.internal.util.Concurrency;
+import io.jenetics.stat.DoubleMoments;
+import io.jenetics.stat.LongMoments;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.SplitRandom;
+
+/**
+ * Executes many independent evolution runs of the same {@link Engine}, e.g.
+ * for estimating the robustness of an engine configuration. The runs share
+ * the given {@link Executor}, but are evolved one generation at a time. After
+ * every generation, the run is put at the end of a queue of pending runs, so
+ * that all runs proceed evenly and no run monopolizes the executor.
+ *
+ * <pre>{@code
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .populationSize(500)
+ *     .build();
+ *
+ * final MultiStartRunner<DoubleGene, Double> runner = new MultiStartRunner<>(
+ *     engine,
+ *     () -> Limits.bySteadyFitness(20)
+ * );
+ *
+ * final MultiStartRunner.Result<DoubleGene, Double> result =
+ *     runner.run(100, 123L);
+ * final DoubleMoments fitness = result.fitness(Double::doubleValue);
+ * }</pre>
+ *
+ * Every run evolves the population the same way as
+ * <pre>{@code
+ * engine.stream()
+ *     .limit(proceed.get())
+ *     .collect(EvolutionResult.toBestEvolutionResult());
+ * }</pre>
+ * within the random scope of its own {@link SplitRandom}. The random engines
+ * of the runs are split off from a random engine created with the given
+ * seed, which makes the result of every run reproducible, independent of the
+ * number of runs executed concurrently.
+ *
+ * @implNote
+ * The generations of the single runs are not evolved concurrently, since the
+ * concurrency is given by the parallel execution of the runs. The given
+ * engine is therefore rebuilt with a serial executor. This class is immutable
+ * and thread-safe.
+ *
+ * @see IslandEngine
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+public final class MultiStartRunner<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	private final Engine<G, C> _engine;
+	private final Supplier<? extends Predicate<? super EvolutionResult<G, C>>> _proceed;
+	private final Executor _executor;
+	private final int _parallelism;
+
+	/**
+	 * Create a new multi-start runner with the given parameters.
+	 *
+	 * @param engine the evolution engine of the runs
+	 * @param proceed the factory of the limit predicates. Every run gets its
+	 *        own predicate, since predicates like
+	 *        {@link io.jenetics.engine.Limits#bySteadyFitness(int)} are
+	 *        stateful.
+	 * @param executor the executor shared by the runs
+	 * @param parallelism the maximal number of runs evolved concurrently
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code parallelism} is smaller
+	 *         than one
+	 */
+	public MultiStartRunner(
+		final Engine<G, C> engine,
+		final Supplier<? extends Predicate<? super EvolutionResult<G, C>>> proceed,
+		final Executor executor,
+		final int parallelism
+	) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException(format(
+				"Parallelism must be greater than zero, but was %d.",
+				parallelism
+			));
+		}
+
+		_engine = engine.toBuilder()
+			.executor(Concurrency.SERIAL_EXECUTOR)
+			.build();
+		_proceed = requireNonNull(proceed);
+		_executor = requireNonNull(executor);
+		_parallelism = parallelism;
+	}
+
+	/**
+	 * Create a new multi-start runner, which uses the
+	 * {@link ForkJoinPool#commonPool()} for evolving the runs.
+	 *
+	 * @param engine the evolution engine of the runs
+	 * @param proceed the factory of the limit predicates
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public MultiStartRunner(
+		final Engine<G, C> engine,
+		final Supplier<? extends Predicate<? super EvolutionResult<G, C>>> proceed
+	) {
+		this(
+			engine,
+			proceed,
+			ForkJoinPool.commonPool(),
+			ForkJoinPool.getCommonPoolParallelism()
+		);
+	}
+
+	/**
+	 * Return the maximal number of runs evolved concurrently.
+	 *
+	 * @return the maximal number of runs evolved concurrently
+	 */
+	public int parallelism() {
+		return _parallelism;
+	}
+
+	/**
+	 * Starts the given number of evolution runs and returns immediately.
+	 *
+	 * @param runs the number of evolution runs
+	 * @param seed the seed of the random engine, the random engines of the
+	 *        runs are split off from
+	 * @return the result of the evolution runs, which completes when all runs
+	 *         are finished. If one run fails, the result completes
+	 *         exceptionally and no further generations are evolved.
+	 * @throws IllegalArgumentException if the number of {@code runs} is
+	 *         smaller than one
+	 */
+	public CompletableFuture<Result<G, C>> start(final int runs, final long seed) {
+		if (runs < 1) {
+			throw new IllegalArgumentException(format(
+				"Number of runs must be greater than zero, but was %d.", runs
+			));
+		}
+
+		final Schedule schedule = new Schedule(runs, seed);
+		for (int i = 0, n = min(runs, _parallelism); i < n; ++i) {
+			_executor.execute(schedule::step);
+		}
+
+		return schedule.result;
+	}
+
+	/**
+	 * Executes the given number of evolution runs and waits until all runs
+	 * are finished.
+	 *
+	 * @param runs the number of evolution runs
+	 * @param seed the seed of the random engine, the random engines of the
+	 *        runs are split off from
+	 * @return the result of the evolution runs
+	 * @throws IllegalArgumentException if the number of {@code runs} is
+	 *         smaller than one
+	 * @throws java.util.concurrent.CompletionException if one of the runs
+	 *         fails
+	 */
+	public Result<G, C> run(final int runs, final long seed) {
+		return start(runs, seed).join();
+	}
+
+	/**
+	 * The evolution runs of one {@link #start(int, long)} call. Every
+	 * {@link #step()} evolves one generation of the run at the head of the
+	 * queue and puts it back at the end of the queue, if the run is not
+	 * finished.
+	 */
+	private final class Schedule {
+		final CompletableFuture<Result<G, C>> result = new CompletableFuture<>();
+
+		private final Queue<Run<G, C, ?>> _pending = new ConcurrentLinkedQueue<>();
+		private final MSeq<EvolutionResult<G, C>> _results;
+		private final AtomicInteger _remaining;
+		private final long _seed;
+
+		Schedule(final int runs, final long seed) {
+			_results = MSeq.ofLength(runs);
+			_remaining = new AtomicInteger(runs);
+			_seed = seed;
+
+			final SplitRandom random = new SplitRandom(seed);
+			for (int i = 0; i < runs; ++i) {
+				_pending.add(Run.of(
+					i,
+					random.split(),
+					_proceed.get(),
+					EvolutionResult.toBestEvolutionResult()
+				));
+			}
+		}
+
+		void step() {
+			final Run<G, C, ?> run = _pending.poll();
+			if (run == null || result.isDone()) {
+				return;
+			}
+
+			try {
+				if (run.evolve(_engine)) {
+					_pending.add(run);
+				} else {
+					_results.set(run.index, run.result());
+					if (_remaining.decrementAndGet() == 0) {
+						result.complete(new Result<>(_seed, _results.toISeq()));
+					}
+				}
+
+				if (!result.isDone()) {
+					_executor.execute(this::step);
+				}
+			} catch (Throwable e) {
+				result.completeExceptionally(e);
+			}
+		}
+	}
+
+	/**
+	 * A single evolution run, which collects the accepted evolution results.
+	 */
+	private static final class Run<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>,
+		A
+	> {
+		final int index;
+
+		private final SplitRandom _random;
+		private final Predicate<? super EvolutionResult<G, C>> _proceed;
+		private final A _container;
+		private final BiConsumer<A, ? super EvolutionResult<G, C>> _accumulator;
+		private final Function<A, ? extends EvolutionResult<G, C>> _finisher;
+
+		private EvolutionStart<G, C> _start = EvolutionStart.empty();
+
+		private Run(
+			final int index,
+			final SplitRandom random,
+			final Predicate<? super EvolutionResult<G, C>> proceed,
+			final Collector<? super EvolutionResult<G, C>, A, ? extends EvolutionResult<G, C>> collector
+		) {
+			this.index = index;
+			_random = random;
+			_proceed = requireNonNull(proceed);
+			_container = collector.supplier().get();
+			_accumulator = collector.accumulator();
+			_finisher = collector.finisher();
+		}
+
+		// Evolves the next generation and returns false, if the run is finished.
+		boolean evolve(final Engine<G, C> engine) {
+			final EvolutionResult<G, C> result =
+				RandomRegistry.with(_random, r -> engine.evolve(_start));
+
+			final boolean proceed = _proceed.test(result);
+			if (proceed) {
+				_accumulator.accept(_container, result);
+				_start = result.next();
+			}
+
+			return proceed;
+		}
+
+		EvolutionResult<G, C> result() {
+			return _finisher.apply(_container);
+		}
+
+		static <G extends Gene<?, G>, C extends Comparable<? super C>, A>
+		Run<G, C, A> of(
+			final int index,
+			final SplitRandom random,
+			final Predicate<? super EvolutionResult<G, C>> proceed,
+			final Collector<? super EvolutionResult<G, C>, A, ? extends EvolutionResult<G, C>> collector
+		) {
+			return new Run<>(index, random, proceed, collector);
+		}
+	}
+
+	/**
+	 * The aggregated result of the evolution runs of a
+	 * {@link MultiStartRunner}.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+	 * @version 6.2
+	 * @since 6.2
+	 */
+	public static final class Result<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+		private final long _seed;
+		private final ISeq<EvolutionResult<G, C>> _results;
+
+		private Result(final long seed, final ISeq<EvolutionResult<G, C>> results) {
+			_seed = seed;
+			_results = requireNonNull(results);
+		}
+
+		/**
+		 * Return the seed the random engines of the runs were split off from.
+		 *
+		 * @return the seed of the runs
+		 */
+		public long seed() {
+			return _seed;
+		}
+
+		/**
+		 * Return the best evolution result of every run, in the order of the
+		 * runs. The element is {@code null}, if the limit predicate of the
+		 * run already rejected the first generation.
+		 *
+		 * @return the best evolution result of every run
+		 */
+		public ISeq<EvolutionResult<G, C>> results() {
+			return _results;
+		}
+
+		/**
+		 * Return the best evolution result of all runs.
+		 *
+		 * @return the best evolution result of all runs, or
+		 *         {@link Optional#empty()} if no run has a result
+		 */
+		public Optional<EvolutionResult<G, C>> best() {
+			return _results.stream()
+				.filter(Objects::nonNull)
+				.reduce((a, b) -> b.compareTo(a) > 0 ? b : a);
+		}
+
+		/**
+		 * Return the statistics of the number of generations of the runs.
+		 *
+		 * @return the statistics of the number of generations of the runs
+		 */
+		public LongMoments generations() {
+			return _results.stream()
+				.filter(Objects::nonNull)
+				.collect(LongMoments.toLongMoments(
+					EvolutionResult::totalGenerations));
+		}
+
+		/**
+		 * Return the statistics of the best fitness values of the runs.
+		 *
+		 * @param mapper the mapper from the fitness value to {@code double}
+		 * @return the statistics of the best fitness values of the runs
+		 * @throws NullPointerException if the given {@code mapper} is
+		 *         {@code null}
+		 */
+		public DoubleMoments fitness(final ToDoubleFunction<? super C> mapper) {
+			requireNonNull(mapper);
+			return _results.stream()
+				.filter(Objects::nonNull)
+				.collect(DoubleMoments.toDoubleMoments(
+					r -> mapper.applyAsDouble(r.bestFitness())));
+		}
+
+		@Override
+		public String toString() {
+			return format(
+				"Result[seed=%d, runs=%d, generations=%s]",
+				_seed, _results.size(), generations()
+			);
+		}
+	}
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import io.jenetics.Phenotype;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.stat.IntMomentStatistics;
+import io.jenetics.stat.IntMoments;
+import io.jenetics.util.ISeq;
+
+/**
+ * Collects the statistics of the number of tree nodes, or genes, of the
+ * population for every generation. It can be used for monitoring the
+ * <em>bloat</em> of tree chromosomes over long evolution runs.
+ *
+ * <pre>{@code
+ * final NodeCountStatistics statistics = new NodeCountStatistics();
+ *
+ * final EvolutionResult<ProgramGene<Double>, Double> result = engine.stream()
+ *     .limit(1000)
+ *     .peek(statistics)
+ *     .collect(EvolutionResult.toBestEvolutionResult());
+ *
+ * statistics.generations().forEach(m ->
+ *     System.out.println(m.mean() + " +- " + Math.sqrt(m.variance())));
+ * }</pre>
+ *
+ * @implNote
+ * This class is thread-safe.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+public final class NodeCountStatistics
+	implements Consumer<EvolutionResult<?, ?>>
+{
+
+	private final List<IntMoments> _generations = new ArrayList<>();
+
+	/**
+	 * Create a new, empty, node count statistics object.
+	 */
+	public NodeCountStatistics() {
+	}
+
+	@Override
+	public void accept(final EvolutionResult<?, ?> result) {
+		final IntMomentStatistics statistics = new IntMomentStatistics();
+		for (Phenotype<?, ?> pt : result.population()) {
+			statistics.accept(pt.genotype().geneCount());
+		}
+
+		final IntMoments moments = IntMoments.of(statistics);
+		synchronized (_generations) {
+			_generations.add(moments);
+		}
+	}
+
+	/**
+	 * Return the node count statistics of every recorded generation, in the
+	 * order of their recording.
+	 *
+	 * @return the node count statistics of the recorded generations
+	 */
+	public ISeq<IntMoments> generations() {
+		synchronized (_generations) {
+			return ISeq.of(_generations);
+		}
+	}
+
+	/**
+	 * Return the node count statistics of the last recorded generation.
+	 *
+	 * @return the node count statistics of the last recorded generation, or
+	 *         an empty {@code Optional} if no generation has been recorded yet
+	 */
+	public Optional<IntMoments> last() {
+		synchronized (_generations) {
+			return _generations.isEmpty()
+				? Optional.empty()
+				: Optional.of(_generations.get(_generations.size() - 1));
+		}
+	}
+
+	@Override
+	public String toString() {
+		return last()
+			.map(m -> format(
+				"NodeCountStatistics[generations=%d, mean=%f, max=%d]",
+				generations().size(), m.mean(), m.max()))
+			.orElse("NodeCountStatistics[generations=0]");
+	}
+
+}
@@ -0,0 +1,447 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.SerialIO.readInt;
+import static io.jenetics.internal.util.SerialIO.writeInt;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.internal.engine.PhenotypeCodec;
+import io.jenetics.internal.util.ByteBufferDataInput;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Migration transport over TCP sockets, which doesn't need an external
+ * message broker. Every transport listens on its own address for incoming
+ * migrants and sends its emigrants directly to the addresses of its peers.
+ * Connections to the peers are opened lazily. Peers which are not reachable
+ * are skipped and retried with the next {@link #send(Seq)} call.
+ *
+ * <pre>{@code
+ * // Process 1
+ * final var transport = SocketMigrationTransport.<DoubleGene, Double>open(
+ *     new InetSocketAddress("localhost", 7001),
+ *     List.of(new InetSocketAddress("localhost", 7002))
+ * );
+ *
+ * // Process 2
+ * final var transport = SocketMigrationTransport.<DoubleGene, Double>open(
+ *     new InetSocketAddress("localhost", 7002),
+ *     List.of(new InetSocketAddress("localhost", 7001))
+ * );
+ * }</pre>
+ *
+ * The individuals are not transferred with the Java object serialization.
+ * Every message contains the genotype <em>layout</em> once, followed by the
+ * compact binary records of the individuals: the gene values, generation and
+ * fitness, where integral values are written in the variable-length encoding
+ * of {@link io.jenetics.internal.util.SerialIO}. The supported chromosome
+ * types are {@link io.jenetics.BitChromosome},
+ * {@link io.jenetics.DoubleChromosome}, {@link io.jenetics.IntegerChromosome}
+ * and {@link io.jenetics.LongChromosome}. The fitness values must be of type
+ * {@link Double}, {@link Integer} or {@link Long}.
+ *
+ * @implNote
+ * Incoming connections are served by daemon threads, which decode the
+ * received messages. The messages are sent by one daemon thread per peer,
+ * so an unreachable or slow peer never blocks the {@link #send(Seq)} call
+ * or the delivery to the other peers. Connections are opened with a
+ * timeout, and the oldest pending messages of a peer are dropped, if the
+ * peer can't keep up. This class is thread-safe.
+ *
+ * @see IslandEngine#withTransport(MigrationTransport)
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+public final class SocketMigrationTransport<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements MigrationTransport<G, C>
+{
+
+	private static final int MAGIC = 0x4A4D4752; // JMGR
+
+	/**
+	 * The maximal size of one migration message.
+	 */
+	private static final int MAX_MESSAGE_SIZE = 1 << 26;
+
+	/**
+	 * The connect timeout for the peer connections, in milliseconds.
+	 */
+	private static final int CONNECT_TIMEOUT = 5_000;
+
+	/**
+	 * The maximal number of messages waiting for being sent to one peer.
+	 */
+	private static final int MAX_PENDING_MESSAGES = 16;
+
+	private final ServerSocketChannel _server;
+	private final List<SocketAddress> _peers;
+
+	private final List<Sender> _senders = new ArrayList<>();
+	private final Set<SocketChannel> _incoming = ConcurrentHashMap.newKeySet();
+	private final Queue<Phenotype<G, C>> _immigrants = new ConcurrentLinkedQueue<>();
+
+	private volatile boolean _closed = false;
+
+	private SocketMigrationTransport(
+		final ServerSocketChannel server,
+		final List<? extends SocketAddress> peers
+	) {
+		_server = server;
+		_peers = List.copyOf(peers);
+		for (SocketAddress peer : _peers) {
+			_senders.add(new Sender(peer));
+		}
+
+		final Thread acceptor = new Thread(this::accept, "jenetics-migration-acceptor");
+		acceptor.setDaemon(true);
+		acceptor.start();
+	}
+
+	/**
+	 * Return the local address this transport is listening on.
+	 *
+	 * @return the local address of this transport
+	 * @throws UncheckedIOException if the address can't be determined
+	 */
+	public InetSocketAddress address() {
+		try {
+			return (InetSocketAddress)_server.getLocalAddress();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Return the addresses of the peers this transport sends its emigrants to.
+	 *
+	 * @return the peer addresses
+	 */
+	public List<SocketAddress> peers() {
+		return _peers;
+	}
+
+	@Override
+	public void send(final Seq<Phenotype<G, C>> emigrants) {
+		final byte[] message = encode(emigrants);
+		if (!_closed) {
+			for (Sender sender : _senders) {
+				sender.offer(message);
+			}
+		}
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> receive() {
+		final List<Phenotype<G, C>> immigrants = new ArrayList<>();
+		Phenotype<G, C> pt;
+		while ((pt = _immigrants.poll()) != null) {
+			immigrants.add(pt);
+		}
+		return ISeq.of(immigrants);
+	}
+
+	private void accept() {
+		while (!_closed) {
+			try {
+				final SocketChannel channel = _server.accept();
+				_incoming.add(channel);
+
+				final Thread reader = new Thread(
+					() -> read(channel),
+					"jenetics-migration-reader"
+				);
+				reader.setDaemon(true);
+				reader.start();
+			} catch (IOException e) {
+				// The server channel has been closed.
+				return;
+			}
+		}
+	}
+
+	private void read(final SocketChannel channel) {
+		try (var in = new DataInputStream(Channels.newInputStream(channel))) {
+			while (!_closed) {
+				final int length = in.readInt();
+				if (length < 0 || length > MAX_MESSAGE_SIZE) {
+					throw new StreamCorruptedException(format(
+						"Invalid message size: %d", length
+					));
+				}
+
+				final byte[] message = new byte[length];
+				in.readFully(message);
+
+				final ISeq<Phenotype<G, C>> immigrants = decode(message);
+				immigrants.forEach(_immigrants::add);
+			}
+		} catch (EOFException | ClosedChannelException e) {
+			// Connection closed by the peer or by this transport.
+		} catch (IOException | RuntimeException e) {
+			// Invalid message. The connection is dropped.
+		} finally {
+			_incoming.remove(channel);
+		}
+	}
+
+	/**
+	 * Closes the listening socket and all open connections.
+	 *
+	 * @throws IOException if closing the listening socket fails
+	 */
+	@Override
+	public void close() throws IOException {
+		_closed = true;
+		_senders.forEach(Sender::close);
+		_incoming.forEach(SocketMigrationTransport::close);
+		_server.close();
+	}
+
+	private static void close(final SocketChannel channel) {
+		if (channel != null) {
+			try {
+				channel.close();
+			} catch (IOException ignore) {
+				// Closing an unusable connection.
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"SocketMigrationTransport[address=%s, peers=%s]",
+			_server.socket().getLocalSocketAddress(), _peers
+		);
+	}
+
+	/**
+	 * Sends the messages to one peer, in its own daemon thread.
+	 */
+	private final class Sender {
+		private final SocketAddress _peer;
+		private final BlockingQueue<byte[]> _messages =
+			new ArrayBlockingQueue<>(MAX_PENDING_MESSAGES);
+		private final Thread _thread;
+
+		private volatile SocketChannel _channel;
+
+		Sender(final SocketAddress peer) {
+			_peer = peer;
+			_thread = new Thread(this::run, "jenetics-migration-sender");
+			_thread.setDaemon(true);
+			_thread.start();
+		}
+
+		void offer(final byte[] message) {
+			// Drop the oldest messages, if the peer can't keep up.
+			while (!_messages.offer(message)) {
+				_messages.poll();
+			}
+		}
+
+		private void run() {
+			try {
+				while (!_closed) {
+					final ByteBuffer message = ByteBuffer.wrap(_messages.take());
+					try {
+						final SocketChannel channel = connection();
+						while (message.hasRemaining()) {
+							channel.write(message);
+						}
+					} catch (IOException e) {
+						// The peer is not reachable. Retry with the next message.
+						SocketMigrationTransport.close(_channel);
+						_channel = null;
+					}
+				}
+			} catch (InterruptedException e) {
+				// The transport has been closed.
+			} finally {
+				SocketMigrationTransport.close(_channel);
+			}
+		}
+
+		private SocketChannel connection() throws IOException {
+			if (_closed) {
+				throw new ClosedChannelException();
+			}
+
+			SocketChannel channel = _channel;
+			if (channel == null) {
+				channel = SocketChannel.open();
+				try {
+					channel.socket().connect(_peer, CONNECT_TIMEOUT);
+				} catch (IOException e) {
+					SocketMigrationTransport.close(channel);
+					throw e;
+				}
+				_channel = channel;
+			}
+			return channel;
+		}
+
+		void close() {
+			_thread.interrupt();
+			SocketMigrationTransport.close(_channel);
+		}
+	}
+
+
+	/* *************************************************************************
+	 * Message encoding.
+	 * ************************************************************************/
+
+	/**
+	 * Encodes the given individuals into a length prefixed migration message.
+	 *
+	 * @param population the individuals to encode
+	 * @return the encoded message, including the length prefix
+	 * @throws UncheckedIOException if encoding the message fails
+	 * @throws IllegalArgumentException if the individuals contain unsupported
+	 *         chromosome or fitness types
+	 */
+	static byte[] encode(final Seq<? extends Phenotype<?, ?>> population) {
+		requireNonNull(population);
+
+		final PhenotypeCodec codec = PhenotypeCodec.of(population);
+		final var bytes = new ByteArrayOutputStream();
+		try (var out = new DataOutputStream(bytes)) {
+			out.writeInt(0); // Placeholder for the message length.
+			out.writeInt(MAGIC);
+			writeInt(population.size(), out);
+			codec.writeHeader(out);
+			for (Phenotype<?, ?> pt : population) {
+				codec.write(pt, out);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		final ByteBuffer message = ByteBuffer.wrap(bytes.toByteArray());
+		message.putInt(0, message.capacity() - Integer.BYTES);
+		return message.array();
+	}
+
+	/**
+	 * Decodes the individuals of the given migration message, without the
+	 * length prefix.
+	 *
+	 * @param message the message to decode
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the decoded individuals
+	 * @throws IOException if the message is invalid
+	 */
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	ISeq<Phenotype<G, C>> decode(final byte[] message) throws IOException {
+		final var in = new ByteBufferDataInput(ByteBuffer.wrap(message));
+		if (in.readInt() != MAGIC) {
+			throw new StreamCorruptedException("Not a migration message.");
+		}
+
+		final int size = readInt(in);
+		if (size < 0 || size > message.length) {
+			throw new StreamCorruptedException(format(
+				"Invalid number of individuals: %d", size
+			));
+		}
+
+		final PhenotypeCodec codec = PhenotypeCodec.readHeader(in);
+		final MSeq<Phenotype<G, C>> population = MSeq.ofLength(size);
+		for (int i = 0; i < size; ++i) {
+			population.set(i, codec.read(in));
+		}
+		return population.toISeq();
+	}
+
+	/**
+	 * Opens a new migration transport, which listens on the given local
+	 * {@code address} and sends its emigrants to the given {@code peers}.
+	 * Use port {@code 0} for listening on an ephemeral port.
+	 *
+	 * @param address the local address to listen on
+	 * @param peers the addresses of the remote transports
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new socket migration transport
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IOException if the listening socket can't be opened
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	SocketMigrationTransport<G, C> open(
+		final InetSocketAddress address,
+		final List<? extends SocketAddress> peers
+	)
+		throws IOException
+	{
+		requireNonNull(address);
+		peers.forEach(Objects::requireNonNull);
+
+		final ServerSocketChannel server = ServerSocketChannel.open();
+		try {
+			server.bind(address);
+		} catch (IOException e) {
+			server.close();
+			throw e;
+		}
+
+		return new SocketMigrationTransport<>(server, peers);
+	}
+
+}
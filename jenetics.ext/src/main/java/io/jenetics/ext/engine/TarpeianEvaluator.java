@@ -0,0 +1,190 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Random;
+import java.util.function.ToIntFunction;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Evaluator;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.Seq;
+
+/**
+ * Fitness evaluator which implements the <em>Tarpeian</em> bloat control
+ * method of Poli. Every not yet evaluated individual, whose size is above the
+ * average size of the population, gets the given {@code penalty} fitness with
+ * the given {@code probability}. All other individuals are evaluated by the
+ * wrapped evaluator. Since the penalized individuals are not evaluated at all,
+ * this method also saves the evaluation time of large programs.
+ *
+ * <pre>{@code
+ * final Evaluator<ProgramGene<Double>, Double> evaluator =
+ *     new TarpeianEvaluator<>(
+ *         Evaluators.concurrent(fitness, executor),
+ *         0.3,
+ *         Double.MAX_VALUE
+ *     );
+ *
+ * final Engine<ProgramGene<Double>, Double> engine =
+ *     new Engine.Builder<>(evaluator, codec.encoding())
+ *         .minimizing()
+ *         .build();
+ * }</pre>
+ *
+ * The default size of an individual is the number of genes of its genotype,
+ * which is the number of tree nodes for tree chromosomes.
+ *
+ * @see <a href="http://cswww.essex.ac.uk/staff/rpoli/papers/Poli-EUROGP-2003.pdf">
+ *     A Simple but Theoretically-motivated Method to Control Bloat in Genetic
+ *     Programming</a>
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+public final class TarpeianEvaluator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Evaluator<G, C>
+{
+
+	private final Evaluator<G, C> _evaluator;
+	private final double _probability;
+	private final C _penalty;
+	private final ToIntFunction<? super Genotype<G>> _size;
+
+	/**
+	 * Create a new Tarpeian evaluator.
+	 *
+	 * @param evaluator the evaluator used for the not penalized individuals
+	 * @param probability the probability of penalizing an individual with an
+	 *        above average size
+	 * @param penalty the fitness value of the penalized individuals. It
+	 *        should be the worst possible fitness value.
+	 * @param size the function which calculates the size of an individual
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code probability} is not in the
+	 *         range of {@code [0, 1]}
+	 */
+	public TarpeianEvaluator(
+		final Evaluator<G, C> evaluator,
+		final double probability,
+		final C penalty,
+		final ToIntFunction<? super Genotype<G>> size
+	) {
+		if (!(probability >= 0 && probability <= 1)) {
+			throw new IllegalArgumentException(format(
+				"Probability must be in the range [0, 1]: %f", probability
+			));
+		}
+
+		_evaluator = requireNonNull(evaluator);
+		_probability = probability;
+		_penalty = requireNonNull(penalty);
+		_size = requireNonNull(size);
+	}
+
+	/**
+	 * Create a new Tarpeian evaluator, which uses the number of genes as size
+	 * of an individual.
+	 *
+	 * @param evaluator the evaluator used for the not penalized individuals
+	 * @param probability the probability of penalizing an individual with an
+	 *        above average size
+	 * @param penalty the fitness value of the penalized individuals. It
+	 *        should be the worst possible fitness value.
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code probability} is not in the
+	 *         range of {@code [0, 1]}
+	 */
+	public TarpeianEvaluator(
+		final Evaluator<G, C> evaluator,
+		final double probability,
+		final C penalty
+	) {
+		this(evaluator, probability, penalty, Genotype::geneCount);
+	}
+
+	/**
+	 * Return the probability of penalizing an individual with an above
+	 * average size.
+	 *
+	 * @return the penalizing probability
+	 */
+	public double probability() {
+		return _probability;
+	}
+
+	/**
+	 * Return the fitness value of the penalized individuals.
+	 *
+	 * @return the fitness value of the penalized individuals
+	 */
+	public C penalty() {
+		return _penalty;
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
+		if (population.isEmpty() || _probability == 0) {
+			return _evaluator.eval(population);
+		}
+
+		final int[] sizes = new int[population.size()];
+		long total = 0;
+		for (int i = 0; i < sizes.length; ++i) {
+			sizes[i] = _size.applyAsInt(population.get(i).genotype());
+			total += sizes[i];
+		}
+		final double mean = (double)total/sizes.length;
+
+		final Random random = RandomRegistry.random();
+		final MSeq<Phenotype<G, C>> result = MSeq.of(population);
+		for (int i = 0; i < sizes.length; ++i) {
+			final Phenotype<G, C> pt = result.get(i);
+			if (!pt.isEvaluated() &&
+				sizes[i] > mean &&
+				random.nextDouble() < _probability)
+			{
+				result.set(i, pt.withFitness(_penalty));
+			}
+		}
+
+		return _evaluator.eval(result);
+	}
+
+	@Override
+	public String toString() {
+		return format("TarpeianEvaluator[p=%f]", _probability);
+	}
+
+}
@@ -20,10 +20,13 @@
 
 /**
  * This package contains classes, which allows to concatenate evolution
- * {@code Engine}s with different configurations.
+ * {@code Engine}s with different configurations, or to evolve several
+ * sub-populations concurrently with an {@link io.jenetics.ext.engine.IslandEngine}.
+ * Many independent evolution runs of one engine can be executed with the
+ * {@link io.jenetics.ext.engine.MultiStartRunner}.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 6.2
  * @since 4.1
  */
 package io.jenetics.ext.engine;
@@ -0,0 +1,553 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.sqrt;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToIntFunction;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.ProxySorter;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.Seq;
+
+import io.jenetics.ext.internal.IntList;
+
+/**
+ * Reference-point based selector, as described in
+ * <a href="https://ieeexplore.ieee.org/document/6600851">
+ *     An Evolutionary Many-Objective Optimization Algorithm Using
+ *     Reference-Point-Based Nondominated Sorting Approach</a>. The population
+ * is first divided into non-dominated fronts, like in the
+ * {@link NSGA2Selector}. The last front, which doesn't fit completely into the
+ * selected individuals, is not ranked by the <em>crowding distance</em>, but
+ * by associating its members with a set of well-spread reference points on
+ * the normalized hyper-plane. Individuals of sparsely populated reference
+ * points are preferred. This selector scales much better than the
+ * <em>crowding distance</em> for problems with more than three objectives.
+ *
+ * <pre>{@code
+ * final Engine<DoubleGene, Vec<double[]>> engine = Engine.builder(problem)
+ *     .survivorsSelector(NSGA3Selector.ofVec(6))
+ *     .build();
+ * }</pre>
+ *
+ * The structured reference points are created with the method of Das and
+ * Dennis. For a problem with {@code m} objectives and {@code p} divisions,
+ * <code>binomial(m + p - 1, p)</code> reference points are created.
+ * <p>
+ *  <b>Reference:</b><em>
+ *      K. Deb and H. Jain. 2014. An Evolutionary Many-Objective Optimization
+ *      Algorithm Using Reference-Point-Based Nondominated Sorting Approach,
+ *      Part I: Solving Problems With Box Constraints. Trans. Evol. Comp 18,
+ *      4 (Aug. 2014), 577-601. DOI=<a href="http://dx.doi.org/10.1109/TEVC.2013.2281535">
+ *          10.1109/TEVC.2013.2281535</a></em>
+ *
+ * @see NSGA2Selector
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+public class NSGA3Selector<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Selector<G, C>
+{
+
+	private static final double EPSILON = 1.0E-10;
+
+	private final int _divisions;
+	private final Comparator<Phenotype<G, C>> _dominance;
+	private final ElementComparator<Phenotype<G, C>> _comparator;
+	private final ElementDistance<Phenotype<G, C>> _distance;
+	private final ToIntFunction<Phenotype<G, C>> _dimension;
+
+	/**
+	 * Creates a new {@code NSGA3Selector} with the functions needed for
+	 * handling the multi-objective result type {@code C}. For the {@link Vec}
+	 * classes, a selector is created like in the following example:
+	 * <pre>{@code
+	 * new NSGA3Selector<>(
+	 *     divisions,
+	 *     Vec<T>::dominance,
+	 *     Vec<T>::compare,
+	 *     Vec<T>::distance,
+	 *     Vec<T>::length
+	 * );
+	 * }</pre>
+	 *
+	 * @see #ofVec(int)
+	 *
+	 * @param divisions the number of divisions along each objective axis, used
+	 *        for creating the structured reference points
+	 * @param dominance the pareto dominance comparator
+	 * @param comparator the vector element comparator
+	 * @param distance the vector element distance
+	 * @param dimension the dimensionality of vector type {@code C}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if {@code divisions < 1}
+	 */
+	public NSGA3Selector(
+		final int divisions,
+		final Comparator<? super C> dominance,
+		final ElementComparator<? super C> comparator,
+		final ElementDistance<? super C> distance,
+		final ToIntFunction<? super C> dimension
+	) {
+		requireNonNull(dominance);
+		requireNonNull(comparator);
+		requireNonNull(distance);
+		requireNonNull(dimension);
+		if (divisions < 1) {
+			throw new IllegalArgumentException(format(
+				"Number of divisions must be greater than zero: %d", divisions
+			));
+		}
+
+		_divisions = divisions;
+		_dominance = (a, b) -> dominance.compare(a.fitness(), b.fitness());
+		_comparator = comparator.map(Phenotype::fitness);
+		_distance = distance.map(Phenotype::fitness);
+		_dimension = v -> dimension.applyAsInt(v.fitness());
+	}
+
+	/**
+	 * Return the number of divisions used for creating the reference points.
+	 *
+	 * @return the number of divisions used for creating the reference points
+	 */
+	public int divisions() {
+		return _divisions;
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> select(
+		final Seq<Phenotype<G, C>> population,
+		final int count,
+		final Optimize opt
+	) {
+		requireNonNull(population, "Population");
+		requireNonNull(opt, "Optimization");
+		if (count < 0) {
+			throw new IllegalArgumentException(format(
+				"Selection count must be greater or equal then zero, but was %s",
+				count
+			));
+		}
+		if (population.isEmpty() || count == 0) {
+			return ISeq.empty();
+		}
+
+		final int[] rank = Pareto.rank(
+			population,
+			opt == Optimize.MAXIMUM
+				? _dominance
+				: _dominance.reversed()
+		);
+		final int[] idx = ProxySorter.sort(rank);
+
+		// Number of individuals which are selected by the niching procedure.
+		final int size = min(count, population.size());
+
+		// Collecting the fronts until the selection size is reached. The index
+		// range [start, end) contains the last, partially selected, front.
+		int start = 0;
+		int end = 0;
+		while (end < size) {
+			start = end;
+			while (end < idx.length && rank[idx[end]] == rank[idx[start]]) {
+				++end;
+			}
+		}
+
+		final int[] selected;
+		if (end == size) {
+			selected = Arrays.copyOf(idx, end);
+		} else {
+			selected = niching(
+				population,
+				Arrays.copyOf(idx, end),
+				start,
+				size,
+				opt
+			);
+		}
+
+		final List<Phenotype<G, C>> result = new ArrayList<>(count);
+		while (result.size() < count) {
+			for (int i = 0; i < selected.length && result.size() < count; ++i) {
+				result.add(population.get(selected[i]));
+			}
+		}
+
+		return ISeq.of(result);
+	}
+
+	/*
+	 * Selects the missing individuals from the last front, which is given by
+	 * the index range [start, st.length) of the index array 'st'.
+	 */
+	private int[] niching(
+		final Seq<Phenotype<G, C>> population,
+		final int[] st,
+		final int start,
+		final int size,
+		final Optimize opt
+	) {
+		final Random random = RandomRegistry.random();
+		final int dim = _dimension.applyAsInt(population.get(st[0]));
+
+		final double[][] points = normalize(population, st, dim, opt);
+		final double[][] refs = referencePoints(dim, _divisions);
+
+		// Associating each individual with its closest reference line.
+		final int[] niche = new int[st.length];
+		final double[] dist = new double[st.length];
+		for (int i = 0; i < st.length; ++i) {
+			niche[i] = -1;
+			dist[i] = Double.POSITIVE_INFINITY;
+			for (int j = 0; j < refs.length; ++j) {
+				final double d = perpendicularDistance(points[i], refs[j]);
+				if (d < dist[i]) {
+					dist[i] = d;
+					niche[i] = j;
+				}
+			}
+		}
+
+		// Niche counts of the already selected individuals.
+		final int[] rho = new int[refs.length];
+		for (int i = 0; i < start; ++i) {
+			++rho[niche[i]];
+		}
+
+		// Members of the last front, associated with the reference points.
+		final int[] sizes = new int[refs.length];
+		for (int i = start; i < st.length; ++i) {
+			++sizes[niche[i]];
+		}
+		final int[][] members = new int[refs.length][];
+		for (int j = 0; j < refs.length; ++j) {
+			members[j] = new int[sizes[j]];
+			sizes[j] = 0;
+		}
+		for (int i = start; i < st.length; ++i) {
+			members[niche[i]][sizes[niche[i]]++] = i;
+		}
+
+		final IntList result = new IntList(size);
+		for (int i = 0; i < start; ++i) {
+			result.add(st[i]);
+		}
+
+		final boolean[] excluded = new boolean[refs.length];
+		final IntList candidates = new IntList();
+		while (result.size() < size) {
+			// Find the reference points with the minimal niche count.
+			candidates.clear();
+			int min = Integer.MAX_VALUE;
+			for (int j = 0; j < refs.length; ++j) {
+				if (!excluded[j]) {
+					if (rho[j] < min) {
+						min = rho[j];
+						candidates.clear();
+						candidates.add(j);
+					} else if (rho[j] == min) {
+						candidates.add(j);
+					}
+				}
+			}
+
+			final int j = candidates.get(random.nextInt(candidates.size()));
+			final int[] m = members[j];
+			if (sizes[j] == 0) {
+				excluded[j] = true;
+			} else {
+				int k = 0;
+				if (rho[j] == 0) {
+					for (int l = 1; l < sizes[j]; ++l) {
+						if (dist[m[l]] < dist[m[k]]) {
+							k = l;
+						}
+					}
+				} else {
+					k = random.nextInt(sizes[j]);
+				}
+
+				result.add(st[m[k]]);
+				m[k] = m[--sizes[j]];
+				++rho[j];
+			}
+		}
+
+		return result.toArray();
+	}
+
+	/*
+	 * Return the normalized objective values of the individuals given by the
+	 * index array. The normalized values are greater or equal than zero, where
+	 * zero is the best value of an objective.
+	 */
+	private double[][] normalize(
+		final Seq<Phenotype<G, C>> population,
+		final int[] st,
+		final int dim,
+		final Optimize opt
+	) {
+		final ElementComparator<Phenotype<G, C>> comparator =
+			opt == Optimize.MAXIMUM
+				? _comparator
+				: _comparator.reversed();
+
+		// Translating the objectives, so that the ideal point is the origin.
+		final double[][] points = new double[st.length][dim];
+		for (int m = 0; m < dim; ++m) {
+			Phenotype<G, C> best = population.get(st[0]);
+			for (int i = 1; i < st.length; ++i) {
+				final Phenotype<G, C> pt = population.get(st[i]);
+				if (comparator.compare(pt, best, m) > 0) {
+					best = pt;
+				}
+			}
+			for (int i = 0; i < st.length; ++i) {
+				points[i][m] = abs(_distance.distance(population.get(st[i]), best, m));
+			}
+		}
+
+		// Finding the extreme points of every objective axis.
+		final double[][] extremes = new double[dim][];
+		for (int m = 0; m < dim; ++m) {
+			double min = Double.POSITIVE_INFINITY;
+			for (double[] point : points) {
+				final double asf = asf(point, m);
+				if (asf < min) {
+					min = asf;
+					extremes[m] = point;
+				}
+			}
+		}
+
+		final double[] intercepts = intercepts(extremes, points);
+		for (double[] point : points) {
+			for (int m = 0; m < dim; ++m) {
+				point[m] /= intercepts[m];
+			}
+		}
+
+		return points;
+	}
+
+	// Achievement scalarizing function for the given objective axis.
+	private static double asf(final double[] point, final int axis) {
+		double result = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < point.length; ++i) {
+			final double weight = i == axis ? 1.0 : 1.0E-6;
+			result = max(result, point[i]/weight);
+		}
+		return result;
+	}
+
+	/*
+	 * Calculates the intercepts of the hyper-plane, given by the extreme
+	 * points, with the objective axes. If the hyper-plane can't be constructed,
+	 * the worst objective values are used instead.
+	 */
+	private static double[] intercepts(
+		final double[][] extremes,
+		final double[][] points
+	) {
+		final int dim = extremes.length;
+
+		final double[] b = new double[dim];
+		Arrays.fill(b, 1.0);
+		final double[] x = solve(extremes, b);
+
+		final double[] intercepts = new double[dim];
+		boolean valid = x != null;
+		for (int m = 0; m < dim && valid; ++m) {
+			intercepts[m] = 1.0/x[m];
+			valid = x[m] > EPSILON && Double.isFinite(intercepts[m]);
+		}
+
+		if (!valid) {
+			Arrays.fill(intercepts, 0.0);
+			for (double[] point : points) {
+				for (int m = 0; m < dim; ++m) {
+					intercepts[m] = max(intercepts[m], point[m]);
+				}
+			}
+		}
+		for (int m = 0; m < dim; ++m) {
+			if (intercepts[m] < EPSILON) {
+				intercepts[m] = 1.0;
+			}
+		}
+
+		return intercepts;
+	}
+
+	/*
+	 * Solves the linear equation system A*x = b with Gaussian elimination and
+	 * partial pivoting. Returns null if the matrix is singular.
+	 */
+	static double[] solve(final double[][] A, final double[] b) {
+		final int n = b.length;
+		final double[][] a = new double[n][];
+		for (int i = 0; i < n; ++i) {
+			a[i] = Arrays.copyOf(A[i], n + 1);
+			a[i][n] = b[i];
+		}
+
+		for (int c = 0; c < n; ++c) {
+			int pivot = c;
+			for (int r = c + 1; r < n; ++r) {
+				if (abs(a[r][c]) > abs(a[pivot][c])) {
+					pivot = r;
+				}
+			}
+			if (abs(a[pivot][c]) < EPSILON) {
+				return null;
+			}
+
+			final double[] temp = a[c];
+			a[c] = a[pivot];
+			a[pivot] = temp;
+
+			for (int r = c + 1; r < n; ++r) {
+				final double f = a[r][c]/a[c][c];
+				for (int k = c; k <= n; ++k) {
+					a[r][k] -= f*a[c][k];
+				}
+			}
+		}
+
+		final double[] x = new double[n];
+		for (int r = n - 1; r >= 0; --r) {
+			double sum = a[r][n];
+			for (int k = r + 1; k < n; ++k) {
+				sum -= a[r][k]*x[k];
+			}
+			x[r] = sum/a[r][r];
+		}
+
+		return x;
+	}
+
+	private static double
+	perpendicularDistance(final double[] point, final double[] ref) {
+		double wf = 0;
+		double ww = 0;
+		for (int i = 0; i < point.length; ++i) {
+			wf += ref[i]*point[i];
+			ww += ref[i]*ref[i];
+		}
+
+		final double s = wf/ww;
+		double dist = 0;
+		for (int i = 0; i < point.length; ++i) {
+			final double d = point[i] - s*ref[i];
+			dist += d*d;
+		}
+
+		return sqrt(dist);
+	}
+
+	/**
+	 * Creates the structured reference points on the unit simplex, with the
+	 * method of Das and Dennis. The number of created points is
+	 * <code>binomial(dimension + divisions - 1, divisions)</code>.
+	 *
+	 * @param dimension the dimension of the reference points
+	 * @param divisions the number of divisions along each axis
+	 * @return the reference points
+	 */
+	static double[][] referencePoints(final int dimension, final int divisions) {
+		final List<double[]> points = new ArrayList<>();
+		referencePoints(new double[dimension], divisions, divisions, 0, points);
+		return points.toArray(new double[0][]);
+	}
+
+	private static void referencePoints(
+		final double[] point,
+		final int divisions,
+		final int left,
+		final int index,
+		final List<double[]> points
+	) {
+		if (index == point.length - 1) {
+			point[index] = (double)left/divisions;
+			points.add(point.clone());
+		} else {
+			for (int i = 0; i <= left; ++i) {
+				point[index] = (double)i/divisions;
+				referencePoints(point, divisions, left - i, index + 1, points);
+			}
+		}
+	}
+
+	/**
+	 * Return a new selector for the given result type {@code V}. This method is
+	 * a shortcut for
+	 * <pre>{@code
+	 * new NSGA3Selector<>(
+	 *     divisions,
+	 *     Vec<T>::dominance,
+	 *     Vec<T>::compare,
+	 *     Vec<T>::distance,
+	 *     Vec<T>::length
+	 * );
+	 * }</pre>
+	 *
+	 * @param divisions the number of divisions along each objective axis, used
+	 *        for creating the structured reference points
+	 * @param <G> the gene type
+	 * @param <T> the array type, e.g. {@code double[]}
+	 * @param <V> the multi object result type vector
+	 * @return a new selector for the given result type {@code V}
+	 * @throws IllegalArgumentException if {@code divisions < 1}
+	 */
+	public static <G extends Gene<?, G>, T, V extends Vec<T>>
+	NSGA3Selector<G, V> ofVec(final int divisions) {
+		return new NSGA3Selector<>(
+			divisions,
+			Vec::dominance,
+			Vec::compare,
+			Vec::distance,
+			Vec::length
+		);
+	}
+
+}
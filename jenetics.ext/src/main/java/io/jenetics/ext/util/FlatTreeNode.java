@@ -19,6 +19,7 @@
  */
 package io.jenetics.ext.util;
 
+import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 import static io.jenetics.internal.util.SerialIO.readIntArray;
 import static io.jenetics.internal.util.SerialIO.readObjectArray;
@@ -33,6 +34,7 @@ import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.IntStream;
@@ -43,7 +45,8 @@ import io.jenetics.util.ISeq;
 /**
  * Default implementation of the {@link FlatTree} interface. Beside the
  * flattened and dense layout it is also an <em>immutable</em> implementation of
- * the {@link Tree} interface. It can only be created from an existing tree.
+ * the {@link Tree} interface. It is created from an existing tree or directly
+ * from the breadth-first ordered node values and child counts.
  *
  * <pre>{@code
  * final Tree<String, ?> immutable = FlatTreeNode.of(TreeNode.parse(...));
@@ -53,7 +56,7 @@ import io.jenetics.util.ISeq;
  * This class is immutable and thread-safe.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.0
+ * @version 6.2
  * @since 3.9
  */
 public final class FlatTreeNode<V>
@@ -301,6 +304,62 @@ public final class FlatTreeNode<V>
 		);
 	}
 
+	/**
+	 * Create a new, immutable {@code FlatTreeNode} from the given node
+	 * {@code values} and {@code childCounts}, both given in breadth-first
+	 * order. This allows to create a flat tree without an intermediate tree
+	 * object, e.g. directly from a parser. The {@code childCounts} of the tree
+	 * {@code mul(add(x,1),y)} are {@code [2, 2, 0, 0, 0]}.
+	 *
+	 * @since 6.2
+	 *
+	 * @param values the node values in breadth-first order
+	 * @param childCounts the child counts of the nodes in breadth-first order
+	 * @param <V> the tree value types
+	 * @return a new {@code FlatTreeNode} from the given node values
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the given {@code values} and
+	 *         {@code childCounts} don't form a valid tree
+	 */
+	public static <V> FlatTreeNode<V> ofBreadthFirst(
+		final List<? extends V> values,
+		final int[] childCounts
+	) {
+		final var elements = values.toArray();
+		final var counts = childCounts.clone();
+		if (elements.length == 0 || elements.length != counts.length) {
+			throw new IllegalArgumentException(format(
+				"Invalid tree size [values=%d, childCounts=%d].",
+				elements.length, counts.length
+			));
+		}
+
+		final var childOffsets = new int[counts.length];
+		int childOffset = 1;
+		for (int i = 0; i < counts.length; ++i) {
+			if (counts[i] < 0 || (i >= childOffset && i > 0)) {
+				throw new IllegalArgumentException(format(
+					"Invalid child count %d at index %d.", counts[i], i
+				));
+			}
+
+			childOffsets[i] = counts[i] == 0 ? -1 : childOffset;
+			childOffset += counts[i];
+		}
+		if (childOffset != counts.length) {
+			throw new IllegalArgumentException(format(
+				"Child counts don't match the tree size %d.", counts.length
+			));
+		}
+
+		return new FlatTreeNode<>(
+			0,
+			elements,
+			childOffsets,
+			counts
+		);
+	}
+
 	/**
 	 * Parses a (parentheses) tree string, created with
 	 * {@link Tree#toParenthesesString()}. The tree string might look like this:
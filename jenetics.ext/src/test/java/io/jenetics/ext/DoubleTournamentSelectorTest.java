@@ -0,0 +1,102 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class DoubleTournamentSelectorTest {
+
+	private static double meanSize(
+		final ISeq<Phenotype<IntTreeGene, Integer>> population
+	) {
+		return population.stream()
+			.mapToInt(pt -> pt.genotype().geneCount())
+			.average()
+			.orElseThrow();
+	}
+
+	@Test
+	public void parsimonyPressure() {
+		final ISeq<Phenotype<IntTreeGene, Integer>> population =
+			SubtreeCrossoverTest.population(100, new Random(123));
+
+		final ISeq<Phenotype<IntTreeGene, Integer>> neutral =
+			RandomRegistry.with(new Random(456), r ->
+				new DoubleTournamentSelector<IntTreeGene, Integer>(2, 1.0)
+					.select(population, 10_000, Optimize.MAXIMUM)
+			);
+		final ISeq<Phenotype<IntTreeGene, Integer>> parsimonious =
+			RandomRegistry.with(new Random(456), r ->
+				new DoubleTournamentSelector<IntTreeGene, Integer>(2, 2.0)
+					.select(population, 10_000, Optimize.MAXIMUM)
+			);
+
+		// All individuals have the same fitness, so only the size matters.
+		Assert.assertEquals(meanSize(neutral), meanSize(population), 0.5);
+		Assert.assertTrue(
+			meanSize(parsimonious) < meanSize(neutral),
+			meanSize(parsimonious) + " < " + meanSize(neutral)
+		);
+	}
+
+	@Test
+	public void fitnessFirst() {
+		final Random random = new Random(123);
+		final ISeq<Phenotype<IntTreeGene, Integer>> population =
+			SubtreeCrossoverTest.population(100, random)
+				.map(pt -> pt.withFitness(random.nextInt(1000)));
+
+		final ISeq<Phenotype<IntTreeGene, Integer>> selected =
+			new DoubleTournamentSelector<IntTreeGene, Integer>(5, 1.4)
+				.select(population, 1000, Optimize.MAXIMUM);
+
+		final double populationFitness = population.stream()
+			.mapToInt(Phenotype::fitness)
+			.average()
+			.orElseThrow();
+		final double selectedFitness = selected.stream()
+			.mapToInt(Phenotype::fitness)
+			.average()
+			.orElseThrow();
+		Assert.assertTrue(selectedFitness > populationFitness);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidParsimony() {
+		new DoubleTournamentSelector<IntTreeGene, Integer>(2, 2.5);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidSampleSize() {
+		new DoubleTournamentSelector<IntTreeGene, Integer>(1, 1.4);
+	}
+
+}
@@ -27,6 +27,10 @@ import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+
 import io.jenetics.ext.util.TreeNode;
 
 /**
@@ -148,4 +152,37 @@ public class SingleNodeCrossoverTest {
 		};
 	}
 
+	@Test
+	public void crossoverLimits() {
+		final int maxSize = 25;
+		final int maxDepth = 4;
+		final SingleNodeCrossover<IntTreeGene, Integer> crossover =
+			new SingleNodeCrossover<>(1.0, maxSize, maxDepth);
+		Assert.assertEquals(crossover.maxSize(), maxSize);
+		Assert.assertEquals(crossover.maxDepth(), maxDepth);
+
+		final Random random = new Random(123);
+		for (int i = 0; i < 20; ++i) {
+			final ISeq<Phenotype<IntTreeGene, Integer>> population =
+				SubtreeCrossoverTest.population(20, random);
+			final ISeq<Phenotype<IntTreeGene, Integer>> result =
+				crossover.alter(population, 2).population();
+
+			for (int j = 0; j < result.size(); ++j) {
+				final Genotype<IntTreeGene> gt = result.get(j).genotype();
+				if (!gt.equals(population.get(j).genotype())) {
+					final TreeNode<Integer> tree =
+						TreeNode.ofTree(gt.chromosome().gene());
+					Assert.assertTrue(tree.size() <= maxSize);
+					Assert.assertTrue(tree.depth() <= maxDepth);
+				}
+			}
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidMaxSize() {
+		new SingleNodeCrossover<IntTreeGene, Integer>(1.0, 0, 5);
+	}
+
 }
@@ -0,0 +1,248 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+
+import io.jenetics.ext.util.FlatTreeNode;
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SubtreeCrossoverTest {
+
+	static TreeNode<Integer> newTree(final int levels, final Random random) {
+		final TreeNode<Integer> root = TreeNode.of(random.nextInt(1000));
+		fill(root, levels, random);
+		return root;
+	}
+
+	private static void fill(
+		final TreeNode<Integer> node,
+		final int level,
+		final Random random
+	) {
+		if (level > 0) {
+			for (int i = 0, n = random.nextInt(5); i < n; ++i) {
+				final TreeNode<Integer> child = TreeNode.of(random.nextInt(1000));
+				if (random.nextDouble() < 0.8) {
+					fill(child, level - 1, random);
+				}
+				node.attach(child);
+			}
+		}
+	}
+
+	static IntTreeChromosome chromosome(final TreeNode<Integer> tree) {
+		return new IntTreeChromosome(
+			FlatTreeNode.ofTree(tree).map(t ->
+				new IntTreeGene(t.value(), t.childOffset(), t.childCount()))
+		);
+	}
+
+	static ISeq<Phenotype<IntTreeGene, Integer>>
+	population(final int size, final Random random) {
+		return random.ints(size, 0, 7)
+			.mapToObj(levels -> Phenotype.<IntTreeGene, Integer>of(
+				Genotype.of(chromosome(newTree(levels, random))),
+				1
+			))
+			.collect(ISeq.toISeq());
+	}
+
+	@Test(dataProvider = "seeds")
+	public void equivalentToSingleNodeCrossover(final long seed) {
+		final ISeq<Phenotype<IntTreeGene, Integer>> population =
+			population(30, new Random(seed));
+
+		final ISeq<Phenotype<IntTreeGene, Integer>> expected =
+			RandomRegistry.with(new Random(seed), r ->
+				new SingleNodeCrossover<IntTreeGene, Integer>(1.0)
+					.alter(population, 2)
+					.population()
+			);
+		final ISeq<Phenotype<IntTreeGene, Integer>> actual =
+			RandomRegistry.with(new Random(seed), r ->
+				new SubtreeCrossover<IntTreeGene, Integer>(1.0)
+					.alter(population, 2)
+					.population()
+			);
+
+		Assert.assertEquals(
+			actual.map(Phenotype::genotype),
+			expected.map(Phenotype::genotype)
+		);
+		for (Phenotype<IntTreeGene, Integer> pt : actual) {
+			final IntTreeGene root = pt.genotype().gene();
+			Assert.assertEquals(
+				FlatTreeNode.ofTree(TreeNode.ofTree(root)),
+				FlatTreeNode.ofTree(root)
+			);
+		}
+	}
+
+	@DataProvider(name = "seeds")
+	public Object[][] seeds() {
+		return new Object[][] {{1L}, {23L}, {345L}, {4567L}, {56789L}};
+	}
+
+	@Test
+	public void subtreeSize() {
+		final Random random = new Random(123);
+		for (int i = 0; i < 20; ++i) {
+			final FlatTreeNode<Integer> tree =
+				FlatTreeNode.ofTree(newTree(random.nextInt(8), random));
+			final ISeq<FlatTreeNode<Integer>> nodes = tree.flattenedNodes();
+
+			for (int j = 0; j < nodes.length(); ++j) {
+				Assert.assertEquals(FlatTrees.size(nodes, j), nodes.get(j).size());
+			}
+		}
+	}
+
+	@Test
+	public void replaceRoot() {
+		final Random random = new Random(456);
+		final IntTreeChromosome ch1 = chromosome(newTree(4, random));
+		final IntTreeChromosome ch2 = chromosome(newTree(4, random));
+
+		final ISeq<IntTreeGene> genes = FlatTrees.replace(ch1, 0, ch2, 0, ch1.gene());
+		Assert.assertEquals(genes, MSeq.of(ch2).toISeq());
+	}
+
+	@Test(dataProvider = "seeds")
+	public void subtreeMutator(final long seed) {
+		final TreeNode<Integer> tree = TreeNode.of(0)
+			.attach(TreeNode.of(1).attach(3, 4))
+			.attach(TreeNode.of(2).attach(5));
+
+		final var replaced = new int[1];
+		final var mutator = new SubtreeMutator<Integer, IntTreeGene, Integer>(1.0) {
+			@Override
+			protected TreeNode<Integer> newSubtree(
+				final IntTreeGene node,
+				final Random random
+			) {
+				replaced[0] = node.size();
+				return TreeNode.of(-1).attach(-10, -11);
+			}
+		};
+
+		final IntTreeChromosome chromosome = chromosome(tree);
+		final var result = mutator.mutate(chromosome, 1.0, new Random(seed));
+		Assert.assertEquals(result.mutations(), 1);
+
+		final TreeNode<Integer> mutated =
+			TreeNode.ofTree(result.result().gene());
+		Assert.assertEquals(mutated.size(), tree.size() - replaced[0] + 3);
+		Assert.assertTrue(mutated.breadthFirstStream()
+			.anyMatch(n -> n.value() == -1 && n.childCount() == 2 &&
+				n.childAt(0).value() == -10 && n.childAt(1).value() == -11));
+	}
+
+	@Test(dataProvider = "seeds")
+	public void equivalentToLimitedSingleNodeCrossover(final long seed) {
+		final ISeq<Phenotype<IntTreeGene, Integer>> population =
+			population(30, new Random(seed));
+
+		final ISeq<Phenotype<IntTreeGene, Integer>> expected =
+			RandomRegistry.with(new Random(seed), r ->
+				new SingleNodeCrossover<IntTreeGene, Integer>(1.0, 20, 4)
+					.alter(population, 2)
+					.population()
+			);
+		final ISeq<Phenotype<IntTreeGene, Integer>> actual =
+			RandomRegistry.with(new Random(seed), r ->
+				new SubtreeCrossover<IntTreeGene, Integer>(1.0, 20, 4)
+					.alter(population, 2)
+					.population()
+			);
+
+		Assert.assertEquals(
+			actual.map(Phenotype::genotype),
+			expected.map(Phenotype::genotype)
+		);
+	}
+
+	@Test
+	public void replacedSizeAndDepth() {
+		final Random random = new Random(789);
+		for (int i = 0; i < 20; ++i) {
+			final IntTreeChromosome ch1 = chromosome(newTree(random.nextInt(6), random));
+			final IntTreeChromosome ch2 = chromosome(newTree(random.nextInt(6), random));
+
+			for (int j = 0; j < ch1.length(); ++j) {
+				final int k = random.nextInt(ch2.length());
+				final TreeNode<Integer> tree = TreeNode.ofTree(ch1
+					.newInstance(FlatTrees.replace(ch1, j, ch2, k, ch1.gene()))
+					.gene()
+				);
+
+				Assert.assertEquals(FlatTrees.size(ch1, j, ch2, k), tree.size());
+				Assert.assertEquals(FlatTrees.depth(ch1, j, ch2, k), tree.depth());
+			}
+		}
+	}
+
+	@Test(dataProvider = "seeds")
+	public void limitedSubtreeMutator(final long seed) {
+		final TreeNode<Integer> tree = TreeNode.of(0)
+			.attach(TreeNode.of(1).attach(3, 4))
+			.attach(TreeNode.of(2).attach(5));
+
+		final var mutator =
+			new SubtreeMutator<Integer, IntTreeGene, Integer>(1.0, 100, 2) {
+				@Override
+				protected TreeNode<Integer> newSubtree(
+					final IntTreeGene node,
+					final Random random
+				) {
+					return TreeNode.of(-1)
+						.attach(TreeNode.of(-10).attach(-100));
+				}
+			};
+
+		final IntTreeChromosome chromosome = chromosome(tree);
+		final var result = mutator.mutate(chromosome, 1.0, new Random(seed));
+		final int depth = TreeNode.ofTree(result.result().gene()).depth();
+
+		Assert.assertTrue(depth <= 2, "Depth: " + depth);
+		if (result.mutations() == 0) {
+			Assert.assertEquals(result.result(), chromosome);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void illegalMaxSize() {
+		new SubtreeCrossover<IntTreeGene, Integer>(1.0, 0, 10);
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class TreeMutatorTest {
+
+	/**
+	 * Mutator which attaches the given number of leaf nodes to the root node.
+	 */
+	private static final class GrowMutator
+		extends TreeMutator<Integer, IntTreeGene, Integer>
+	{
+		private final int _leafs;
+
+		GrowMutator(final int leafs, final int maxSize, final int maxDepth) {
+			super(1.0, maxSize, maxDepth);
+			_leafs = leafs;
+		}
+
+		@Override
+		protected void mutate(final TreeNode<Integer> tree) {
+			for (int i = 0; i < _leafs; ++i) {
+				tree.attach(TreeNode.of(i));
+			}
+		}
+	}
+
+	private static ISeq<Phenotype<IntTreeGene, Integer>> population() {
+		final Random random = new Random(123);
+		return ISeq.of(() -> Phenotype.<IntTreeGene, Integer>of(
+			Genotype.of(SubtreeCrossoverTest.chromosome(
+				SubtreeCrossoverTest.newTree(3, random))),
+			1
+		), 20);
+	}
+
+	@Test
+	public void mutateWithinLimits() {
+		final ISeq<Phenotype<IntTreeGene, Integer>> population = population();
+		final var result = new GrowMutator(3, Integer.MAX_VALUE, 10)
+			.alter(population, 2);
+
+		Assert.assertEquals(result.alterations(), population.size());
+		for (int i = 0; i < population.size(); ++i) {
+			Assert.assertEquals(
+				result.population().get(i).genotype().geneCount(),
+				population.get(i).genotype().geneCount() + 3
+			);
+		}
+	}
+
+	@Test
+	public void mutateExceedingLimits() {
+		final ISeq<Phenotype<IntTreeGene, Integer>> population = population();
+		final int maxSize = population.stream()
+			.mapToInt(pt -> pt.genotype().geneCount())
+			.max()
+			.orElseThrow();
+
+		final var result = new GrowMutator(maxSize, maxSize, 10)
+			.alter(population, 2);
+
+		Assert.assertEquals(result.alterations(), 0);
+		Assert.assertEquals(
+			result.population().map(Phenotype::genotype),
+			population.map(Phenotype::genotype)
+		);
+	}
+
+}
@@ -0,0 +1,342 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.MeanAlterer;
+import io.jenetics.Mutator;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Codecs;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionDurations;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.engine.Problem;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.Seq;
+import io.jenetics.util.SplitRandom;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class IslandEngineTest {
+
+	private static final Problem<double[], DoubleGene, Double> PROBLEM =
+		Problem.of(
+			v -> Arrays.stream(v).map(x -> x*x).sum(),
+			Codecs.ofVector(DoubleRange.of(-5, 5), 3)
+		);
+
+	private static Engine<DoubleGene, Double> engine(final int populationSize) {
+		return Engine.builder(PROBLEM)
+			.minimizing()
+			.populationSize(populationSize)
+			.alterers(new Mutator<>(0.2), new MeanAlterer<>(0.3))
+			.build();
+	}
+
+	@Test
+	public void mergedPopulation() {
+		final IslandEngine<DoubleGene, Double> engine = IslandEngine.of(
+			MigrationTopology.ring(), 2, 3,
+			engine(20), engine(30), engine(40)
+		);
+		Assert.assertEquals(engine.populationSize(), 90);
+
+		final EvolutionResult<DoubleGene, Double> result = engine.stream()
+			.limit(10)
+			.reduce((a, b) -> b)
+			.orElseThrow();
+
+		Assert.assertEquals(result.population().size(), 90);
+		Assert.assertEquals(result.generation(), 10);
+		Assert.assertTrue(result.population().forAll(Phenotype::isEvaluated));
+	}
+
+	@Test
+	public void islandStream() {
+		final IslandEngine<DoubleGene, Double> engine = IslandEngine.of(
+			engine(20), engine(30)
+		);
+
+		final ISeq<ISeq<EvolutionResult<DoubleGene, Double>>> results = engine
+			.islandStream(EvolutionStart::empty)
+			.limit(5)
+			.collect(ISeq.toISeq());
+
+		Assert.assertEquals(results.size(), 5);
+		for (int i = 0; i < results.size(); ++i) {
+			final ISeq<EvolutionResult<DoubleGene, Double>> islands = results.get(i);
+			Assert.assertEquals(islands.size(), 2);
+			Assert.assertEquals(islands.get(0).population().size(), 20);
+			Assert.assertEquals(islands.get(1).population().size(), 30);
+			Assert.assertEquals(islands.get(0).generation(), i + 1);
+			Assert.assertEquals(islands.get(1).generation(), i + 1);
+
+			final EvolutionResult<DoubleGene, Double> merged =
+				IslandEngine.merge(islands);
+			Assert.assertEquals(
+				merged.population(),
+				islands.get(0).population().append(islands.get(1).population())
+			);
+			Assert.assertEquals(
+				merged.killCount(),
+				islands.get(0).killCount() + islands.get(1).killCount()
+			);
+		}
+	}
+
+	@Test
+	public void migrate() {
+		final IslandEngine<DoubleGene, Double> engine = IslandEngine.of(
+			MigrationTopology.ring(), 1, 2,
+			engine(5), engine(5), engine(5)
+		);
+
+		final ISeq<EvolutionResult<DoubleGene, Double>> results = ISeq.of(
+			result(1, 2, 3, 4, 5),
+			result(10, 20, 30, 40, 50),
+			result(100, 200, 300, 400, 500)
+		);
+
+		final ISeq<EvolutionResult<DoubleGene, Double>> migrated =
+			engine.migrate(results);
+
+		// Minimizing: the two smallest values are the best individuals.
+		Assert.assertEquals(fitness(migrated.get(0)), new double[]{1, 2, 3, 200, 100});
+		Assert.assertEquals(fitness(migrated.get(1)), new double[]{10, 20, 30, 2, 1});
+		Assert.assertEquals(fitness(migrated.get(2)), new double[]{100, 200, 300, 20, 10});
+	}
+
+	@Test
+	public void migrateStar() {
+		final IslandEngine<DoubleGene, Double> engine = IslandEngine.of(
+			MigrationTopology.star(), 1, 1,
+			engine(5), engine(5), engine(5)
+		);
+
+		final ISeq<EvolutionResult<DoubleGene, Double>> migrated =
+			engine.migrate(ISeq.of(
+				result(1, 2, 3, 4, 5),
+				result(10, 20, 30, 40, 50),
+				result(100, 200, 300, 400, 500)
+			));
+
+		Assert.assertEquals(fitness(migrated.get(0)), new double[]{1, 2, 3, 100, 10});
+		Assert.assertEquals(fitness(migrated.get(1)), new double[]{10, 20, 30, 40, 1});
+		Assert.assertEquals(fitness(migrated.get(2)), new double[]{100, 200, 300, 400, 1});
+	}
+
+	private static EvolutionResult<DoubleGene, Double>
+	result(final double... fitness) {
+		return EvolutionResult.of(
+			Optimize.MINIMUM,
+			Arrays.stream(fitness)
+				.mapToObj(f -> Phenotype.<DoubleGene, Double>of(
+					Genotype.of(DoubleChromosome.of(0, 1)), 1, f))
+				.collect(ISeq.toISeq()),
+			1,
+			EvolutionDurations.ZERO,
+			0, 0, 0
+		);
+	}
+
+	private static double[] fitness(final EvolutionResult<DoubleGene, Double> result) {
+		return result.population().stream()
+			.mapToDouble(Phenotype::fitness)
+			.toArray();
+	}
+
+	@Test
+	public void topologies() {
+		for (int n = 1; n < 10; ++n) {
+			for (int i = 0; i < n; ++i) {
+				final int source = i;
+				final int islands = n;
+				for (MigrationTopology topology : new MigrationTopology[] {
+					MigrationTopology.ring(),
+					MigrationTopology.star(),
+					MigrationTopology.random()
+				}) {
+					final int[] targets = topology.targets(source, islands);
+					Assert.assertTrue(
+						Arrays.stream(targets)
+							.allMatch(t -> t >= 0 && t < islands && t != source)
+					);
+				}
+			}
+		}
+
+		Assert.assertEquals(MigrationTopology.ring().targets(4, 5), new int[]{0});
+		Assert.assertEquals(MigrationTopology.star().targets(0, 4), new int[]{1, 2, 3});
+		Assert.assertEquals(MigrationTopology.star().targets(3, 4), new int[]{0});
+		Assert.assertEquals(
+			IntStream.range(0, 1000)
+				.map(i -> MigrationTopology.random().targets(2, 4)[0])
+				.distinct()
+				.sorted()
+				.toArray(),
+			new int[]{0, 1, 3}
+		);
+	}
+
+	@Test
+	public void reproducibleEvolution() {
+		final ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			final IslandEngine<DoubleGene, Double> engine = new IslandEngine<>(
+				ISeq.of(engine(50), engine(50), engine(50)).asList(),
+				MigrationTopology.random(),
+				3,
+				2,
+				executor
+			);
+
+			final Function<Long, ISeq<Phenotype<DoubleGene, Double>>> evolve =
+				seed -> RandomRegistry.with(new SplitRandom(seed), r ->
+					engine.stream()
+						.limit(15)
+						.collect(EvolutionResult.toBestEvolutionResult())
+						.population()
+				);
+
+			final ISeq<Phenotype<DoubleGene, Double>> population = evolve.apply(42L);
+			for (int i = 0; i < 3; ++i) {
+				Assert.assertEquals(evolve.apply(42L), population);
+			}
+			Assert.assertNotEquals(evolve.apply(43L), population);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void solve() {
+		final IslandEngine<DoubleGene, Double> engine = IslandEngine.of(
+			MigrationTopology.ring(), 5, 2,
+			engine(50), engine(50), engine(50), engine(50)
+		);
+
+		final double best = engine.stream()
+			.limit(100)
+			.collect(EvolutionResult.toBestPhenotype())
+			.fitness();
+
+		Assert.assertTrue(best < 0.1, "Best fitness: " + best);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void differentOptimize() {
+		IslandEngine.of(
+			engine(10),
+			Engine.builder(PROBLEM).maximizing().build()
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidMigrationInterval() {
+		IslandEngine.of(MigrationTopology.ring(), 0, 1, engine(10));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidTopology() {
+		final IslandEngine<DoubleGene, Double> engine = IslandEngine.of(
+			(source, islands) -> new int[]{source},
+			1, 1,
+			engine(5), engine(5)
+		);
+		engine.migrate(ISeq.of(result(1, 2), result(3, 4)));
+	}
+
+	@Test
+	public void exchangeWithTransport() {
+		final var transport = new QueueTransport();
+		final IslandEngine<DoubleGene, Double> engine = IslandEngine
+			.of(MigrationTopology.ring(), 2, 2, engine(20), engine(30))
+			.withTransport(transport);
+		Assert.assertSame(engine.transport().orElseThrow(), transport);
+
+		final Phenotype<DoubleGene, Double> immigrant = Phenotype
+			.<DoubleGene, Double>of(Genotype.of(DoubleChromosome.of(
+				DoubleGene.of(0, -5, 5),
+				DoubleGene.of(0, -5, 5),
+				DoubleGene.of(0, -5, 5)
+			)), 0)
+			.withFitness(-1.0);
+		transport.immigrants.add(immigrant);
+
+		final ISeq<ISeq<EvolutionResult<DoubleGene, Double>>> results = engine
+			.islandStream(EvolutionStart::empty)
+			.limit(2)
+			.collect(ISeq.toISeq());
+
+		// Two islands sent their best two individuals at generation 2.
+		Assert.assertEquals(transport.emigrants.size(), 4);
+		Assert.assertTrue(transport.immigrants.isEmpty());
+
+		final ISeq<Phenotype<DoubleGene, Double>> island = results.get(1)
+			.get(0).population();
+		Assert.assertEquals(island.size(), 20);
+		Assert.assertTrue(island.stream().anyMatch(pt ->
+			pt.genotype().equals(immigrant.genotype()) &&
+			pt.generation() == 2
+		));
+	}
+
+	private static final class QueueTransport
+		implements MigrationTransport<DoubleGene, Double>
+	{
+		final List<Phenotype<DoubleGene, Double>> emigrants = new ArrayList<>();
+		final List<Phenotype<DoubleGene, Double>> immigrants = new ArrayList<>();
+
+		@Override
+		public synchronized void send(final Seq<Phenotype<DoubleGene, Double>> emigrants) {
+			emigrants.forEach(this.emigrants::add);
+		}
+
+		@Override
+		public synchronized ISeq<Phenotype<DoubleGene, Double>> receive() {
+			final ISeq<Phenotype<DoubleGene, Double>> result = ISeq.of(immigrants);
+			immigrants.clear();
+			return result;
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+}
@@ -0,0 +1,200 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleGene;
+import io.jenetics.MeanAlterer;
+import io.jenetics.Mutator;
+import io.jenetics.engine.Codecs;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.Limits;
+import io.jenetics.engine.Problem;
+import io.jenetics.internal.util.Concurrency;
+import io.jenetics.stat.LongMoments;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.SplitRandom;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class MultiStartRunnerTest {
+
+	private static final Problem<double[], DoubleGene, Double> PROBLEM =
+		Problem.of(
+			v -> Arrays.stream(v).map(x -> x*x).sum(),
+			Codecs.ofVector(DoubleRange.of(-5, 5), 3)
+		);
+
+	private static final Engine<DoubleGene, Double> ENGINE =
+		Engine.builder(PROBLEM)
+			.minimizing()
+			.populationSize(20)
+			.alterers(new Mutator<>(0.2), new MeanAlterer<>(0.3))
+			.build();
+
+	@Test
+	public void run() {
+		final MultiStartRunner<DoubleGene, Double> runner =
+			new MultiStartRunner<>(ENGINE, () -> Limits.byFixedGeneration(15));
+
+		final MultiStartRunner.Result<DoubleGene, Double> result =
+			runner.run(10, 123L);
+
+		Assert.assertEquals(result.seed(), 123L);
+		Assert.assertEquals(result.results().size(), 10);
+		result.results().forEach(r -> Assert.assertEquals(r.totalGenerations(), 15));
+
+		final LongMoments generations = result.generations();
+		Assert.assertEquals(generations.count(), 10);
+		Assert.assertEquals(generations.mean(), 15.0);
+		Assert.assertEquals(result.fitness(Double::doubleValue).count(), 10);
+
+		final double best = result.results().stream()
+			.mapToDouble(EvolutionResult::bestFitness)
+			.min()
+			.orElseThrow();
+		Assert.assertEquals(result.best().orElseThrow().bestFitness().doubleValue(), best);
+	}
+
+	@Test
+	public void runEqualsStream() {
+		final long seed = 4567L;
+		final MultiStartRunner<DoubleGene, Double> runner =
+			new MultiStartRunner<>(ENGINE, () -> Limits.byFixedGeneration(20));
+
+		final ISeq<EvolutionResult<DoubleGene, Double>> results =
+			runner.run(3, seed).results();
+
+		final SplitRandom random = new SplitRandom(seed);
+		final Engine<DoubleGene, Double> engine = ENGINE.toBuilder()
+			.executor(Concurrency.SERIAL_EXECUTOR)
+			.build();
+
+		for (EvolutionResult<DoubleGene, Double> result : results) {
+			final EvolutionResult<DoubleGene, Double> expected =
+				RandomRegistry.with(random.split(), r ->
+					engine.stream()
+						.limit(Limits.byFixedGeneration(20))
+						.collect(EvolutionResult.toBestEvolutionResult())
+				);
+
+			Assert.assertEquals(result.bestFitness(), expected.bestFitness());
+			Assert.assertEquals(result.totalGenerations(), expected.totalGenerations());
+			Assert.assertEquals(result.population(), expected.population());
+		}
+	}
+
+	@Test
+	public void reproducible() {
+		final ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			final MultiStartRunner<DoubleGene, Double> runner1 =
+				new MultiStartRunner<>(ENGINE, () -> Limits.bySteadyFitness(5));
+			final MultiStartRunner<DoubleGene, Double> runner2 =
+				new MultiStartRunner<>(
+					ENGINE, () -> Limits.bySteadyFitness(5), executor, 2
+				);
+
+			final var results1 = runner1.run(12, 99L).results();
+			final var results2 = runner2.run(12, 99L).results();
+			for (int i = 0; i < results1.size(); ++i) {
+				Assert.assertEquals(
+					results1.get(i).bestFitness(),
+					results2.get(i).bestFitness()
+				);
+				Assert.assertEquals(
+					results1.get(i).totalGenerations(),
+					results2.get(i).totalGenerations()
+				);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void fairScheduling() {
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			final List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+			final AtomicInteger runs = new AtomicInteger();
+
+			final MultiStartRunner<DoubleGene, Double> runner =
+				new MultiStartRunner<>(ENGINE, () -> {
+					final int run = runs.getAndIncrement();
+					final Predicate<Object> limit = Limits.byFixedGeneration(4);
+					return r -> {
+						order.add(run);
+						return limit.test(r);
+					};
+				}, executor, 1);
+
+			runner.run(3, 1L);
+
+			Assert.assertEquals(
+				order,
+				List.of(0, 1, 2, 0, 1, 2, 0, 1, 2, 0, 1, 2, 0, 1, 2)
+			);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test(expectedExceptions = CompletionException.class)
+	public void failingRun() {
+		final AtomicInteger generations = new AtomicInteger();
+		final MultiStartRunner<DoubleGene, Double> runner =
+			new MultiStartRunner<>(ENGINE, () -> r -> {
+				if (generations.incrementAndGet() > 10) {
+					throw new IllegalStateException("Run failed.");
+				}
+				return true;
+			});
+
+		runner.run(5, 1L);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidRuns() {
+		new MultiStartRunner<>(ENGINE, () -> r -> true).start(0, 1L);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidParallelism() {
+		new MultiStartRunner<>(ENGINE, () -> r -> true, Runnable::run, 0);
+	}
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.engine.Engine;
+import io.jenetics.stat.IntMoments;
+import io.jenetics.util.IntRange;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class NodeCountStatisticsTest {
+
+	@Test
+	public void statistics() {
+		final Engine<IntegerGene, Integer> engine = Engine
+			.builder(
+				gt -> gt.chromosome().gene().allele(),
+				Genotype.of(IntegerChromosome.of(0, 10, IntRange.of(2, 10)))
+			)
+			.populationSize(20)
+			.build();
+
+		final NodeCountStatistics statistics = new NodeCountStatistics();
+		Assert.assertTrue(statistics.last().isEmpty());
+
+		engine.stream()
+			.limit(15)
+			.forEach(statistics);
+
+		Assert.assertEquals(statistics.generations().size(), 15);
+		for (IntMoments moments : statistics.generations()) {
+			Assert.assertEquals(moments.count(), 20);
+			Assert.assertTrue(moments.min() >= 2);
+			Assert.assertTrue(moments.max() < 10);
+		}
+		Assert.assertEquals(
+			statistics.last().orElseThrow(),
+			statistics.generations().get(14)
+		);
+	}
+
+}
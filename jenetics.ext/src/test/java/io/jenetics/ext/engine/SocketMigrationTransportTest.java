@@ -0,0 +1,190 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.BitGene;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SocketMigrationTransportTest {
+
+	private static ISeq<Phenotype<DoubleGene, Double>> population(final int size) {
+		final Genotype<DoubleGene> gtf = Genotype.of(
+			DoubleChromosome.of(0, 10, 5),
+			DoubleChromosome.of(-1, 1, 3)
+		);
+
+		return RandomRegistry.with(new Random(123), r ->
+			gtf.instances()
+				.limit(size)
+				.map(gt -> Phenotype.<DoubleGene, Double>of(gt, 3)
+					.withFitness(gt.gene().doubleValue()))
+				.collect(ISeq.toISeq())
+		);
+	}
+
+	private static InetSocketAddress localhost() {
+		return new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+	}
+
+	@Test
+	public void encodeDecode() throws IOException {
+		final ISeq<Phenotype<DoubleGene, Double>> population = population(50);
+
+		final byte[] message = SocketMigrationTransport.encode(population);
+		final ISeq<Phenotype<DoubleGene, Double>> decoded =
+			SocketMigrationTransport.decode(
+				Arrays.copyOfRange(message, Integer.BYTES, message.length)
+			);
+
+		Assert.assertEquals(decoded, population);
+		for (int i = 0; i < population.size(); ++i) {
+			Assert.assertEquals(
+				decoded.get(i).fitness(),
+				population.get(i).fitness()
+			);
+			Assert.assertEquals(
+				decoded.get(i).generation(),
+				population.get(i).generation()
+			);
+		}
+	}
+
+	@Test
+	public void encodeDecodeIntegerGenes() throws IOException {
+		final Genotype<IntegerGene> gtf = Genotype.of(
+			IntegerChromosome.of(0, 100, 7),
+			IntegerChromosome.of(-50, 50, 2)
+		);
+		final ISeq<Phenotype<IntegerGene, Integer>> population = gtf.instances()
+			.limit(30)
+			.map(gt -> Phenotype.<IntegerGene, Integer>of(gt, 1)
+				.withFitness(gt.gene().intValue()))
+			.collect(ISeq.toISeq());
+
+		final byte[] message = SocketMigrationTransport.encode(population);
+		final ISeq<Phenotype<IntegerGene, Integer>> decoded =
+			SocketMigrationTransport.decode(
+				Arrays.copyOfRange(message, Integer.BYTES, message.length)
+			);
+
+		Assert.assertEquals(decoded, population);
+		Assert.assertEquals(
+			decoded.map(Phenotype::fitness),
+			population.map(Phenotype::fitness)
+		);
+	}
+
+	@Test
+	public void encodeDecodeEmpty() throws IOException {
+		final byte[] message = SocketMigrationTransport.encode(ISeq.empty());
+		final ISeq<Phenotype<DoubleGene, Double>> decoded =
+			SocketMigrationTransport.decode(
+				Arrays.copyOfRange(message, Integer.BYTES, message.length)
+			);
+
+		Assert.assertTrue(decoded.isEmpty());
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void decodeInvalidMessage() throws IOException {
+		SocketMigrationTransport.decode(new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+	}
+
+	@Test(timeOut = 10_000)
+	public void sendReceive() throws IOException, InterruptedException {
+		try (var t1 = SocketMigrationTransport.<DoubleGene, Double>open(localhost(), List.of());
+			 var t2 = SocketMigrationTransport.<DoubleGene, Double>open(localhost(), List.of(t1.address())))
+		{
+			final ISeq<Phenotype<DoubleGene, Double>> population = population(20);
+			t2.send(population.subSeq(0, 10));
+			t2.send(population.subSeq(10));
+
+			final List<Phenotype<DoubleGene, Double>> received = new ArrayList<>();
+			while (received.size() < population.size()) {
+				t1.receive().forEach(received::add);
+				Thread.sleep(10);
+			}
+
+			Assert.assertEquals(ISeq.of(received), population);
+			Assert.assertTrue(t2.receive().isEmpty());
+		}
+	}
+
+	@Test
+	public void sendToUnreachablePeer() throws IOException {
+		final InetSocketAddress address;
+		try (var t = SocketMigrationTransport.<DoubleGene, Double>open(localhost(), List.of())) {
+			address = t.address();
+		}
+
+		try (var t = SocketMigrationTransport.<DoubleGene, Double>open(localhost(), List.of(address))) {
+			t.send(population(5));
+			Assert.assertTrue(t.receive().isEmpty());
+		}
+	}
+
+	@Test(timeOut = 10_000)
+	public void sendToBlackHoledPeer() throws IOException {
+		// Non-routable address, where connection attempts usually hang.
+		final var peer = new InetSocketAddress("10.255.255.1", 7001);
+
+		try (var t = SocketMigrationTransport.<DoubleGene, Double>open(localhost(), List.of(peer))) {
+			final long start = System.nanoTime();
+			for (int i = 0; i < 100; ++i) {
+				t.send(population(5));
+			}
+			final long millis = (System.nanoTime() - start)/1_000_000;
+
+			Assert.assertTrue(millis < 2_000, "Send blocked for " + millis + " ms.");
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void encodeUnsupportedFitness() {
+		final Phenotype<BitGene, String> pt = Phenotype
+			.<BitGene, String>of(Genotype.of(BitChromosome.of(10)), 1)
+			.withFitness("fitness");
+
+		SocketMigrationTransport.encode(ISeq.of(pt));
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Evaluator;
+import io.jenetics.engine.Evaluators;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class TarpeianEvaluatorTest {
+
+	private static ISeq<Phenotype<DoubleGene, Double>> population() {
+		final Random random = new Random(123);
+		return ISeq.of(
+			() -> Phenotype.of(
+				Genotype.of(DoubleChromosome.of(0, 1, 1 + random.nextInt(20))),
+				1
+			),
+			100
+		);
+	}
+
+	private static double mean(final ISeq<Phenotype<DoubleGene, Double>> pop) {
+		return pop.stream()
+			.mapToInt(pt -> pt.genotype().geneCount())
+			.average()
+			.orElseThrow();
+	}
+
+	@Test
+	public void penalizeAll() {
+		final ISeq<Phenotype<DoubleGene, Double>> population = population();
+		final double mean = mean(population);
+
+		final AtomicInteger evaluations = new AtomicInteger();
+		final Evaluator<DoubleGene, Double> evaluator = Evaluators.serial(gt -> {
+			evaluations.incrementAndGet();
+			return (double)gt.geneCount();
+		});
+
+		final ISeq<Phenotype<DoubleGene, Double>> result =
+			new TarpeianEvaluator<>(evaluator, 1.0, -1.0).eval(population);
+
+		Assert.assertEquals(result.size(), population.size());
+		int penalized = 0;
+		for (int i = 0; i < result.size(); ++i) {
+			final Phenotype<DoubleGene, Double> pt = result.get(i);
+			Assert.assertTrue(pt.isEvaluated());
+
+			if (pt.genotype().geneCount() > mean) {
+				Assert.assertEquals(pt.fitness().doubleValue(), -1.0);
+				++penalized;
+			} else {
+				Assert.assertEquals(pt.fitness().doubleValue(), (double)pt.genotype().geneCount());
+			}
+		}
+
+		Assert.assertTrue(penalized > 0);
+		Assert.assertEquals(evaluations.get(), population.size() - penalized);
+	}
+
+	@Test
+	public void penalizeNone() {
+		final ISeq<Phenotype<DoubleGene, Double>> population = population();
+		final ISeq<Phenotype<DoubleGene, Double>> result = new TarpeianEvaluator<>(
+			Evaluators.<DoubleGene, Double>serial(gt -> 1.0), 0.0, -1.0
+		).eval(population);
+
+		Assert.assertTrue(result.forAll(pt -> pt.fitness() == 1.0));
+	}
+
+	@Test
+	public void keepEvaluated() {
+		final ISeq<Phenotype<DoubleGene, Double>> population = population()
+			.map(pt -> pt.withFitness(2.0));
+
+		final ISeq<Phenotype<DoubleGene, Double>> result = new TarpeianEvaluator<>(
+			Evaluators.<DoubleGene, Double>serial(gt -> 1.0), 1.0, -1.0
+		).eval(population);
+
+		Assert.assertTrue(result.forAll(pt -> pt.fitness() == 2.0));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidProbability() {
+		new TarpeianEvaluator<>(
+			Evaluators.<DoubleGene, Double>serial(gt -> 1.0), 1.5, -1.0
+		);
+	}
+
+}
@@ -0,0 +1,241 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.String.format;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.engine.Codecs;
+import io.jenetics.engine.Problem;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class NSGA3SelectorTest {
+
+	private static final Problem<double[], DoubleGene, Vec<double[]>>
+		PROBLEM = Problem.of(
+			v -> Vec.of(new double[]{v[0]*cos(v[1]), v[0]*sin(v[1])}),
+			Codecs.ofVector(
+				DoubleRange.of(0, 1),
+				DoubleRange.of(0, 2*PI)
+			)
+		);
+
+	@Test
+	public void selectMax() {
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			NSGA3Selector.ofVec(12);
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			Stream.generate(() -> phenotype(PROBLEM))
+				.limit(2000)
+				.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			selector.select(population, 100, Optimize.MAXIMUM);
+
+		final double mean = selected.stream()
+			.map(Phenotype::fitness)
+			.mapToDouble(NSGA2SelectorTest::dist)
+			.sum()/selected.size();
+
+		Assert.assertEquals(selected.size(), 100);
+		Assert.assertTrue(mean > 0.8, format("Expect mean > 0.8: %s", mean));
+		Assert.assertEquals(
+			selected.stream()
+				.map(Phenotype::fitness)
+				.collect(Collectors.toSet())
+				.size(),
+			selected.size()
+		);
+	}
+
+	@Test
+	public void selectMin() {
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			NSGA3Selector.ofVec(12);
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			Stream.generate(() -> phenotype(PROBLEM))
+				.limit(2000)
+				.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			selector.select(population, 100, Optimize.MINIMUM);
+
+		final double mean = selected.stream()
+			.map(Phenotype::fitness)
+			.mapToDouble(NSGA2SelectorTest::dist)
+			.sum()/selected.size();
+
+		Assert.assertEquals(selected.size(), 100);
+		Assert.assertTrue(mean < -0.8, format("Expect mean < -0.8: %s", mean));
+	}
+
+	@Test
+	public void selectManyObjectives() {
+		// Points on the positive part of the 6-dimensional unit sphere, which
+		// are all part of the pareto front.
+		final Problem<double[], DoubleGene, Vec<double[]>> problem = Problem.of(
+			v -> {
+				final double norm = Math.sqrt(
+					Arrays.stream(v).map(x -> x*x).sum()
+				);
+				return Vec.of(Arrays.stream(v).map(x -> x/norm).toArray());
+			},
+			Codecs.ofVector(DoubleRange.of(0.01, 1), 6)
+		);
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> front =
+			Stream.generate(() -> phenotype(problem))
+				.limit(500)
+				.collect(ISeq.toISeq());
+
+		// Dominated individuals.
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> dominated = front
+			.map(pt -> Phenotype.of(
+				pt.genotype(),
+				1L,
+				Vec.of(Arrays.stream(pt.fitness().data()).map(x -> x/2).toArray())
+			));
+
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			NSGA3Selector.ofVec(3);
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			selector.select(dominated.append(front), 100, Optimize.MAXIMUM);
+
+		final Set<Vec<double[]>> fitness = front.stream()
+			.map(Phenotype::fitness)
+			.collect(Collectors.toSet());
+
+		Assert.assertEquals(selected.size(), 100);
+		Assert.assertTrue(
+			selected.stream().allMatch(pt -> fitness.contains(pt.fitness()))
+		);
+		Assert.assertEquals(
+			selected.stream().distinct().count(),
+			selected.size()
+		);
+	}
+
+	@Test
+	public void selectMoreThanPopulation() {
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			Stream.generate(() -> phenotype(PROBLEM))
+				.limit(50)
+				.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			NSGA3Selector.<DoubleGene, double[], Vec<double[]>>ofVec(4)
+				.select(population, 120, Optimize.MAXIMUM);
+
+		Assert.assertEquals(selected.size(), 120);
+		Assert.assertEquals(
+			selected.stream().collect(Collectors.toSet()),
+			population.stream().collect(Collectors.toSet())
+		);
+	}
+
+	@Test(dataProvider = "referencePointsParams")
+	public void referencePoints(
+		final int dimension,
+		final int divisions,
+		final int count
+	) {
+		final double[][] points = NSGA3Selector
+			.referencePoints(dimension, divisions);
+
+		Assert.assertEquals(points.length, count);
+		for (double[] point : points) {
+			Assert.assertEquals(point.length, dimension);
+			Assert.assertEquals(Arrays.stream(point).sum(), 1.0, 1.0E-12);
+		}
+	}
+
+	@DataProvider
+	public Object[][] referencePointsParams() {
+		return new Object[][] {
+			{2, 1, 2},
+			{2, 12, 13},
+			{3, 12, 91},
+			{5, 6, 210},
+			{8, 3, 120},
+			{10, 3, 220}
+		};
+	}
+
+	@Test
+	public void solve() {
+		final double[][] a = {
+			{2, 1, -1},
+			{-3, -1, 2},
+			{-2, 1, 2}
+		};
+		final double[] b = {8, -11, -3};
+
+		final double[] x = NSGA3Selector.solve(a, b);
+		Assert.assertEquals(x, new double[]{2, 3, -1}, 1.0E-10);
+	}
+
+	@Test
+	public void solveSingular() {
+		final double[][] a = {
+			{1, 2},
+			{2, 4}
+		};
+		Assert.assertNull(NSGA3Selector.solve(a, new double[]{1, 1}));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidDivisions() {
+		NSGA3Selector.ofVec(0);
+	}
+
+	private static Phenotype<DoubleGene, Vec<double[]>>
+	phenotype(final Problem<double[], DoubleGene, Vec<double[]>> problem) {
+		final Genotype<DoubleGene> gt = problem.codec().encoding().newInstance();
+		return Phenotype.of(
+			gt,
+			1L,
+			problem.fitness().apply(problem.codec().decode(gt))
+		);
+	}
+
+}
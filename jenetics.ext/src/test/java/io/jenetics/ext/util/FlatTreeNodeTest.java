@@ -20,6 +20,7 @@
 package io.jenetics.ext.util;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.Random;
 import java.util.function.Function;
@@ -118,4 +119,41 @@ public class FlatTreeNodeTest extends TreeTestBase<Integer, FlatTreeNode<Integer
 		Assert.assertEquals(IO.object.fromByteArray(data), node);
 	}
 
+	@Test
+	public void ofBreadthFirst() {
+		final FlatTreeNode<Integer> tree = newTree(6, new Random(123));
+		final int[] childCounts = tree.stream()
+			.mapToInt(Tree::childCount)
+			.toArray();
+
+		final FlatTreeNode<Integer> flat = FlatTreeNode.ofBreadthFirst(
+			tree.stream().map(Tree::value).collect(ISeq.toISeq()).asList(),
+			childCounts
+		);
+		Assert.assertEquals(flat, tree);
+		Assert.assertEquals(flat.toParenthesesString(), tree.toParenthesesString());
+	}
+
+	@DataProvider
+	public Object[][] invalidChildCounts() {
+		return new Object[][] {
+			{new int[0]},
+			{new int[]{2, 0}},
+			{new int[]{1, 0, 0}},
+			{new int[]{0, 1}},
+			{new int[]{2, -1, 0}}
+		};
+	}
+
+	@Test(
+		dataProvider = "invalidChildCounts",
+		expectedExceptions = IllegalArgumentException.class
+	)
+	public void ofBreadthFirstInvalid(final int[] childCounts) {
+		FlatTreeNode.ofBreadthFirst(
+			Collections.nCopies(childCounts.length, 0),
+			childCounts
+		);
+	}
+
 }
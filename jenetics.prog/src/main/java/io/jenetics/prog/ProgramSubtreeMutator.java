@@ -0,0 +1,138 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog;
+
+import static java.lang.String.format;
+
+import java.util.Random;
+
+import io.jenetics.ext.SubtreeMutator;
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Program;
+
+/**
+ * Replaces a randomly chosen sub-tree of a program chromosome with a new,
+ * random program tree of the given {@link #depth()}. The new sub-tree is
+ * created from the operations and terminals of the mutated
+ * {@link ProgramGene}.
+ *
+ * <pre>{@code
+ * final Engine<ProgramGene<Double>, Double> engine = Engine
+ *     .builder(Regression.of(...))
+ *     .alterers(
+ *         new SubtreeCrossover<>(),
+ *         new ProgramSubtreeMutator<>(3, 0.1))
+ *     .build();
+ * }</pre>
+ *
+ * @see io.jenetics.ext.SubtreeCrossover
+ *
+ * @param <A> the operation type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+public class ProgramSubtreeMutator<A, C extends Comparable<? super C>>
+	extends SubtreeMutator<Op<A>, ProgramGene<A>, C>
+{
+
+	private final int _depth;
+
+	/**
+	 * Create a new program sub-tree mutator. Mutations, which would create a
+	 * program tree with more than {@code maxSize} nodes or a depth greater
+	 * than {@code maxDepth}, are rejected.
+	 *
+	 * @param depth the depth of the newly created sub-trees
+	 * @param probability the mutation probability
+	 * @param maxSize the maximal number of nodes of a mutated program tree
+	 * @param maxDepth the maximal depth of a mutated program tree
+	 * @throws IllegalArgumentException if the {@code depth} is smaller than
+	 *         zero, the {@code probability} is not in the valid range of
+	 *         {@code [0, 1]}, the {@code maxSize} is smaller than one or the
+	 *         {@code maxDepth} is negative
+	 */
+	public ProgramSubtreeMutator(
+		final int depth,
+		final double probability,
+		final int maxSize,
+		final int maxDepth
+	) {
+		super(probability, maxSize, maxDepth);
+		if (depth < 0) {
+			throw new IllegalArgumentException(
+				"Tree depth is smaller than zero: " + depth
+			);
+		}
+		_depth = depth;
+	}
+
+	/**
+	 * Create a new program sub-tree mutator.
+	 *
+	 * @param depth the depth of the newly created sub-trees
+	 * @param probability the mutation probability
+	 * @throws IllegalArgumentException if the {@code depth} is smaller than
+	 *         zero or the {@code probability} is not in the valid range of
+	 *         {@code [0, 1]}
+	 */
+	public ProgramSubtreeMutator(final int depth, final double probability) {
+		this(depth, probability, Integer.MAX_VALUE, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Create a new program sub-tree mutator with the default mutation
+	 * probability.
+	 *
+	 * @param depth the depth of the newly created sub-trees
+	 * @throws IllegalArgumentException if the {@code depth} is smaller than
+	 *         zero
+	 */
+	public ProgramSubtreeMutator(final int depth) {
+		this(depth, DEFAULT_ALTER_PROBABILITY);
+	}
+
+	/**
+	 * Return the depth of the newly created sub-trees.
+	 *
+	 * @return the depth of the newly created sub-trees
+	 */
+	public int depth() {
+		return _depth;
+	}
+
+	@Override
+	protected Tree<? extends Op<A>, ?>
+	newSubtree(final ProgramGene<A> node, final Random random) {
+		return Program.of(_depth, node.operations(), node.terminals(), random);
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"ProgramSubtreeMutator[depth=%d, p=%f]", _depth, _probability
+		);
+	}
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.Array;
+
+import io.jenetics.ext.rewriting.TreeRewriter;
+import io.jenetics.ext.util.Tree;
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * This class folds constant expressions to its single value in one bottom-up
+ * pass over the tree. It has the same effect as the {@link ConstRewriter},
+ * but visits every node only once, which makes it fast enough to be applied
+ * before every program evaluation.
+ * <pre>{@code
+ * final TreeNode<Op<Double>> tree = MathExpr.parseTree("x + 2*3 + sin(0)");
+ * ConstFolder.DOUBLE.rewrite(tree);
+ * assert tree.equals(MathExpr.parseTree("x + 6.0 + 0.0"));
+ * }</pre>
+ *
+ * Only non-terminal operations, whose arguments are all constant values
+ * ({@link Val}), are folded. Terminal operations, which are not values, are
+ * never replaced.
+ *
+ * @see ConstRewriter
+ *
+ * @param <T> the operation type the folder is working on
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+public final class ConstFolder<T> implements TreeRewriter<Op<T>> {
+
+	/**
+	 * Const folder for double operation trees.
+	 */
+	public static final ConstFolder<Double> DOUBLE = ofType(Double.class);
+
+	private final Class<T> _type;
+
+	@SuppressWarnings("unchecked")
+	private ConstFolder(final Class<? extends T> type) {
+		_type = (Class<T>)requireNonNull(type);
+	}
+
+	/**
+	 * Return the operation type this folder is working on.
+	 *
+	 * @return the operation type this folder is working on
+	 */
+	public Class<T> type() {
+		return _type;
+	}
+
+	@Override
+	public int rewrite(final TreeNode<Op<T>> node, final int limit) {
+		requireNonNull(node);
+		return limit > 0 ? fold(node, _type, new int[]{limit}) : 0;
+	}
+
+	/*
+	 * Folds the given node in post-order. The remaining number of allowed
+	 * rewrites is stored in limit[0].
+	 */
+	private static <T> int fold(
+		final TreeNode<Op<T>> node,
+		final Class<T> type,
+		final int[] limit
+	) {
+		int rewritten = 0;
+		boolean constant = node.childCount() > 0;
+		for (int i = 0; i < node.childCount() && limit[0] > 0; ++i) {
+			final TreeNode<Op<T>> child = node.childAt(i);
+			rewritten += fold(child, type, limit);
+			constant &= child.value() instanceof Val;
+		}
+
+		if (constant && limit[0] > 0 && !(node.value() instanceof Val)) {
+			@SuppressWarnings("unchecked")
+			final T[] args = (T[])Array.newInstance(type, node.childCount());
+			for (int i = 0; i < args.length; ++i) {
+				args[i] = ((Val<T>)node.childAt(i).value()).value();
+			}
+
+			node.value(Const.of(node.value().apply(args)));
+			node.removeAllChildren();
+			--limit[0];
+			++rewritten;
+		}
+
+		return rewritten;
+	}
+
+	@Override
+	public String toString() {
+		return format("ConstFolder<%s>", _type.getSimpleName());
+	}
+
+	/**
+	 * Create a new folder for constant operation sub-trees (expressions).
+	 *
+	 * @param type the type of the operation tree
+	 * @param <T> the type of the operation tree
+	 * @return a new folder for constant operation sub-trees (expressions)
+	 * @throws NullPointerException if the given {@code type} is {@code null}
+	 */
+	public static <T> ConstFolder<T> ofType(final Class<? extends T> type) {
+		return new ConstFolder<>(type);
+	}
+
+	/**
+	 * Return the given {@code program} with all constant sub-trees folded. If
+	 * the program contains no constant sub-tree, the given program instance
+	 * is returned, otherwise a folded copy of it. The given program is never
+	 * changed. The operation type is determined from the constant values of
+	 * the program.
+	 *
+	 * @param program the program to fold
+	 * @param <T> the operation type
+	 * @return the folded program
+	 * @throws NullPointerException if the given {@code program} is {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Tree<? extends Op<T>, ?>
+	fold(final Tree<? extends Op<T>, ?> program) {
+		requireNonNull(program);
+
+		Class<T> type = null;
+		for (Tree<? extends Op<T>, ?> node : program) {
+			if (node.childCount() > 0 &&
+				!(node.value() instanceof Val) &&
+				node.childStream().allMatch(c -> c.value() instanceof Val))
+			{
+				final Val<T> value = (Val<T>)node.childAt(0).value();
+				type = (Class<T>)value.value().getClass();
+				break;
+			}
+		}
+
+		if (type == null) {
+			return program;
+		}
+
+		final TreeNode<Op<T>> tree = TreeNode.ofTree(program);
+		fold(tree, type, new int[]{Integer.MAX_VALUE});
+		return tree;
+	}
+
+}
@@ -64,7 +64,7 @@ import io.jenetics.ext.util.TreeNode;
  * @see MathOp
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.2
  * @since 4.1
  */
 public final class MathExpr
@@ -359,7 +359,7 @@ public final class MathExpr
 	 *         can't be parsed.
 	 */
 	public static MathExpr parse(final String expression) {
-		final Tree<? extends Op<Double>, ?> tree = parseTree(expression);
+		final Tree<? extends Op<Double>, ?> tree = MathExprParser.parse(expression);
 		Program.check(tree);
 		return new MathExpr(tree, true);
 	}
@@ -404,7 +404,7 @@ public final class MathExpr
 	 *         can't be parsed.
 	 */
 	public static TreeNode<Op<Double>> parseTree(final String expression) {
-		return MathExprParser.parse(expression);
+		return TreeNode.ofTree(MathExprParser.parse(expression));
 	}
 
 	/**
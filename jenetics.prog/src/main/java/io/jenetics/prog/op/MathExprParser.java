@@ -22,370 +22,468 @@ package io.jenetics.prog.op;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
-import java.util.Deque;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-
-import io.jenetics.ext.util.TreeNode;
+import java.util.Arrays;
+
+import io.jenetics.ext.util.FlatTreeNode;
 
 /**
- * Simple parser for mathematical expressions.
+ * Simple parser for mathematical expressions. The parser reads the tokens
+ * directly from the given character sequence, without creating intermediate
+ * token objects, and writes the parsed operations into primitive arrays, from
+ * which the resulting {@link FlatTreeNode} is created. Function names are
+ * resolved against the {@link MathOp} constants and every variable name is
+ * only created once per parsed expression.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 6.2
  * @since 4.1
  */
 final class MathExprParser {
 
-	private static final Map<String, Const<Double>> CONST = Map.of(
-		"PI", MathOp.PI,
-		"π", MathOp.PI
-	);
-
-	/**
-	 * Contains the token regex and the token kind;
-	 */
-	static final class TokenDesc {
-		final Pattern regex;
-		final int type;
-		TokenDesc(final Pattern regex, final int type) {
-			this.regex = regex;
-			this.type = type;
-		}
-	}
+	// The token types.
+	private static final int EPSILON = 0;
+	private static final int PLUS = 1;
+	private static final int MINUS = 2;
+	private static final int MUL = 3;
+	private static final int DIV = 4;
+	private static final int MOD = 5;
+	private static final int POWER = 6;
+	private static final int FUNCTION = 7;
+	private static final int OPEN_BRACKET = 8;
+	private static final int CLOSE_BRACKET = 9;
+	private static final int NUMBER = 10;
+	private static final int VARIABLE = 11;
+	private static final int COMMA = 12;
+
+	private static final MathOp[] FUNCTIONS = MathOp.values();
 
-	/**
-	 * Represents expression token.
-	 */
-	static final class Token {
-		static final int EPSILON = 0;
-		static final int PLUS = 1;
-		static final int MINUS = 2;
-		static final int MUL = 3;
-		static final int DIV = 4;
-		static final int MOD = 5;
-		static final int POWER = 6;
-		static final int FUNCTION = 7;
-		static final int OPEN_BRACKET = 8;
-		static final int CLOSE_BRACKET = 9;
-		static final int NUMBER = 10;
-		static final int VARIABLE = 11;
-		static final int COMMA = 12;
-
-		final int token;
-		final String sequence;
-		final int pos;
-
-		Token(final int token, final String sequence, final int pos) {
-			this.token = token;
-			this.sequence = sequence;
-			this.pos = pos;
-		}
-
-		@Override
-		public String toString() {
-			return format("['%s', %s]", sequence, pos);
-		}
-	}
+	private static final Op<Double> LIST_OP = Const.of(Double.NaN);
 
-	/**
-	 * The math expression tokenizer.
-	 */
-	static final class Tokenizer {
-		static final Tokenizer MATH_OP = new Tokenizer();
-		static {
-			MATH_OP.add("\\+", Token.PLUS);
-			MATH_OP.add("-", Token.MINUS);
-			MATH_OP.add("\\*", Token.MUL);
-			MATH_OP.add("/", Token.DIV);
-			MATH_OP.add("%", Token.MOD);
-			MATH_OP.add("\\^", Token.POWER);
-			MATH_OP.add("\\,", Token.COMMA);
-
-			final String functions = Stream.of(MathOp.values())
-				.map(MathOp::toString)
-				.collect(Collectors.joining("|"));
-			MATH_OP.add("(" + functions + ")(?!\\w)", Token.FUNCTION);
-
-			MATH_OP.add("\\(", Token.OPEN_BRACKET);
-			MATH_OP.add("\\)", Token.CLOSE_BRACKET);
-			MATH_OP.add("(?:\\d+\\.?|\\.\\d)\\d*(?:[Ee][-+]?\\d+)?", Token.NUMBER);
-			MATH_OP.add("[a-zA-Zπ]\\w*", Token.VARIABLE);
-		}
+	// Child count marker of function calls, which have exactly one (possibly
+	// list valued) argument node, which is flattened when creating the tree.
+	private static final int CALL = -1;
 
-		private final Deque<TokenDesc> _infos = new LinkedList<>();
+	private final CharSequence _expr;
+	private final int _offset;
+	private final int _length;
 
-		private Tokenizer() {
-		}
+	// The current token.
+	private int _pos;
+	private int _token;
+	private int _start;
+	private MathOp _function;
 
-		private void add(String regex, int token) {
-			_infos.add(new TokenDesc(Pattern.compile("^(" + regex+")"), token));
-		}
+	// The parsed operations in postfix order.
+	private Object[] _ops = new Object[16];
+	private int[] _counts = new int[16];
+	private int _size;
 
-		Deque<Token> tokenize(final String expression) {
-			final Deque<Token> tokens = new LinkedList<>();
-
-			String string = expression.trim();
-			final int totalLength = string.length();
-			while (!string.isEmpty()) {
-				final int remaining = string.length();
-				boolean match = false;
-				for (TokenDesc info : _infos) {
-					final Matcher m = info.regex.matcher(string);
-					if (m.find()) {
-						final String tok = m.group().trim();
-						string = m.replaceFirst("").trim();
-						tokens.add(new Token(info.type, tok, totalLength - remaining));
-
-						match = true;
-						break;
-					}
-				}
+	// The distinct variables of the expression. The index of the variable is
+	// its position in this array, until it is re-indexed.
+	private Var<?>[] _vars = new Var<?>[4];
+	private int _varCount;
 
-				if (!match) {
-					throw new IllegalArgumentException(
-						"Unexpected character in input: " + string
-					);
-				}
-			}
+	private MathExprParser(final CharSequence expr) {
+		_expr = requireNonNull(expr);
 
-			return tokens;
+		int length = expr.length();
+		while (length > 0 && expr.charAt(length - 1) <= ' ') {
+			--length;
 		}
-	}
-
-	private static final Op<Double> LIST_OP = Const.of(Double.NaN);
-
-	private final Deque<Token> _tokens;
-	private Token _next;
-
-	private MathExprParser(final Deque<Token> tokens) {
-		_tokens = requireNonNull(tokens);
-		_next = _tokens.getFirst();
-	}
+		_length = length;
+		_offset = skipWhitespace(0);
 
-	static TreeNode<Op<Double>> parse(final String expr) {
-		if (expr.trim().isEmpty()) {
+		if (_offset == _length) {
 			throw new IllegalArgumentException(
 				"Expression string is empty: " + expr
 			);
 		}
-		return new MathExprParser(Tokenizer.MATH_OP.tokenize(expr)).parse();
 	}
 
-	private TreeNode<Op<Double>> parse() {
-		final TreeNode<Op<Double>> expr = expression();
-		if (_next.token != Token.EPSILON) {
+	static FlatTreeNode<Op<Double>> parse(final CharSequence expr) {
+		return new MathExprParser(expr).parse();
+	}
+
+	private FlatTreeNode<Op<Double>> parse() {
+		tokenize();
+		nextToken();
+		expression();
+		if (_token != EPSILON) {
 			throw new IllegalArgumentException(format(
-				"Unexpected symbol %s found.", _next
+				"Unexpected symbol %s found.", token()
 			));
 		}
 
-		Var.reindex(expr);
-		return expr;
+		return tree();
 	}
 
-	private TreeNode<Op<Double>> expression() {
-		return sumPrecedenceOp(signedTerm());
-	}
+	/* *************************************************************************
+	 * Recursive descent parsing.
+	 * ************************************************************************/
 
-	private TreeNode<Op<Double>> sumPrecedenceOp(final TreeNode<Op<Double>> expr) {
-		TreeNode<Op<Double>> result = expr;
-
-		if (_next.token == Token.PLUS) {
-			final TreeNode<Op<Double>> add = TreeNode
-				.<Op<Double>>of(MathOp.ADD)
-				.attach(expr);
+	private void expression() {
+		signedTerm();
 
+		while (_token == PLUS || _token == MINUS) {
+			final MathOp op = _token == PLUS ? MathOp.ADD : MathOp.SUB;
 			nextToken();
-			add.attach(term());
-			result = sumPrecedenceOp(add);
-		} else if (_next.token == Token.MINUS) {
-			final TreeNode<Op<Double>> sub = TreeNode
-				.<Op<Double>>of(MathOp.SUB)
-				.attach(expr);
+			term();
+			emit(op, 2);
+		}
+	}
 
+	private void signedTerm() {
+		if (_token == MINUS) {
 			nextToken();
-			sub.attach(term());
-			result = sumPrecedenceOp(sub);
+			term();
+			emit(MathOp.NEG, 1);
+		} else {
+			if (_token == PLUS) {
+				nextToken();
+			}
+			term();
 		}
-
-		return result;
 	}
 
-	private TreeNode<Op<Double>> signedTerm() {
-		if (_next.token == Token.MINUS) {
-			nextToken();
-			return TreeNode
-				.<Op<Double>>of(MathOp.NEG)
-				.attach(term());
-		} else if (_next.token == Token.PLUS) {
+	private void term() {
+		factor();
+
+		while (_token == MUL || _token == DIV || _token == MOD) {
+			final MathOp op = _token == MUL
+				? MathOp.MUL
+				: _token == DIV ? MathOp.DIV : MathOp.MOD;
+
 			nextToken();
+			signedFactor();
+			emit(op, 2);
 		}
-
-		return term();
 	}
 
-	private TreeNode<Op<Double>> term() {
-		return multPrecedenceOp(factor());
+	private void signedFactor() {
+		if (_token == MINUS) {
+			nextToken();
+			factor();
+			emit(MathOp.NEG, 1);
+		} else {
+			if (_token == PLUS) {
+				nextToken();
+			}
+			factor();
+		}
 	}
 
-	private TreeNode<Op<Double>> multPrecedenceOp(final TreeNode<Op<Double>> expr) {
-		TreeNode<Op<Double>> result = expr;
-
-		if (_next.token == Token.MUL) {
-			final TreeNode<Op<Double>> prod = TreeNode
-				.<Op<Double>>of(MathOp.MUL)
-				.attach(expr);
+	private void factor() {
+		argument();
 
+		if (_token == POWER) {
 			nextToken();
-			prod.attach(signedFactor());
-			result = multPrecedenceOp(prod);
-		} else if (_next.token == Token.DIV) {
-			final TreeNode<Op<Double>> prod = TreeNode
-				.<Op<Double>>of(MathOp.DIV)
-				.attach(expr);
+			signedFactor();
+			emit(MathOp.POW, 2);
+		}
+	}
 
+	private void argument() {
+		if (_token == FUNCTION) {
+			final MathOp function = _function;
 			nextToken();
-			prod.attach(signedFactor());
-			result = multPrecedenceOp(prod);
-		} else if (_next.token == Token.MOD) {
-			final TreeNode<Op<Double>> prod = TreeNode
-				.<Op<Double>>of(MathOp.MOD)
-				.attach(expr);
-
+			argument();
+			emit(function, CALL);
+		} else if (_token == COMMA || _token == OPEN_BRACKET) {
 			nextToken();
-			prod.attach(signedFactor());
-			result = multPrecedenceOp(prod);
+			expression();
+			if (_token == COMMA) {
+				argument();
+				emit(LIST_OP, 2);
+			} else if (_token == CLOSE_BRACKET) {
+				nextToken();
+			} else {
+				throw new IllegalArgumentException(format(
+					"Closing brackets expected: %s", token()
+				));
+			}
+		} else {
+			value();
 		}
-
-		return result;
 	}
 
-	private TreeNode<Op<Double>> signedFactor() {
-		if (_next.token == Token.MINUS) {
+	private void value() {
+		if (_token == NUMBER) {
+			emit(Const.of(Double.valueOf(text())), 0);
 			nextToken();
-			return TreeNode
-				.<Op<Double>>of(MathOp.NEG)
-				.attach(factor());
-		} else if (_next.token == Token.PLUS) {
+		} else if (_token == VARIABLE) {
+			emit(isConst() ? MathOp.PI : var(), 0);
 			nextToken();
+		} else if (_token == EPSILON) {
+			throw new IllegalArgumentException("Unexpected end of input.");
+		} else {
+			throw new IllegalArgumentException(format(
+				"Unexpected symbol %s found.", token()
+			));
+		}
+	}
+
+	private boolean isConst() {
+		return equals("PI", _start, _pos) || equals("π", _start, _pos);
+	}
+
+	private Var<?> var() {
+		for (int i = 0; i < _varCount; ++i) {
+			if (equals(_vars[i].name(), _start, _pos)) {
+				return _vars[i];
+			}
 		}
 
-		return factor();
+		if (_varCount == _vars.length) {
+			_vars = Arrays.copyOf(_vars, _varCount*2);
+		}
+		final Var<?> var = Var.of(text(), _varCount);
+		_vars[_varCount++] = var;
+		return var;
 	}
 
-	private TreeNode<Op<Double>> factor() {
-		return factorOp(argument());
+	private void emit(final Object op, final int count) {
+		if (_size == _ops.length) {
+			_ops = Arrays.copyOf(_ops, _size*2);
+			_counts = Arrays.copyOf(_counts, _size*2);
+		}
+		_ops[_size] = op;
+		_counts[_size] = count;
+		++_size;
 	}
 
-	private TreeNode<Op<Double>> factorOp(final TreeNode<Op<Double>> expr) {
-		TreeNode<Op<Double>> result = expr;
+	/* *************************************************************************
+	 * Tokenizing.
+	 * ************************************************************************/
 
-		if (_next.token == Token.POWER) {
+	// Scans the whole expression once, before parsing it. This reports
+	// invalid characters before any syntax error, as an eager tokenizer does.
+	private void tokenize() {
+		do {
 			nextToken();
+		} while (_token != EPSILON);
+
+		_pos = 0;
+	}
 
-			result = TreeNode.<Op<Double>>of(MathOp.POW)
-				.attach(expr)
-				.attach(signedFactor());
+	private void nextToken() {
+		_start = skipWhitespace(_pos);
+		if (_start == _length) {
+			_token = EPSILON;
+			_pos = _start;
+			return;
 		}
 
-		return result;
+		_pos = _start + 1;
+		final char c = _expr.charAt(_start);
+		switch (c) {
+			case '+': _token = PLUS; break;
+			case '-': _token = MINUS; break;
+			case '*': _token = MUL; break;
+			case '/': _token = DIV; break;
+			case '%': _token = MOD; break;
+			case '^': _token = POWER; break;
+			case ',': _token = COMMA; break;
+			case '(': _token = OPEN_BRACKET; break;
+			case ')': _token = CLOSE_BRACKET; break;
+			default:
+				if (isDigit(c) || (c == '.' && isDigit(charAt(_pos)))) {
+					number(c);
+				} else if (isLetter(c) || c == 'π') {
+					identifier(c);
+				} else {
+					throw new IllegalArgumentException(
+						"Unexpected character in input: " +
+						_expr.subSequence(_start, _length)
+					);
+				}
+		}
 	}
 
-	private TreeNode<Op<Double>> argument() {
-		if (_next.token == Token.FUNCTION) {
-			final Op<Double> function = ofName(_next.sequence)
-				.orElseThrow(() -> new IllegalArgumentException(format(
-					"Unknown function '%s' found", _next.sequence)));
+	// (?:\d+\.?|\.\d)\d*(?:[Ee][-+]?\d+)?
+	private void number(final char c) {
+		_token = NUMBER;
+		_pos = skipDigits(_pos);
+		if (c != '.' && charAt(_pos) == '.') {
+			_pos = skipDigits(_pos + 1);
+		}
 
-			nextToken();
-			final TreeNode<Op<Double>> node = TreeNode.of(function);
-			list(argument(), new ArrayList<>()).forEach(node::attach);
-			return node;
-		} else if (_next.token == Token.COMMA ||
-			_next.token == Token.OPEN_BRACKET)
-		{
-			nextToken();
-			TreeNode<Op<Double>> expr = expression();
-			if (_next.token == Token.COMMA) {
-				expr = TreeNode
-					.of(LIST_OP)
-					.attach(expr)
-					.attach(argument());
-
-				return expr;
+		final char e = charAt(_pos);
+		if (e == 'e' || e == 'E') {
+			final char sign = charAt(_pos + 1);
+			final int digits = sign == '+' || sign == '-' ? _pos + 2 : _pos + 1;
+			if (isDigit(charAt(digits))) {
+				_pos = skipDigits(digits);
 			}
+		}
+	}
 
-			if (_next.token != Token.CLOSE_BRACKET) {
-				throw new IllegalArgumentException(format(
-					"Closing brackets expected: %s", _next));
+	// [a-zA-Zπ]\w*, or one of the function names followed by (?!\w).
+	private void identifier(final char c) {
+		while (isWordChar(charAt(_pos))) {
+			++_pos;
+		}
+
+		_token = VARIABLE;
+		if (c != 'π') {
+			for (MathOp op : FUNCTIONS) {
+				if (equals(op.toString(), _start, _pos)) {
+					_token = FUNCTION;
+					_function = op;
+					break;
+				}
 			}
+		}
+	}
 
-			nextToken();
-			return expr;
+	private int skipWhitespace(final int index) {
+		int i = index;
+		while (i < _length && _expr.charAt(i) <= ' ') {
+			++i;
 		}
+		return i;
+	}
 
-		return value();
+	private int skipDigits(final int index) {
+		int i = index;
+		while (isDigit(charAt(i))) {
+			++i;
+		}
+		return i;
 	}
 
-	private static Optional<MathOp> ofName(final String name) {
-		return Stream.of(MathOp.values())
-			.filter(op -> op.name().equalsIgnoreCase(name))
-			.findFirst();
+	private char charAt(final int index) {
+		return index < _length ? _expr.charAt(index) : '\0';
 	}
 
-	private static List<TreeNode<Op<Double>>> list(
-		final TreeNode<Op<Double>> tree,
-		final List<TreeNode<Op<Double>>> list
-	) {
-		if (tree.value() == LIST_OP) {
-			tree.childStream().forEach(child -> list(child, list));
-		} else {
-			list.add(tree);
+	private boolean equals(final String name, final int start, final int end) {
+		if (name.length() != end - start) {
+			return false;
+		}
+		for (int i = 0; i < name.length(); ++i) {
+			if (name.charAt(i) != _expr.charAt(start + i)) {
+				return false;
+			}
 		}
-		return list;
+		return true;
 	}
 
-	private TreeNode<Op<Double>> value() {
-		final String value = _next.sequence;
+	private String text() {
+		return _expr.subSequence(_start, _pos).toString();
+	}
 
-		if (_next.token == Token.NUMBER) {
-			final TreeNode<Op<Double>> node =
-				TreeNode.of(Const.of(Double.valueOf(value)));
+	private String token() {
+		return _token == EPSILON
+			? "['', -1]"
+			: format("['%s', %s]", text(), _start - _offset);
+	}
 
-			nextToken();
-			return node;
+	private static boolean isDigit(final char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isLetter(final char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+
+	private static boolean isWordChar(final char c) {
+		return isLetter(c) || isDigit(c) || c == '_';
+	}
+
+	/* *************************************************************************
+	 * Tree creation.
+	 * ************************************************************************/
+
+	private FlatTreeNode<Op<Double>> tree() {
+		// Resolving the children of the postfix ordered operations.
+		final int[] stack = new int[_size];
+		final int[] children = new int[2*_size];
+		final int[] offsets = new int[_size];
+		final int[] counts = new int[_size];
+
+		int top = 0;
+		int length = 0;
+		for (int i = 0; i < _size; ++i) {
+			offsets[i] = length;
+			if (_counts[i] == CALL) {
+				length = flatten(stack[--top], children, length, offsets, counts);
+			} else {
+				top -= _counts[i];
+				System.arraycopy(stack, top, children, length, _counts[i]);
+				length += _counts[i];
+			}
+			counts[i] = length - offsets[i];
+			stack[top++] = i;
+		}
+		assert top == 1;
+
+		// Variable indexes are assigned in the order of the variable names.
+		final String[] names = new String[_varCount];
+		for (int i = 0; i < _varCount; ++i) {
+			names[i] = _vars[i].name();
 		}
+		Arrays.sort(names);
 
-		if (_next.token == Token.VARIABLE) {
-			final TreeNode<Op<Double>> node = CONST.containsKey(value)
-				? TreeNode.of(CONST.get(value))
-				: TreeNode.of(Var.of(value, 0));
+		final Var<?>[] vars = new Var<?>[_varCount];
+		for (int i = 0; i < _varCount; ++i) {
+			final String name = _vars[i].name();
+			vars[i] = Var.of(name, Arrays.binarySearch(names, name));
+		}
 
-			nextToken();
-			return node;
+		// Writing the operations in breadth-first order.
+		@SuppressWarnings("unchecked")
+		final Op<Double>[] ops = (Op<Double>[])new Op<?>[_size];
+		final int[] childCounts = new int[_size];
+		final int[] queue = stack;
+
+		int head = 0;
+		int tail = 0;
+		queue[tail++] = _size - 1;
+		while (head < tail) {
+			final int node = queue[head];
+			ops[head] = op(node, vars);
+			childCounts[head] = counts[node];
+
+			System.arraycopy(children, offsets[node], queue, tail, counts[node]);
+			tail += counts[node];
+			++head;
 		}
 
-		if (_next.token == Token.EPSILON) {
-			throw new IllegalArgumentException("Unexpected end of input.");
+		return FlatTreeNode.ofBreadthFirst(
+			Arrays.asList(ops).subList(0, tail),
+			Arrays.copyOf(childCounts, tail)
+		);
+	}
+
+	// Appends the given node to the children array. List nodes are replaced
+	// by their (flattened) children.
+	private int flatten(
+		final int node,
+		final int[] children,
+		final int length,
+		final int[] offsets,
+		final int[] counts
+	) {
+		int result = length;
+		if (_ops[node] == LIST_OP) {
+			for (int i = 0; i < counts[node]; ++i) {
+				result = flatten(
+					children[offsets[node] + i],
+					children, result, offsets, counts
+				);
+			}
 		} else {
-			throw new IllegalArgumentException(format(
-				"Unexpected symbol %s found.", _next
-			));
+			children[result++] = node;
 		}
+
+		return result;
 	}
 
-	private void nextToken() {
-		_tokens.pop();
-		_next = _tokens.isEmpty()
-			? new Token(Token.EPSILON, "", -1)
-			: _tokens.getFirst();
+	@SuppressWarnings("unchecked")
+	private Op<Double> op(final int node, final Var<?>[] vars) {
+		final Object op = _ops[node];
+		return op instanceof Var
+			? (Op<Double>)vars[((Var<?>)op).index()]
+			: (Op<Double>)op;
 	}
+
 }
@@ -0,0 +1,181 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleBiFunction;
+
+/**
+ * Loss function, which is defined by the sum of the losses of the single
+ * sample points. The partial sums of disjoint chunks of sample points can be
+ * combined, which allows to calculate the loss of large sample sets
+ * concurrently.
+ *
+ * <pre>{@code
+ * final Error<Double> error = Error.of(AdditiveLossFunction.mse());
+ * }</pre>
+ *
+ * @see LossFunction
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+public interface AdditiveLossFunction<T> extends LossFunction<T> {
+
+	/**
+	 * Return the loss of a single sample point.
+	 *
+	 * @param calculated the calculated function value
+	 * @param expected the expected function value
+	 * @return the loss of the sample point
+	 */
+	double loss(final T calculated, final T expected);
+
+	/**
+	 * Return the final loss value from the sum of the losses of all sample
+	 * points. The default implementation returns the mean loss.
+	 *
+	 * @param sum the sum of the losses of all sample points
+	 * @param count the number of sample points
+	 * @return the final loss value
+	 */
+	default double result(final double sum, final long count) {
+		return count > 0 ? sum/count : sum;
+	}
+
+	/**
+	 * Calculates the loss of the given values. Large arrays are split into
+	 * chunks, whose loss sums are calculated concurrently.
+	 *
+	 * @param calculated the calculated function values
+	 * @param expected the expected function values
+	 * @return the loss value
+	 * @throws IllegalArgumentException if the length of the two arrays are not
+	 *         equal
+	 * @throws NullPointerException if one of the arrays is {@code null}
+	 */
+	@Override
+	default double apply(final T[] calculated, final T[] expected) {
+		if (expected.length != calculated.length) {
+			throw new IllegalArgumentException(format(
+				"Expected result and calculated results have different " +
+					"length: %d != %d",
+				expected.length, calculated.length
+			));
+		}
+
+		final double sum = Chunks.sum(
+			expected.length,
+			i -> loss(calculated[i], expected[i])
+		);
+		return result(sum, expected.length);
+	}
+
+	/**
+	 * Create a new additive loss function from the given sample point
+	 * {@code loss} and {@code result} function.
+	 *
+	 * @param loss the loss of a single sample point
+	 * @param result the function which calculates the final loss value from
+	 *        the loss sum and the number of sample points
+	 * @param <T> the sample type
+	 * @return a new additive loss function
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	static <T> AdditiveLossFunction<T> of(
+		final ToDoubleBiFunction<? super T, ? super T> loss,
+		final DoubleBinaryOperator result
+	) {
+		requireNonNull(loss);
+		requireNonNull(result);
+
+		return new AdditiveLossFunction<>() {
+			@Override
+			public double loss(final T calculated, final T expected) {
+				return loss.applyAsDouble(calculated, expected);
+			}
+			@Override
+			public double result(final double sum, final long count) {
+				return result.applyAsDouble(sum, count);
+			}
+		};
+	}
+
+	/**
+	 * Create a new additive loss function, which returns the mean of the
+	 * sample point losses, transformed by the given {@code finisher}.
+	 *
+	 * @param loss the loss of a single sample point
+	 * @param finisher the transformation of the mean loss
+	 * @param <T> the sample type
+	 * @return a new additive loss function
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	static <T> AdditiveLossFunction<T> ofMean(
+		final ToDoubleBiFunction<? super T, ? super T> loss,
+		final DoubleUnaryOperator finisher
+	) {
+		requireNonNull(finisher);
+		return of(
+			loss,
+			(sum, count) -> finisher.applyAsDouble(count > 0 ? sum/count : sum)
+		);
+	}
+
+	/**
+	 * Return the <em>mean squared error</em> loss function.
+	 *
+	 * @see LossFunction#mse(Double[], Double[])
+	 *
+	 * @return the mean squared error loss function
+	 */
+	static AdditiveLossFunction<Double> mse() {
+		return LossFunctions.MSE;
+	}
+
+	/**
+	 * Return the <em>root mean squared error</em> loss function.
+	 *
+	 * @see LossFunction#rmse(Double[], Double[])
+	 *
+	 * @return the root mean squared error loss function
+	 */
+	static AdditiveLossFunction<Double> rmse() {
+		return LossFunctions.RMSE;
+	}
+
+	/**
+	 * Return the <em>mean absolute error</em> loss function.
+	 *
+	 * @see LossFunction#mae(Double[], Double[])
+	 *
+	 * @return the mean absolute error loss function
+	 */
+	static AdditiveLossFunction<Double> mae() {
+		return LossFunctions.MAE;
+	}
+
+}
+
@@ -0,0 +1,192 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static java.lang.Math.max;
+import static java.security.AccessController.doPrivileged;
+
+import java.security.PrivilegedAction;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Helper methods for processing the sample points of a large sample set in
+ * chunks, using the {@link ForkJoinPool}. The chunks are only processed
+ * concurrently if the sample set is big enough and the pool has idle
+ * capacity. If the fitness function is already called concurrently for a
+ * big enough population, the surplus of queued tasks is high and the chunks
+ * are processed by the calling thread.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+final class Chunks {
+	private Chunks() {}
+
+	/**
+	 * Action which is performed on a chunk of sample points.
+	 */
+	@FunctionalInterface
+	interface Range {
+		void apply(final int from, final int to);
+	}
+
+	/**
+	 * Performs the given {@code action} for the index range
+	 * {@code [0, size)}. The range may be split into chunks, which are
+	 * processed concurrently.
+	 *
+	 * @param size the size of the index range
+	 * @param action the action to perform on the index chunks
+	 */
+	static void forEach(final int size, final Range action) {
+		if (size <= Env.minChunkSize) {
+			action.apply(0, size);
+		} else {
+			invoke(new RangeAction(action, 0, size));
+		}
+	}
+
+	/**
+	 * Return the sum of the given {@code terms} for the indexes of the range
+	 * {@code [0, size)}. The partial sums are always calculated and combined
+	 * in the same order, which makes the result independent of the actual
+	 * number of threads used.
+	 *
+	 * @param size the size of the index range
+	 * @param terms the summands
+	 * @return the sum of all terms
+	 */
+	static double sum(final int size, final IntToDoubleFunction terms) {
+		return size <= Env.minChunkSize
+			? sum(terms, 0, size)
+			: invoke(new SumTask(terms, 0, size));
+	}
+
+	private static double sum(
+		final IntToDoubleFunction terms,
+		final int from,
+		final int to
+	) {
+		double sum = 0;
+		for (int i = from; i < to; ++i) {
+			sum += terms.applyAsDouble(i);
+		}
+		return sum;
+	}
+
+	private static <T> T invoke(final ForkJoinTask<T> task) {
+		return ForkJoinTask.inForkJoinPool()
+			? task.invoke()
+			: ForkJoinPool.commonPool().invoke(task);
+	}
+
+	private static boolean saturated() {
+		return ForkJoinTask.getSurplusQueuedTaskCount() >
+			Env.maxSurplusQueuedTaskCount;
+	}
+
+	private static final class RangeAction extends RecursiveAction {
+		private static final long serialVersionUID = 1;
+
+		private final Range _action;
+		private final int _low;
+		private final int _high;
+
+		RangeAction(final Range action, final int low, final int high) {
+			_action = action;
+			_low = low;
+			_high = high;
+		}
+
+		@Override
+		protected void compute() {
+			if (_high - _low <= Env.minChunkSize || saturated()) {
+				_action.apply(_low, _high);
+			} else {
+				final int mid = (_low + _high) >>> 1;
+				invokeAll(
+					new RangeAction(_action, _low, mid),
+					new RangeAction(_action, mid, _high)
+				);
+			}
+		}
+	}
+
+	private static final class SumTask extends RecursiveTask<Double> {
+		private static final long serialVersionUID = 1;
+
+		private final IntToDoubleFunction _terms;
+		private final int _low;
+		private final int _high;
+
+		SumTask(final IntToDoubleFunction terms, final int low, final int high) {
+			_terms = terms;
+			_low = low;
+			_high = high;
+		}
+
+		@Override
+		protected Double compute() {
+			if (_high - _low <= Env.minChunkSize) {
+				return sum(_terms, _low, _high);
+			}
+
+			final int mid = (_low + _high) >>> 1;
+			final SumTask left = new SumTask(_terms, _low, mid);
+			final SumTask right = new SumTask(_terms, mid, _high);
+
+			// The split points are not changed when running serially. This
+			// keeps the summation order and the result deterministic.
+			if (saturated()) {
+				return left.compute() + right.compute();
+			} else {
+				right.fork();
+				final double sum = left.compute();
+				return sum + right.join();
+			}
+		}
+	}
+
+	private static final class Env {
+		private static final int minChunkSize = max(
+			doPrivileged(
+				(PrivilegedAction<Integer>)() -> Integer.getInteger(
+					"io.jenetics.prog.regression.minChunkSize",
+					1 << 14
+				)),
+			1
+		);
+
+		private static final int maxSurplusQueuedTaskCount = max(
+			doPrivileged(
+				(PrivilegedAction<Integer>)() -> Integer.getInteger(
+					"io.jenetics.concurrency.maxSurplusQueuedTaskCount",
+					3
+				)),
+			1
+		);
+	}
+
+}
@@ -19,10 +19,6 @@
  */
 package io.jenetics.prog.regression;
 
-import static java.lang.Math.abs;
-import static java.lang.Math.sqrt;
-import static java.lang.String.format;
-
 // https://blog.algorithmia.com/introduction-to-loss-functions/
 // https://towardsdatascience.com/common-loss-functions-in-machine-learning-46af0ffc4d23
 
@@ -37,9 +33,10 @@ import static java.lang.String.format;
  * }</pre>
  *
  * @see <a href="https://en.wikipedia.org/wiki/Loss_function">Loss function</a>
+ * @see AdditiveLossFunction
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.2
  * @since 5.0
  */
 @FunctionalInterface
@@ -75,23 +72,7 @@ public interface LossFunction<T> {
 	 *         {@code null}
 	 */
 	static double mse(final Double[] calculated, final Double[] expected) {
-		if (expected.length != calculated.length) {
-			throw new IllegalArgumentException(format(
-				"Expected result and calculated results have different " +
-					"length: %d != %d",
-				expected.length, calculated.length
-			));
-		}
-
-		double result = 0;
-		for (int i = 0; i < expected.length; ++i) {
-			result += (expected[i] - calculated[i])*(expected[i] - calculated[i]);
-		}
-		if (expected.length > 0) {
-			result = result/expected.length;
-		}
-
-		return result;
+		return AdditiveLossFunction.mse().apply(calculated, expected);
 	}
 
 	/**
@@ -110,7 +91,7 @@ public interface LossFunction<T> {
 	 *         {@code null}
 	 */
 	static double rmse(final Double[] calculated, final Double[] expected) {
-		return sqrt(mse(calculated, expected));
+		return AdditiveLossFunction.rmse().apply(calculated, expected);
 	}
 
 	/**
@@ -127,23 +108,7 @@ public interface LossFunction<T> {
 	 *         {@code null}
 	 */
 	static double mae(final Double[] calculated, final Double[] expected) {
-		if (expected.length != calculated.length) {
-			throw new IllegalArgumentException(format(
-				"Expected result and calculated results have different " +
-					"length: %d != %d",
-				expected.length, calculated.length
-			));
-		}
-
-		double result = 0;
-		for (int i = 0; i < expected.length; ++i) {
-			result += abs(expected[i] - calculated[i]);
-		}
-		if (expected.length > 0) {
-			result = result/expected.length;
-		}
-
-		return result;
+		return AdditiveLossFunction.mae().apply(calculated, expected);
 	}
 
 }
@@ -0,0 +1,52 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static java.lang.Math.abs;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * The predefined, stateless loss functions. They are created only once,
+ * since they are requested for every fitness evaluation.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+final class LossFunctions {
+	private LossFunctions() {}
+
+	static final AdditiveLossFunction<Double> MSE = AdditiveLossFunction.ofMean(
+		(c, e) -> (e - c)*(e - c),
+		DoubleUnaryOperator.identity()
+	);
+
+	static final AdditiveLossFunction<Double> RMSE = AdditiveLossFunction.ofMean(
+		(c, e) -> (e - c)*(e - c),
+		Math::sqrt
+	);
+
+	static final AdditiveLossFunction<Double> MAE = AdditiveLossFunction.ofMean(
+		(c, e) -> abs(e - c),
+		DoubleUnaryOperator.identity()
+	);
+
+}
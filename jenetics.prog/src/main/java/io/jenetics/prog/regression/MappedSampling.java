@@ -0,0 +1,401 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.op.ConstFolder;
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Var;
+
+/**
+ * Sampling implementation, which reads the sample points from memory-mapped
+ * column files. Every argument column and the result column are stored in a
+ * separate file, which contains the raw {@code double} values of the column,
+ * as written by {@link java.io.DataOutputStream#writeDouble(double)} for
+ * big-endian files. Since the sample points are not stored on the heap, the
+ * size of the sample set is only limited by the available address space.
+ *
+ * <pre>{@code
+ * final MappedSampling sampling = MappedSampling.of(
+ *     List.of(Path.of("x.bin"), Path.of("y.bin")),
+ *     Path.of("f.bin")
+ * );
+ *
+ * final Codec<Tree<Op<Double>, ?>, ProgramGene<Double>> codec =
+ *     Regression.codecOf(OPERATIONS, TERMINALS, 5);
+ *
+ * final Engine<ProgramGene<Double>, Double> engine = Engine
+ *     .builder(p -> sampling.error(p, AdditiveLossFunction.mse()), codec)
+ *     .minimizing()
+ *     .build();
+ * }</pre>
+ *
+ * The {@link #error(Tree, AdditiveLossFunction)} method streams the sample
+ * points in blocks through the program evaluation and reduces the loss on the
+ * fly. Constant subexpressions of the program are folded and common
+ * subexpressions are evaluated only once. It only needs memory proportional
+ * to the block size and is the preferred way for evaluating programs with
+ * large sample sets. The {@link #eval(Tree)} method, in contrast, has to
+ * create the whole {@link Result} object on the heap.
+ *
+ * @implNote
+ * This class is thread-safe. The mapped column files must not be changed
+ * while they are in use. The files are unmapped when the sampling object is
+ * garbage collected.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+public final class MappedSampling implements Sampling<Double> {
+
+	/**
+	 * The number of sample points evaluated in one block.
+	 */
+	private static final int BLOCK_SIZE = 1 << 12;
+
+	/**
+	 * Maximal number of {@code double} values of one mapped column segment.
+	 * It must be a multiple of the block size.
+	 */
+	private static final int SEGMENT_SIZE = 1 << 27;
+
+	private final Column[] _arguments;
+	private final Column _results;
+	private final long _size;
+
+	private MappedSampling(final Column[] arguments, final Column results) {
+		_arguments = arguments;
+		_results = results;
+		_size = results.size;
+	}
+
+	/**
+	 * Return the number of sample points.
+	 *
+	 * @return the number of sample points
+	 */
+	public long size() {
+		return _size;
+	}
+
+	/**
+	 * Return the number of arguments of the sample points.
+	 *
+	 * @return the number of arguments of the sample points
+	 */
+	public int arity() {
+		return _arguments.length;
+	}
+
+	/**
+	 * Calculates the loss of the given {@code program} for all sample points.
+	 * The sample points are evaluated block-wise and the loss terms are summed
+	 * up on the fly, without storing the calculated values.
+	 *
+	 * @param program the program to evaluate
+	 * @param loss the additive loss function
+	 * @return the loss of the program
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the program contains a variable
+	 *         with no corresponding argument column
+	 */
+	public double error(
+		final Tree<? extends Op<Double>, ?> program,
+		final AdditiveLossFunction<Double> loss
+	) {
+		requireNonNull(program);
+		requireNonNull(loss);
+		check(program);
+
+		final ProgramDag<Double> dag = ProgramDag.of(ConstFolder.fold(program));
+		final double[][] args = new double[_arguments.length][BLOCK_SIZE];
+		final double[] expected = new double[BLOCK_SIZE];
+
+		double sum = 0;
+		for (long start = 0; start < _size; start += BLOCK_SIZE) {
+			final int length = read(start, args, expected);
+			final Double[] calculated = eval(dag, args, length);
+
+			for (int i = 0; i < length; ++i) {
+				sum += loss.loss(calculated[i], expected[i]);
+			}
+		}
+
+		return loss.result(sum, _size);
+	}
+
+	/**
+	 * Evaluates the given {@code program} tree with all sample points. The
+	 * calculated and expected values are returned as heap arrays. For large
+	 * sample sets use the {@link #error(Tree, AdditiveLossFunction)} method
+	 * instead.
+	 *
+	 * @param program the program to evaluate
+	 * @return the evaluated sample result
+	 * @throws IllegalStateException if the number of sample points is greater
+	 *         than the maximal array size
+	 * @throws IllegalArgumentException if the program contains a variable
+	 *         with no corresponding argument column
+	 */
+	@Override
+	public Result<Double> eval(final Tree<? extends Op<Double>, ?> program) {
+		requireNonNull(program);
+		check(program);
+		if (_size > Integer.MAX_VALUE - 8) {
+			throw new IllegalStateException(format(
+				"Sample set is too big for creating a result object: %d.",
+				_size
+			));
+		}
+
+		final Double[] calculated = new Double[(int)_size];
+		final Double[] expected = new Double[(int)_size];
+
+		final ProgramDag<Double> dag = ProgramDag.of(program);
+		final double[][] args = new double[_arguments.length][BLOCK_SIZE];
+		final double[] results = new double[BLOCK_SIZE];
+		for (int start = 0; start < _size; start += BLOCK_SIZE) {
+			final int length = read(start, args, results);
+			final Double[] values = eval(dag, args, length);
+
+			System.arraycopy(values, 0, calculated, start, length);
+			for (int i = 0; i < length; ++i) {
+				expected[start + i] = results[i];
+			}
+		}
+
+		return Result.of(calculated, expected);
+	}
+
+	private void check(final Tree<? extends Op<Double>, ?> program) {
+		program.forEach(node -> {
+			final Op<Double> op = node.value();
+			if (op instanceof Var && ((Var<?>)op).index() >= _arguments.length) {
+				throw new IllegalArgumentException(format(
+					"No value for variable '%s' given.", op
+				));
+			}
+		});
+	}
+
+	private int read(
+		final long start,
+		final double[][] args,
+		final double[] results
+	) {
+		final int length = (int)min(BLOCK_SIZE, _size - start);
+		for (int i = 0; i < args.length; ++i) {
+			_arguments[i].read(start, args[i], length);
+		}
+		_results.read(start, results, length);
+
+		return length;
+	}
+
+	/*
+	 * Evaluates the given program DAG column-wise for one block of sample
+	 * points. Since the DAG nodes are topologically ordered, the arguments of
+	 * a node are always evaluated before the node itself.
+	 */
+	private static Double[] eval(
+		final ProgramDag<Double> dag,
+		final double[][] args,
+		final int length
+	) {
+		final Double[][] values = new Double[dag.size()][];
+		for (int k = 0; k < values.length; ++k) {
+			values[k] = eval(dag.op(k), dag.children(k), values, args, length);
+		}
+
+		return values[dag.root()];
+	}
+
+	private static Double[] eval(
+		final Op<Double> op,
+		final int[] children,
+		final Double[][] values,
+		final double[][] args,
+		final int length
+	) {
+		final Double[] result = new Double[length];
+
+		if (op instanceof Var) {
+			final double[] column = args[((Var<?>)op).index()];
+			for (int i = 0; i < length; ++i) {
+				result[i] = column[i];
+			}
+		} else if (op.isTerminal()) {
+			final Double[] row = new Double[args.length];
+			for (int i = 0; i < length; ++i) {
+				for (int j = 0; j < row.length; ++j) {
+					row[j] = args[j][i];
+				}
+				result[i] = op.apply(row);
+			}
+		} else {
+			final Double[] row = new Double[children.length];
+			for (int i = 0; i < length; ++i) {
+				for (int j = 0; j < row.length; ++j) {
+					row[j] = values[children[j]][i];
+				}
+				result[i] = op.apply(row);
+			}
+		}
+
+		return result;
+	}
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Create a new sampling object from the given column files.
+	 *
+	 * @param arguments the files of the argument columns
+	 * @param results the file of the result column
+	 * @param order the byte order of the column files
+	 * @return a new sampling object
+	 * @throws IOException if the column files can't be mapped
+	 * @throws IllegalArgumentException if no argument column is given, or the
+	 *         column files contain a different number of values
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static MappedSampling of(
+		final List<? extends Path> arguments,
+		final Path results,
+		final ByteOrder order
+	)
+		throws IOException
+	{
+		requireNonNull(results);
+		requireNonNull(order);
+		if (arguments.isEmpty()) {
+			throw new IllegalArgumentException(
+				"The arity of the sample point must not be zero."
+			);
+		}
+
+		final Column result = Column.map(results, order);
+		final Column[] columns = new Column[arguments.size()];
+		for (int i = 0; i < columns.length; ++i) {
+			columns[i] = Column.map(arguments.get(i), order);
+			if (columns[i].size != result.size) {
+				throw new IllegalArgumentException(format(
+					"Expected %d values, but got %d for column '%s'.",
+					result.size, columns[i].size, arguments.get(i)
+				));
+			}
+		}
+
+		return new MappedSampling(columns, result);
+	}
+
+	/**
+	 * Create a new sampling object from the given, big-endian, column files.
+	 *
+	 * @param arguments the files of the argument columns
+	 * @param results the file of the result column
+	 * @return a new sampling object
+	 * @throws IOException if the column files can't be mapped
+	 * @throws IllegalArgumentException if no argument column is given, or the
+	 *         column files contain a different number of values
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static MappedSampling of(
+		final List<? extends Path> arguments,
+		final Path results
+	)
+		throws IOException
+	{
+		return of(arguments, results, ByteOrder.BIG_ENDIAN);
+	}
+
+
+	/**
+	 * A memory-mapped {@code double} column, split into segments which can be
+	 * mapped into one buffer.
+	 */
+	private static final class Column {
+		private final DoubleBuffer[] segments;
+		private final long size;
+
+		private Column(final DoubleBuffer[] segments, final long size) {
+			this.segments = segments;
+			this.size = size;
+		}
+
+		void read(final long start, final double[] values, final int length) {
+			final DoubleBuffer segment = segments[(int)(start/SEGMENT_SIZE)]
+				.duplicate();
+			segment.position((int)(start%SEGMENT_SIZE));
+			segment.get(values, 0, length);
+		}
+
+		static Column map(final Path path, final ByteOrder order)
+			throws IOException
+		{
+			try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+				final long bytes = channel.size();
+				if (bytes%Double.BYTES != 0) {
+					throw new IllegalArgumentException(format(
+						"File size of column '%s' is not a multiple of %d: %d.",
+						path, Double.BYTES, bytes
+					));
+				}
+
+				final long size = bytes/Double.BYTES;
+				final DoubleBuffer[] segments =
+					new DoubleBuffer[(int)((size + SEGMENT_SIZE - 1)/SEGMENT_SIZE)];
+
+				for (int i = 0; i < segments.length; ++i) {
+					final long offset = (long)i*SEGMENT_SIZE;
+					final long length = min(SEGMENT_SIZE, size - offset);
+					segments[i] = channel
+						.map(
+							MapMode.READ_ONLY,
+							offset*Double.BYTES,
+							length*Double.BYTES
+						)
+						.order(order)
+						.asDoubleBuffer();
+				}
+
+				return new Column(segments, size);
+			}
+		}
+	}
+
+}
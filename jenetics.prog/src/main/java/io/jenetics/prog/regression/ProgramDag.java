@@ -0,0 +1,166 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.op.Op;
+
+/**
+ * Directed acyclic graph (DAG) representation of a program tree. Structurally
+ * equal sub-trees (common subexpressions) are represented by one DAG node,
+ * which must be evaluated only once. The DAG nodes are ordered topologically:
+ * the children of a node always have a smaller index than the node itself
+ * and the root node is the last one.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+final class ProgramDag<T> {
+
+	private final List<Op<T>> _ops = new ArrayList<>();
+	private final List<int[]> _children = new ArrayList<>();
+	private final List<SubtreeCache.Key> _keys = new ArrayList<>();
+
+	private ProgramDag() {
+	}
+
+	/**
+	 * Return the number of DAG nodes.
+	 *
+	 * @return the number of DAG nodes
+	 */
+	int size() {
+		return _ops.size();
+	}
+
+	/**
+	 * Return the index of the root node, which is the last DAG node.
+	 *
+	 * @return the index of the root node
+	 */
+	int root() {
+		return _ops.size() - 1;
+	}
+
+	Op<T> op(final int index) {
+		return _ops.get(index);
+	}
+
+	/**
+	 * Return the DAG indexes of the arguments of the given node.
+	 *
+	 * @param index the DAG node index
+	 * @return the DAG indexes of the node arguments
+	 */
+	int[] children(final int index) {
+		return _children.get(index);
+	}
+
+	/**
+	 * Return the structural key of the sub-tree of the given node.
+	 *
+	 * @param index the DAG node index
+	 * @return the structural key of the node sub-tree
+	 */
+	SubtreeCache.Key key(final int index) {
+		return _keys.get(index);
+	}
+
+	/**
+	 * Create the DAG of the given program tree.
+	 *
+	 * @param program the program tree
+	 * @param <T> the operation type
+	 * @return the DAG of the given program
+	 */
+	static <T> ProgramDag<T> of(final Tree<? extends Op<T>, ?> program) {
+		final int size = program.size();
+		final Tree<?, ?>[] nodes = new Tree<?, ?>[size];
+		final Object[] tokens = new Object[size];
+		final int[] ends = new int[size];
+		flatten(program, nodes, tokens, ends, 0);
+
+		final ProgramDag<T> dag = new ProgramDag<>();
+		dag.add(nodes, tokens, ends, 0, new HashMap<>());
+		return dag;
+	}
+
+	/*
+	 * Stores the nodes of the given tree in pre-order. The end index of the
+	 * subtree of the node at position i is stored in ends[i].
+	 */
+	private static int flatten(
+		final Tree<?, ?> node,
+		final Tree<?, ?>[] nodes,
+		final Object[] tokens,
+		final int[] ends,
+		final int index
+	) {
+		nodes[index] = node;
+		tokens[index] = SubtreeCache.token(node.value());
+
+		int end = index + 1;
+		for (int i = 0; i < node.childCount(); ++i) {
+			end = flatten(node.childAt(i), nodes, tokens, ends, end);
+		}
+
+		return ends[index] = end;
+	}
+
+	@SuppressWarnings("unchecked")
+	private int add(
+		final Tree<?, ?>[] nodes,
+		final Object[] tokens,
+		final int[] ends,
+		final int index,
+		final Map<SubtreeCache.Key, Integer> indexes
+	) {
+		final SubtreeCache.Key key =
+			new SubtreeCache.Key(tokens, index, ends[index]);
+
+		final Integer existing = indexes.get(key);
+		if (existing != null) {
+			return existing;
+		}
+
+		final Tree<?, ?> node = nodes[index];
+		final int[] children = new int[node.childCount()];
+		for (int i = 0, child = index + 1; i < children.length; ++i) {
+			children[i] = add(nodes, tokens, ends, child, indexes);
+			child = ends[child];
+		}
+
+		_ops.add((Op<T>)node.value());
+		_children.add(children);
+		_keys.add(key);
+
+		final int result = _ops.size() - 1;
+		indexes.put(key, result);
+		return result;
+	}
+
+}
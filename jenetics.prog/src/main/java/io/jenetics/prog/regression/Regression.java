@@ -38,6 +38,7 @@ import io.jenetics.ext.util.Tree;
 
 import io.jenetics.prog.ProgramChromosome;
 import io.jenetics.prog.ProgramGene;
+import io.jenetics.prog.op.ConstFolder;
 import io.jenetics.prog.op.Op;
 import io.jenetics.prog.regression.Sampling.Result;
 
@@ -96,7 +97,7 @@ import io.jenetics.prog.regression.Sampling.Result;
  * @param <T> the operation type
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.0
+ * @version 6.2
  * @since 5.0
  */
 public final class Regression<T>
@@ -136,13 +137,17 @@ public final class Regression<T>
 	}
 
 	/**
-	 * Calculates the actual error for the given {@code program}.
+	 * Calculates the actual error for the given {@code program}. Constant
+	 * sub-expressions of the program are folded before it is evaluated with
+	 * the sample points, see {@link ConstFolder#fold(Tree)}. The complexity
+	 * part of the error function is still calculated from the original
+	 * program.
 	 *
 	 * @param program the program to calculate the error value for
 	 * @return the overall error value of the program
 	 */
 	public double error(final Tree<? extends Op<T>, ?> program) {
-		final Result<T> result = _sampling.eval(program);
+		final Result<T> result = _sampling.eval(ConstFolder.fold(program));
 		return result != null
 			? _error.apply(program, result.calculated(), result.expected())
 			: Double.MAX_VALUE;
@@ -19,21 +19,31 @@
  */
 package io.jenetics.prog.regression;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
+ * Multi-producer ring buffer, which keeps the last {@code size} added
+ * elements. Adding elements is lock-free: a producer claims a sequence
+ * number and writes the element into the slot of the claimed sequence. A
+ * snapshot contains the elements of the last {@code size} sequence numbers,
+ * which are completely written at the time of the snapshot, in the order of
+ * their sequence numbers.
+ *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.0
+ * @version 6.2
  * @since 6.0
  */
 final class RingBuffer {
 
-	private final Object[] _buffer;
+	private static final Object[] EMPTY = new Object[0];
 
-	private int _cursor = -1;
-	private int _size = 0;
+	private final AtomicReferenceArray<Entry> _buffer;
+	private final AtomicLong _sequence = new AtomicLong();
 
-	private Object[] _snapshot = null;
+	private volatile Snapshot _snapshot = new Snapshot(0, EMPTY, true);
 
 	RingBuffer(final int size) {
 		if (size < 1) {
@@ -42,49 +52,94 @@ final class RingBuffer {
 			);
 		}
 
-		_buffer = new Object[size];
-	}
-
-	synchronized void add(final Object element) {
-		_buffer[next()] = element;
-		_snapshot = null;
+		_buffer = new AtomicReferenceArray<>(size);
 	}
 
-	private int next() {
-		if (_size < _buffer.length) ++_size;
-		return _cursor = (_cursor + 1 < _buffer.length) ? _cursor + 1 : 0;
+	void add(final Object element) {
+		final long sequence = _sequence.getAndIncrement();
+		_buffer.set(index(sequence), new Entry(sequence, element));
 	}
 
-	synchronized void addAll(final Collection<?> elements) {
+	void addAll(final Collection<?> elements) {
 		for (Object element : elements) {
-			_buffer[next()] = element;
+			add(element);
 		}
-		_snapshot = null;
 	}
 
-	synchronized Object[] snapshot() {
-		if (_snapshot != null) {
-			return _snapshot;
+	private int index(final long sequence) {
+		return (int)(sequence%_buffer.length());
+	}
+
+	/**
+	 * Return the sequence number of the next added element. It changes with
+	 * every added element and can be used for detecting changes of the buffer.
+	 *
+	 * @return the sequence number of the next added element
+	 */
+	long sequence() {
+		return _sequence.get();
+	}
+
+	/**
+	 * Return the elements of the last {@code size} sequence numbers, which are
+	 * already written. The same array is returned, as long as no element has
+	 * been added.
+	 *
+	 * @return the current buffer elements
+	 */
+	Object[] snapshot() {
+		final Snapshot snapshot = _snapshot;
+		final long end = _sequence.get();
+		if (snapshot.end == end && snapshot.complete) {
+			return snapshot.elements;
 		}
 
-		final Object[] result = new Object[_size];
-		if (_size < _buffer.length) {
-			System.arraycopy(_buffer, 0, result, 0, _size);
-		} else {
-			System.arraycopy(
-				_buffer, _cursor + 1,
-				result, 0, _buffer.length - _cursor - 1
-			);
-			System.arraycopy(
-				_buffer, 0,
-				result, _buffer.length - _cursor - 1, _cursor + 1
-			);
+		final long start = Math.max(0, end - _buffer.length());
+		final Object[] elements = new Object[(int)(end - start)];
+
+		int size = 0;
+		for (long sequence = start; sequence < end; ++sequence) {
+			final Entry entry = _buffer.get(index(sequence));
+
+			// Elements which are still written by a producer, or have already
+			// been overwritten, are not part of the snapshot.
+			if (entry != null && entry.sequence == sequence) {
+				elements[size++] = entry.element;
+			}
 		}
 
-		return _snapshot = result;
+		final Snapshot result = size == elements.length
+			? new Snapshot(end, elements, true)
+			: new Snapshot(end, Arrays.copyOf(elements, size), false);
+
+		_snapshot = result;
+		return result.elements;
 	}
 
 	int size () {
-		return _buffer.length;
+		return _buffer.length();
+	}
+
+	private static final class Entry {
+		final long sequence;
+		final Object element;
+
+		Entry(final long sequence, final Object element) {
+			this.sequence = sequence;
+			this.element = element;
+		}
 	}
+
+	private static final class Snapshot {
+		final long end;
+		final Object[] elements;
+		final boolean complete;
+
+		Snapshot(final long end, final Object[] elements, final boolean complete) {
+			this.end = end;
+			this.elements = elements;
+			this.complete = complete;
+		}
+	}
+
 }
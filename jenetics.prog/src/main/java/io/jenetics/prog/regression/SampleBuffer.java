@@ -21,7 +21,7 @@ package io.jenetics.prog.regression;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
@@ -39,10 +39,14 @@ import io.jenetics.prog.op.Op;
  * the {@link #publish()} method.
  *
  * @implNote
- * This class is thread-safe.
+ * This class is thread-safe. Adding sample points is lock-free and doesn't
+ * block the evaluation of the published samples. The arguments of a sample
+ * point are extracted once, when the sample is added. Publishing without
+ * newly added samples keeps the current snapshot, including its cached
+ * evaluation results.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.0
+ * @version 6.2
  * @since 6.0
  */
 public final class SampleBuffer<T> implements Sampling<T> {
@@ -50,6 +54,7 @@ public final class SampleBuffer<T> implements Sampling<T> {
 	private final RingBuffer _buffer;
 
 	private volatile SampleList<T> _snapshot = null;
+	private Object[] _published = null;
 
 	public SampleBuffer(final int size) {
 		_buffer = new RingBuffer(size);
@@ -63,9 +68,11 @@ public final class SampleBuffer<T> implements Sampling<T> {
 	 * @param sample the sample point to add
 	 * @throws NullPointerException if the given {@code sample} point is
 	 *         {@code null}
+	 * @throws IllegalArgumentException if the arity of the given
+	 *         {@code sample} point is zero
 	 */
 	public void add(final Sample<T> sample) {
-		_buffer.add(requireNonNull(sample));
+		_buffer.add(new Entry<>(sample));
 	}
 
 	/**
@@ -75,10 +82,18 @@ public final class SampleBuffer<T> implements Sampling<T> {
 	 *
 	 * @param samples the samples to add to the buffer
 	 * @throws NullPointerException if the given {@code samples} is {@code null}
+	 * @throws IllegalArgumentException if the arity of one of the given
+	 *         {@code samples} is zero
 	 */
 	public void addAll(final Collection<? extends Sample<T>> samples) {
 		samples.forEach(Objects::requireNonNull);
-		_buffer.addAll(samples);
+
+		// Validating all samples, before the first one is added.
+		final List<Entry<T>> entries = new ArrayList<>(samples.size());
+		for (Sample<T> sample : samples) {
+			entries.add(new Entry<>(sample));
+		}
+		entries.forEach(_buffer::add);
 	}
 
 	/**
@@ -87,21 +102,29 @@ public final class SampleBuffer<T> implements Sampling<T> {
 	 *
 	 * @return the number of <em>published</em> sample points
 	 */
-	@SuppressWarnings({"unchecked", "rawtypes"})
-	public int publish() {
+	@SuppressWarnings("unchecked")
+	public synchronized int publish() {
 		final Object[] values = _buffer.snapshot();
+		if (values == _published) {
+			return values.length;
+		}
 
 		SampleList<T> snapshot = null;
-		if (values != null && values.length > 0) {
-			final List samples = Arrays.asList(values);
-			snapshot = new SampleList(samples);
+		if (values.length > 0) {
+			final List<Sample<T>> samples = new ArrayList<>(values.length);
+			final List<T[]> arguments = new ArrayList<>(values.length);
+			for (Object value : values) {
+				final Entry<T> entry = (Entry<T>)value;
+				samples.add(entry.sample);
+				arguments.add(entry.arguments);
+			}
+
+			snapshot = new SampleList<>(samples, arguments);
 		}
 
-		try {
-			return snapshot != null ? snapshot.size() : 0;
-		} finally {
-			_snapshot = snapshot;
-		}
+		_published = values;
+		_snapshot = snapshot;
+		return values.length;
 	}
 
 	/**
@@ -126,4 +149,19 @@ public final class SampleBuffer<T> implements Sampling<T> {
 			: null;
 	}
 
+	/**
+	 * Buffer entry, which contains the sample point and its arguments. The
+	 * arguments are extracted by the producer thread, when the sample is
+	 * added.
+	 */
+	private static final class Entry<T> {
+		final Sample<T> sample;
+		final T[] arguments;
+
+		Entry(final Sample<T> sample) {
+			this.sample = requireNonNull(sample);
+			this.arguments = SampleList.args(sample);
+		}
+	}
+
 }
@@ -25,16 +25,30 @@ import java.io.Serializable;
 import java.lang.reflect.Array;
 import java.util.AbstractList;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.stream.Collectors;
 
 import io.jenetics.ext.util.Tree;
 
 import io.jenetics.prog.op.Op;
-import io.jenetics.prog.op.Program;
+import io.jenetics.prog.op.Var;
 
 /**
+ * The sample list evaluates programs <em>column-wise</em>: every subtree is
+ * evaluated for all sample points at once. Common subexpressions of a
+ * program are only evaluated once, see {@link ProgramDag}. The result vectors
+ * of the evaluated subtrees are stored in a bounded cache, keyed by the
+ * structure of the subtree. Since the offspring of a program shares most of
+ * its subtrees with its parents, only the path from the altered nodes to the
+ * root has to be recalculated.
+ * <p>
+ * For large sample sets, the sample points are split into chunks, which are
+ * evaluated concurrently by the {@link java.util.concurrent.ForkJoinPool}, if
+ * the pool isn't already saturated by the concurrent fitness evaluation of
+ * the population. The minimal chunk size can be set with the
+ * {@code io.jenetics.prog.regression.minChunkSize} system property.
+ *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.2
  * @since 5.0
  */
 final class SampleList<T>
@@ -45,20 +59,42 @@ final class SampleList<T>
 {
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * The maximal number of result values stored in the subtree cache. The
+	 * cache is disabled for sample sets with more sample points.
+	 */
+	private static final int MAX_CACHED_VALUES = 1 << 20;
+
 	private final List<Sample<T>> _samples;
 
 	private final Class<T> _type;
 	private final T[][] _arguments;
 	private final T[] _results;
 
-	@SuppressWarnings("unchecked")
+	private final transient SubtreeCache<T> _cache;
+
 	SampleList(final List<Sample<T>> samples) {
+		this(
+			samples,
+			samples.stream()
+				.map(SampleList::args)
+				.collect(Collectors.toList())
+		);
+	}
+
+	/**
+	 * Create a new sample list with the already extracted sample
+	 * {@code arguments}, as returned by the {@link #args(Sample)} method.
+	 *
+	 * @param samples the sample points
+	 * @param arguments the argument arrays of the sample points
+	 */
+	@SuppressWarnings("unchecked")
+	SampleList(final List<Sample<T>> samples, final List<T[]> arguments) {
 		if (samples.isEmpty()) {
 			throw new IllegalArgumentException("Sample list must not be empty.");
 		}
 
-		_type = (Class<T>)samples.get(0).argAt(0).getClass();
-
 		final int arity = samples.get(0).arity();
 		if (arity == 0) {
 			throw new IllegalArgumentException(
@@ -66,8 +102,10 @@ final class SampleList<T>
 			);
 		}
 
+		_type = (Class<T>)samples.get(0).argAt(0).getClass();
+
 		for (int i = 0; i < samples.size(); ++i) {
-			final Sample<T> sample = samples.get(0);
+			final Sample<T> sample = samples.get(i);
 			if (arity != sample.arity()) {
 				throw new IllegalArgumentException(format(
 					"Expected arity %d, but got %d for sample index %d.",
@@ -78,16 +116,32 @@ final class SampleList<T>
 
 		_samples = samples;
 
-		_arguments = samples.stream()
-			.map(s -> args(_type, s))
+		_arguments = arguments
 			.toArray(size -> (T[][])Array.newInstance(_type, size, 0));
 
 		_results = _samples.stream()
 			.map(Sample::result)
 			.toArray(size -> (T[])Array.newInstance(_type, size));
+
+		_cache = new SubtreeCache<>(MAX_CACHED_VALUES/_samples.size());
 	}
 
-	private static <T> T[] args(final Class<T> type, final Sample<T> sample) {
+	/**
+	 * Return the arguments of the given {@code sample} point as array.
+	 *
+	 * @param sample the sample point
+	 * @param <T> the sample type
+	 * @return the arguments of the given sample point
+	 * @throws IllegalArgumentException if the arity of the given sample point
+	 *         is zero
+	 */
+	static <T> T[] args(final Sample<T> sample) {
+		if (sample.arity() == 0) {
+			throw new IllegalArgumentException(
+				"The arity of the sample point must not be zero."
+			);
+		}
+
 		@SuppressWarnings("unchecked")
 		final T[] args = (T[])Array
 			.newInstance(sample.argAt(0).getClass(), sample.arity());
@@ -100,12 +154,124 @@ final class SampleList<T>
 
 	@Override
 	public Result<T> eval(final Tree<? extends Op<T>, ?> program) {
-		@SuppressWarnings("unchecked")
-		final T[] calculated = Stream.of(_arguments)
-			.map(args -> Program.eval(program, args))
-			.toArray(size -> (T[])Array.newInstance(_type, size));
+		final ProgramDag<T> dag = ProgramDag.of(program);
+		final Object[] values = new Object[dag.size()];
+
+		// Number of not yet evaluated parents of every DAG node.
+		final int[] parents = new int[dag.size()];
+		for (int i = 0; i < dag.size(); ++i) {
+			for (int child : dag.children(i)) {
+				++parents[child];
+			}
+		}
+
+		return Result.of(eval(dag, dag.root(), values, parents), _results);
+	}
+
+	/*
+	 * Evaluates the DAG node with the given index for all samples. Every DAG
+	 * node is evaluated only once. The result vector of a node is dropped as
+	 * soon as all its parents are evaluated, which keeps only the vectors
+	 * along the current evaluation path alive. The returned array must not be
+	 * changed, since it may be cached.
+	 */
+	@SuppressWarnings("unchecked")
+	private T[] eval(
+		final ProgramDag<T> dag,
+		final int index,
+		final Object[] values,
+		final int[] parents
+	) {
+		if (values[index] != null) {
+			return (T[])values[index];
+		}
+
+		final Op<T> op = dag.op(index);
+		final T[] result;
+		if (op.isTerminal()) {
+			result = terminal(op);
+		} else {
+			final T[] cached = _cache.get(dag.key(index));
+			if (cached != null) {
+				result = cached;
+			} else {
+				final int[] indexes = dag.children(index);
+				final T[][] children = (T[][])Array
+					.newInstance(_type, indexes.length, 0);
+				for (int i = 0; i < indexes.length; ++i) {
+					children[i] = eval(dag, indexes[i], values, parents);
+				}
+
+				result = apply(op, children);
+				_cache.put(dag.key(index), result);
+			}
+			release(dag, dag.children(index), values, parents);
+		}
+
+		values[index] = result;
+		return result;
+	}
+
+	/*
+	 * Releases the given children of an evaluated DAG node. Children without
+	 * remaining parents are dropped. If such a child hasn't been evaluated,
+	 * because its parent was cached, its own children are released as well.
+	 */
+	private static void release(
+		final ProgramDag<?> dag,
+		final int[] children,
+		final Object[] values,
+		final int[] parents
+	) {
+		for (int child : children) {
+			if (--parents[child] == 0) {
+				if (values[child] == null) {
+					release(dag, dag.children(child), values, parents);
+				}
+				values[child] = null;
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private T[] apply(final Op<T> op, final T[][] children) {
+		final T[] values = (T[])Array.newInstance(_type, _arguments.length);
+		Chunks.forEach(values.length, (from, to) -> {
+			final T[] args = (T[])Array.newInstance(_type, children.length);
+			for (int i = from; i < to; ++i) {
+				for (int j = 0; j < args.length; ++j) {
+					args[j] = children[j][i];
+				}
+				values[i] = op.apply(args);
+			}
+		});
+
+		return values;
+	}
+
+	@SuppressWarnings("unchecked")
+	private T[] terminal(final Op<T> op) {
+		if (op instanceof Var && ((Var<T>)op).index() >= _arguments[0].length) {
+			throw new IllegalArgumentException(format(
+				"No value for variable '%s' given.", op
+			));
+		}
+
+		final T[] values = (T[])Array.newInstance(_type, _arguments.length);
+		Chunks.forEach(values.length, (from, to) -> {
+			for (int i = from; i < to; ++i) {
+				values[i] = op.apply(_arguments[i]);
+			}
+		});
+		return values;
+	}
+
+	int cacheSize() {
+		return _cache.size();
+	}
 
-		return Result.of(calculated, _results);
+	private Object readResolve() {
+		return new SampleList<>(_samples);
 	}
 
 	@Override
@@ -0,0 +1,115 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.jenetics.prog.op.Var;
+
+/**
+ * Bounded, least recently used cache of the result vectors of evaluated
+ * (sub-)programs. The cached values are the results of a program subtree for
+ * every sample point of a fixed sample set. A cache instance must therefore
+ * only be used for one sample set. A cache with zero capacity doesn't store
+ * any values.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+final class SubtreeCache<T> {
+
+	private final int _capacity;
+	private final Map<Key, T[]> _values;
+
+	SubtreeCache(final int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException(
+				"Cache capacity must not be negative: " + capacity
+			);
+		}
+
+		_capacity = capacity;
+		_values = new LinkedHashMap<>(16, 0.75F, true) {
+			private static final long serialVersionUID = 1L;
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<Key, T[]> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	synchronized T[] get(final Key key) {
+		return _values.get(key);
+	}
+
+	synchronized void put(final Key key, final T[] values) {
+		if (_capacity > 0) {
+			_values.put(key, values);
+		}
+	}
+
+	synchronized int size() {
+		return _values.size();
+	}
+
+	/**
+	 * Return the cache token of the given operation. Variables are represented
+	 * by their index, since the evaluated values only depend on the index and
+	 * not on the variable name.
+	 *
+	 * @param op the operation
+	 * @return the cache token of the given operation
+	 */
+	static Object token(final Object op) {
+		return op instanceof Var ? ((Var<?>)op).index() : op;
+	}
+
+	/**
+	 * The structural key of a program subtree: the tokens of the subtree nodes
+	 * in pre-order. Since the arity of every node is defined by its operation,
+	 * the pre-order sequence uniquely identifies the subtree structure.
+	 */
+	static final class Key {
+		private final Object[] _tokens;
+		private final int _hash;
+
+		Key(final Object[] tokens, final int from, final int to) {
+			_tokens = Arrays.copyOfRange(tokens, from, to);
+			_hash = Arrays.hashCode(_tokens);
+		}
+
+		@Override
+		public int hashCode() {
+			return _hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj == this ||
+				obj instanceof Key &&
+				((Key)obj)._hash == _hash &&
+				Arrays.equals(((Key)obj)._tokens, _tokens);
+		}
+	}
+
+}
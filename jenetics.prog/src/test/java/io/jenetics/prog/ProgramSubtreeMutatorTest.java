@@ -0,0 +1,112 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog;
+
+import static io.jenetics.prog.ProgramChromosomeTest.OPERATIONS;
+import static io.jenetics.prog.ProgramChromosomeTest.TERMINALS;
+
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.AltererResult;
+import io.jenetics.Chromosome;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.TreeNode;
+
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Program;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class ProgramSubtreeMutatorTest {
+
+	@Test
+	public void alter() {
+		final var mutator = new ProgramSubtreeMutator<Double, Double>(2, 1.0);
+
+		final ISeq<Phenotype<ProgramGene<Double>, Double>> population =
+			IntStream.range(0, 100)
+				.mapToObj(i -> Phenotype.<ProgramGene<Double>, Double>of(
+					Genotype.of(ProgramChromosome.of(5, OPERATIONS, TERMINALS)), 1))
+				.collect(ISeq.toISeq());
+
+		final AltererResult<ProgramGene<Double>, Double> result =
+			mutator.alter(population, 1);
+		Assert.assertEquals(result.alterations(), population.size());
+
+		for (Phenotype<ProgramGene<Double>, Double> pt : result.population()) {
+			final Chromosome<ProgramGene<Double>> chromosome =
+				pt.genotype().chromosome();
+			Assert.assertTrue(chromosome instanceof ProgramChromosome);
+
+			final ProgramGene<Double> root = chromosome.gene();
+			final TreeNode<Op<Double>> tree = TreeNode.ofTree(root);
+			Program.check(tree);
+
+			Assert.assertEquals(
+				root.eval(1.0, 2.0, 3.0),
+				Program.eval(tree, 1.0, 2.0, 3.0)
+			);
+		}
+	}
+
+	@Test
+	public void alterWithLimits() {
+		final var mutator =
+			new ProgramSubtreeMutator<Double, Double>(3, 1.0, 100, 5);
+		Assert.assertEquals(mutator.maxSize(), 100);
+		Assert.assertEquals(mutator.maxDepth(), 5);
+
+		final ISeq<Phenotype<ProgramGene<Double>, Double>> population =
+			IntStream.range(0, 100)
+				.mapToObj(i -> Phenotype.<ProgramGene<Double>, Double>of(
+					Genotype.of(ProgramChromosome.of(5, OPERATIONS, TERMINALS)), 1))
+				.collect(ISeq.toISeq());
+
+		final AltererResult<ProgramGene<Double>, Double> result =
+			mutator.alter(population, 1);
+
+		for (Phenotype<ProgramGene<Double>, Double> pt : result.population()) {
+			final TreeNode<Op<Double>> tree =
+				TreeNode.ofTree(pt.genotype().chromosome().gene());
+			Program.check(tree);
+
+			Assert.assertTrue(tree.size() <= 100, "Size: " + tree.size());
+			Assert.assertTrue(tree.depth() <= 5, "Depth: " + tree.depth());
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidMaxSize() {
+		new ProgramSubtreeMutator<Double, Double>(3, 1.0, 0, 5);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void negativeDepth() {
+		new ProgramSubtreeMutator<Double, Double>(-1);
+	}
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.Tree;
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class ConstFolderTest {
+
+	@Test(dataProvider = "expressions")
+	public void rewrite(final String expr, final double value) {
+		final TreeNode<Op<Double>> tree = MathExpr.parse(expr).toTree();
+		ConstFolder.DOUBLE.rewrite(tree);
+
+		Assert.assertEquals(tree.value(), Const.of(value));
+	}
+
+	@DataProvider
+	public Object[][] expressions() {
+		return new Object[][] {
+			{"1+2+3+4", 10.0},
+			{"1+2*(6+7)", 27.0},
+			{"sin(0)", 0.0},
+			{"cos(0)", 1.0},
+			{"cos(0) + sin(0)", 1.0},
+			{"cos(0)*sin(0)", 0.0}
+		};
+	}
+
+	@Test
+	public void partialFolding() {
+		final TreeNode<Op<Double>> tree =
+			MathExpr.parse("x*(2 + 3) + sin(y - 1*4)").toTree();
+
+		Assert.assertEquals(ConstFolder.DOUBLE.rewrite(tree), 2);
+		Assert.assertEquals(
+			tree,
+			MathExpr.parse("x*5.0 + sin(y - 4.0)").toTree()
+		);
+	}
+
+	@Test
+	public void rewriteLimit() {
+		final TreeNode<Op<Double>> tree = MathExpr.parse("1+2+3+4").toTree();
+		Assert.assertEquals(ConstFolder.DOUBLE.rewrite(tree, 2), 2);
+		Assert.assertEquals(tree, MathExpr.parse("6.0 + 4").toTree());
+	}
+
+	@Test
+	public void ephemeralConst() {
+		final TreeNode<Op<Double>> tree = MathExpr.parse("1+2+3")
+			.toTree()
+			.map(n -> n instanceof Const
+				? EphemeralConst.of(((Const<Double>) n)::value)
+				: n);
+
+		ConstFolder.DOUBLE.rewrite(tree);
+		Assert.assertEquals(tree.value(), Const.of(6.0));
+	}
+
+	@Test
+	public void constStringExpr() {
+		final Op<String> concat = Op.of("++", String::concat);
+		final TreeNode<Op<String>> ops = TreeNode.of(concat);
+		ops.attach(Const.of("a"), Const.of("b"));
+
+		ConstFolder.ofType(String.class).rewrite(ops);
+		Assert.assertEquals(ops.value(), Const.of("ab"));
+	}
+
+	@Test
+	public void foldUnchanged() {
+		final TreeNode<Op<Double>> tree = MathExpr.parse("x*y + sin(x)").toTree();
+		Assert.assertSame(ConstFolder.fold(tree), tree);
+	}
+
+	@Test
+	public void foldRandomPrograms() {
+		final ISeq<Op<Double>> operations = ISeq.of(
+			MathOp.ADD, MathOp.SUB, MathOp.MUL, MathOp.SIN, MathOp.COS
+		);
+		final ISeq<Op<Double>> terminals = ISeq.of(
+			Var.of("x", 0), Const.of(1.0), Const.of(2.0), Const.of(Math.PI)
+		);
+
+		final Random random = new Random(123);
+		for (int i = 0; i < 100; ++i) {
+			final TreeNode<Op<Double>> program =
+				Program.of(6, operations, terminals, random);
+			final TreeNode<Op<Double>> copy = TreeNode.ofTree(program);
+
+			final Tree<? extends Op<Double>, ?> folded = ConstFolder.fold(program);
+			Assert.assertEquals(program, copy);
+
+			final TreeNode<Op<Double>> rewritten = TreeNode.ofTree(program);
+			ConstRewriter.DOUBLE.rewrite(rewritten);
+			Assert.assertEquals(TreeNode.ofTree(folded), rewritten);
+
+			for (double x = -2; x < 2; x += 0.25) {
+				Assert.assertEquals(
+					Program.eval(folded, x),
+					Program.eval(program, x)
+				);
+			}
+		}
+	}
+
+}
@@ -98,6 +98,78 @@ public class MathExprTest {
 		MathExpr.parse("xy**g");
 	}
 
+	@DataProvider
+	public Object[][] invalidExpressions() {
+		return new Object[][] {
+			{""}, {"  "}, {"("}, {"(x"}, {"x)"}, {"max(x,"}, {"2x"},
+			{"_x"}, {"x ? y"}, {"sin()"}, {"x y"}, {"(x, y)"}, {"sin(x, y)"}
+		};
+	}
+
+	@Test(
+		dataProvider = "invalidExpressions",
+		expectedExceptions = IllegalArgumentException.class
+	)
+	public void parseInvalid(final String expression) {
+		MathExpr.parse(expression);
+	}
+
+	@DataProvider
+	public Object[][] parseErrorMessages() {
+		return new Object[][] {
+			{"x~y", "Unexpected character in input: ~y"},
+			{"x + + $", "Unexpected character in input: $"},
+			{"1 + 2 ) $", "Unexpected character in input: $"},
+			{"xy**g", "Unexpected symbol ['*', 3] found."},
+			{"  x ++ ", "Unexpected symbol ['+', 3] found."},
+			{"(x + ", "Unexpected end of input."}
+		};
+	}
+
+	@Test(dataProvider = "parseErrorMessages")
+	public void parseErrorMessage(final String expression, final String message) {
+		try {
+			MathExpr.parse(expression);
+			Assert.fail("Expected IllegalArgumentException.");
+		} catch (IllegalArgumentException e) {
+			Assert.assertEquals(e.getMessage(), message);
+		}
+	}
+
+	@Test
+	public void parseFunctionArguments() {
+		final MathExpr expr = MathExpr.parse("max(hypot(z, 3), min(x, -y))");
+		Assert.assertEquals(
+			expr.toTree().toParenthesesString(),
+			"max(hypot(z,3.0),min(x,neg(y)))"
+		);
+		Assert.assertEquals(expr.vars().map(Var::name), ISeq.of("x", "y", "z"));
+		Assert.assertEquals(expr.eval(1, 2, 4), 5.0);
+	}
+
+	@Test
+	public void parseVariableIndexes() {
+		final Tree<? extends Op<Double>, ?> tree =
+			MathExpr.parseTree("zz*b + a_1 - b/zz + PI*π");
+
+		final ISeq<String> vars = tree.stream()
+			.map(Tree::value)
+			.filter(Var.class::isInstance)
+			.map(op -> op.name() + "=" + ((Var<?>)op).index())
+			.distinct()
+			.collect(ISeq.toISeq());
+		Assert.assertEquals(vars, ISeq.of("a_1=0", "b=1", "zz=2"));
+	}
+
+	@Test(dataProvider = "ast")
+	public void parseFormatted(final Tree<? extends Op<Double>, ?> tree) {
+		final String expression = MathExpr.format(tree);
+		Assert.assertEquals(
+			MathExpr.parse(expression).toString(),
+			expression
+		);
+	}
+
 	@Test(expectedExceptions = IllegalArgumentException.class)
 	public void evalError1() {
 		MathExpr.eval("x+y");
@@ -0,0 +1,130 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.sqrt;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class AdditiveLossFunctionTest {
+
+	@Test(dataProvider = "sizes")
+	public void mse(final Integer size) {
+		final Double[] expected = values(size, 1);
+		final Double[] calculated = values(size, 2);
+
+		double sum = 0;
+		for (int i = 0; i < size; ++i) {
+			sum += (expected[i] - calculated[i])*(expected[i] - calculated[i]);
+		}
+
+		final double mse = AdditiveLossFunction.mse().apply(calculated, expected);
+		Assert.assertEquals(mse, sum/size, 1.0E-12);
+		Assert.assertEquals(LossFunction.mse(calculated, expected), mse);
+		Assert.assertEquals(
+			AdditiveLossFunction.rmse().apply(calculated, expected),
+			sqrt(mse)
+		);
+	}
+
+	@Test(dataProvider = "sizes")
+	public void mae(final Integer size) {
+		final Double[] expected = values(size, 3);
+		final Double[] calculated = values(size, 4);
+
+		double sum = 0;
+		for (int i = 0; i < size; ++i) {
+			sum += abs(expected[i] - calculated[i]);
+		}
+
+		final double mae = AdditiveLossFunction.mae().apply(calculated, expected);
+		Assert.assertEquals(mae, sum/size, 1.0E-12);
+		Assert.assertEquals(LossFunction.mae(calculated, expected), mae);
+	}
+
+	@DataProvider(name = "sizes")
+	public Object[][] sizes() {
+		return new Object[][] {
+			{1}, {100}, {100_000}, {1_000_003}
+		};
+	}
+
+	@Test
+	public void deterministic() throws Exception {
+		final Double[] expected = values(500_000, 5);
+		final Double[] calculated = values(500_000, 6);
+		final AdditiveLossFunction<Double> loss = AdditiveLossFunction.mse();
+
+		final double serial = new ForkJoinPool(1)
+			.submit(() -> loss.apply(calculated, expected))
+			.get();
+
+		final double[] parallel = IntStream.range(0, 20).parallel()
+			.mapToDouble(i -> loss.apply(calculated, expected))
+			.toArray();
+
+		for (double value : parallel) {
+			Assert.assertEquals(value, serial);
+		}
+	}
+
+	@Test
+	public void of() {
+		final AdditiveLossFunction<Double> sae = AdditiveLossFunction.of(
+			(c, e) -> abs(e - c),
+			(sum, count) -> sum
+		);
+
+		Assert.assertEquals(
+			sae.apply(new Double[]{1.0, 2.0}, new Double[]{2.0, 4.0}),
+			3.0
+		);
+	}
+
+	@Test
+	public void constants() {
+		Assert.assertSame(AdditiveLossFunction.mse(), AdditiveLossFunction.mse());
+		Assert.assertSame(AdditiveLossFunction.rmse(), AdditiveLossFunction.rmse());
+		Assert.assertSame(AdditiveLossFunction.mae(), AdditiveLossFunction.mae());
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void differentLength() {
+		AdditiveLossFunction.mse().apply(new Double[2], new Double[3]);
+	}
+
+	private static Double[] values(final int size, final long seed) {
+		final Random random = new Random(seed);
+		return random.doubles(size)
+			.boxed()
+			.toArray(Double[]::new);
+	}
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import io.jenetics.ext.util.TreeNode;
+
+import io.jenetics.prog.op.MathExpr;
+import io.jenetics.prog.op.Op;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class MappedSamplingTest {
+
+	private static final int SIZE = 10_000;
+
+	private final TreeNode<Op<Double>> _program =
+		MathExpr.parse("sin(x*y) + 2.0*x - y").toTree();
+
+	private Path _dir;
+	private double[] _x;
+	private double[] _y;
+	private double[] _f;
+
+	@BeforeClass
+	public void setup() throws IOException {
+		_dir = Files.createTempDirectory("MappedSamplingTest");
+
+		final Random random = new Random(123);
+		_x = random.doubles(SIZE).toArray();
+		_y = random.doubles(SIZE).toArray();
+		_f = random.doubles(SIZE).toArray();
+
+		for (ByteOrder order : List.of(ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN)) {
+			write(_dir.resolve("x-" + order), _x, order);
+			write(_dir.resolve("y-" + order), _y, order);
+			write(_dir.resolve("f-" + order), _f, order);
+		}
+		write(_dir.resolve("short"), new double[SIZE - 1], ByteOrder.BIG_ENDIAN);
+	}
+
+	@AfterClass
+	public void cleanup() throws IOException {
+		try (var files = Files.list(_dir)) {
+			for (Path file : files.collect(Collectors.toList())) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(_dir);
+	}
+
+	private static void write(
+		final Path path,
+		final double[] values,
+		final ByteOrder order
+	)
+		throws IOException
+	{
+		final ByteBuffer buffer = ByteBuffer
+			.allocate(values.length*Double.BYTES)
+			.order(order);
+		buffer.asDoubleBuffer().put(values);
+		Files.write(path, buffer.array());
+	}
+
+	private MappedSampling sampling(final ByteOrder order) throws IOException {
+		return MappedSampling.of(
+			List.of(_dir.resolve("x-" + order), _dir.resolve("y-" + order)),
+			_dir.resolve("f-" + order),
+			order
+		);
+	}
+
+	private SampleList<Double> samples() {
+		return IntStream.range(0, SIZE)
+			.mapToObj(i -> Sample.ofDouble(_x[i], _y[i], _f[i]))
+			.collect(Collectors.collectingAndThen(
+				Collectors.toList(),
+				SampleList::new
+			));
+	}
+
+	@Test
+	public void eval() throws IOException {
+		final Sampling.Result<Double> expected = samples().eval(_program);
+
+		for (ByteOrder order : List.of(ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN)) {
+			final MappedSampling sampling = sampling(order);
+			Assert.assertEquals(sampling.size(), SIZE);
+			Assert.assertEquals(sampling.arity(), 2);
+
+			final Sampling.Result<Double> result = sampling.eval(_program);
+			Assert.assertEquals(result.calculated(), expected.calculated());
+			Assert.assertEquals(result.expected(), expected.expected());
+		}
+	}
+
+	@Test
+	public void error() throws IOException {
+		final Sampling.Result<Double> result = samples().eval(_program);
+		final MappedSampling sampling = sampling(ByteOrder.BIG_ENDIAN);
+
+		for (AdditiveLossFunction<Double> loss : List.of(
+			AdditiveLossFunction.mse(),
+			AdditiveLossFunction.rmse(),
+			AdditiveLossFunction.mae()))
+		{
+			Assert.assertEquals(
+				sampling.error(_program, loss),
+				loss.apply(result.calculated(), result.expected()),
+				1.0E-12
+			);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void differentColumnSizes() throws IOException {
+		MappedSampling.of(
+			List.of(_dir.resolve("x-" + ByteOrder.BIG_ENDIAN)),
+			_dir.resolve("short")
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void missingVariable() throws IOException {
+		sampling(ByteOrder.BIG_ENDIAN).error(
+			MathExpr.parse("x + y + z").toTree(),
+			AdditiveLossFunction.mse()
+		);
+	}
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.ext.util.TreeNode;
+
+import io.jenetics.prog.op.MathExpr;
+import io.jenetics.prog.op.Op;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class ProgramDagTest {
+
+	@Test
+	public void commonSubexpressions() {
+		final TreeNode<Op<Double>> tree =
+			MathExpr.parse("sin(x*y) + sin(x*y)*(x*y)").toTree();
+		final ProgramDag<Double> dag = ProgramDag.of(tree);
+
+		// x, y, x*y, sin(x*y), sin(x*y)*(x*y), root
+		Assert.assertEquals(dag.size(), 6);
+		Assert.assertEquals(dag.op(dag.root()), tree.value());
+
+		for (int i = 0; i < dag.size(); ++i) {
+			Assert.assertEquals(dag.children(i).length, dag.op(i).arity());
+			for (int child : dag.children(i)) {
+				Assert.assertTrue(child < i);
+			}
+		}
+	}
+
+	@Test
+	public void noCommonSubexpressions() {
+		final TreeNode<Op<Double>> tree =
+			MathExpr.parse("sin(x*y) + cos(x - 3.0)").toTree();
+		final ProgramDag<Double> dag = ProgramDag.of(tree);
+
+		// The variables x and y are shared terminal nodes.
+		Assert.assertEquals(dag.size(), tree.size() - 1);
+	}
+
+}
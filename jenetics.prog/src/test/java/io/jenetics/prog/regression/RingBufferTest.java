@@ -19,6 +19,8 @@
  */
 package io.jenetics.prog.regression;
 
+import java.util.Arrays;
+
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -47,6 +49,56 @@ public class RingBufferTest {
 		}
 	}
 
+	@Test
+	public void unchangedSnapshot() {
+		final RingBuffer ints = new RingBuffer(10);
+		ints.add(1);
+		ints.add(2);
+
+		final Object[] snapshot = ints.snapshot();
+		Assert.assertSame(ints.snapshot(), snapshot);
+
+		ints.add(3);
+		Assert.assertNotSame(ints.snapshot(), snapshot);
+		Assert.assertEquals(ints.snapshot(), new Object[]{1, 2, 3});
+	}
+
+	@Test
+	public void concurrentAdd() throws InterruptedException {
+		final int producers = 4;
+		final int count = 10_000;
+		final RingBuffer buffer = new RingBuffer(producers*count);
+
+		final Thread[] threads = new Thread[producers];
+		for (int i = 0; i < producers; ++i) {
+			final int producer = i;
+			threads[i] = new Thread(() -> {
+				for (int j = 0; j < count; ++j) {
+					buffer.add(producer*count + j);
+				}
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		Assert.assertEquals(buffer.sequence(), producers*count);
+
+		final Object[] snapshot = buffer.snapshot();
+		Assert.assertEquals(snapshot.length, producers*count);
+
+		// The elements of every single producer are in insertion order.
+		final int[] last = new int[producers];
+		Arrays.fill(last, -1);
+		for (Object value : snapshot) {
+			final int element = (Integer)value;
+			final int producer = element/count;
+			Assert.assertTrue(element > last[producer]);
+			last[producer] = element;
+		}
+	}
+
 	@DataProvider
 	public Object[][] maxSizes() {
 		return new Object[][] {
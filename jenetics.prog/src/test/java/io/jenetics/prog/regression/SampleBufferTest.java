@@ -25,6 +25,8 @@ import java.util.stream.Collectors;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import io.jenetics.prog.op.MathExpr;
+
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  */
@@ -40,6 +42,27 @@ public class SampleBufferTest {
 		Assert.assertEquals(buffer.samples(), List.of());
 	}
 
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void addZeroArity() {
+		final SampleBuffer<Double> buffer = new SampleBuffer<>(10);
+		buffer.add(new Sample<>() {
+			@Override
+			public int arity() {
+				return 0;
+			}
+
+			@Override
+			public Double argAt(final int index) {
+				throw new IndexOutOfBoundsException(index);
+			}
+
+			@Override
+			public Double result() {
+				return 1.0;
+			}
+		});
+	}
+
 	@Test
 	public void publish() {
 		final SampleBuffer<Double> buffer = new SampleBuffer<>(33);
@@ -56,4 +79,33 @@ public class SampleBufferTest {
 		);
 	}
 
+	@Test
+	public void republish() {
+		final SampleBuffer<Double> buffer = new SampleBuffer<>(5);
+		Assert.assertEquals(buffer.publish(), 0);
+		Assert.assertNull(buffer.eval(MathExpr.parse("x").toTree()));
+
+		for (int i = 0; i < 10; ++i) {
+			buffer.add(Sample.ofDouble(i, 2*i));
+		}
+		Assert.assertEquals(buffer.publish(), 5);
+
+		final List<Sample<Double>> samples = buffer.samples();
+		Assert.assertEquals(buffer.publish(), 5);
+		Assert.assertSame(buffer.samples(), samples);
+
+		buffer.add(Sample.ofDouble(10, 20));
+		Assert.assertEquals(buffer.publish(), 5);
+		Assert.assertEquals(
+			buffer.samples().stream()
+				.map(p -> p.argAt(0).intValue())
+				.collect(Collectors.toList()),
+			List.of(6, 7, 8, 9, 10)
+		);
+		Assert.assertEquals(
+			buffer.eval(MathExpr.parse("2*x").toTree()).calculated(),
+			new Double[]{12.0, 14.0, 16.0, 18.0, 20.0}
+		);
+	}
+
 }
@@ -20,11 +20,23 @@
 package io.jenetics.prog.regression;
 
 import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.TreeNode;
+
+import io.jenetics.prog.op.Const;
 import io.jenetics.prog.op.MathExpr;
+import io.jenetics.prog.op.MathOp;
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Program;
+import io.jenetics.prog.op.Var;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -47,4 +59,135 @@ public class SampleListTest {
 		}
 	}
 
+	@Test
+	public void evalRandomPrograms() {
+		final ISeq<Op<Double>> operations = ISeq.of(
+			MathOp.ADD, MathOp.SUB, MathOp.MUL, MathOp.SIN, MathOp.COS
+		);
+		final ISeq<Op<Double>> terminals = ISeq.of(
+			Var.of("x", 0), Var.of("y", 1), Const.of(1.0), Const.of(Math.PI)
+		);
+
+		final Random random = new Random(123);
+		final SampleList<Double> samples = samples(random, 50);
+
+		for (int i = 0; i < 100; ++i) {
+			final TreeNode<Op<Double>> program =
+				Program.of(5, operations, terminals, random);
+
+			final Double[] calculated = samples.eval(program).calculated();
+			for (int j = 0; j < samples.size(); ++j) {
+				final Sample<Double> sample = samples.get(j);
+				Assert.assertEquals(
+					calculated[j],
+					Program.eval(program, sample.argAt(0), sample.argAt(1))
+				);
+			}
+
+			// Evaluating the same program twice must give the same result.
+			Assert.assertEquals(samples.eval(program).calculated(), calculated);
+		}
+	}
+
+	@Test
+	public void evalCachedSubtrees() {
+		final SampleList<Double> samples = samples(new Random(123), 20);
+
+		final TreeNode<Op<Double>> program =
+			MathExpr.parse("sin(x*y + 3.0) - cos(x - y)*2.0").toTree();
+		samples.eval(program);
+		final int cached = samples.cacheSize();
+		Assert.assertEquals(cached, program.size() - program.leafCount());
+
+		// Altering a leaf of the program only adds the path from the altered
+		// leaf to the root to the cache.
+		final TreeNode<Op<Double>> altered =
+			MathExpr.parse("sin(x*y + 3.0) - cos(x - y)*4.0").toTree();
+		final Double[] calculated = samples.eval(altered).calculated();
+		Assert.assertEquals(samples.cacheSize(), cached + 2);
+
+		for (int i = 0; i < samples.size(); ++i) {
+			final Sample<Double> sample = samples.get(i);
+			Assert.assertEquals(
+				calculated[i],
+				Program.eval(altered, sample.argAt(0), sample.argAt(1))
+			);
+		}
+	}
+
+	@Test
+	public void evalSharedSubtreesOfCachedParents() {
+		final SampleList<Double> samples = samples(new Random(123), 20);
+		samples.eval(MathExpr.parse("sin(x*y) + z").toTree());
+
+		// The cached "sin(x*y)" node shares the "x*y" child with an uncached
+		// parent, which must still see the evaluated child values.
+		final TreeNode<Op<Double>> program =
+			MathExpr.parse("sin(x*y) - cos(x*y)*(x*y)").toTree();
+		final Double[] calculated = samples.eval(program).calculated();
+
+		for (int i = 0; i < samples.size(); ++i) {
+			final Sample<Double> sample = samples.get(i);
+			Assert.assertEquals(
+				calculated[i],
+				Program.eval(program, sample.argAt(0), sample.argAt(1))
+			);
+		}
+	}
+
+	@Test
+	public void disabledCache() {
+		final SubtreeCache<Double> cache = new SubtreeCache<>(0);
+		final SubtreeCache.Key key =
+			new SubtreeCache.Key(new Object[]{"x"}, 0, 1);
+
+		cache.put(key, new Double[]{1.0, 2.0});
+		Assert.assertNull(cache.get(key));
+		Assert.assertEquals(cache.size(), 0);
+	}
+
+	@Test
+	public void evalLargeSampleSet() {
+		final SampleList<Double> samples = samples(new Random(123), 200_000);
+		final TreeNode<Op<Double>> program =
+			MathExpr.parse("sin(x*y + 3.0) - cos(x - y)*2.0 + z").toTree();
+
+		final var result = samples.eval(program);
+		for (int i = 0; i < samples.size(); ++i) {
+			final Sample<Double> sample = samples.get(i);
+			Assert.assertEquals(
+				result.calculated()[i],
+				Program.eval(
+					program,
+					sample.argAt(0), sample.argAt(1), sample.argAt(2)
+				)
+			);
+		}
+
+		// The total number of cached values is bounded.
+		Assert.assertEquals(samples.cacheSize(), (1 << 20)/samples.size());
+
+		Assert.assertEquals(
+			LossFunction.mse(result.calculated(), result.expected()),
+			AdditiveLossFunction.mse()
+				.apply(result.calculated(), result.expected())
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void evalMissingVariable() {
+		samples(new Random(), 10).eval(MathExpr.parse("a + b + c + x + y").toTree());
+	}
+
+	private static SampleList<Double> samples(final Random random, final int n) {
+		return IntStream.range(0, n)
+			.mapToObj(i -> Sample.ofDouble(
+				random.nextDouble(), random.nextDouble(),
+				random.nextDouble(), random.nextDouble()))
+			.collect(Collectors.collectingAndThen(
+				Collectors.toList(),
+				SampleList::new
+			));
+	}
+
 }
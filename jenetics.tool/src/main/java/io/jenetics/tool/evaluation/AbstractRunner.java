@@ -23,6 +23,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.Console;
 import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
@@ -34,7 +36,7 @@ import io.jenetics.xml.stream.Writer;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.0
+ * @version 6.2
  * @since 3.5
  */
 public abstract class AbstractRunner<P> {
@@ -44,22 +46,51 @@ public abstract class AbstractRunner<P> {
 	private final Reader<P> _reader;
 	private final int _sampleCount;
 	private final Path _resultPath;
+	private final int _parallelism;
 
 	private volatile Thread _trialThread = null;
 	private final AtomicBoolean _stop = new AtomicBoolean(false);
 
+	/**
+	 * Create a new runner, which calculates up to {@code parallelism}
+	 * parameter points concurrently. Since the concurrently calculated points
+	 * compete for the CPU, measured execution times are only comparable for a
+	 * {@code parallelism} of one.
+	 *
+	 * @since 6.2
+	 *
+	 * @param trialMeter the factory of the trial meter
+	 * @param writer the writer of the parameter type
+	 * @param reader the reader of the parameter type
+	 * @param sampleCount the number of samples to calculate
+	 * @param resultPath the path of the result file
+	 * @param parallelism the number of concurrently calculated parameter
+	 *        points
+	 */
 	protected AbstractRunner(
 		final Supplier<TrialMeter<P>> trialMeter,
 		final Writer<P> writer,
 		final Reader<P> reader,
 		final int sampleCount,
-		final Path resultPath
+		final Path resultPath,
+		final int parallelism
 	) {
 		_trialMeter = requireNonNull(trialMeter);
 		_writer = requireNonNull(writer);
 		_reader = requireNonNull(reader);
 		_sampleCount = Requires.positive(sampleCount);
 		_resultPath = requireNonNull(resultPath);
+		_parallelism = Requires.positive(parallelism);
+	}
+
+	protected AbstractRunner(
+		final Supplier<TrialMeter<P>> trialMeter,
+		final Writer<P> writer,
+		final Reader<P> reader,
+		final int sampleCount,
+		final Path resultPath
+	) {
+		this(trialMeter, writer, reader, sampleCount, resultPath, 1);
 	}
 
 	protected abstract double[] fitness(final P param);
@@ -69,16 +100,29 @@ public abstract class AbstractRunner<P> {
 			throw new IllegalStateException("Trial thread already running.");
 		}
 
+		final ExecutorService executor = _parallelism > 1
+			? Executors.newFixedThreadPool(_parallelism)
+			: null;
+
 		final Trial<P> trial = new Trial<>(
 			this::fitness,
 			_trialMeter,
 			_writer,
 			_reader,
 			count -> count >= _sampleCount || _stop.get(),
-			_resultPath
+			_resultPath,
+			executor != null ? executor : Runnable::run
 		);
 
-		_trialThread = new Thread(trial);
+		_trialThread = new Thread(() -> {
+			try {
+				trial.run();
+			} finally {
+				if (executor != null) {
+					executor.shutdownNow();
+				}
+			}
+		});
 		_trialThread.start();
 	}
 
@@ -37,7 +37,7 @@ import io.jenetics.xml.stream.Writer;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.0
+ * @version 6.2
  * @since 3.4
  */
 public class Runner<
@@ -58,9 +58,10 @@ public class Runner<
 		final Writer<P> writer,
 		final Reader<P> reader,
 		final int sampleCount,
-		final Path resultPath
+		final Path resultPath,
+		final int parallelism
 	) {
-		super(trialMeter, writer, reader, sampleCount, resultPath);
+		super(trialMeter, writer, reader, sampleCount, resultPath, parallelism);
 		_engine = requireNonNull(engine);
 		_terminator = requireNonNull(terminator);
 	}
@@ -105,7 +106,9 @@ public class Runner<
 				.orElse(50),
 			args.arg("result-file")
 				.map(f -> Paths.get(f))
-				.orElse(Paths.get("trial_meter.xml"))
+				.orElse(Paths.get("trial_meter.xml")),
+			args.intArg("parallelism")
+				.orElse(1)
 		);
 	}
 
@@ -37,7 +37,7 @@ import io.jenetics.xml.stream.Writer;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.0
+ * @version 6.2
  * @since 3.5
  */
 public class Runner2<
@@ -62,9 +62,10 @@ public class Runner2<
 		final Writer<P> writer,
 		final Reader<P> reader,
 		final int sampleCount,
-		final Path resultPath
+		final Path resultPath,
+		final int parallelism
 	) {
-		super(trialMeter, writer, reader, sampleCount, resultPath);
+		super(trialMeter, writer, reader, sampleCount, resultPath, parallelism);
 		_engine1 = requireNonNull(engine1);
 		_terminator1 = requireNonNull(terminator1);
 		_engine2 = requireNonNull(engine2);
@@ -130,7 +131,9 @@ public class Runner2<
 				.orElse(50),
 			args.arg("result-file")
 				.map(f -> Paths.get(f))
-				.orElse(Paths.get("trial_meter.xml"))
+				.orElse(Paths.get("trial_meter.xml")),
+			args.intArg("parallelism")
+				.orElse(1)
 		);
 	}
 }
@@ -36,7 +36,7 @@ import io.jenetics.xml.stream.Writer;
  * Collection of sample {@code Data} objects.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.0
+ * @version 6.2
  * @since 3.4
  */
 public final class DataSet implements Serializable {
@@ -75,6 +75,23 @@ public final class DataSet implements Serializable {
 		return indexes.get(0);
 	}
 
+	/**
+	 * Return the indexes of the parameters of the current sample, which are
+	 * not calculated yet.
+	 *
+	 * @return the indexes of the parameters, which are not calculated yet
+	 * @throws IllegalStateException if the data sets are in an inconsistent
+	 *         state
+	 */
+	public int[] nextParamIndexes() {
+		final ISeq<int[]> indexes = _sets.map(d -> d.currentSample().nextIndexes());
+		if (!indexes.forAll(i -> Arrays.equals(indexes.get(0), i))) {
+			throw new IllegalStateException("Inconsistent state.");
+		}
+
+		return indexes.get(0);
+	}
+
 	public int dataSize() {
 		return _sets.get(0).dataSize();
 	}
@@ -91,6 +108,27 @@ public final class DataSet implements Serializable {
 		}
 	}
 
+	/**
+	 * Set the values of the parameter with the given index of the current
+	 * sample.
+	 *
+	 * @param paramIndex the index of the calculated parameter
+	 * @param values the calculated values, one for every data set
+	 * @throws IllegalArgumentException if the number of values doesn't match
+	 *         the number of data sets, or the parameter values are already set
+	 */
+	public void set(final int paramIndex, final double[] values) {
+		if (values.length != _sets.length()) {
+			throw new IllegalArgumentException(format(
+				"Expected %d values, but got %d.", _sets.length(), values.length
+			));
+		}
+
+		for (int i = 0; i < values.length; ++i) {
+			_sets.get(i).currentSample().set(paramIndex, values[i]);
+		}
+	}
+
 	/**
 	 * Create a new {@code DataSet} object with the given number of parameters
 	 * and the data set names.
@@ -28,6 +28,7 @@ import java.io.Serializable;
 import java.util.Arrays;
 import java.util.stream.Collectors;
 import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import io.jenetics.xml.stream.Reader;
@@ -38,7 +39,7 @@ import io.jenetics.xml.stream.Writer;
  * class is <i>mutable</i> and <b>not</b> thread safe.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.0
+ * @version 6.2
  * @since 3.4
  */
 public final class Sample implements Serializable {
@@ -77,6 +78,41 @@ public final class Sample implements Serializable {
 		_values[nextIndex()] = value;
 	}
 
+	/**
+	 * Insert the given value at the given free <i>slot</i> (position). This
+	 * allows to insert the values in an arbitrary order.
+	 *
+	 * @param index the index of the free slot
+	 * @param value the value to insert
+	 * @throws IndexOutOfBoundsException if the given index is out of range
+	 * @throws IllegalArgumentException if the given value is not a number,
+	 *         or the slot at the given index is already occupied
+	 */
+	void set(final int index, final double value) {
+		if (Double.isNaN(value)) {
+			throw new IllegalArgumentException();
+		}
+		if (!Double.isNaN(_values[index])) {
+			throw new IllegalArgumentException(format(
+				"Slot %d is already occupied.", index
+			));
+		}
+
+		_values[index] = value;
+	}
+
+	/**
+	 * Return the indexes of all free {@code double} <i>slots</i>, in
+	 * ascending order.
+	 *
+	 * @return the indexes of all free {@code double} <i>slots</i>
+	 */
+	public int[] nextIndexes() {
+		return IntStream.range(0, _values.length)
+			.filter(i -> Double.isNaN(_values[i]))
+			.toArray();
+	}
+
 	/**
 	 * Return the index of the next free {@code double} <i>slot</i>. If all
 	 * <i>slots</i> are occupied, {@code -1} is returned.
@@ -20,12 +20,16 @@
 package io.jenetics.tool.trial;
 
 import static java.lang.String.format;
+import static java.nio.file.Files.deleteIfExists;
 import static java.nio.file.Files.exists;
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -35,7 +39,7 @@ import io.jenetics.xml.stream.Writer;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.0
+ * @version 6.2
  * @since 3.4
  */
 public class Trial<T> implements Runnable {
@@ -46,14 +50,35 @@ public class Trial<T> implements Runnable {
 	private final Reader<T> _reader;
 	private final Predicate<Integer> _stop;
 	private final Path _resultPath;
+	private final Executor _executor;
 
+	/**
+	 * Create a new trial, which calculates the parameter points with the
+	 * given {@code executor}. The calculated points are appended to a journal
+	 * file next to the result file, <em>{@code resultPath}.journal</em>, which
+	 * allows to resume an interrupted trial without recalculating the already
+	 * finished points.
+	 *
+	 * @since 6.2
+	 *
+	 * @param function the thread-safe test function
+	 * @param trialMeter the factory of the trial meter, if no result file
+	 *        exists
+	 * @param writer the writer of the parameter type
+	 * @param reader the reader of the parameter type
+	 * @param stop the stop predicate, which is tested with the current number
+	 *        of samples
+	 * @param resultPath the path of the result file
+	 * @param executor the executor used for calculating the parameter points
+	 */
 	public Trial(
 		final Function<T, double[]> function,
 		final Supplier<TrialMeter<T>> trialMeter,
 		final Writer<T> writer,
 		final Reader<T> reader,
 		final Predicate<Integer> stop,
-		final Path resultPath
+		final Path resultPath,
+		final Executor executor
 	) {
 		_function = requireNonNull(function);
 		_trialMeter = requireNonNull(trialMeter);
@@ -61,6 +86,18 @@ public class Trial<T> implements Runnable {
 		_reader = requireNonNull(reader);
 		_stop = requireNonNull(stop);
 		_resultPath = requireNonNull(resultPath);
+		_executor = requireNonNull(executor);
+	}
+
+	public Trial(
+		final Function<T, double[]> function,
+		final Supplier<TrialMeter<T>> trialMeter,
+		final Writer<T> writer,
+		final Reader<T> reader,
+		final Predicate<Integer> stop,
+		final Path resultPath
+	) {
+		this(function, trialMeter, writer, reader, stop, resultPath, Runnable::run);
 	}
 
 	@Override
@@ -77,17 +114,24 @@ public class Trial<T> implements Runnable {
 			info("Writing results to '%s'.", _resultPath.toAbsolutePath());
 		}
 
+		final Path journal = _resultPath
+			.resolveSibling(_resultPath.getFileName() + ".journal");
+
 		while (!_stop.test(trialMeter.dataSize()) &&
 			!Thread.currentThread().isInterrupted())
 		{
+			info(trialMeter.toString());
 			trialMeter.sample(param -> {
-				//trialMeter.write(_resultPath);
-				info(trialMeter.toString());
-
+				info("Sampling parameter %s.", param);
 				return _function.apply(param);
-			});
+			}, _executor, journal);
 
 			trialMeter.write(_resultPath, _writer);
+			try {
+				deleteIfExists(journal);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
 		}
 	}
 
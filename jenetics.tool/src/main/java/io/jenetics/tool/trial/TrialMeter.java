@@ -21,13 +21,23 @@ package io.jenetics.tool.trial;
 
 import static java.io.File.createTempFile;
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.Files.deleteIfExists;
+import static java.nio.file.Files.exists;
 import static java.nio.file.Files.move;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.concurrent.CompletableFuture.anyOf;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static io.jenetics.xml.stream.Writer.attr;
 import static io.jenetics.xml.stream.Writer.elem;
 
+import java.io.BufferedWriter;
+import java.io.Closeable;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -35,9 +45,21 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import javax.xml.stream.XMLStreamException;
 
@@ -51,7 +73,7 @@ import io.jenetics.xml.stream.XML;
  * Represents an function testing measurement environment.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.0
+ * @version 6.2
  * @since 3.4
  */
 public final class TrialMeter<T> {
@@ -149,6 +171,191 @@ public final class TrialMeter<T> {
 			.forEach(p -> _dataSet.add(function.apply(p)));
 	}
 
+	/**
+	 * Calculates the missing test values of the current sample concurrently,
+	 * using the given {@code executor}. Every calculated parameter point is
+	 * immediately appended to the given {@code journal} file. Calling this
+	 * method again with the same journal, e.g. after the sampling has been
+	 * interrupted, only calculates the parameter points, which are neither in
+	 * the current sample nor in the journal. The journal can be deleted after
+	 * the trial meter has been written with {@link #write(Path, Writer)}.
+	 * <p>
+	 * If the calling thread is interrupted, no further parameter points are
+	 * started and the method returns with the interrupted flag set. If the
+	 * calculation of a parameter point fails, no further points are started
+	 * either and the exception is rethrown.
+	 *
+	 * @since 6.2
+	 *
+	 * @param function the test function, which must be thread-safe
+	 * @param executor the executor used for calculating the parameter points
+	 * @param journal the append-only journal file of the calculated values
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws UncheckedIOException if reading or writing the journal fails
+	 */
+	public void sample(
+		final Function<T, double[]> function,
+		final Executor executor,
+		final Path journal
+	) {
+		requireNonNull(function);
+		requireNonNull(executor);
+
+		_dataSet.nextParamIndexes();
+		final int sample = _dataSet.dataSize();
+		replay(journal, sample);
+
+		try (Journal out = new Journal(journal, sample)) {
+			final int[] indexes = _dataSet.nextParamIndexes();
+
+			// The calculation tasks are kept for being cancelled, since
+			// cancelling a dependent stage doesn't cancel its source.
+			final List<CompletableFuture<double[]>> tasks = new ArrayList<>();
+			final List<CompletableFuture<?>> records = new ArrayList<>();
+			final CompletableFuture<Void> failure = new CompletableFuture<>();
+
+			for (int index : indexes) {
+				// A serial executor runs the points already while submitting.
+				if (Thread.currentThread().isInterrupted() || failure.isDone()) {
+					break;
+				}
+
+				final CompletableFuture<double[]> task = supplyAsync(
+					() -> function.apply(_params.values().get(index)),
+					executor
+				);
+
+				tasks.add(task);
+				records.add(task
+					.thenAccept(values -> out.record(index, values))
+					.whenComplete((r, e) -> {
+						if (e != null) {
+							failure.completeExceptionally(e);
+						}
+					}));
+			}
+
+			try {
+				anyOf(
+					allOf(records.toArray(CompletableFuture<?>[]::new)),
+					failure
+				).get();
+			} catch (InterruptedException e) {
+				tasks.forEach(task -> task.cancel(false));
+				Thread.currentThread().interrupt();
+			} catch (ExecutionException e) {
+				tasks.forEach(task -> task.cancel(false));
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException)e.getCause();
+				}
+				if (e.getCause() instanceof Error) {
+					throw (Error)e.getCause();
+				}
+				throw new IllegalStateException(e.getCause());
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	// Applies the journaled values of the current sample. Values of other
+	// samples are ignored. Only newline terminated records are complete; an
+	// incomplete last record, e.g. written during a crash, is removed from the
+	// journal, so that new records aren't appended to it.
+	private void replay(final Path journal, final int sample) {
+		if (!exists(journal)) {
+			return;
+		}
+
+		final Set<Integer> missing = IntStream.of(_dataSet.nextParamIndexes())
+			.boxed()
+			.collect(Collectors.toSet());
+
+		try {
+			records(journal)
+				.map(line -> line.trim().split("\\s+"))
+				.filter(line -> line.length == _dataSet.values().size() + 2)
+				.forEach(line -> {
+					try {
+						final int index = Integer.parseInt(line[1]);
+						final double[] values = Stream.of(line)
+							.skip(2)
+							.mapToDouble(Double::parseDouble)
+							.toArray();
+
+						if (Integer.parseInt(line[0]) == sample &&
+							missing.remove(index))
+						{
+							_dataSet.set(index, values);
+						}
+					} catch (NumberFormatException ignore) {
+					}
+				});
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	// Returns the complete records of the given journal and truncates the
+	// journal after the last complete one.
+	private static Stream<String> records(final Path journal)
+		throws IOException
+	{
+		final byte[] bytes = Files.readAllBytes(journal);
+
+		int length = bytes.length;
+		while (length > 0 && bytes[length - 1] != '\n') {
+			--length;
+		}
+		if (length < bytes.length) {
+			try (FileChannel channel = FileChannel.open(journal, WRITE)) {
+				channel.truncate(length);
+			}
+		}
+
+		return new String(bytes, 0, length, UTF_8).lines();
+	}
+
+	/**
+	 * Append-only journal of the calculated parameter points of one sample.
+	 * Every line contains the sample number, the parameter index and the
+	 * calculated values, separated by spaces. A record is only complete, if
+	 * it is terminated by a newline.
+	 */
+	private final class Journal implements Closeable {
+		private final BufferedWriter _out;
+		private final int _sample;
+		private boolean _closed = false;
+
+		Journal(final Path path, final int sample) throws IOException {
+			_out = Files.newBufferedWriter(path, UTF_8, CREATE, APPEND);
+			_sample = sample;
+		}
+
+		synchronized void record(final int index, final double[] values) {
+			if (_closed) {
+				return;
+			}
+
+			_dataSet.set(index, values);
+			try {
+				_out.write(_sample + " " + index + " " + DoubleStream.of(values)
+					.mapToObj(Double::toString)
+					.collect(Collectors.joining(" ")));
+				_out.newLine();
+				_out.flush();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		@Override
+		public synchronized void close() throws IOException {
+			_closed = true;
+			_out.close();
+		}
+	}
+
 	@Override
 	public String toString() {
 		return format(
@@ -19,8 +19,22 @@
  */
 package io.jenetics.tool.trial;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import io.jenetics.util.ISeq;
@@ -52,4 +66,260 @@ public class TrialMeterTest {
 		trialMeter.write(System.out, Writer.text());
 	}
 
+	private static TrialMeter<String> trialMeter() {
+		return TrialMeter.of(
+			"Some name", "Some description",
+			Params.of(
+				"Strings",
+				IntStream.range(0, 20)
+					.mapToObj(Integer::toString)
+					.collect(ISeq.toISeq())
+			),
+			"fitness", "generation"
+		);
+	}
+
+	private static double[] function(final String param) {
+		final double value = Double.parseDouble(param);
+		return new double[] {value*value, value + 0.5};
+	}
+
+	@Test
+	public void sampleConcurrent() throws IOException {
+		final Path journal = Files.createTempFile("__trial_meter__", ".journal");
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final TrialMeter<String> expected = trialMeter();
+			expected.sample(TrialMeterTest::function);
+			expected.sample(TrialMeterTest::function);
+
+			final TrialMeter<String> trialMeter = trialMeter();
+			trialMeter.sample(TrialMeterTest::function, executor, journal);
+			Files.delete(journal);
+			trialMeter.sample(TrialMeterTest::function, executor, journal);
+
+			Assert.assertEquals(
+				trialMeter.getDataSet().values(),
+				expected.getDataSet().values()
+			);
+			Assert.assertEquals(Files.readAllLines(journal).size(), 20);
+		} finally {
+			executor.shutdown();
+			Files.deleteIfExists(journal);
+		}
+	}
+
+	@Test
+	public void sampleResume() throws IOException {
+		final Path journal = Files.createTempFile("__trial_meter__", ".journal");
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			Files.write(journal, List.of("2 0 100.0 100.0", "1 1 1.0"));
+
+			try {
+				trialMeter().sample(
+					param -> {
+						if (Integer.parseInt(param) >= 12) {
+							throw new IllegalStateException("Interrupted.");
+						}
+						return function(param);
+					},
+					Runnable::run,
+					journal
+				);
+				Assert.fail("Expected exception.");
+			} catch (IllegalStateException expected) {
+			}
+			Files.write(journal, List.of("1 12 144.0 12.5"), StandardOpenOption.APPEND);
+
+			final TrialMeter<String> expected = trialMeter();
+			expected.sample(TrialMeterTest::function);
+
+			final Set<String> sampled = ConcurrentHashMap.newKeySet();
+			final TrialMeter<String> trialMeter = trialMeter();
+			trialMeter.sample(
+				param -> {
+					sampled.add(param);
+					return function(param);
+				},
+				executor,
+				journal
+			);
+
+			Assert.assertEquals(
+				sampled,
+				Set.of("13", "14", "15", "16", "17", "18", "19")
+			);
+			Assert.assertEquals(
+				trialMeter.getDataSet().values(),
+				expected.getDataSet().values()
+			);
+		} finally {
+			executor.shutdown();
+			Files.deleteIfExists(journal);
+		}
+	}
+
+	@Test
+	public void sampleInterrupted() throws Exception {
+		final Path journal = Files.createTempFile("__trial_meter__", ".journal");
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			final CountDownLatch started = new CountDownLatch(1);
+			final CountDownLatch release = new CountDownLatch(1);
+			final AtomicInteger sampled = new AtomicInteger();
+
+			final TrialMeter<String> trialMeter = trialMeter();
+			final Thread thread = new Thread(() ->
+				trialMeter.sample(
+					param -> {
+						sampled.incrementAndGet();
+						started.countDown();
+						try {
+							release.await();
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+						return function(param);
+					},
+					executor,
+					journal
+				)
+			);
+
+			thread.start();
+			started.await();
+			thread.interrupt();
+			thread.join();
+			release.countDown();
+
+			executor.shutdown();
+			Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+			Assert.assertEquals(sampled.get(), 1);
+		} finally {
+			executor.shutdownNow();
+			Files.deleteIfExists(journal);
+		}
+	}
+
+	@Test
+	public void sampleFailure() throws IOException {
+		final Path journal = Files.createTempFile("__trial_meter__", ".journal");
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			final AtomicInteger sampled = new AtomicInteger();
+			try {
+				trialMeter().sample(
+					param -> {
+						sampled.incrementAndGet();
+						if (param.equals("2")) {
+							throw new IllegalStateException("Failed.");
+						}
+						return function(param);
+					},
+					executor,
+					journal
+				);
+				Assert.fail("Expected exception.");
+			} catch (IllegalStateException expected) {
+			}
+
+			executor.shutdown();
+			Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+			Assert.assertTrue(sampled.get() < 20, "Sampled " + sampled.get());
+		} catch (InterruptedException e) {
+			throw new AssertionError(e);
+		} finally {
+			executor.shutdownNow();
+			Files.deleteIfExists(journal);
+		}
+	}
+
+	@Test
+	public void sampleSerialInterrupted() throws IOException {
+		final Path journal = Files.createTempFile("__trial_meter__", ".journal");
+		try {
+			final AtomicInteger sampled = new AtomicInteger();
+			trialMeter().sample(
+				param -> {
+					if (sampled.incrementAndGet() == 3) {
+						Thread.currentThread().interrupt();
+					}
+					return function(param);
+				},
+				Runnable::run,
+				journal
+			);
+
+			Assert.assertTrue(Thread.interrupted());
+			Assert.assertEquals(sampled.get(), 3);
+			Assert.assertEquals(Files.readAllLines(journal).size(), 3);
+		} finally {
+			Files.deleteIfExists(journal);
+		}
+	}
+
+	@Test
+	public void sampleSerialFailure() throws IOException {
+		final Path journal = Files.createTempFile("__trial_meter__", ".journal");
+		try {
+			final AtomicInteger sampled = new AtomicInteger();
+			try {
+				trialMeter().sample(
+					param -> {
+						sampled.incrementAndGet();
+						if (param.equals("2")) {
+							throw new IllegalStateException("Failed.");
+						}
+						return function(param);
+					},
+					Runnable::run,
+					journal
+				);
+				Assert.fail("Expected exception.");
+			} catch (IllegalStateException expected) {
+			}
+
+			Assert.assertEquals(sampled.get(), 3);
+			Assert.assertEquals(Files.readAllLines(journal).size(), 2);
+		} finally {
+			Files.deleteIfExists(journal);
+		}
+	}
+
+	@Test
+	public void sampleTruncatedJournal() throws IOException {
+		final Path journal = Files.createTempFile("__trial_meter__", ".journal");
+		try {
+			Files.writeString(journal, "1 0 0.0 0.5\n1 1 1.0 1.");
+
+			final Set<String> sampled = ConcurrentHashMap.newKeySet();
+			final TrialMeter<String> trialMeter = trialMeter();
+			trialMeter.sample(
+				param -> {
+					sampled.add(param);
+					return function(param);
+				},
+				Runnable::run,
+				journal
+			);
+
+			final TrialMeter<String> expected = trialMeter();
+			expected.sample(TrialMeterTest::function);
+
+			Assert.assertEquals(sampled.size(), 19);
+			Assert.assertFalse(sampled.contains("0"));
+			Assert.assertEquals(
+				trialMeter.getDataSet().values(),
+				expected.getDataSet().values()
+			);
+
+			final List<String> lines = Files.readAllLines(journal);
+			Assert.assertEquals(lines.size(), 20);
+			Assert.assertEquals(lines.get(1), "1 1 1.0 1.5");
+		} finally {
+			Files.deleteIfExists(journal);
+		}
+	}
+
 }
@@ -54,7 +54,7 @@ import io.jenetics.util.ISeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 6.1
+ * @version 6.2
  */
 public class BitChromosome extends Number
 	implements
@@ -396,6 +396,33 @@ public class BitChromosome extends Number
 		return of(_length, _p);
 	}
 
+	/**
+	 * Return a new chromosome, where the bits of {@code this} chromosome are
+	 * flipped, if the corresponding bit of the given {@code mask} is set. The
+	 * bits are flipped 64 bits at a time.
+	 *
+	 * @param mask the flip mask
+	 * @return a new chromosome with the flipped bits
+	 */
+	BitChromosome flip(final byte[] mask) {
+		final byte[] genes = Bits.flip(_genes.clone(), mask);
+		return new BitChromosome(
+			genes,
+			_length,
+			(double)Bits.count(genes)/(double)_length
+		);
+	}
+
+	/**
+	 * Return a mutable, bit-packed copy of the genes of this chromosome. This
+	 * allows the alterers to perform word-level operations on the genes.
+	 *
+	 * @return a mutable copy of the genes of this chromosome
+	 */
+	BitGeneMSeq toMSeq() {
+		return _seq.copy();
+	}
+
 	/**
 	 * Maps the gene alleles of this chromosome, given as {@link BitSet}, by
 	 * applying the given mapper function {@code f}. The mapped gene values
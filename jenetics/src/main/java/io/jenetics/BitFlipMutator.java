@@ -0,0 +1,96 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.Random;
+
+import io.jenetics.internal.util.Bits;
+
+/**
+ * The {@code BitFlipMutator} flips the bits of a {@link BitChromosome}, with
+ * the given mutation probability. In contrast to the {@link Mutator}, which
+ * replaces a gene with a new random gene, every mutated bit actually changes
+ * its value. The bits of a {@code BitChromosome} are flipped with a random
+ * mask, 64 bits at a time. This makes the mutation of very long bit
+ * chromosomes efficient.
+ *
+ * <pre>{@code
+ * final Engine<BitGene, Integer> engine = Engine
+ *     .builder(BitChromosome::bitCount, BitChromosome.of(1_000_000))
+ *     .alterers(new BitFlipMutator<>(0.001), new UniformCrossover<>())
+ *     .build();
+ * }</pre>
+ *
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 6.2
+ * @version 6.2
+ */
+public class BitFlipMutator<C extends Comparable<? super C>>
+	extends Mutator<BitGene, C>
+{
+
+	/**
+	 * Constructs an alterer with a given mutation probability.
+	 *
+	 * @param probability the mutation probability.
+	 * @throws IllegalArgumentException if the {@code probability} is not in the
+	 *          valid range of {@code [0, 1]}.
+	 */
+	public BitFlipMutator(final double probability) {
+		super(probability);
+	}
+
+	/**
+	 * Default constructor, with default mutation probability
+	 * ({@link AbstractAlterer#DEFAULT_ALTER_PROBABILITY}).
+	 */
+	public BitFlipMutator() {
+		this(DEFAULT_ALTER_PROBABILITY);
+	}
+
+	@Override
+	protected MutatorResult<Chromosome<BitGene>> mutate(
+		final Chromosome<BitGene> chromosome,
+		final double p,
+		final Random random
+	) {
+		final MutatorResult<Chromosome<BitGene>> result;
+		if (chromosome instanceof BitChromosome) {
+			final byte[] mask = Bits.newArray(chromosome.length(), p, random);
+			final int mutations = Bits.count(mask);
+
+			result = mutations > 0
+				? MutatorResult.of(((BitChromosome)chromosome).flip(mask), mutations)
+				: MutatorResult.of(chromosome);
+		} else {
+			result = super.mutate(chromosome, p, random);
+		}
+
+		return result;
+	}
+
+	@Override
+	protected BitGene mutate(final BitGene gene, final Random random) {
+		return BitGene.of(!gene.booleanValue());
+	}
+
+}
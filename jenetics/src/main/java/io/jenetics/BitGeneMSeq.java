@@ -41,7 +41,7 @@ import io.jenetics.util.MSeq;
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.4
- * @version 6.0
+ * @version 6.2
  */
 final class BitGeneMSeq extends ArrayMSeq<BitGene> {
 
@@ -73,17 +73,37 @@ final class BitGeneMSeq extends ArrayMSeq<BitGene> {
 		if (other instanceof BitGeneMSeq) {
 			checkIndex(start, end, otherStart, other.length());
 			final var otherMSeq = (BitGeneMSeq)other;
-			final var thisStore = (BitGeneStore)array.store();
-			final var otherStore = (BitGeneStore)otherMSeq.array.store();
-
 			array.copyIfSealed();
 			otherMSeq.array.copyIfSealed();
+
+			final var thisStore = (BitGeneStore)array.store();
+			final var otherStore = (BitGeneStore)otherMSeq.array.store();
 			thisStore.swap(start, end, otherStore, otherStart);
 		} else {
 			super.swap(start, end, other, otherStart);
 		}
 	}
 
+	/**
+	 * Swaps the genes of {@code this} and the {@code other} sequence, where
+	 * the corresponding bit of the given {@code mask} is set. The genes are
+	 * swapped 64 bits at a time.
+	 *
+	 * @param other the other gene sequence
+	 * @param mask the swap mask
+	 * @return the number of swapped genes
+	 */
+	int swap(final BitGeneMSeq other, final byte[] mask) {
+		array.copyIfSealed();
+		other.array.copyIfSealed();
+
+		return Bits.swap(
+			((BitGeneStore)array.store()).array,
+			((BitGeneStore)other.array.store()).array,
+			mask
+		);
+	}
+
 	@Override
 	public BitGeneMSeq copy() {
 		return new BitGeneMSeq(array.copy());
@@ -42,7 +42,7 @@ import io.jenetics.util.RandomRegistry;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 6.2
  */
 public abstract class Crossover<
 	G extends Gene<?, G>,
@@ -81,8 +81,8 @@ public abstract class Crossover<
 
 		final var c1 = MSeq.of(gt1);
 		final var c2 = MSeq.of(gt2);
-		final var genes1 = MSeq.of(c1.get(chIndex));
-		final var genes2 = MSeq.of(c2.get(chIndex));
+		final var genes1 = genes(c1.get(chIndex));
+		final var genes2 = genes(c2.get(chIndex));
 
 		crossover(genes1, genes2);
 
@@ -102,6 +102,17 @@ public abstract class Crossover<
 		return order();
 	}
 
+	// Return a mutable copy of the chromosome genes. The genes of a
+	// BitChromosome are copied into a bit-packed sequence, which allows
+	// word-level crossover operations.
+	@SuppressWarnings("unchecked")
+	private static <G extends Gene<?, G>> MSeq<G>
+	genes(final Chromosome<G> chromosome) {
+		return chromosome instanceof BitChromosome
+			? (MSeq<G>)((BitChromosome)chromosome).toMSeq()
+			: MSeq.of(chromosome);
+	}
+
 	/**
 	 * Template method which performs the crossover. The arguments given are
 	 * mutable non null arrays of the same length.
@@ -21,11 +21,14 @@ package io.jenetics;
 
 import static java.lang.Math.pow;
 import static java.lang.String.format;
+import static io.jenetics.internal.math.Randoms.SKIP_PROBABILITY;
+import static io.jenetics.internal.math.Randoms.skipIndexArray;
 
 import java.util.Random;
 
 import io.jenetics.internal.math.Probabilities;
 import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.Seq;
 
@@ -65,7 +68,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 6.2
  */
 public class Mutator<
 	G extends Gene<?, G>,
@@ -195,17 +198,30 @@ public class Mutator<
 		final double p,
 		final Random random
 	) {
-		final int P = Probabilities.toInt(p);
-		final ISeq<MutatorResult<G>> result = chromosome.stream()
-			.map(gene -> random.nextInt() < P
-				? MutatorResult.of(mutate(gene, random), 1)
-				: MutatorResult.of(gene))
-			.collect(ISeq.toISeq());
-
-		return MutatorResult.of(
-			chromosome.newInstance(result.map(MutatorResult::result)),
-			result.stream().mapToInt(MutatorResult::mutations).sum()
-		);
+		final MSeq<G> genes = MSeq.of(chromosome);
+
+		int mutations = 0;
+		if (p < SKIP_PROBABILITY) {
+			final int[] indexes = skipIndexArray(random, genes.length(), p);
+			for (int i : indexes) {
+				genes.set(i, mutate(genes.get(i), random));
+			}
+			mutations = indexes.length;
+		} else {
+			// The index draws are interleaved with the gene mutations, which
+			// keeps the random sequence of the previous releases.
+			final int P = Probabilities.toInt(p);
+			for (int i = 0; i < genes.length(); ++i) {
+				if (random.nextInt() < P) {
+					genes.set(i, mutate(genes.get(i), random));
+					++mutations;
+				}
+			}
+		}
+
+		return mutations == 0
+			? MutatorResult.of(chromosome)
+			: MutatorResult.of(chromosome.newInstance(genes.toISeq()), mutations);
 	}
 
 	/**
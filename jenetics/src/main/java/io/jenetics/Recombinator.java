@@ -21,8 +21,11 @@ package io.jenetics;
 
 import static java.lang.String.format;
 import static io.jenetics.internal.math.Combinatorics.subset;
+import static io.jenetics.internal.math.Randoms.SKIP_PROBABILITY;
 import static io.jenetics.internal.math.Randoms.indexes;
+import static io.jenetics.internal.math.Randoms.skipIndexArray;
 
+import java.util.PrimitiveIterator;
 import java.util.Random;
 
 import io.jenetics.util.MSeq;
@@ -51,7 +54,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 6.0
+ * @version 6.2
  */
 public abstract class Recombinator<
 	G extends Gene<?, G>,
@@ -103,10 +106,27 @@ public abstract class Recombinator<
 			final int order = Math.min(_order, population.size());
 
 			final MSeq<Phenotype<G, C>> pop = MSeq.of(population);
-			final int count = indexes(random, population.size(), _probability)
-				.mapToObj(i -> individuals(i, population.size(), order, random))
-				.mapToInt(ind -> recombine(pop, ind, generation))
-				.sum();
+
+			int count = 0;
+			if (_probability < SKIP_PROBABILITY) {
+				final int[] indexes =
+					skipIndexArray(random, population.size(), _probability);
+				for (int i : indexes) {
+					final int[] ind = individuals(i, population.size(), order, random);
+					count += recombine(pop, ind, generation);
+				}
+			} else {
+				// The lazy index stream interleaves the index draws with the
+				// draws of the recombined individuals, which keeps the random
+				// sequence of the previous releases.
+				final PrimitiveIterator.OfInt it =
+					indexes(random, population.size(), _probability).iterator();
+				while (it.hasNext()) {
+					final int[] ind =
+						individuals(it.nextInt(), population.size(), order, random);
+					count += recombine(pop, ind, generation);
+				}
+			}
 
 			result = AltererResult.of(pop.toISeq(), count);
 		} else {
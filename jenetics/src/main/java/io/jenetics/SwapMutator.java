@@ -19,8 +19,11 @@
  */
 package io.jenetics;
 
+import static io.jenetics.internal.math.Randoms.SKIP_PROBABILITY;
 import static io.jenetics.internal.math.Randoms.indexes;
+import static io.jenetics.internal.math.Randoms.skipIndexArray;
 
+import java.util.PrimitiveIterator;
 import java.util.Random;
 
 import io.jenetics.util.MSeq;
@@ -40,7 +43,7 @@ import io.jenetics.util.MSeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 5.0
+ * @version 6.2
  */
 public class SwapMutator<
 	G extends Gene<?, G>,
@@ -81,9 +84,26 @@ public class SwapMutator<
 		final MutatorResult<Chromosome<G>> result;
 		if (chromosome.length() > 1) {
 			final MSeq<G> genes = MSeq.of(chromosome);
-			final int mutations = (int)indexes(random, genes.length(), p)
-				.peek(i -> genes.swap(i, random.nextInt(genes.length())))
-				.count();
+
+			int mutations = 0;
+			if (p < SKIP_PROBABILITY) {
+				final int[] indexes = skipIndexArray(random, genes.length(), p);
+				for (int i : indexes) {
+					genes.swap(i, random.nextInt(genes.length()));
+				}
+				mutations = indexes.length;
+			} else {
+				// The lazy index stream interleaves the index draws with the
+				// swap draws, which keeps the random sequence of the previous
+				// releases.
+				final PrimitiveIterator.OfInt it =
+					indexes(random, genes.length(), p).iterator();
+				while (it.hasNext()) {
+					genes.swap(it.nextInt(), random.nextInt(genes.length()));
+					++mutations;
+				}
+			}
+
 			result = MutatorResult.of(
 				chromosome.newInstance(genes.toISeq()),
 				mutations
@@ -20,8 +20,9 @@
 package io.jenetics;
 
 import static java.lang.Math.min;
-import static io.jenetics.internal.math.Randoms.indexes;
+import static io.jenetics.internal.math.Randoms.skipIndexArray;
 
+import io.jenetics.internal.util.Bits;
 import io.jenetics.internal.util.Requires;
 import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
@@ -47,7 +48,7 @@ import io.jenetics.util.RandomRegistry;
  *     Wikipedia: Uniform crossover</a>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.0
+ * @version 6.2
  * @since 3.7
  */
 public class UniformCrossover<
@@ -112,9 +113,24 @@ public class UniformCrossover<
 	@Override
 	protected int crossover(final MSeq<G> that, final MSeq<G> other) {
 		final int length = min(that.length(), other.length());
-		return (int)indexes(RandomRegistry.random(), length, _swapProbability)
-			.peek(i -> that.swap(i, other))
-			.count();
+
+		// Bit-parallel crossover with a random swap mask.
+		if (that instanceof BitGeneMSeq && other instanceof BitGeneMSeq) {
+			final byte[] mask = Bits
+				.newArray(length, _swapProbability, RandomRegistry.random());
+			return ((BitGeneMSeq)that).swap((BitGeneMSeq)other, mask);
+		}
+
+		final int[] indexes = skipIndexArray(
+			RandomRegistry.random(),
+			length,
+			_swapProbability
+		);
+		for (int i : indexes) {
+			that.swap(i, other);
+		}
+
+		return indexes.length;
 	}
 
 }
@@ -0,0 +1,528 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.IO;
+
+/**
+ * Evolution interceptor, which writes checkpoints of the evolution results
+ * in the background. This allows to resume long-running evolution streams,
+ * without stalling the evolution while the checkpoints are written. A
+ * checkpoint is written every {@link #generations()} generations, or if the
+ * last checkpoint is older than the checkpoint {@link #interval()}.
+ *
+ * <pre>{@code
+ * final Path dir = Path.of("checkpoints");
+ * try (var checkpointer = Checkpointer.<DoubleGene, Double>of(dir, 100)) {
+ *     final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *         .interceptor(checkpointer)
+ *         .build();
+ *
+ *     // Resumes the evolution from the latest checkpoint, if any.
+ *     final EvolutionStart<DoubleGene, Double> start = Checkpointer
+ *         .<DoubleGene, Double>read(dir)
+ *         .orElse(EvolutionStart.empty());
+ *
+ *     final Phenotype<DoubleGene, Double> best = engine.stream(() -> start)
+ *         .limit(bySteadyFitness(1000))
+ *         .collect(EvolutionResult.toBestPhenotype());
+ * }
+ * }</pre>
+ *
+ * The checkpoints are written as {@link PopulationSnapshot} files, if the
+ * population consists of supported chromosome and fitness types. Otherwise,
+ * the evolution results are written with the Java serialization,
+ * {@link IO#object}. Every checkpoint is written to a temporary file first,
+ * which is then atomically moved to its final name. Only the latest
+ * {@link #keep()} checkpoints are retained.
+ *
+ * @implNote
+ * Since the populations of the evolution results are immutable, the
+ * interceptor only keeps a reference to the latest result, which is written
+ * by a single background thread. If a checkpoint is still being written when
+ * the next one is due, only the latest pending result is written afterwards.
+ * This class is thread safe.
+ *
+ * @see PopulationSnapshot
+ * @see EvolutionInit
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+public final class Checkpointer<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements EvolutionInterceptor<G, C>, Closeable
+{
+
+	/**
+	 * The default number of retained checkpoints.
+	 */
+	public static final int DEFAULT_KEEP = 3;
+
+	private static final String PREFIX = "checkpoint-";
+	private static final String SNAPSHOT_SUFFIX = ".snapshot";
+	private static final String OBJECT_SUFFIX = ".ser";
+	private static final Pattern NAME = Pattern.compile(
+		"checkpoint-(\\d+)(\\.snapshot|\\.ser)"
+	);
+
+	private final Path _directory;
+	private final long _generations;
+	private final Duration _interval;
+	private final int _keep;
+	private final Clock _clock;
+
+	private final ExecutorService _executor;
+	private final AtomicReference<EvolutionResult<G, C>> _pending =
+		new AtomicReference<>();
+	private final AtomicReference<Throwable> _error = new AtomicReference<>();
+
+	private long _lastGeneration = Long.MIN_VALUE;
+	private long _lastMillis;
+	private boolean _serialization = false;
+
+	private Checkpointer(
+		final Path directory,
+		final long generations,
+		final Duration interval,
+		final int keep,
+		final Clock clock
+	) {
+		_directory = requireNonNull(directory);
+		_interval = requireNonNull(interval);
+		_clock = requireNonNull(clock);
+		if (generations < 1) {
+			throw new IllegalArgumentException(format(
+				"Checkpoint generations must be greater than zero: %d",
+				generations
+			));
+		}
+		if (interval.isNegative() || interval.isZero()) {
+			throw new IllegalArgumentException(format(
+				"Checkpoint interval must be positive: %s", interval
+			));
+		}
+		if (keep < 1) {
+			throw new IllegalArgumentException(format(
+				"Number of retained checkpoints must be greater than zero: %d",
+				keep
+			));
+		}
+		_generations = generations;
+		_keep = keep;
+		_lastMillis = clock.millis();
+
+		_executor = Executors.newSingleThreadExecutor(task -> {
+			final Thread thread = new Thread(task, "jenetics-checkpointer");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Return the checkpoint directory.
+	 *
+	 * @return the checkpoint directory
+	 */
+	public Path directory() {
+		return _directory;
+	}
+
+	/**
+	 * Return the number of generations between two checkpoints.
+	 *
+	 * @return the number of generations between two checkpoints
+	 */
+	public long generations() {
+		return _generations;
+	}
+
+	/**
+	 * Return the maximal time between two checkpoints.
+	 *
+	 * @return the maximal time between two checkpoints
+	 */
+	public Duration interval() {
+		return _interval;
+	}
+
+	/**
+	 * Return the number of retained checkpoint files.
+	 *
+	 * @return the number of retained checkpoint files
+	 */
+	public int keep() {
+		return _keep;
+	}
+
+	@Override
+	public EvolutionResult<G, C> after(final EvolutionResult<G, C> result) {
+		requireNonNull(result);
+
+		final long millis = _clock.millis();
+		final boolean due;
+		synchronized (this) {
+			due = result.generation()%_generations == 0 ||
+				millis - _lastMillis >= _interval.toMillis();
+
+			if (due) {
+				_lastMillis = millis;
+			}
+		}
+
+		if (due && _pending.getAndSet(result) == null) {
+			_executor.execute(this::flush);
+		}
+
+		return result;
+	}
+
+	// Writes the latest pending result. Only called by the background thread.
+	private void flush() {
+		final EvolutionResult<G, C> result = _pending.getAndSet(null);
+		if (result != null && result.generation() > _lastGeneration) {
+			try {
+				write(result);
+				_lastGeneration = result.generation();
+			} catch (IOException e) {
+				_error.compareAndSet(null, e);
+			} catch (RuntimeException | Error e) {
+				_error.compareAndSet(null, e);
+			}
+		}
+	}
+
+	private void write(final EvolutionResult<G, C> result) throws IOException {
+		Files.createDirectories(_directory);
+		final Path tmp = Files.createTempFile(_directory, PREFIX, ".tmp");
+
+		try {
+			String suffix = SNAPSHOT_SUFFIX;
+			if (!_serialization) {
+				try {
+					PopulationSnapshot.write(tmp, result);
+				} catch (IllegalArgumentException e) {
+					_serialization = true;
+				}
+			}
+			if (_serialization) {
+				suffix = OBJECT_SUFFIX;
+				IO.object.write(result, tmp);
+			}
+
+			try (var channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+				channel.force(true);
+			}
+
+			final Path target = _directory
+				.resolve(PREFIX + result.generation() + suffix);
+			try {
+				Files.move(
+					tmp, target,
+					StandardCopyOption.ATOMIC_MOVE,
+					StandardCopyOption.REPLACE_EXISTING
+				);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+
+		final List<Path> checkpoints = checkpoints(_directory);
+		for (int i = _keep; i < checkpoints.size(); ++i) {
+			Files.deleteIfExists(checkpoints.get(i));
+		}
+	}
+
+	/**
+	 * Writes the pending checkpoint, if any, and waits until it has been
+	 * written. Stops the background thread afterwards.
+	 *
+	 * @throws IOException if writing one of the checkpoints failed
+	 */
+	@Override
+	public void close() throws IOException {
+		_executor.shutdown();
+		try {
+			_executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		final Throwable error = _error.get();
+		if (error instanceof IOException) {
+			throw (IOException)error;
+		} else if (error instanceof RuntimeException) {
+			throw (RuntimeException)error;
+		} else if (error instanceof Error) {
+			throw (Error)error;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"Checkpointer[directory=%s, generations=%d, interval=%s, keep=%d]",
+			_directory, _generations, _interval, _keep
+		);
+	}
+
+	/* *************************************************************************
+	 * Loading checkpoints.
+	 * ************************************************************************/
+
+	// Return the checkpoint files of the given directory, latest first.
+	private static List<Path> checkpoints(final Path directory)
+		throws IOException
+	{
+		if (!Files.isDirectory(directory)) {
+			return List.of();
+		}
+
+		try (Stream<Path> files = Files.list(directory)) {
+			return files
+				.filter(file -> NAME.matcher(file.getFileName().toString()).matches())
+				.sorted(Comparator.<Path>comparingLong(Checkpointer::generation).reversed())
+				.collect(Collectors.toList());
+		}
+	}
+
+	private static long generation(final Path file) {
+		final Matcher matcher = NAME.matcher(file.getFileName().toString());
+		return matcher.matches() ? Long.parseLong(matcher.group(1)) : -1;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionResult<G, C> load(final Path file) throws IOException {
+		if (file.getFileName().toString().endsWith(SNAPSHOT_SUFFIX)) {
+			return PopulationSnapshot.<G, C>open(file).result()
+				.orElseThrow(() -> new IOException(format(
+					"Checkpoint '%s' doesn't contain an evolution result.", file
+				)));
+		} else {
+			return (EvolutionResult<G, C>)IO.object.read(EvolutionResult.class, file);
+		}
+	}
+
+	/**
+	 * Reads the evolution result of the latest readable checkpoint of the
+	 * given {@code directory}. Corrupt checkpoint files are skipped.
+	 *
+	 * @param directory the checkpoint directory
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the evolution result of the latest checkpoint, or
+	 *         {@link Optional#empty()} if no readable checkpoint exists
+	 * @throws NullPointerException if the given {@code directory} is
+	 *         {@code null}
+	 * @throws IOException if the checkpoint directory can't be read
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Optional<EvolutionResult<G, C>> latest(final Path directory)
+		throws IOException
+	{
+		requireNonNull(directory);
+
+		for (Path file : checkpoints(directory)) {
+			try {
+				return Optional.of(load(file));
+			} catch (IOException | UncheckedIOException e) {
+				// Corrupt or partially deleted checkpoint. Try the previous one.
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Reads the latest checkpoint of the given {@code directory} and returns
+	 * the evolution start object for resuming the evolution. Since the
+	 * individuals of the start population are already evaluated, the
+	 * evolution is resumed without re-evaluating the population.
+	 *
+	 * <pre>{@code
+	 * final EvolutionStart<DoubleGene, Double> start = Checkpointer
+	 *     .<DoubleGene, Double>read(Path.of("checkpoints"))
+	 *     .orElse(EvolutionStart.empty());
+	 *
+	 * final EvolutionStream<DoubleGene, Double> stream =
+	 *     engine.stream(() -> start);
+	 * }</pre>
+	 *
+	 * @param directory the checkpoint directory
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the evolution start object of the next generation, or
+	 *         {@link Optional#empty()} if no readable checkpoint exists
+	 * @throws NullPointerException if the given {@code directory} is
+	 *         {@code null}
+	 * @throws IOException if the checkpoint directory can't be read
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Optional<EvolutionStart<G, C>> read(final Path directory)
+		throws IOException
+	{
+		return Checkpointer.<G, C>latest(directory)
+			.map(EvolutionResult::next);
+	}
+
+	/**
+	 * Reads the latest checkpoint of the given {@code directory} and returns
+	 * the evolution init object for resuming the evolution with
+	 * {@link Engine#stream(EvolutionInit)}. The individuals are re-evaluated
+	 * by the engine.
+	 *
+	 * @param directory the checkpoint directory
+	 * @param <G> the gene type
+	 * @return the evolution init object of the next generation, or
+	 *         {@link Optional#empty()} if no readable checkpoint exists
+	 * @throws NullPointerException if the given {@code directory} is
+	 *         {@code null}
+	 * @throws IOException if the checkpoint directory can't be read
+	 */
+	public static <G extends Gene<?, G>> Optional<EvolutionInit<G>>
+	init(final Path directory) throws IOException {
+		// The fitness type is not needed for creating the init object.
+		return Checkpointer.<G, Double>latest(directory)
+			.map(result -> EvolutionInit.of(
+				result.population().map(Phenotype::genotype),
+				result.totalGenerations() + 1
+			));
+	}
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Create a new checkpoint interceptor.
+	 *
+	 * @param directory the checkpoint directory, created if not existing
+	 * @param generations the number of generations between two checkpoints
+	 * @param interval the maximal time between two checkpoints
+	 * @param keep the number of retained checkpoint files
+	 * @param clock the clock used for measuring the checkpoint
+	 *        {@code interval}
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new checkpoint interceptor
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if {@code generations < 1},
+	 *         {@code keep < 1} or the {@code interval} is not positive
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Checkpointer<G, C> of(
+		final Path directory,
+		final long generations,
+		final Duration interval,
+		final int keep,
+		final Clock clock
+	) {
+		return new Checkpointer<>(directory, generations, interval, keep, clock);
+	}
+
+	/**
+	 * Create a new checkpoint interceptor, which writes a checkpoint every
+	 * {@code generations} generations, or at least after the given time
+	 * {@code interval}. The latest {@link #DEFAULT_KEEP} checkpoints are
+	 * retained.
+	 *
+	 * @param directory the checkpoint directory, created if not existing
+	 * @param generations the number of generations between two checkpoints
+	 * @param interval the maximal time between two checkpoints
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new checkpoint interceptor
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if {@code generations < 1} or the
+	 *         {@code interval} is not positive
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Checkpointer<G, C> of(
+		final Path directory,
+		final long generations,
+		final Duration interval
+	) {
+		return of(directory, generations, interval, DEFAULT_KEEP, Clock.systemUTC());
+	}
+
+	/**
+	 * Create a new checkpoint interceptor, which writes a checkpoint every
+	 * {@code generations} generations. The latest {@link #DEFAULT_KEEP}
+	 * checkpoints are retained.
+	 *
+	 * @param directory the checkpoint directory, created if not existing
+	 * @param generations the number of generations between two checkpoints
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new checkpoint interceptor
+	 * @throws NullPointerException if the {@code directory} is {@code null}
+	 * @throws IllegalArgumentException if {@code generations < 1}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Checkpointer<G, C> of(final Path directory, final long generations) {
+		return of(
+			directory,
+			generations,
+			Duration.ofMillis(Long.MAX_VALUE),
+			DEFAULT_KEEP,
+			Clock.systemUTC()
+		);
+	}
+
+}
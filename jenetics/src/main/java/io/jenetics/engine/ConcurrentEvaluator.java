@@ -29,6 +29,7 @@ import io.jenetics.Genotype;
 import io.jenetics.Phenotype;
 import io.jenetics.internal.util.Concurrency;
 import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
 import io.jenetics.util.Seq;
 
 /**
@@ -36,7 +37,7 @@ import io.jenetics.util.Seq;
  * for the fitness evaluation.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.2
  * @since 4.2
  */
 final class ConcurrentEvaluator<
@@ -61,25 +62,47 @@ final class ConcurrentEvaluator<
 		return new ConcurrentEvaluator<>(_function, executor);
 	}
 
+	/*
+	 * The already evaluated phenotypes keep their order and are placed at
+	 * the beginning of the returned population, followed by the newly
+	 * evaluated ones. The evaluation tasks write their result directly into
+	 * the result population, which is the only population sized object
+	 * allocated by this method.
+	 */
 	@Override
 	public ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
-		final ISeq<PhenotypeFitness<G, C>> evaluate = population.stream()
-			.filter(Phenotype::nonEvaluated)
-			.map(pt -> new PhenotypeFitness<>(pt, _function))
-			.collect(ISeq.toISeq());
+		int evaluated = 0;
+		for (int i = 0, n = population.size(); i < n; ++i) {
+			if (population.get(i).isEvaluated()) {
+				++evaluated;
+			}
+		}
 
 		final ISeq<Phenotype<G, C>> result;
-		if (evaluate.nonEmpty()) {
+		if (evaluated < population.size()) {
+			final MSeq<Phenotype<G, C>> phenotypes =
+				MSeq.ofLength(population.size());
+			final MSeq<PhenotypeFitness<G, C>> evaluate =
+				MSeq.ofLength(population.size() - evaluated);
+
+			int index = 0;
+			for (int i = 0, n = population.size(); i < n; ++i) {
+				final Phenotype<G, C> pt = population.get(i);
+				if (pt.isEvaluated()) {
+					phenotypes.set(index++, pt);
+				} else {
+					final int j = i - index;
+					evaluate.set(j, new PhenotypeFitness<>(
+						pt, _function, phenotypes, evaluated + j
+					));
+				}
+			}
+
 			try (var c = Concurrency.with(_executor)) {
 				c.execute(evaluate);
 			}
 
-			result = evaluate.size() == population.size()
-				? evaluate.map(PhenotypeFitness::phenotype)
-				: population.stream()
-					.filter(Phenotype::isEvaluated)
-					.collect(ISeq.toISeq())
-					.append(evaluate.map(PhenotypeFitness::phenotype));
+			result = phenotypes.toISeq();
 		} else {
 			result = population.asISeq();
 		}
@@ -96,23 +119,27 @@ final class ConcurrentEvaluator<
 	{
 		final Phenotype<G, C> _phenotype;
 		final Function<? super Genotype<G>, ? extends C> _function;
-		C _fitness;
+		final MSeq<Phenotype<G, C>> _result;
+		final int _index;
 
 		PhenotypeFitness(
 			final Phenotype<G, C> phenotype,
-			final Function<? super Genotype<G>, ? extends C> function
+			final Function<? super Genotype<G>, ? extends C> function,
+			final MSeq<Phenotype<G, C>> result,
+			final int index
 		) {
 			_phenotype = phenotype;
 			_function = function;
+			_result = result;
+			_index = index;
 		}
 
 		@Override
 		public void run() {
-			_fitness = _function.apply(_phenotype.genotype());
-		}
-
-		Phenotype<G, C> phenotype() {
-			return _phenotype.withFitness(_fitness);
+			_result.set(
+				_index,
+				_phenotype.withFitness(_function.apply(_phenotype.genotype()))
+			);
 		}
 
 	}
@@ -19,12 +19,28 @@
  */
 package io.jenetics.engine;
 
+import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.runAsync;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static java.util.concurrent.ForkJoinPool.commonPool;
+import static io.jenetics.engine.EvolutionStageEvent.EVALUATION;
+import static io.jenetics.engine.EvolutionStageEvent.INTERCEPTOR_AFTER;
+import static io.jenetics.engine.EvolutionStageEvent.INTERCEPTOR_BEFORE;
+import static io.jenetics.engine.EvolutionStageEvent.OFFSPRING_ALTER;
+import static io.jenetics.engine.EvolutionStageEvent.OFFSPRING_FILTER;
+import static io.jenetics.engine.EvolutionStageEvent.OFFSPRING_SELECTION;
+import static io.jenetics.engine.EvolutionStageEvent.SURVIVORS_FILTER;
+import static io.jenetics.engine.EvolutionStageEvent.SURVIVORS_SELECTION;
 
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
@@ -39,11 +55,14 @@ import io.jenetics.Genotype;
 import io.jenetics.Optimize;
 import io.jenetics.Phenotype;
 import io.jenetics.Selector;
+import io.jenetics.internal.util.Concurrency;
+import io.jenetics.internal.util.ConcurrencyBatchEvent;
 import io.jenetics.util.Copyable;
 import io.jenetics.util.Factory;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.MSeq;
 import io.jenetics.util.NanoClock;
+import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.Seq;
 
 /**
@@ -88,6 +107,13 @@ import io.jenetics.util.Seq;
  * class and can't be changed after creation. The actual <i>evolution</i> is
  * performed by the {@link EvolutionStream}, which is created by the
  * {@code Engine}.
+ * <p>
+ * The engine emits Java Flight Recorder events for every evolution step
+ * ({@code io.jenetics.Evolve}), its stages ({@code io.jenetics.EvolutionStage})
+ * and constraint repairs ({@code io.jenetics.ConstraintRepair}). The
+ * concurrently executed task batches are recorded as
+ * {@code io.jenetics.ConcurrencyBatch} events. The events contain the
+ * generation and the size of the processed population.
  *
  * @implNote
  *     This class is thread safe:
@@ -108,7 +134,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 6.0
+ * @version 6.2
  */
 public final class Engine<
 	G extends Gene<?, G>,
@@ -120,6 +146,10 @@ public final class Engine<
 		Evaluator<G, C>
 {
 
+	// The minimal number of individuals, created or filtered by one
+	// concurrently executed task.
+	private static final int MIN_CHUNK_SIZE = 64;
+
 	// Problem definition.
 	private final Evaluator<G, C> _evaluator;
 	private final Factory<Genotype<G>> _genotypeFactory;
@@ -176,10 +206,18 @@ public final class Engine<
 
 	@Override
 	public EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
+		final EvolveEvent event = new EvolveEvent();
+		event.begin();
+
 		final EvolutionTiming timing = new EvolutionTiming(_clock);
 		timing.evolve.start();
 
-		final EvolutionStart<G, C> interceptedStart = _interceptor.before(start);
+		final EvolutionStart<G, C> interceptedStart = EvolutionStageEvent.record(
+			INTERCEPTOR_BEFORE,
+			start.generation(),
+			start.population().size(),
+			() -> _interceptor.before(start)
+		);
 
 		// Create initial population if `start` is empty.
 		final EvolutionStart<G, C> es = interceptedStart.population().isEmpty()
@@ -188,51 +226,68 @@ public final class Engine<
 
 		// Initial evaluation of the population.
 		final ISeq<Phenotype<G, C>> population = es.isDirty()
-			? timing.evaluation.timing(() -> eval(es.population()))
+			? stage(
+				EVALUATION, es, es.population().size(), timing.evaluation,
+				() -> eval(es.population())
+			)
 			: es.population();
 
 		// Select the offspring population.
 		final CompletableFuture<ISeq<Phenotype<G, C>>> offspring =
-			supplyAsync(() ->
-				timing.offspringSelection.timing(() ->
-					selectOffspring(population)
-				),
+			supplyAsync(splitRandom(() ->
+				stage(
+					OFFSPRING_SELECTION, es, population.size(),
+					timing.offspringSelection,
+					() -> selectOffspring(population)
+				)),
 				_executor
 			);
 
 		// Select the survivor population.
 		final CompletableFuture<ISeq<Phenotype<G, C>>> survivors =
-			supplyAsync(() ->
-				timing.survivorsSelection.timing(() ->
-					selectSurvivors(population)
-				),
+			supplyAsync(splitRandom(() ->
+				stage(
+					SURVIVORS_SELECTION, es, population.size(),
+					timing.survivorsSelection,
+					() -> selectSurvivors(population)
+				)),
 				_executor
 			);
 
 		// Altering the offspring population.
 		final CompletableFuture<AltererResult<G, C>> alteredOffspring =
-			offspring.thenApplyAsync(off ->
-				timing.offspringAlter.timing(() ->
-					_evolutionParams.alterer().alter(off, es.generation())
-				),
+			offspring.thenApplyAsync(splitRandom(off ->
+				stage(
+					OFFSPRING_ALTER, es, off.size(),
+					timing.offspringAlter,
+					() -> _evolutionParams.alterer().alter(off, es.generation())
+				)),
 				_executor
 			);
 
 		// Filter and replace invalid and old survivor individuals.
 		final CompletableFuture<FilterResult<G, C>> filteredSurvivors =
-			survivors.thenApplyAsync(sur ->
-				timing.survivorFilter.timing(() ->
-					filter(sur, es.generation())
-				),
+			survivors.thenComposeAsync(splitRandom(sur ->
+				filter(
+					SURVIVORS_FILTER,
+					sur,
+					es.generation(),
+					timing.survivorFilter,
+					timing.repair
+				)),
 				_executor
 			);
 
 		// Filter and replace invalid and old offspring individuals.
 		final CompletableFuture<FilterResult<G, C>> filteredOffspring =
-			alteredOffspring.thenApplyAsync(off ->
-				timing.offspringFilter.timing(() ->
-					filter(off.population(), es.generation())
-				),
+			alteredOffspring.thenComposeAsync(splitRandom(off ->
+				filter(
+					OFFSPRING_FILTER,
+					off.population(),
+					es.generation(),
+					timing.offspringFilter,
+					timing.repair
+				)),
 				_executor
 			);
 
@@ -240,15 +295,14 @@ public final class Engine<
 		final CompletableFuture<ISeq<Phenotype<G, C>>> nextPopulation =
 			filteredSurvivors.thenCombineAsync(
 				filteredOffspring,
-				(s, o) -> ISeq.of(s.population.append(o.population)),
+				this::combine,
 				_executor
 			);
 
 		// Evaluate the fitness-function and wait for result.
 		final ISeq<Phenotype<G, C>> pop = nextPopulation.join();
-		final ISeq<Phenotype<G, C>> result = timing.evaluation.timing(() ->
-			eval(pop)
-		);
+		final ISeq<Phenotype<G, C>> result =
+			stage(EVALUATION, es, pop.size(), timing.evaluation, () -> eval(pop));
 
 		final int killCount =
 			filteredOffspring.join().killCount +
@@ -270,21 +324,78 @@ public final class Engine<
 			alterationCount
 		);
 
-		final EvolutionResult<G, C> interceptedResult = _interceptor.after(er);
+		final EvolutionResult<G, C> evolved = er;
+		final EvolutionResult<G, C> interceptedResult = EvolutionStageEvent.record(
+			INTERCEPTOR_AFTER,
+			es.generation(),
+			result.size(),
+			() -> _interceptor.after(evolved)
+		);
 		if (er != interceptedResult) {
 			er = interceptedResult.withPopulation(
-				timing.evaluation.timing(() ->
-					eval(interceptedResult.population())
-			));
+				stage(
+					EVALUATION, es, interceptedResult.population().size(),
+					timing.evaluation,
+					() -> eval(interceptedResult.population())
+				)
+			);
 		}
 
 		timing.evolve.stop();
 
+		event.end();
+		if (event.shouldCommit()) {
+			event.generation = es.generation();
+			event.populationSize = er.population().size();
+			event.killCount = killCount;
+			event.invalidCount = invalidCount;
+			event.alterCount = alterationCount;
+			event.commit();
+		}
+
 		return er
 			.withDurations(timing.toDurations())
 			.clean();
 	}
 
+	// Executes the given evolution stage task. The execution time is measured
+	// by the given timer and recorded as flight recorder event.
+	private static <T> T stage(
+		final String stage,
+		final EvolutionStart<?, ?> start,
+		final int size,
+		final Timing timing,
+		final Supplier<T> task
+	) {
+		return timing.timing(() ->
+			EvolutionStageEvent.record(stage, start.generation(), size, task)
+		);
+	}
+
+	// Binds the given task to a random engine, split off from the current one,
+	// if the current engine is splittable. The split is done in the calling
+	// thread, which makes the concurrently executed tasks reproducible.
+	private static <T> Supplier<T> splitRandom(final Supplier<T> task) {
+		return RandomRegistry.split()
+			.<Supplier<T>>map(random -> () ->
+				RandomRegistry.with(random, r -> task.get()))
+			.orElse(task);
+	}
+
+	private static <T, R> Function<T, R> splitRandom(final Function<T, R> task) {
+		return RandomRegistry.split()
+			.<Function<T, R>>map(random -> value ->
+				RandomRegistry.with(random, r -> task.apply(value)))
+			.orElse(task);
+	}
+
+	private static Runnable splitRandom(final Runnable task) {
+		return RandomRegistry.split()
+			.<Runnable>map(random -> () ->
+				RandomRegistry.using(random, r -> task.run()))
+			.orElse(task);
+	}
+
 	// Selects the survivors population. A new population object is returned.
 	private ISeq<Phenotype<G, C>>
 	selectSurvivors(final ISeq<Phenotype<G, C>> population) {
@@ -303,30 +414,182 @@ public final class Engine<
 			: ISeq.empty();
 	}
 
-	// Filters out invalid and old individuals. Filtering is done in place.
-	private FilterResult<G, C> filter(
+	// Return the number of chunks, a population of the given size is split
+	// into, for being processed concurrently.
+	private int chunks(final int size) {
+		return _executor == Concurrency.SERIAL_EXECUTOR
+			? 1
+			: max(1, min(Concurrency.CORES, size/MIN_CHUNK_SIZE));
+	}
+
+	// Executes the given chunks with the engine's executor. A single chunk is
+	// executed directly in the calling thread. Every chunk gets its own random
+	// engine, split off in the calling thread, which makes the concurrent
+	// execution reproducible. The returned future completes when all chunks
+	// are processed, without blocking one of the executor threads.
+	private CompletableFuture<Void>
+	execute(final Seq<? extends Runnable> chunks) {
+		if (chunks.size() == 1) {
+			chunks.get(0).run();
+			return completedFuture(null);
+		}
+
+		final CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks.size()];
+		for (int i = 0; i < futures.length; ++i) {
+			final Runnable chunk = chunks.get(i);
+			futures[i] = runAsync(
+				splitRandom(() -> ConcurrencyBatchEvent.run(chunk, 1)),
+				_executor
+			);
+		}
+		return allOf(futures);
+	}
+
+	// Filters out invalid and old individuals. The given population is not
+	// copied, only the replacements of the filtered individuals are stored.
+	// The population is split into chunks, which are filtered concurrently.
+	private CompletableFuture<FilterResult<G, C>> filter(
+		final String stage,
 		final Seq<Phenotype<G, C>> population,
-		final long generation
+		final long generation,
+		final Timing filterTiming,
+		final Timing repairTiming
 	) {
+		final EvolutionStageEvent event = new EvolutionStageEvent();
+		event.begin();
+		filterTiming.start();
+
+		final int size = population.size();
+		final int chunks = chunks(size);
+
+		final MSeq<FilterChunk> tasks = MSeq.ofLength(chunks);
+		for (int i = 0; i < chunks; ++i) {
+			tasks.set(i, new FilterChunk(
+				population,
+				(int)((long)size*i/chunks),
+				(int)((long)size*(i + 1)/chunks),
+				generation
+			));
+		}
+
+		return execute(tasks)
+			.thenApply(v -> {
+				int killCount = 0;
+				int invalidCount = 0;
+				int replacements = 0;
+				for (FilterChunk task : tasks) {
+					killCount += task.killCount;
+					invalidCount += task.invalidCount;
+					replacements += task.replacements.size();
+					repairTiming.plus(task.repair.duration());
+				}
+
+				final int[] indexes = new int[replacements];
+				final MSeq<Phenotype<G, C>> phenotypes = MSeq.ofLength(replacements);
+				int index = 0;
+				for (FilterChunk task : tasks) {
+					for (int i = 0; i < task.replacements.size(); ++i) {
+						indexes[index] = task.indexes[i];
+						phenotypes.set(index, task.replacements.get(i));
+						++index;
+					}
+				}
+
+				return new FilterResult<>(
+					population,
+					indexes,
+					phenotypes,
+					killCount,
+					invalidCount
+				);
+			})
+			.whenComplete((r, e) -> {
+				filterTiming.stop();
+				event.commit(stage, generation, population.size());
+			});
+	}
+
+	// Combines the filtered survivors and offspring into the population of
+	// the next generation. This is the only population copy of the filter
+	// and combining steps.
+	private ISeq<Phenotype<G, C>> combine(
+		final FilterResult<G, C> survivors,
+		final FilterResult<G, C> offspring
+	) {
+		final MSeq<Phenotype<G, C>> population =
+			MSeq.ofLength(survivors.size() + offspring.size());
+
+		survivors.copyTo(population, 0);
+		offspring.copyTo(population, survivors.size());
+		return population.toISeq();
+	}
+
+	// Filters the individuals of the given population range.
+	private final class FilterChunk implements Runnable {
+		private final Seq<Phenotype<G, C>> _population;
+		private final int _start;
+		private final int _end;
+		private final long _generation;
+
+		final Timing repair = Timing.of(_clock);
+		final List<Phenotype<G, C>> replacements = new ArrayList<>();
+		int[] indexes = new int[0];
 		int killCount = 0;
 		int invalidCount = 0;
 
-		final MSeq<Phenotype<G, C>> pop = MSeq.of(population);
-		for (int i = 0, n = pop.size(); i < n; ++i) {
-			final Phenotype<G, C> individual = pop.get(i);
-
-			if (!_constraint.test(individual)) {
-				pop.set(i, _constraint.repair(individual, generation));
-				++invalidCount;
-			} else if (individual.age(generation) >
-						_evolutionParams.maximalPhenotypeAge())
-			{
-				pop.set(i, Phenotype.of(_genotypeFactory.newInstance(), generation));
-				++killCount;
+		FilterChunk(
+			final Seq<Phenotype<G, C>> population,
+			final int start,
+			final int end,
+			final long generation
+		) {
+			_population = population;
+			_start = start;
+			_end = end;
+			_generation = generation;
+		}
+
+		@Override
+		public void run() {
+			for (int i = _start; i < _end; ++i) {
+				final Phenotype<G, C> individual = _population.get(i);
+
+				if (!_constraint.test(individual)) {
+					replace(i, repair.timing(() -> repair(individual)));
+					++invalidCount;
+				} else if (individual.age(_generation) >
+							_evolutionParams.maximalPhenotypeAge())
+				{
+					replace(i, Phenotype.of(
+						_genotypeFactory.newInstance(),
+						_generation
+					));
+					++killCount;
+				}
+			}
+		}
+
+		private Phenotype<G, C> repair(final Phenotype<G, C> individual) {
+			final ConstraintRepairEvent event = new ConstraintRepairEvent();
+			event.begin();
+			try {
+				return _constraint.repair(individual, _generation);
+			} finally {
+				event.end();
+				if (event.shouldCommit()) {
+					event.generation = _generation;
+					event.commit();
+				}
 			}
 		}
 
-		return new FilterResult<>(pop.toISeq(), killCount, invalidCount);
+		private void replace(final int index, final Phenotype<G, C> individual) {
+			if (replacements.size() == indexes.length) {
+				indexes = Arrays.copyOf(indexes, max(8, indexes.length*2));
+			}
+			indexes[replacements.size()] = index;
+			replacements.add(individual);
+		}
 	}
 
 
@@ -396,6 +659,25 @@ public final class Engine<
 		final ISeq<Phenotype<G, C>> population = start.population();
 		final long gen = start.generation();
 
+		final int size = populationSize() - population.size();
+		final int chunks = chunks(size);
+		if (chunks > 1) {
+			final MSeq<Phenotype<G, C>> pop = MSeq.ofLength(size);
+			final MSeq<Runnable> tasks = MSeq.ofLength(chunks);
+			for (int i = 0; i < chunks; ++i) {
+				final int begin = (int)((long)size*i/chunks);
+				final int end = (int)((long)size*(i + 1)/chunks);
+				tasks.set(i, () -> {
+					for (int j = begin; j < end; ++j) {
+						pop.set(j, Phenotype.of(_genotypeFactory.newInstance(), gen));
+					}
+				});
+			}
+			execute(tasks).join();
+
+			return EvolutionStart.of(population.append(pop), gen);
+		}
+
 		final Stream<Phenotype<G, C>> stream = Stream.concat(
 			population.stream(),
 			_genotypeFactory.instances()
@@ -45,7 +45,7 @@ import java.util.Objects;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 6.0
+ * @version 6.2
  */
 public final /*record*/ class EvolutionDurations
 	implements
@@ -64,6 +64,7 @@ public final /*record*/ class EvolutionDurations
 		Duration.ZERO,
 		Duration.ZERO,
 		Duration.ZERO,
+		Duration.ZERO,
 		Duration.ZERO
 	);
 
@@ -72,6 +73,7 @@ public final /*record*/ class EvolutionDurations
 	private final Duration _offspringAlterDuration;
 	private final Duration _offspringFilterDuration;
 	private final Duration _survivorFilterDuration;
+	private final Duration _repairDuration;
 	private final Duration _evaluationDuration;
 	private final Duration _evolveDuration;
 
@@ -81,6 +83,7 @@ public final /*record*/ class EvolutionDurations
 		final Duration offspringAlterDuration,
 		final Duration offspringFilterDuration,
 		final Duration survivorFilterDuration,
+		final Duration repairDuration,
 		final Duration evaluationDuration,
 		final Duration evolveDuration
 	) {
@@ -89,6 +92,7 @@ public final /*record*/ class EvolutionDurations
 		_offspringAlterDuration = requireNonNull(offspringAlterDuration);
 		_offspringFilterDuration = requireNonNull(offspringFilterDuration);
 		_survivorFilterDuration = requireNonNull(survivorFilterDuration);
+		_repairDuration = requireNonNull(repairDuration);
 		_evaluationDuration = requireNonNull(evaluationDuration);
 		_evolveDuration = requireNonNull(evolveDuration);
 	}
@@ -142,6 +146,22 @@ public final /*record*/ class EvolutionDurations
 		return _survivorFilterDuration;
 	}
 
+	/**
+	 * Return the duration needed for repairing the invalid offspring and
+	 * survivor individuals. The repair is part of the filter step and
+	 * therefore also contained in the {@link #offspringFilterDuration()} and
+	 * {@link #survivorFilterDuration()}. Since invalid individuals are
+	 * repaired concurrently, the returned value is the sum of the repair
+	 * durations of all concurrently executed repair tasks.
+	 *
+	 * @since 6.2
+	 *
+	 * @return the duration needed for repairing the invalid individuals
+	 */
+	public Duration repairDuration() {
+		return _repairDuration;
+	}
+
 	/**
 	 * Return the duration needed for evaluating the fitness function of the new
 	 * individuals.
@@ -181,6 +201,7 @@ public final /*record*/ class EvolutionDurations
 			_offspringAlterDuration.plus(other._offspringAlterDuration),
 			_offspringFilterDuration.plus(other._offspringFilterDuration),
 			_survivorFilterDuration.plus(other._survivorFilterDuration),
+			_repairDuration.plus(other._repairDuration),
 			_evaluationDuration.plus(other._evaluationDuration),
 			_evolveDuration.plus(other._evolveDuration)
 		);
@@ -193,6 +214,7 @@ public final /*record*/ class EvolutionDurations
 			_offspringAlterDuration,
 			_offspringFilterDuration,
 			_survivorFilterDuration,
+			_repairDuration,
 			_evaluationDuration.plus(duration),
 			_evolveDuration
 		);
@@ -205,6 +227,7 @@ public final /*record*/ class EvolutionDurations
 			_offspringAlterDuration,
 			_offspringFilterDuration,
 			_survivorFilterDuration,
+			_repairDuration,
 			_evaluationDuration,
 			_evolveDuration.plus(duration)
 		);
@@ -233,8 +256,9 @@ public final /*record*/ class EvolutionDurations
 			hash(_offspringAlterDuration,
 			hash(_offspringFilterDuration,
 			hash(_survivorsSelectionDuration,
+			hash(_repairDuration,
 			hash(_evaluationDuration,
-			hash(_evolveDuration)))))));
+			hash(_evolveDuration))))))));
 	}
 
 	@Override
@@ -251,6 +275,8 @@ public final /*record*/ class EvolutionDurations
 				((EvolutionDurations)obj)._offspringFilterDuration) &&
 			Objects.equals(_survivorFilterDuration,
 				((EvolutionDurations)obj)._survivorFilterDuration) &&
+			Objects.equals(_repairDuration,
+				((EvolutionDurations)obj)._repairDuration) &&
 			Objects.equals(_evaluationDuration,
 				((EvolutionDurations)obj)._evaluationDuration) &&
 			Objects.equals(_evolveDuration,
@@ -259,6 +285,51 @@ public final /*record*/ class EvolutionDurations
 
 	/**
 	 * Return an new {@code EvolutionDurations} object with the given values.
+	 * The {@link #repairDuration()} of the created object is set to
+	 * {@link Duration#ZERO}.
+	 *
+	 * @param offspringSelectionDuration the duration needed for selecting the
+	 *        offspring population
+	 * @param survivorsSelectionDuration the duration needed for selecting the
+	 *        survivors population
+	 * @param offspringAlterDuration the duration needed for altering the
+	 *        offspring population
+	 * @param offspringFilterDuration the duration needed for removing and
+	 *        replacing invalid offspring individuals
+	 * @param survivorFilterDuration the duration needed for removing and
+	 *        replacing old and invalid survivor individuals
+	 * @param evaluationDuration the duration needed for evaluating the fitness
+	 *        function of the new individuals
+	 * @param evolveDuration the duration needed for the whole evolve step
+	 * @return an new durations object
+	 * @throws NullPointerException if one of the arguments is
+	 *         {@code null}
+	 */
+	public static EvolutionDurations of(
+		final Duration offspringSelectionDuration,
+		final Duration survivorsSelectionDuration,
+		final Duration offspringAlterDuration,
+		final Duration offspringFilterDuration,
+		final Duration survivorFilterDuration,
+		final Duration evaluationDuration,
+		final Duration evolveDuration
+	) {
+		return new EvolutionDurations(
+			offspringSelectionDuration,
+			survivorsSelectionDuration,
+			offspringAlterDuration,
+			offspringFilterDuration,
+			survivorFilterDuration,
+			Duration.ZERO,
+			evaluationDuration,
+			evolveDuration
+		);
+	}
+
+	/**
+	 * Return an new {@code EvolutionDurations} object with the given values.
+	 *
+	 * @since 6.2
 	 *
 	 * @param offspringSelectionDuration the duration needed for selecting the
 	 *        offspring population
@@ -270,6 +341,8 @@ public final /*record*/ class EvolutionDurations
 	 *        replacing invalid offspring individuals
 	 * @param survivorFilterDuration the duration needed for removing and
 	 *        replacing old and invalid survivor individuals
+	 * @param repairDuration the duration needed for repairing the invalid
+	 *        offspring and survivor individuals
 	 * @param evaluationDuration the duration needed for evaluating the fitness
 	 *        function of the new individuals
 	 * @param evolveDuration the duration needed for the whole evolve step
@@ -283,6 +356,7 @@ public final /*record*/ class EvolutionDurations
 		final Duration offspringAlterDuration,
 		final Duration offspringFilterDuration,
 		final Duration survivorFilterDuration,
+		final Duration repairDuration,
 		final Duration evaluationDuration,
 		final Duration evolveDuration
 	) {
@@ -292,6 +366,7 @@ public final /*record*/ class EvolutionDurations
 			offspringAlterDuration,
 			offspringFilterDuration,
 			survivorFilterDuration,
+			repairDuration,
 			evaluationDuration,
 			evolveDuration
 		);
@@ -303,7 +378,7 @@ public final /*record*/ class EvolutionDurations
 	 * ************************************************************************/
 
 	private Object writeReplace() {
-		return new Serial(Serial.EVOLUTION_DURATIONS, this);
+		return new Serial(Serial.EVOLUTION_DURATIONS_REPAIR, this);
 	}
 
 	private void readObject(final ObjectInputStream stream)
@@ -320,6 +395,7 @@ public final /*record*/ class EvolutionDurations
 		writeDuration(_survivorFilterDuration, out);
 		writeDuration(_evaluationDuration, out);
 		writeDuration(_evolveDuration, out);
+		writeDuration(_repairDuration, out);
 	}
 
 	private static void writeDuration(final Duration duration, final DataOutput out)
@@ -329,15 +405,31 @@ public final /*record*/ class EvolutionDurations
 		writeInt(duration.getNano(), out);
 	}
 
-	static EvolutionDurations read(final ObjectInput in) throws IOException {
+	// The serial form of version 6.1 and earlier doesn't contain the repair
+	// duration, which is set to zero for these objects.
+	static EvolutionDurations read(final ObjectInput in, final boolean repair)
+		throws IOException
+	{
+		final Duration offspringSelectionDuration = readDuration(in);
+		final Duration survivorsSelectionDuration = readDuration(in);
+		final Duration offspringAlterDuration = readDuration(in);
+		final Duration offspringFilterDuration = readDuration(in);
+		final Duration survivorFilterDuration = readDuration(in);
+		final Duration evaluationDuration = readDuration(in);
+		final Duration evolveDuration = readDuration(in);
+		final Duration repairDuration = repair
+			? readDuration(in)
+			: Duration.ZERO;
+
 		return new EvolutionDurations(
-			readDuration(in),
-			readDuration(in),
-			readDuration(in),
-			readDuration(in),
-			readDuration(in),
-			readDuration(in),
-			readDuration(in)
+			offspringSelectionDuration,
+			survivorsSelectionDuration,
+			offspringAlterDuration,
+			offspringFilterDuration,
+			survivorFilterDuration,
+			repairDuration,
+			evaluationDuration,
+			evolveDuration
 		);
 	}
 
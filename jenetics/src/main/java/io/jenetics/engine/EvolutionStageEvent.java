@@ -0,0 +1,110 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.function.Supplier;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of one stage of an evolution step, e.g. the offspring
+ * selection or the evaluation of the population.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+@Name("io.jenetics.EvolutionStage")
+@Label("Evolution Stage")
+@Category({"Jenetics", "Engine"})
+@Description("Execution of one stage of an evolution step.")
+@StackTrace(false)
+final class EvolutionStageEvent extends Event {
+
+	static final String OFFSPRING_SELECTION = "Offspring Selection";
+	static final String SURVIVORS_SELECTION = "Survivors Selection";
+	static final String OFFSPRING_ALTER = "Offspring Alteration";
+	static final String OFFSPRING_FILTER = "Offspring Filter";
+	static final String SURVIVORS_FILTER = "Survivors Filter";
+	static final String EVALUATION = "Evaluation";
+	static final String INTERCEPTOR_BEFORE = "Interceptor Before";
+	static final String INTERCEPTOR_AFTER = "Interceptor After";
+
+	@Label("Stage")
+	String stage;
+
+	@Label("Generation")
+	long generation;
+
+	@Label("Population Size")
+	int populationSize;
+
+	/**
+	 * Executes the given stage {@code task} and records its execution.
+	 *
+	 * @param stage the name of the evolution stage
+	 * @param generation the current generation
+	 * @param populationSize the size of the processed population
+	 * @param task the stage task
+	 * @param <T> the result type of the stage
+	 * @return the result of the stage task
+	 */
+	static <T> T record(
+		final String stage,
+		final long generation,
+		final int populationSize,
+		final Supplier<T> task
+	) {
+		final EvolutionStageEvent event = new EvolutionStageEvent();
+		event.begin();
+		try {
+			return task.get();
+		} finally {
+			event.commit(stage, generation, populationSize);
+		}
+	}
+
+	/**
+	 * Ends the event and commits it, if it passes the configured thresholds.
+	 *
+	 * @param stage the name of the evolution stage
+	 * @param generation the current generation
+	 * @param populationSize the size of the processed population
+	 */
+	void commit(
+		final String stage,
+		final long generation,
+		final int populationSize
+	) {
+		end();
+		if (shouldCommit()) {
+			this.stage = stage;
+			this.generation = generation;
+			this.populationSize = populationSize;
+			commit();
+		}
+	}
+
+}
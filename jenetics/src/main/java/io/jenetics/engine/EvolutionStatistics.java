@@ -19,18 +19,25 @@
  */
 package io.jenetics.engine;
 
+import static java.lang.Math.min;
 import static java.lang.Math.sqrt;
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 
 import java.text.NumberFormat;
 import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 import io.jenetics.Phenotype;
+import io.jenetics.internal.util.Concurrency;
 import io.jenetics.stat.DoubleMomentStatistics;
 import io.jenetics.stat.IntMomentStatistics;
 import io.jenetics.stat.LongMomentStatistics;
 import io.jenetics.stat.MinMax;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
 
 /**
  * This class can be used to gather additional statistic information of an
@@ -83,9 +90,14 @@ import io.jenetics.stat.MinMax;
  * +---------------------------------------------------------------------------+
  * }</pre>
  *
+ * For large populations, the statistics object can be created with an
+ * {@link Executor}, e.g. {@link #ofNumber(Executor)}. The population
+ * statistics are then calculated concurrently for chunks of the population
+ * and merged afterwards.
+ *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 6.0
+ * @version 6.2
  */
 public abstract class EvolutionStatistics<
 	C extends Comparable<? super C>,
@@ -113,7 +125,13 @@ public abstract class EvolutionStatistics<
 	final LongMomentStatistics _age = new LongMomentStatistics();
 	FitnessStatistics _fitness = null;
 
-	EvolutionStatistics() {
+	// The minimal number of phenotypes processed by one concurrent task.
+	private static final int MIN_CHUNK_SIZE = 10_000;
+
+	private final Executor _executor;
+
+	EvolutionStatistics(final Executor executor) {
+		_executor = requireNonNull(executor);
 	}
 
 	@Override
@@ -124,12 +142,97 @@ public abstract class EvolutionStatistics<
 		_invalids.accept(result.invalidCount());
 		_altered.accept(result.alterCount());
 
-		result.population()
-			.forEach(pt -> accept(pt, result.generation()));
+		accept(result.population(), result.generation());
+	}
+
+	// Calculate the population statistics, concurrently if possible.
+	private void accept(
+		final Seq<? extends Phenotype<?, C>> population,
+		final long generation
+	) {
+		final int chunks = _executor == Concurrency.SERIAL_EXECUTOR
+			? 1
+			: min(Concurrency.CORES, population.size()/MIN_CHUNK_SIZE);
+
+		if (chunks <= 1) {
+			for (Phenotype<?, C> pt : population) {
+				_age.accept(pt.age(generation));
+				accept(_fitness, pt.fitness());
+			}
+		} else {
+			final MSeq<PopulationStatistics> tasks = MSeq.ofLength(chunks);
+			for (int i = 0; i < chunks; ++i) {
+				tasks.set(i, new PopulationStatistics(
+					population,
+					generation,
+					(int)((long)population.size()*i/chunks),
+					(int)((long)population.size()*(i + 1)/chunks)
+				));
+			}
+
+			try (var c = Concurrency.with(_executor)) {
+				c.execute(tasks);
+			}
+
+			for (PopulationStatistics task : tasks) {
+				_age.combine(task._age);
+				combine(_fitness, task._fitness);
+			}
+		}
 	}
 
-	void accept(final Phenotype<?, C> pt, final long generation) {
-		_age.accept(pt.age(generation));
+	/**
+	 * Create a new, empty fitness statistics object.
+	 */
+	abstract FitnessStatistics newFitnessStatistics();
+
+	/**
+	 * Update the given fitness {@code statistics} with the {@code fitness}
+	 * value.
+	 */
+	abstract void accept(final FitnessStatistics statistics, final C fitness);
+
+	/**
+	 * Combine the {@code other} fitness statistics into the {@code statistics}
+	 * object.
+	 */
+	abstract void combine(
+		final FitnessStatistics statistics,
+		final FitnessStatistics other
+	);
+
+	/**
+	 * Collects the statistics of one population chunk.
+	 */
+	private final class PopulationStatistics implements Runnable {
+		private final Seq<? extends Phenotype<?, C>> _population;
+		private final long _generation;
+		private final int _start;
+		private final int _end;
+
+		private final LongMomentStatistics _age = new LongMomentStatistics();
+		private final FitnessStatistics _fitness = newFitnessStatistics();
+
+		PopulationStatistics(
+			final Seq<? extends Phenotype<?, C>> population,
+			final long generation,
+			final int start,
+			final int end
+		) {
+			_population = population;
+			_generation = generation;
+			_start = start;
+			_end = end;
+		}
+
+		@Override
+		public void run() {
+			for (int i = _start; i < _end; ++i) {
+				final Phenotype<?, C> pt = _population.get(i);
+				_age.accept(pt.age(_generation));
+				accept(_fitness, pt.fitness());
+			}
+		}
 	}
 
 	// Calculate duration statistics
@@ -318,23 +421,36 @@ public abstract class EvolutionStatistics<
 		>
 		extends EvolutionStatistics<C, MinMax<C>>
 	{
-		private Comp() {
+		private Comparator<? super C> _comparator = Comparator.naturalOrder();
+
+		private Comp(final Executor executor) {
+			super(executor);
 			_fitness = MinMax.of();
 		}
 
 		@Override
 		public void accept(final EvolutionResult<?, C> result) {
 			if (_fitness.max() == null) {
-				_fitness = MinMax.of(result.optimize().ascending());
+				_comparator = result.optimize().ascending();
+				_fitness = MinMax.of(_comparator);
 			}
 
 			super.accept(result);
 		}
 
 		@Override
-		void accept(final Phenotype<?, C> pt, final long generation) {
-			super.accept(pt, generation);
-			_fitness.accept(pt.fitness());
+		MinMax<C> newFitnessStatistics() {
+			return MinMax.of(_comparator);
+		}
+
+		@Override
+		void accept(final MinMax<C> statistics, final C fitness) {
+			statistics.accept(fitness);
+		}
+
+		@Override
+		void combine(final MinMax<C> statistics, final MinMax<C> other) {
+			statistics.combine(other);
 		}
 
 		@Override
@@ -354,14 +470,27 @@ public abstract class EvolutionStatistics<
 	private static final class Num<N extends Number & Comparable<? super N>>
 		extends EvolutionStatistics<N, DoubleMomentStatistics>
 	{
-		private Num() {
+		private Num(final Executor executor) {
+			super(executor);
 			_fitness = new DoubleMomentStatistics();
 		}
 
 		@Override
-		void accept(final Phenotype<?, N> pt, final long generation) {
-			super.accept(pt, generation);
-			_fitness.accept(pt.fitness().doubleValue());
+		DoubleMomentStatistics newFitnessStatistics() {
+			return new DoubleMomentStatistics();
+		}
+
+		@Override
+		void accept(final DoubleMomentStatistics statistics, final N fitness) {
+			statistics.accept(fitness.doubleValue());
+		}
+
+		@Override
+		void combine(
+			final DoubleMomentStatistics statistics,
+			final DoubleMomentStatistics other
+		) {
+			statistics.combine(other);
 		}
 
 		@Override
@@ -387,12 +516,56 @@ public abstract class EvolutionStatistics<
 
 	public static <C extends Comparable<? super C>>
 	EvolutionStatistics<C, MinMax<C>> ofComparable() {
-		return new Comp<>();
+		return new Comp<>(Concurrency.SERIAL_EXECUTOR);
+	}
+
+	/**
+	 * Return a new statistics object for {@code Comparable} fitness values.
+	 * The population statistics are calculated concurrently, by the given
+	 * {@code executor}, for large populations.
+	 *
+	 * @since 6.2
+	 *
+	 * @param executor the executor used for calculating the population
+	 *        statistics
+	 * @param <C> the fitness type
+	 * @return a new statistics object
+	 * @throws NullPointerException if the given {@code executor} is
+	 *         {@code null}
+	 */
+	public static <C extends Comparable<? super C>>
+	EvolutionStatistics<C, MinMax<C>> ofComparable(final Executor executor) {
+		return new Comp<>(executor);
 	}
 
 	public static <N extends Number & Comparable<? super N>>
 	EvolutionStatistics<N, DoubleMomentStatistics> ofNumber() {
-		return new Num<>();
+		return new Num<>(Concurrency.SERIAL_EXECUTOR);
+	}
+
+	/**
+	 * Return a new statistics object for {@code Number} fitness values. The
+	 * population statistics are calculated concurrently, by the given
+	 * {@code executor}, for large populations.
+	 *
+	 * <pre>{@code
+	 * final EvolutionStatistics<Double, DoubleMomentStatistics> statistics =
+	 *     EvolutionStatistics.ofNumber(ForkJoinPool.commonPool());
+	 * }</pre>
+	 *
+	 * @since 6.2
+	 *
+	 * @param executor the executor used for calculating the population
+	 *        statistics
+	 * @param <N> the fitness type
+	 * @return a new statistics object
+	 * @throws NullPointerException if the given {@code executor} is
+	 *         {@code null}
+	 */
+	public static <N extends Number & Comparable<? super N>>
+	EvolutionStatistics<N, DoubleMomentStatistics>
+	ofNumber(final Executor executor) {
+		return new Num<>(executor);
 	}
 
 }
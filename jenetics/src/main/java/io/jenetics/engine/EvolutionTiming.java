@@ -23,7 +23,7 @@ import java.time.Clock;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.2
  * @since 5.0
  */
 final class EvolutionTiming {
@@ -33,6 +33,7 @@ final class EvolutionTiming {
 	final Timing offspringAlter;
 	final Timing offspringFilter;
 	final Timing survivorFilter;
+	final Timing repair;
 	final Timing evaluation;
 	final Timing evolve;
 
@@ -42,6 +43,7 @@ final class EvolutionTiming {
 		offspringAlter = Timing.of(clock);
 		offspringFilter = Timing.of(clock);
 		survivorFilter = Timing.of(clock);
+		repair = Timing.of(clock);
 		evaluation = Timing.of(clock);
 		evolve = Timing.of(clock);
 	}
@@ -54,6 +56,7 @@ final class EvolutionTiming {
 			offspringAlter.duration(),
 			offspringFilter.duration(),
 			survivorFilter.duration(),
+			repair.duration(),
 			evaluation.duration(),
 			evolve.duration()
 		);
@@ -0,0 +1,58 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of one {@link Engine#evolve(EvolutionStart)} call.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+@Name("io.jenetics.Evolve")
+@Label("Evolve")
+@Category({"Jenetics", "Engine"})
+@Description("Evolution of one generation.")
+@StackTrace(false)
+final class EvolveEvent extends Event {
+
+	@Label("Generation")
+	long generation;
+
+	@Label("Population Size")
+	int populationSize;
+
+	@Label("Kill Count")
+	int killCount;
+
+	@Label("Invalid Count")
+	int invalidCount;
+
+	@Label("Alter Count")
+	int alterCount;
+
+}
@@ -23,35 +23,78 @@ import static java.util.Objects.requireNonNull;
 
 import io.jenetics.Gene;
 import io.jenetics.Phenotype;
-import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
 
 /**
- * Represent the result of the validation/filtering step.
+ * Represent the result of the validation/filtering step. The filtered
+ * population is not copied. Instead, the indexes of the removed individuals
+ * and its replacements are stored, and applied when the filtered individuals
+ * are written into the population of the next generation.
  *
  * @param <G> the gene type
  * @param <C> the fitness type
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 4.0
+ * @version 6.2
  */
 final class FilterResult<
 	G extends Gene<?, G>,
 	C extends Comparable<? super C>
 > {
 
-	final ISeq<Phenotype<G, C>> population;
+	private final Seq<Phenotype<G, C>> _population;
+	private final int[] _indexes;
+	private final Seq<Phenotype<G, C>> _replacements;
+
 	final int killCount;
 	final int invalidCount;
 
 	FilterResult(
-		final ISeq<Phenotype<G, C>> population,
+		final Seq<Phenotype<G, C>> population,
+		final int[] indexes,
+		final Seq<Phenotype<G, C>> replacements,
 		final int killCount,
 		final int invalidCount
 	) {
-		this.population = requireNonNull(population);
+		if (indexes.length != replacements.size()) {
+			throw new IllegalArgumentException(
+				"Indexes and replacements must have the same size."
+			);
+		}
+
+		_population = requireNonNull(population);
+		_indexes = indexes;
+		_replacements = replacements;
 		this.killCount = killCount;
 		this.invalidCount = invalidCount;
 	}
 
+	/**
+	 * Return the size of the filtered population.
+	 *
+	 * @return the size of the filtered population
+	 */
+	int size() {
+		return _population.size();
+	}
+
+	/**
+	 * Writes the filtered population into the given {@code target} sequence,
+	 * starting at the given {@code offset}.
+	 *
+	 * @param target the target sequence
+	 * @param offset the start index of the filtered population in the target
+	 *        sequence
+	 */
+	void copyTo(final MSeq<Phenotype<G, C>> target, final int offset) {
+		for (int i = 0, n = _population.size(); i < n; ++i) {
+			target.set(offset + i, _population.get(i));
+		}
+		for (int i = 0; i < _indexes.length; ++i) {
+			target.set(offset + _indexes[i], _replacements.get(i));
+		}
+	}
+
 }
@@ -22,18 +22,13 @@ package io.jenetics.engine;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
-import io.jenetics.Chromosome;
-import io.jenetics.Genotype;
 import io.jenetics.NumericGene;
-import io.jenetics.Phenotype;
-import io.jenetics.stat.DoubleMomentStatistics;
+import io.jenetics.internal.util.Concurrency;
+import io.jenetics.stat.ColumnMomentStatistics;
 import io.jenetics.stat.DoubleMoments;
-import io.jenetics.util.ISeq;
-import io.jenetics.util.Seq;
 
 /**
  * A termination method that stops the evolution when a user-specified percentage
@@ -43,7 +38,7 @@ import io.jenetics.util.Seq;
  * away from the maximum gene value across the genotypes.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.2
+ * @version 6.2
  * @since 4.0
  */
 final class GeneConvergenceLimit<G extends NumericGene<?, G>>
@@ -52,10 +47,12 @@ final class GeneConvergenceLimit<G extends NumericGene<?, G>>
 
 	private final Predicate<DoubleMoments> _convergence;
 	private final double _convergenceRate;
+	private final Executor _executor;
 
 	GeneConvergenceLimit(
 		final Predicate<DoubleMoments> convergence,
-		final double convergenceRate
+		final double convergenceRate,
+		final Executor executor
 	) {
 		if (convergenceRate < 0.0 || convergenceRate > 1.0) {
 			throw new IllegalArgumentException(format(
@@ -65,40 +62,33 @@ final class GeneConvergenceLimit<G extends NumericGene<?, G>>
 		}
 		_convergence = requireNonNull(convergence);
 		_convergenceRate = convergenceRate;
+		_executor = requireNonNull(executor);
 	}
 
-	@Override
-	public boolean test(final EvolutionResult<G, ?> result) {
-		final ISeq<DoubleMoments> stat = statistics(result.population());
-
-		return result.totalGenerations() <= 1 ||
-			stat.stream()
-				.filter(_convergence)
-				.count() <= _convergenceRate*stat.size();
+	GeneConvergenceLimit(
+		final Predicate<DoubleMoments> convergence,
+		final double convergenceRate
+	) {
+		this(convergence, convergenceRate, Concurrency.SERIAL_EXECUTOR);
 	}
 
-	private static <G extends NumericGene<?, G>> ISeq<DoubleMoments>
-	statistics(final Seq<? extends Phenotype<G, ?>> population) {
-		final Map<Long, DoubleMomentStatistics> statistics = new HashMap<>();
-
-		for (Phenotype<G, ?> pt : population) {
-			final Genotype<G> gt = pt.genotype();
+	@Override
+	public boolean test(final EvolutionResult<G, ?> result) {
+		if (result.totalGenerations() <= 1) {
+			return true;
+		}
 
-			for (int i = 0; i < gt.length(); ++i) {
-				final Chromosome<G> ch = gt.get(i);
+		final ColumnMomentStatistics stat =
+			GeneStatistics.of(result.population(), _executor);
 
-				for (int j = 0; j < ch.length(); ++j) {
-					statistics
-						.computeIfAbsent(((long)i << 32) | (j & 0xffffffffL),
-							k -> new DoubleMomentStatistics())
-						.accept(ch.get(j).doubleValue());
-				}
+		int converged = 0;
+		for (int i = 0; i < stat.columns(); ++i) {
+			if (_convergence.test(stat.toDoubleMoments(i))) {
+				++converged;
 			}
 		}
 
-		return statistics.values().stream()
-			.map(DoubleMomentStatistics::toDoubleMoments)
-			.collect(ISeq.toISeq());
+		return converged <= _convergenceRate*stat.columns();
 	}
 
 }
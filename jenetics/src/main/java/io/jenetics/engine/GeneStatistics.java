@@ -0,0 +1,214 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+
+import io.jenetics.Chromosome;
+import io.jenetics.Genotype;
+import io.jenetics.NumericGene;
+import io.jenetics.Phenotype;
+import io.jenetics.internal.util.Concurrency;
+import io.jenetics.stat.ColumnMomentStatistics;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Calculates the statistics of the gene values of a population, for every
+ * gene position. It can be used as a measure of the population diversity, e.g.
+ * by evolution limits or interceptors. The gene at position {@code j} of the
+ * chromosome with index {@code i} is mapped to the column
+ * {@code offset(i) + j} of the returned {@link ColumnMomentStatistics}, where
+ * {@code offset(i)} is the sum of the (maximal) lengths of the chromosomes
+ * {@code 0..i-1}.
+ *
+ * <pre>{@code
+ * final ColumnMomentStatistics statistics =
+ *     GeneStatistics.of(result.population());
+ *
+ * final double[] variances = IntStream.range(0, statistics.columns())
+ *     .mapToDouble(statistics::variance)
+ *     .toArray();
+ * }</pre>
+ *
+ * @see Limits#byGeneConvergence(java.util.function.Predicate, double)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+public final class GeneStatistics {
+	private GeneStatistics() {}
+
+	/**
+	 * The minimal number of genes, processed by one concurrent task.
+	 */
+	private static final int MIN_CHUNK_GENES = 1 << 16;
+
+	/**
+	 * Calculates the gene statistics of the given {@code population}.
+	 *
+	 * @param population the population
+	 * @param <G> the gene type
+	 * @return the statistics of every gene position
+	 * @throws NullPointerException if the {@code population} is {@code null}
+	 */
+	public static <G extends NumericGene<?, G>> ColumnMomentStatistics
+	of(final Seq<? extends Phenotype<G, ?>> population) {
+		return of(population, Concurrency.SERIAL_EXECUTOR);
+	}
+
+	/**
+	 * Calculates the gene statistics of the given {@code population}. The
+	 * population is split into chunks, which are processed concurrently by the
+	 * given {@code executor}. The statistics of the chunks are combined
+	 * afterwards.
+	 *
+	 * @param population the population
+	 * @param executor the executor used for processing the population chunks
+	 * @param <G> the gene type
+	 * @return the statistics of every gene position
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <G extends NumericGene<?, G>> ColumnMomentStatistics
+	of(
+		final Seq<? extends Phenotype<G, ?>> population,
+		final Executor executor
+	) {
+		requireNonNull(population);
+		requireNonNull(executor);
+
+		final int[] offsets = offsets(population);
+		final int columns = offsets[offsets.length - 1];
+
+		final int chunks = executor == Concurrency.SERIAL_EXECUTOR || columns == 0
+			? 1
+			: max(1, min(
+				population.size(),
+				(int)((long)population.size()*columns/MIN_CHUNK_GENES)
+			));
+
+		final ColumnMomentStatistics statistics;
+		if (chunks <= 1) {
+			statistics = new ColumnMomentStatistics(columns);
+			accept(statistics, population, 0, population.size(), offsets);
+		} else {
+			final MSeq<ChunkStatistics<G>> tasks = MSeq.ofLength(chunks);
+			for (int i = 0; i < chunks; ++i) {
+				tasks.set(i, new ChunkStatistics<>(
+					population,
+					(int)((long)population.size()*i/chunks),
+					(int)((long)population.size()*(i + 1)/chunks),
+					offsets
+				));
+			}
+
+			try (var c = Concurrency.with(executor)) {
+				c.execute(tasks);
+			}
+
+			statistics = tasks.get(0)._statistics;
+			for (int i = 1; i < chunks; ++i) {
+				statistics.combine(tasks.get(i)._statistics);
+			}
+		}
+
+		return statistics;
+	}
+
+	/*
+	 * Return the column offsets of the chromosomes. The last element of the
+	 * returned array contains the total number of columns.
+	 */
+	private static int[] offsets(final Seq<? extends Phenotype<?, ?>> population) {
+		int[] lengths = new int[0];
+		for (Phenotype<?, ?> pt : population) {
+			final Genotype<?> gt = pt.genotype();
+			if (gt.length() > lengths.length) {
+				lengths = Arrays.copyOf(lengths, gt.length());
+			}
+			for (int i = 0; i < gt.length(); ++i) {
+				lengths[i] = max(lengths[i], gt.get(i).length());
+			}
+		}
+
+		final int[] offsets = new int[lengths.length + 1];
+		for (int i = 0; i < lengths.length; ++i) {
+			offsets[i + 1] = offsets[i] + lengths[i];
+		}
+
+		return offsets;
+	}
+
+	private static <G extends NumericGene<?, G>> void accept(
+		final ColumnMomentStatistics statistics,
+		final Seq<? extends Phenotype<G, ?>> population,
+		final int start,
+		final int end,
+		final int[] offsets
+	) {
+		for (int p = start; p < end; ++p) {
+			final Genotype<G> gt = population.get(p).genotype();
+
+			for (int i = 0; i < gt.length(); ++i) {
+				final Chromosome<G> ch = gt.get(i);
+				final int offset = offsets[i];
+
+				for (int j = 0; j < ch.length(); ++j) {
+					statistics.accept(offset + j, ch.get(j).doubleValue());
+				}
+			}
+		}
+	}
+
+	private static final class ChunkStatistics<G extends NumericGene<?, G>>
+		implements Runnable
+	{
+		private final Seq<? extends Phenotype<G, ?>> _population;
+		private final int _start;
+		private final int _end;
+		private final int[] _offsets;
+		private final ColumnMomentStatistics _statistics;
+
+		ChunkStatistics(
+			final Seq<? extends Phenotype<G, ?>> population,
+			final int start,
+			final int end,
+			final int[] offsets
+		) {
+			_population = population;
+			_start = start;
+			_end = end;
+			_offsets = offsets;
+			_statistics = new ColumnMomentStatistics(offsets[offsets.length - 1]);
+		}
+
+		@Override
+		public void run() {
+			accept(_statistics, _population, _start, _end, _offsets);
+		}
+	}
+
+}
@@ -25,6 +25,7 @@ import static java.lang.String.format;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
@@ -43,7 +44,7 @@ import io.jenetics.util.NanoClock;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 3.7
+ * @version 6.2
  */
 public final class Limits {
 	private Limits() {}
@@ -420,6 +421,44 @@ public final class Limits {
 		return new GeneConvergenceLimit<>(geneConvergence, convergedGeneRate);
 	}
 
+	/**
+	 * A termination method that stops the evolution when a user-specified
+	 * percentage of the genes ({@code convergedGeneRage}) that make up a
+	 * {@code Genotype} are deemed as converged. The gene statistics of big
+	 * populations are calculated concurrently with the given
+	 * {@code executor}, which usually is the executor of the evolution
+	 * {@link Engine}.
+	 *
+	 * @since 6.2
+	 * @see #byGeneConvergence(Predicate, double)
+	 * @see GeneStatistics#of(io.jenetics.util.Seq, Executor)
+	 *
+	 * @param geneConvergence predicate which defines when a gene is deemed as
+	 *        converged, by using the statistics of this gene over all genotypes
+	 *        of the population
+	 * @param convergedGeneRate the percentage of genes which must be converged
+	 *        for truncating the evolution stream
+	 * @param executor the executor used for calculating the gene statistics
+	 * @param <G> the gene type
+	 * @return a new gene convergence predicate
+	 * @throws NullPointerException if the given gene convergence predicate or
+	 *         the {@code executor} is {@code null}
+	 * @throws IllegalArgumentException if the {@code convergedGeneRate} is not
+	 *         within the range {@code [0, 1]}
+	 */
+	public static <G extends NumericGene<?, G>> Predicate<EvolutionResult<G, ?>>
+	byGeneConvergence(
+		final Predicate<DoubleMoments> geneConvergence,
+		final double convergedGeneRate,
+		final Executor executor
+	) {
+		return new GeneConvergenceLimit<>(
+			geneConvergence,
+			convergedGeneRate,
+			executor
+		);
+	}
+
 	/**
 	 * A termination method that stops the evolution when a user-specified
 	 * percentage of the genes ({@code convergedGeneRage}) that make up a
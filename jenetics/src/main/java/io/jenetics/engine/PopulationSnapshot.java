@@ -0,0 +1,424 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.SerialIO.readInt;
+import static io.jenetics.internal.util.SerialIO.readLong;
+import static io.jenetics.internal.util.SerialIO.writeInt;
+import static io.jenetics.internal.util.SerialIO.writeLong;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.Gene;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.LongChromosome;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.internal.engine.PhenotypeCodec;
+import io.jenetics.internal.util.ByteBufferDataInput;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Compact, binary snapshot of a population or an {@link EvolutionResult}. The
+ * snapshot file is read via a memory-mapped {@link FileChannel} and the
+ * individuals are decoded lazily, when they are accessed. This allows to open
+ * checkpoints of big populations without deserializing the whole population
+ * first.
+ *
+ * <pre>{@code
+ * final EvolutionResult<DoubleGene, Double> result = ...;
+ * PopulationSnapshot.write(Path.of("population.bin"), result);
+ *
+ * final PopulationSnapshot<DoubleGene, Double> snapshot =
+ *     PopulationSnapshot.open(Path.of("population.bin"));
+ * final Phenotype<DoubleGene, Double> pt = snapshot.get(10);
+ * }</pre>
+ *
+ * The snapshot consists of a header, an offset table and the individual
+ * records. The header contains the evolution result meta data, if any, and
+ * the <em>layout</em> of the genotype, which is shared by all individuals:
+ * the gene ranges and length ranges of the chromosomes. The individual
+ * records only contain the gene values, the generation and the fitness of the
+ * phenotypes. Integral values are written with the variable-length zig-zag
+ * encoding of {@link io.jenetics.internal.util.SerialIO} and the genes of an
+ * {@code IntegerChromosome} and {@code LongChromosome} are delta encoded.
+ * <p>
+ * The supported chromosome types are {@link BitChromosome},
+ * {@link DoubleChromosome}, {@link IntegerChromosome} and
+ * {@link LongChromosome}. The fitness values must be of type {@link Double},
+ * {@link Integer} or {@link Long}. All individuals must have the same genotype
+ * layout.
+ *
+ * @implNote
+ * The size of a snapshot file is limited to {@link Integer#MAX_VALUE} bytes.
+ * The {@link EvolutionDurations} of a stored evolution result are not part of
+ * the snapshot. Instances of this class are thread safe.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+public final class PopulationSnapshot<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	private static final int MAGIC = 0x4A50534E; // JPSN
+	private static final byte VERSION = 1;
+
+	private final ByteBuffer _buffer;
+	private final int _size;
+	private final int _table;
+	private final PhenotypeCodec _codec;
+	private final EvolutionResult<G, C> _result;
+
+	private PopulationSnapshot(final ByteBuffer buffer) throws IOException {
+		final var in = new ByteBufferDataInput(buffer.duplicate());
+		if (in.readInt() != MAGIC) {
+			throw new StreamCorruptedException("Not a population snapshot.");
+		}
+		final byte version = in.readByte();
+		if (version != VERSION) {
+			throw new StreamCorruptedException(format(
+				"Unsupported snapshot version: %d", version
+			));
+		}
+
+		_size = readInt(in);
+		_codec = PhenotypeCodec.readHeader(in);
+
+		final EvolutionResult<G, C> result;
+		if (in.readBoolean()) {
+			result = EvolutionResult.of(
+				Optimize.values()[in.readByte()],
+				ISeq.empty(),
+				readLong(in),
+				readLong(in),
+				EvolutionDurations.ZERO,
+				readInt(in),
+				readInt(in),
+				readInt(in)
+			);
+		} else {
+			result = null;
+		}
+
+		_buffer = buffer;
+		_table = in.buffer().position();
+		_result = result;
+	}
+
+	/**
+	 * Return the number of individuals of the snapshot.
+	 *
+	 * @return the number of individuals of the snapshot
+	 */
+	public int size() {
+		return _size;
+	}
+
+	/**
+	 * Decodes the individual with the given {@code index}.
+	 *
+	 * @param index the index of the individual
+	 * @return the decoded individual
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= size())}
+	 * @throws UncheckedIOException if the individual record is corrupt
+	 */
+	public Phenotype<G, C> get(final int index) {
+		if (index < 0 || index >= _size) {
+			throw new IndexOutOfBoundsException(format(
+				"Index %d is out of bounds [0, %d)", index, _size
+			));
+		}
+
+		final ByteBuffer buffer = _buffer.duplicate();
+		buffer.position((int)buffer.getLong(_table + Long.BYTES*index));
+
+		try {
+			return _codec.read(new ByteBufferDataInput(buffer));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Return a stream of the lazily decoded individuals of the snapshot. The
+	 * returned stream can be used in parallel.
+	 *
+	 * @return a stream of the individuals of the snapshot
+	 */
+	public Stream<Phenotype<G, C>> stream() {
+		return IntStream.range(0, _size).mapToObj(this::get);
+	}
+
+	/**
+	 * Decodes all individuals of the snapshot.
+	 *
+	 * @return the population of the snapshot
+	 * @throws UncheckedIOException if an individual record is corrupt
+	 */
+	public ISeq<Phenotype<G, C>> population() {
+		final MSeq<Phenotype<G, C>> population = MSeq.ofLength(_size);
+		for (int i = 0; i < _size; ++i) {
+			population.set(i, get(i));
+		}
+		return population.toISeq();
+	}
+
+	/**
+	 * Return the evolution result of the snapshot, if it has been written with
+	 * {@link #write(Path, EvolutionResult)}. The population of the result is
+	 * fully decoded and the durations of the result are
+	 * {@link EvolutionDurations#ZERO}.
+	 *
+	 * @return the evolution result of the snapshot, or
+	 *         {@link Optional#empty()} if the snapshot only contains a
+	 *         population
+	 * @throws UncheckedIOException if an individual record is corrupt
+	 */
+	public Optional<EvolutionResult<G, C>> result() {
+		return Optional.ofNullable(_result)
+			.map(r -> EvolutionResult.of(
+				r.optimize(),
+				population(),
+				r.generation(),
+				r.totalGenerations(),
+				r.durations(),
+				r.killCount(),
+				r.invalidCount(),
+				r.alterCount()
+			));
+	}
+
+	@Override
+	public String toString() {
+		return format("PopulationSnapshot[size=%d]", _size);
+	}
+
+	/**
+	 * Opens the population snapshot, written to the given {@code path}. The
+	 * file is memory-mapped and only the header of the snapshot is read. The
+	 * individuals are decoded when they are accessed.
+	 *
+	 * @param path the snapshot file
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the opened population snapshot
+	 * @throws NullPointerException if the given {@code path} is {@code null}
+	 * @throws IOException if the snapshot file can't be read or is invalid
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	PopulationSnapshot<G, C> open(final Path path) throws IOException {
+		requireNonNull(path);
+
+		try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw new IOException(format(
+					"Snapshot file is too big: %d bytes", channel.size()
+				));
+			}
+
+			final ByteBuffer buffer = channel
+				.map(MapMode.READ_ONLY, 0, channel.size());
+
+			try {
+				return new PopulationSnapshot<>(buffer);
+			} catch (RuntimeException e) {
+				throw new StreamCorruptedException(e.toString());
+			}
+		}
+	}
+
+	/* *************************************************************************
+	 * Writing
+	 * ************************************************************************/
+
+	/**
+	 * Writes the given {@code population} to the given {@code path}. An
+	 * existing file is overwritten.
+	 *
+	 * @param path the snapshot file
+	 * @param population the population to write
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the population contains unsupported
+	 *         chromosome or fitness types, or the individuals have different
+	 *         genotype layouts
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	void write(final Path path, final Seq<? extends Phenotype<G, C>> population)
+		throws IOException
+	{
+		write(path, population, null);
+	}
+
+	/**
+	 * Writes the given evolution {@code result} to the given {@code path}. An
+	 * existing file is overwritten. The {@link EvolutionResult#durations()}
+	 * are not part of the snapshot.
+	 *
+	 * @param path the snapshot file
+	 * @param result the evolution result to write
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the population contains unsupported
+	 *         chromosome or fitness types, or the individuals have different
+	 *         genotype layouts
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	void write(final Path path, final EvolutionResult<G, C> result)
+		throws IOException
+	{
+		write(path, result.population(), result);
+	}
+
+	private static void write(
+		final Path path,
+		final Seq<? extends Phenotype<?, ?>> population,
+		final EvolutionResult<?, ?> result
+	)
+		throws IOException
+	{
+		requireNonNull(path);
+		requireNonNull(population);
+
+		final PhenotypeCodec codec = PhenotypeCodec.of(population);
+
+		final var header = new ByteArrayOutputStream();
+		final var hout = new DataOutputStream(header);
+		hout.writeInt(MAGIC);
+		hout.writeByte(VERSION);
+		writeInt(population.size(), hout);
+		codec.writeHeader(hout);
+
+		hout.writeBoolean(result != null);
+		if (result != null) {
+			hout.writeByte(result.optimize().ordinal());
+			writeLong(result.generation(), hout);
+			writeLong(result.totalGenerations(), hout);
+			writeInt(result.killCount(), hout);
+			writeInt(result.invalidCount(), hout);
+			writeInt(result.alterCount(), hout);
+		}
+		hout.flush();
+
+		final long[] offsets = new long[population.size()];
+		final long start = header.size() + (long)Long.BYTES*offsets.length;
+
+		try (var channel = FileChannel.open(
+				path,
+				StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING))
+		{
+			channel.position(start);
+			final var out = new CountingOutputStream(
+				new BufferedOutputStream(Channels.newOutputStream(channel))
+			);
+			final var dout = new DataOutputStream(out);
+
+			for (int i = 0; i < offsets.length; ++i) {
+				offsets[i] = start + out.count;
+				if (offsets[i] > Integer.MAX_VALUE) {
+					throw new IOException("Population is too big for snapshot.");
+				}
+
+				codec.write(population.get(i), dout);
+			}
+			out.flush();
+
+			final ByteBuffer table = ByteBuffer.allocate(
+				header.size() + Long.BYTES*offsets.length
+			);
+			table.put(header.toByteArray());
+			for (long offset : offsets) {
+				table.putLong(offset);
+			}
+			table.flip();
+
+			long position = 0;
+			while (table.hasRemaining()) {
+				position += channel.write(table, position);
+			}
+		}
+	}
+
+	/**
+	 * Output stream, which counts the number of written bytes.
+	 */
+	private static final class CountingOutputStream extends OutputStream {
+		private final OutputStream _out;
+		private long count;
+
+		CountingOutputStream(final OutputStream out) {
+			_out = out;
+		}
+
+		@Override
+		public void write(final int b) throws IOException {
+			_out.write(b);
+			++count;
+		}
+
+		@Override
+		public void write(final byte[] bytes, final int offset, final int length)
+			throws IOException
+		{
+			_out.write(bytes, offset, length);
+			count += length;
+		}
+
+		@Override
+		public void flush() throws IOException {
+			_out.flush();
+		}
+	}
+
+}
@@ -20,6 +20,7 @@ final class Serial implements Externalizable {
 	static final byte EVOLUTION_PARAMS = 3;
 	static final byte EVOLUTION_RESULT = 4;
 	static final byte EVOLUTION_START = 5;
+	static final byte EVOLUTION_DURATIONS_REPAIR = 6;
 
 	/**
 	 * The type being serialized.
@@ -57,6 +58,7 @@ final class Serial implements Externalizable {
 			case EVOLUTION_PARAMS: ((EvolutionParams)_object).write(out); break;
 			case EVOLUTION_RESULT: ((EvolutionResult)_object).write(out); break;
 			case EVOLUTION_START: ((EvolutionStart)_object).write(out); break;
+			case EVOLUTION_DURATIONS_REPAIR: ((EvolutionDurations)_object).write(out); break;
 			default:
 				throw new StreamCorruptedException("Unknown serialized type.");
 		}
@@ -68,11 +70,12 @@ final class Serial implements Externalizable {
 	{
 		_type = in.readByte();
 		switch (_type) {
-			case EVOLUTION_DURATIONS: _object = EvolutionDurations.read(in); break;
+			case EVOLUTION_DURATIONS: _object = EvolutionDurations.read(in, false); break;
 			case EVOLUTION_INIT: _object = EvolutionInit.read(in); break;
 			case EVOLUTION_PARAMS: _object = EvolutionParams.read(in); break;
 			case EVOLUTION_RESULT: _object = EvolutionResult.read(in); break;
 			case EVOLUTION_START: _object = EvolutionStart.read(in); break;
+			case EVOLUTION_DURATIONS_REPAIR: _object = EvolutionDurations.read(in, true); break;
 			default:
 				throw new StreamCorruptedException("Unknown serialized type.");
 		}
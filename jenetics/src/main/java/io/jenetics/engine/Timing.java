@@ -33,7 +33,7 @@ import io.jenetics.util.NanoClock;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 5.0
+ * @version 6.2
  */
 final class Timing {
 
@@ -84,6 +84,19 @@ final class Timing {
 		return this;
 	}
 
+	/**
+	 * Adds the given {@code duration} to the measured duration. This allows
+	 * to sum up the durations of concurrently executed tasks, which are
+	 * measured by their own timers.
+	 *
+	 * @param duration the duration to add
+	 * @return {@code this} timer, for method chaining
+	 */
+	synchronized Timing plus(final Duration duration) {
+		_nanos += duration.toNanos();
+		return this;
+	}
+
 	private boolean isStarted() {
 		return _start != Long.MIN_VALUE;
 	}
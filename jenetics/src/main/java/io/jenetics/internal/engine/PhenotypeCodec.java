@@ -0,0 +1,509 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.engine;
+
+import static java.lang.String.format;
+import static io.jenetics.internal.util.SerialIO.readInt;
+import static io.jenetics.internal.util.SerialIO.readLong;
+import static io.jenetics.internal.util.SerialIO.writeInt;
+import static io.jenetics.internal.util.SerialIO.writeLong;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.BitSet;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.Chromosome;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.LongChromosome;
+import io.jenetics.LongGene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.IntRange;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Compact, binary encoding of phenotypes, which share the same genotype
+ * <em>layout</em>: the gene ranges and length ranges of the chromosomes. The
+ * layout is written once, as header, and the phenotype records only contain
+ * the gene values, the generation and the fitness. Integral values are written
+ * with the variable-length zig-zag encoding of
+ * {@link io.jenetics.internal.util.SerialIO} and the genes of an
+ * {@link IntegerChromosome} and {@link LongChromosome} are delta encoded.
+ * <p>
+ * The supported chromosome types are {@link BitChromosome},
+ * {@link DoubleChromosome}, {@link IntegerChromosome} and
+ * {@link LongChromosome}. The fitness values must be of type {@link Double},
+ * {@link Integer} or {@link Long}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+public final class PhenotypeCodec {
+
+	// Gene and fitness types.
+	private static final byte NONE = 0;
+	private static final byte BIT = 1;
+	private static final byte DOUBLE = 2;
+	private static final byte INTEGER = 3;
+	private static final byte LONG = 4;
+
+	private final byte _geneType;
+	private final byte _fitnessType;
+	private final Chromosome<?>[] _layout;
+
+	private PhenotypeCodec(
+		final byte geneType,
+		final byte fitnessType,
+		final Chromosome<?>[] layout
+	) {
+		_geneType = geneType;
+		_fitnessType = fitnessType;
+		_layout = layout;
+	}
+
+	/**
+	 * Create a new codec for the given {@code population}. The layout is
+	 * taken from the first individual and the fitness type from the first
+	 * evaluated individual.
+	 *
+	 * @param population the population to encode
+	 * @return a new phenotype codec
+	 * @throws IllegalArgumentException if the population contains unsupported
+	 *         chromosome or fitness types
+	 */
+	public static PhenotypeCodec of(final Seq<? extends Phenotype<?, ?>> population) {
+		final Chromosome<?>[] layout = population.isEmpty()
+			? new Chromosome<?>[0]
+			: population.get(0).genotype().stream().toArray(Chromosome<?>[]::new);
+
+		return new PhenotypeCodec(
+			geneType(layout),
+			fitnessType(population),
+			layout
+		);
+	}
+
+	/* *************************************************************************
+	 * Reading
+	 * ************************************************************************/
+
+	/**
+	 * Reads the codec header, written by {@link #writeHeader(DataOutput)}.
+	 *
+	 * @param in the data input
+	 * @return the read codec
+	 * @throws IOException if the header can't be read or is invalid
+	 */
+	public static PhenotypeCodec readHeader(final DataInput in) throws IOException {
+		final byte geneType = in.readByte();
+		final byte fitnessType = in.readByte();
+		return new PhenotypeCodec(
+			geneType,
+			fitnessType,
+			readLayout(geneType, in)
+		);
+	}
+
+	/**
+	 * Reads one phenotype record, written by
+	 * {@link #write(Phenotype, DataOutput)}.
+	 *
+	 * @param in the data input
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the read phenotype
+	 * @throws IOException if the record can't be read or is invalid
+	 */
+	public <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Phenotype<G, C> read(final DataInput in) throws IOException {
+		final long generation = readLong(in);
+		final C fitness = in.readBoolean() ? readFitness(in) : null;
+
+		final MSeq<Chromosome<G>> chromosomes = MSeq.ofLength(_layout.length);
+		for (int i = 0; i < _layout.length; ++i) {
+			chromosomes.set(i, readChromosome(_layout[i], in));
+		}
+		final Genotype<G> gt = Genotype.of(chromosomes);
+
+		return fitness != null
+			? Phenotype.of(gt, generation, fitness)
+			: Phenotype.of(gt, generation);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <C> C readFitness(final DataInput in) throws IOException {
+		final Object fitness;
+		switch (_fitnessType) {
+			case DOUBLE: fitness = in.readDouble(); break;
+			case INTEGER: fitness = readInt(in); break;
+			case LONG: fitness = readLong(in); break;
+			default: throw new StreamCorruptedException(format(
+				"Invalid fitness type: %d", _fitnessType
+			));
+		}
+		return (C)fitness;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <G extends Gene<?, G>> Chromosome<G>
+	readChromosome(final Chromosome<?> layout, final DataInput in)
+		throws IOException
+	{
+		final int length = readInt(in);
+
+		final Chromosome<?> chromosome;
+		if (layout instanceof DoubleChromosome) {
+			final var ch = (DoubleChromosome)layout;
+			final double min = ch.min();
+			final double max = ch.max();
+
+			final MSeq<DoubleGene> genes = MSeq.ofLength(length);
+			for (int i = 0; i < length; ++i) {
+				genes.set(i, DoubleGene.of(in.readDouble(), min, max));
+			}
+			chromosome = ch.newInstance(genes.toISeq());
+		} else if (layout instanceof IntegerChromosome) {
+			final var ch = (IntegerChromosome)layout;
+			final int min = ch.min();
+			final int max = ch.max();
+
+			final MSeq<IntegerGene> genes = MSeq.ofLength(length);
+			int value = 0;
+			for (int i = 0; i < length; ++i) {
+				value += readInt(in);
+				genes.set(i, IntegerGene.of(value, min, max));
+			}
+			chromosome = ch.newInstance(genes.toISeq());
+		} else if (layout instanceof LongChromosome) {
+			final var ch = (LongChromosome)layout;
+			final long min = ch.min();
+			final long max = ch.max();
+
+			final MSeq<LongGene> genes = MSeq.ofLength(length);
+			long value = 0;
+			for (int i = 0; i < length; ++i) {
+				value += readLong(in);
+				genes.set(i, LongGene.of(value, min, max));
+			}
+			chromosome = ch.newInstance(genes.toISeq());
+		} else {
+			final var ch = (BitChromosome)layout;
+			final byte[] bytes = new byte[(length + 7) >>> 3];
+			in.readFully(bytes);
+			chromosome = BitChromosome
+				.of(BitSet.valueOf(bytes), length, ch.oneProbability());
+		}
+
+		return (Chromosome<G>)chromosome;
+	}
+
+	private static Chromosome<?>[] readLayout(
+		final byte geneType,
+		final DataInput in
+	)
+		throws IOException
+	{
+		final Chromosome<?>[] layout = new Chromosome<?>[readInt(in)];
+		for (int i = 0; i < layout.length; ++i) {
+			switch (geneType) {
+				case BIT:
+					layout[i] = BitChromosome.of(1, in.readDouble());
+					break;
+				case DOUBLE:
+					layout[i] = DoubleChromosome.of(
+						in.readDouble(),
+						in.readDouble(),
+						readLengthRange(in)
+					);
+					break;
+				case INTEGER:
+					layout[i] = IntegerChromosome.of(
+						readInt(in),
+						readInt(in),
+						readLengthRange(in)
+					);
+					break;
+				case LONG:
+					layout[i] = LongChromosome.of(
+						readLong(in),
+						readLong(in),
+						readLengthRange(in)
+					);
+					break;
+				default:
+					throw new StreamCorruptedException(format(
+						"Invalid gene type: %d", geneType
+					));
+			}
+		}
+
+		return layout;
+	}
+
+	private static IntRange readLengthRange(final DataInput in)
+		throws IOException
+	{
+		return IntRange.of(readInt(in), readInt(in));
+	}
+
+	/* *************************************************************************
+	 * Writing
+	 * ************************************************************************/
+
+	/**
+	 * Writes the codec header: the gene type, the fitness type and the
+	 * genotype layout.
+	 *
+	 * @param out the data output
+	 * @throws IOException if an I/O error occurs
+	 */
+	public void writeHeader(final DataOutput out) throws IOException {
+		out.writeByte(_geneType);
+		out.writeByte(_fitnessType);
+		writeLayout(_layout, out);
+	}
+
+	/**
+	 * Writes the given phenotype record.
+	 *
+	 * @param pt the phenotype to write
+	 * @param out the data output
+	 * @throws IllegalArgumentException if the phenotype doesn't match the
+	 *         layout or fitness type of this codec
+	 * @throws IOException if an I/O error occurs
+	 */
+	public void write(final Phenotype<?, ?> pt, final DataOutput out)
+		throws IOException
+	{
+		final Genotype<?> gt = pt.genotype();
+		if (gt.length() != _layout.length) {
+			throw new IllegalArgumentException(format(
+				"Expected %d chromosomes, but got %d.",
+				_layout.length, gt.length()
+			));
+		}
+
+		writeLong(pt.generation(), out);
+		out.writeBoolean(pt.isEvaluated());
+		if (pt.isEvaluated()) {
+			final Object fitness = pt.fitness();
+			if (fitnessType(fitness.getClass()) != _fitnessType) {
+				throw new IllegalArgumentException(format(
+					"Mixed fitness types: %s", fitness.getClass().getName()
+				));
+			}
+			writeFitness(fitness, _fitnessType, out);
+		}
+
+		for (int i = 0; i < _layout.length; ++i) {
+			final Chromosome<?> ch = gt.get(i);
+			if (!sameLayout(_layout[i], ch)) {
+				throw new IllegalArgumentException(format(
+					"Chromosome %s doesn't match the layout of %s.",
+					ch, _layout[i]
+				));
+			}
+			writeChromosome(ch, out);
+		}
+	}
+
+	private static void writeFitness(
+		final Object fitness,
+		final byte fitnessType,
+		final DataOutput out
+	)
+		throws IOException
+	{
+		switch (fitnessType) {
+			case DOUBLE: out.writeDouble((Double)fitness); break;
+			case INTEGER: writeInt((Integer)fitness, out); break;
+			case LONG: writeLong((Long)fitness, out); break;
+			default: throw new AssertionError();
+		}
+	}
+	private static void writeChromosome(
+		final Chromosome<?> chromosome,
+		final DataOutput out
+	)
+		throws IOException
+	{
+		final int length = chromosome.length();
+		writeInt(length, out);
+
+		if (chromosome instanceof DoubleChromosome) {
+			final var ch = (DoubleChromosome)chromosome;
+			for (int i = 0; i < length; ++i) {
+				out.writeDouble(ch.doubleValue(i));
+			}
+		} else if (chromosome instanceof IntegerChromosome) {
+			final var ch = (IntegerChromosome)chromosome;
+			int previous = 0;
+			for (int i = 0; i < length; ++i) {
+				final int value = ch.intValue(i);
+				writeInt(value - previous, out);
+				previous = value;
+			}
+		} else if (chromosome instanceof LongChromosome) {
+			final var ch = (LongChromosome)chromosome;
+			long previous = 0;
+			for (int i = 0; i < length; ++i) {
+				final long value = ch.longValue(i);
+				writeLong(value - previous, out);
+				previous = value;
+			}
+		} else {
+			out.write(((BitChromosome)chromosome).toByteArray());
+		}
+	}
+
+	private static void writeLayout(
+		final Chromosome<?>[] layout,
+		final DataOutput out
+	)
+		throws IOException
+	{
+		writeInt(layout.length, out);
+		for (Chromosome<?> chromosome : layout) {
+			if (chromosome instanceof BitChromosome) {
+				out.writeDouble(((BitChromosome)chromosome).oneProbability());
+			} else if (chromosome instanceof DoubleChromosome) {
+				final var ch = (DoubleChromosome)chromosome;
+				out.writeDouble(ch.min());
+				out.writeDouble(ch.max());
+				writeInt(ch.lengthRange().min(), out);
+				writeInt(ch.lengthRange().max(), out);
+			} else if (chromosome instanceof IntegerChromosome) {
+				final var ch = (IntegerChromosome)chromosome;
+				writeInt(ch.min(), out);
+				writeInt(ch.max(), out);
+				writeInt(ch.lengthRange().min(), out);
+				writeInt(ch.lengthRange().max(), out);
+			} else {
+				final var ch = (LongChromosome)chromosome;
+				writeLong(ch.min(), out);
+				writeLong(ch.max(), out);
+				writeInt(ch.lengthRange().min(), out);
+				writeInt(ch.lengthRange().max(), out);
+			}
+		}
+	}
+
+	private static boolean sameLayout(
+		final Chromosome<?> layout,
+		final Chromosome<?> chromosome
+	) {
+		if (layout.getClass() != chromosome.getClass()) {
+			return false;
+		}
+
+		if (layout instanceof BitChromosome) {
+			return Double.compare(
+				((BitChromosome)layout).oneProbability(),
+				((BitChromosome)chromosome).oneProbability()
+			) == 0;
+		} else if (layout instanceof DoubleChromosome) {
+			final var a = (DoubleChromosome)layout;
+			final var b = (DoubleChromosome)chromosome;
+			return a.min().equals(b.min()) &&
+				a.max().equals(b.max()) &&
+				a.lengthRange().equals(b.lengthRange());
+		} else if (layout instanceof IntegerChromosome) {
+			final var a = (IntegerChromosome)layout;
+			final var b = (IntegerChromosome)chromosome;
+			return a.min().equals(b.min()) &&
+				a.max().equals(b.max()) &&
+				a.lengthRange().equals(b.lengthRange());
+		} else {
+			final var a = (LongChromosome)layout;
+			final var b = (LongChromosome)chromosome;
+			return a.min().equals(b.min()) &&
+				a.max().equals(b.max()) &&
+				a.lengthRange().equals(b.lengthRange());
+		}
+	}
+
+	private static byte geneType(final Chromosome<?>[] layout) {
+		if (layout.length == 0) {
+			return NONE;
+		}
+
+		final Class<?> type = layout[0].getClass();
+		final byte geneType;
+		if (type == BitChromosome.class) {
+			geneType = BIT;
+		} else if (type == DoubleChromosome.class) {
+			geneType = DOUBLE;
+		} else if (type == IntegerChromosome.class) {
+			geneType = INTEGER;
+		} else if (type == LongChromosome.class) {
+			geneType = LONG;
+		} else {
+			throw new IllegalArgumentException(format(
+				"Unsupported chromosome type: %s", type.getName()
+			));
+		}
+
+		for (Chromosome<?> chromosome : layout) {
+			if (chromosome.getClass() != type) {
+				throw new IllegalArgumentException(format(
+					"Mixed chromosome types: %s, %s",
+					type.getName(), chromosome.getClass().getName()
+				));
+			}
+		}
+
+		return geneType;
+	}
+
+	private static byte fitnessType(final Seq<? extends Phenotype<?, ?>> population) {
+		return population.stream()
+			.filter(Phenotype::isEvaluated)
+			.findFirst()
+			.map(pt -> fitnessType(pt.fitness().getClass()))
+			.orElse(NONE);
+	}
+
+	private static byte fitnessType(final Class<?> type) {
+		final byte fitnessType;
+		if (type == Double.class) {
+			fitnessType = DOUBLE;
+		} else if (type == Integer.class) {
+			fitnessType = INTEGER;
+		} else if (type == Long.class) {
+			fitnessType = LONG;
+		} else {
+			throw new IllegalArgumentException(format(
+				"Unsupported fitness type: %s", type.getName()
+			));
+		}
+
+		return fitnessType;
+	}
+
+}
@@ -26,11 +26,23 @@ import static java.lang.Float.compare;
 import static java.lang.Float.floatToIntBits;
 import static java.lang.Float.intBitsToFloat;
 import static java.lang.Math.abs;
+import static java.lang.Math.floor;
+import static java.lang.Math.log;
+import static java.lang.Math.log1p;
+import static java.lang.Math.min;
+import static java.lang.Math.sqrt;
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 import static io.jenetics.internal.util.Requires.probability;
 
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
 import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 import io.jenetics.util.IntRange;
 
@@ -39,11 +51,21 @@ import io.jenetics.util.IntRange;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.4
- * @version 5.2
+ * @version 6.2
  */
 public final class Randoms {
 	private Randoms() {}
 
+	/**
+	 * Index selection probability, below which the random indexes are
+	 * created by skipping geometrically distributed gaps. For higher
+	 * probabilities, drawing one random number per index is faster. Callers
+	 * which interleave the index draws with other random draws, use
+	 * {@link #indexes(Random, int, double)} above this probability, which
+	 * keeps the random sequence of the previous releases.
+	 */
+	public static final double SKIP_PROBABILITY = 0.1;
+
 	public static byte nextByte(final Random random) {
 		return (byte) nextInt(Byte.MIN_VALUE, Byte.MAX_VALUE + 1, random);
 	}
@@ -297,6 +319,213 @@ public final class Randoms {
 		return indexes(random, 0, n, p);
 	}
 
+	/**
+	 * Create an {@code IntStream} which creates random indexes within the
+	 * given range and the index probability. In contrast to
+	 * {@link #indexes(Random, int, int, double)}, the number of random values
+	 * drawn is proportional to the number of selected indexes, if {@code p} is
+	 * small. The gaps between the selected indexes are geometrically
+	 * distributed and are sampled directly, instead of drawing one random
+	 * number per index. The created indexes are increasing.
+	 *
+	 * @since 6.2
+	 *
+	 * @param random the random engine used for calculating the random
+	 *        indexes
+	 * @param start the start index (inclusively)
+	 * @param end the end index (exclusively)
+	 * @param p the index selection probability
+	 * @return an new random index stream
+	 * @throws IllegalArgumentException if {@code p} is not a
+	 *         valid probability.
+	 * @throws NullPointerException if the given {@code random}
+	 *         engine is {@code null}.
+	 */
+	public static IntStream skipIndexes(
+		final Random random,
+		final int start,
+		final int end,
+		final double p
+	) {
+		return StreamSupport.intStream(
+			Spliterators.spliteratorUnknownSize(
+				new SkipIndexIterator(random, start, end, p),
+				Spliterator.ORDERED |
+					Spliterator.DISTINCT |
+					Spliterator.NONNULL
+			),
+			false
+		);
+	}
+
+	/**
+	 * Create an {@code IntStream} which creates random indexes within the
+	 * given range and the index probability.
+	 *
+	 * @see #skipIndexes(Random, int, int, double)
+	 *
+	 * @since 6.2
+	 *
+	 * @param random the random engine used for calculating the random
+	 *        indexes
+	 * @param n the end index (exclusively). The start index is zero.
+	 * @param p the index selection probability
+	 * @return an new random index stream
+	 * @throws IllegalArgumentException if {@code p} is not a
+	 *         valid probability.
+	 * @throws NullPointerException if the given {@code random}
+	 *         engine is {@code null}.
+	 */
+	public static IntStream skipIndexes(
+		final Random random,
+		final int n,
+		final double p
+	) {
+		return skipIndexes(random, 0, n, p);
+	}
+
+	/**
+	 * Return the random indexes, as created by
+	 * {@link #skipIndexes(Random, int, int, double)}, as sorted {@code int[]}
+	 * array. This avoids the overhead of the stream creation in performance
+	 * critical code.
+	 *
+	 * @since 6.2
+	 *
+	 * @param random the random engine used for calculating the random
+	 *        indexes
+	 * @param start the start index (inclusively)
+	 * @param end the end index (exclusively)
+	 * @param p the index selection probability
+	 * @return the (sorted) random indexes
+	 * @throws IllegalArgumentException if {@code p} is not a
+	 *         valid probability.
+	 * @throws NullPointerException if the given {@code random}
+	 *         engine is {@code null}.
+	 */
+	public static int[] skipIndexArray(
+		final Random random,
+		final int start,
+		final int end,
+		final double p
+	) {
+		final SkipIndexIterator it = new SkipIndexIterator(random, start, end, p);
+		if (!it.hasNext()) {
+			return new int[0];
+		}
+
+		// Expected number of indexes plus four standard deviations.
+		final double n = Math.max(end - start, 0);
+		final double size = n*p + 4*sqrt(n*p*(1 - p)) + 16;
+		int[] indexes = new int[(int)min(n, size)];
+
+		int count = 0;
+		while (it.hasNext()) {
+			if (count == indexes.length) {
+				indexes = Arrays.copyOf(indexes, count + (count >>> 1) + 1);
+			}
+			indexes[count++] = it.nextInt();
+		}
+
+		return count == indexes.length
+			? indexes
+			: Arrays.copyOf(indexes, count);
+	}
+
+	/**
+	 * Return the random indexes, as created by
+	 * {@link #skipIndexes(Random, int, int, double)}, as sorted {@code int[]}
+	 * array.
+	 *
+	 * @since 6.2
+	 *
+	 * @param random the random engine used for calculating the random
+	 *        indexes
+	 * @param n the end index (exclusively). The start index is zero.
+	 * @param p the index selection probability
+	 * @return the (sorted) random indexes
+	 * @throws IllegalArgumentException if {@code p} is not a
+	 *         valid probability.
+	 * @throws NullPointerException if the given {@code random}
+	 *         engine is {@code null}.
+	 */
+	public static int[] skipIndexArray(
+		final Random random,
+		final int n,
+		final double p
+	) {
+		return skipIndexArray(random, 0, n, p);
+	}
+
+	/**
+	 * Random index iterator. For small probabilities, the gaps between the
+	 * selected indexes are drawn from the geometric distribution. Otherwise,
+	 * one random number is drawn per index, exactly like the
+	 * {@link #indexes(Random, int, int, double)} stream does.
+	 */
+	private static final class SkipIndexIterator
+		implements PrimitiveIterator.OfInt
+	{
+		private final Random _random;
+		private final int _end;
+		private final boolean _all;
+		private final boolean _skip;
+		private final double _lnq;
+		private final int _P;
+
+		private long _next;
+
+		SkipIndexIterator(
+			final Random random,
+			final int start,
+			final int end,
+			final double p
+		) {
+			_random = requireNonNull(random);
+			_end = end;
+			probability(p);
+			_all = Randoms.equals(p, 1, 1E-20);
+			_skip = p < SKIP_PROBABILITY;
+			_lnq = log1p(-p);
+			_P = Probabilities.toInt(p);
+
+			_next = Randoms.equals(p, 0, 1E-20) ? end : next(start - 1L);
+		}
+
+		private long next(final long index) {
+			if (_all) {
+				return index + 1;
+			} else if (_skip) {
+				// Number of failures before the next success.
+				final double gap = floor(log(1.0 - _random.nextDouble())/_lnq);
+				return gap < _end - index - 1 ? index + (long)gap + 1 : _end;
+			} else {
+				for (long i = index + 1; i < _end; ++i) {
+					if (_random.nextInt() < _P) {
+						return i;
+					}
+				}
+				return _end;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return _next < _end;
+		}
+
+		@Override
+		public int nextInt() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			final int index = (int)_next;
+			_next = next(_next);
+			return index;
+		}
+	}
+
 	/**
 	 * Create a new <em>seed</em> byte array of the given length.
 	 *
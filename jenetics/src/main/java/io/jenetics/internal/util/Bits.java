@@ -22,6 +22,11 @@ package io.jenetics.internal.util;
 import static java.lang.Integer.parseInt;
 import static java.lang.Math.min;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Random;
+
 import io.jenetics.internal.math.Randoms;
 import io.jenetics.util.RandomRegistry;
 
@@ -40,11 +45,20 @@ import io.jenetics.util.RandomRegistry;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 5.2
+ * @version 6.2
  */
 public final class Bits {
 	private Bits() {}
 
+	/**
+	 * View of a {@code byte[]} array as <b>little-endian</b> {@code long}
+	 * words. Bit {@code i} of the word {@code w} is the bit {@code 64*w + i}
+	 * of the byte array. It allows to perform the bit operations 64 bits at a
+	 * time, without changing the {@code byte[]} representation.
+	 */
+	private static final VarHandle WORD = MethodHandles
+		.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
 	/**
 	 * Lookup table for counting the number of set bits in a {@code byte} value.
 	 */
@@ -178,6 +192,11 @@ public final class Bits {
 		final byte[] data, final int start, final int end,
 		final byte[] otherData, final int otherStart
 	) {
+		if (start == otherStart && start < end) {
+			swapWords(data, start, end, otherData);
+			return;
+		}
+
 		for (int i = end - start; --i >= 0;) {
 			final boolean temp = get(data, i + start);
 			set(data, i + start, get(otherData, otherStart + i));
@@ -193,13 +212,138 @@ public final class Bits {
 	 * @return the number of one bits in the given {@code byte} array.
 	 */
 	public static int count(final byte[] data) {
+		final int words = data.length >>> 3;
+
 		int count = 0;
-		for (int i = data.length; --i >= 0;) {
+		for (int w = 0; w < words; ++w) {
+			count += Long.bitCount((long)WORD.get(data, w << 3));
+		}
+		for (int i = words << 3; i < data.length; ++i) {
 			count += count(data[i]);
 		}
 		return count;
 	}
 
+	/*
+	 * Swaps the bits of the range [start, end) of the two arrays, one masked
+	 * 64 bit word at a time.
+	 */
+	private static void swapWords(
+		final byte[] data,
+		final int start,
+		final int end,
+		final byte[] otherData
+	) {
+		final int first = start >>> 6;
+		final int last = (end - 1) >>> 6;
+
+		for (int w = first; w <= last; ++w) {
+			long mask = -1L;
+			if (w == first) {
+				mask &= -1L << (start & 63);
+			}
+			if (w == last) {
+				mask &= -1L >>> (63 - ((end - 1) & 63));
+			}
+			swap(data, otherData, w, mask);
+		}
+	}
+
+	/*
+	 * Swaps the masked bits of the word with the given index.
+	 */
+	private static void swap(
+		final byte[] data,
+		final byte[] otherData,
+		final int word,
+		final long mask
+	) {
+		final int offset = word << 3;
+		if (offset + Long.BYTES <= data.length &&
+			offset + Long.BYTES <= otherData.length)
+		{
+			final long a = (long)WORD.get(data, offset);
+			final long b = (long)WORD.get(otherData, offset);
+			final long d = (a^b) & mask;
+			WORD.set(data, offset, a^d);
+			WORD.set(otherData, offset, b^d);
+		} else {
+			for (int i = 0; i < Long.BYTES; ++i) {
+				final byte m = (byte)(mask >>> (i << 3));
+				if (m != 0) {
+					final byte d = (byte)((data[offset + i]^otherData[offset + i]) & m);
+					data[offset + i] ^= d;
+					otherData[offset + i] ^= d;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Swaps the bits of the two given arrays, where the corresponding bit of
+	 * the {@code mask} array is set. The bits are swapped 64 bits at a time.
+	 *
+	 * @param data the first byte array
+	 * @param otherData the second byte array
+	 * @param mask the swap mask
+	 * @return the number of swapped bits, which is the number of set bits of
+	 *         the {@code mask}
+	 * @throws IndexOutOfBoundsException if one of the data arrays is shorter
+	 *         than the mask array
+	 */
+	public static int swap(
+		final byte[] data,
+		final byte[] otherData,
+		final byte[] mask
+	) {
+		final int words = mask.length >>> 3;
+
+		int count = 0;
+		for (int w = 0; w < words; ++w) {
+			final long m = (long)WORD.get(mask, w << 3);
+			if (m != 0) {
+				swap(data, otherData, w, m);
+				count += Long.bitCount(m);
+			}
+		}
+		for (int i = words << 3; i < mask.length; ++i) {
+			final byte d = (byte)((data[i]^otherData[i]) & mask[i]);
+			data[i] ^= d;
+			otherData[i] ^= d;
+			count += count(mask[i]);
+		}
+
+		return count;
+	}
+
+	/**
+	 * Flips the bits of the given {@code data} array, where the corresponding
+	 * bit of the {@code mask} array is set. The bits are flipped 64 bits at a
+	 * time.
+	 *
+	 * @param data the byte array to flip
+	 * @param mask the flip mask
+	 * @return the given {@code data} array
+	 * @throws IndexOutOfBoundsException if the data array is shorter than the
+	 *         mask array
+	 */
+	public static byte[] flip(final byte[] data, final byte[] mask) {
+		final int words = mask.length >>> 3;
+		for (int w = 0; w < words; ++w) {
+			final int offset = w << 3;
+			WORD.set(
+				data,
+				offset,
+				(long)WORD.get(data, offset)^(long)WORD.get(mask, offset)
+			);
+		}
+		for (int i = words << 3; i < mask.length; ++i) {
+			data[i] ^= mask[i];
+		}
+
+		return data;
+	}
+
 	/**
 	 * Returns the number of one-bits in the given {@code byte} {@code value}.
 	 *
@@ -510,8 +654,50 @@ public final class Bits {
 	public static byte[] newArray(final int length, final double p) {
 		final byte[] bytes = newArray(length);
 
-		Randoms.indexes(RandomRegistry.random(), length, p)
-			.forEach(i -> bytes[i >>> 3] |= 1 << (i & 7));
+		final int[] indexes =
+			Randoms.skipIndexArray(RandomRegistry.random(), length, p);
+		for (int i : indexes) {
+			bytes[i >>> 3] |= 1 << (i & 7);
+		}
+
+		return bytes;
+	}
+
+	/**
+	 * Create a new {@code byte[]} array which can store at least the number
+	 * of bits as defined by the given {@code length} parameter. Every bit is
+	 * set with the given probability {@code p}, using the given random
+	 * engine. For {@code p == 0.5}, the array is filled with random bytes
+	 * directly. Otherwise, only the set bits are drawn, which is fast for
+	 * small probabilities. This method is used for creating the random masks
+	 * of bit-parallel operations.
+	 *
+	 * @param length the number of bits, the returned byte array can store.
+	 * @param p the ones probability of the returned byte array.
+	 * @param random the random engine used for creating the bits
+	 * @return the new byte array.
+	 * @throws IllegalArgumentException if {@code p} is not a valid probability.
+	 * @throws NullPointerException if the given {@code random} engine is
+	 *         {@code null}
+	 */
+	public static byte[] newArray(
+		final int length,
+		final double p,
+		final Random random
+	) {
+		final byte[] bytes = newArray(length);
+
+		if (p == 0.5) {
+			random.nextBytes(bytes);
+			if ((length & 7) != 0) {
+				bytes[bytes.length - 1] &= (byte)(0xFF >>> (Byte.SIZE - (length & 7)));
+			}
+		} else {
+			final int[] indexes = Randoms.skipIndexArray(random, length, p);
+			for (int i : indexes) {
+				bytes[i >>> 3] |= 1 << (i & 7);
+			}
+		}
 
 		return bytes;
 	}
@@ -0,0 +1,186 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link DataInput} view of a {@link ByteBuffer}. This allows to use the
+ * {@link SerialIO} read methods for reading from (memory-mapped) byte buffers.
+ * The values are read from the current position of the buffer, which is
+ * advanced accordingly.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 6.2
+ * @version 6.2
+ */
+public final class ByteBufferDataInput implements DataInput {
+
+	private final ByteBuffer _buffer;
+
+	/**
+	 * Create a new data input view of the given byte {@code buffer}.
+	 *
+	 * @param buffer the underlying byte buffer
+	 * @throws NullPointerException if the given {@code buffer} is {@code null}
+	 */
+	public ByteBufferDataInput(final ByteBuffer buffer) {
+		_buffer = requireNonNull(buffer);
+	}
+
+	/**
+	 * Return the underlying byte buffer.
+	 *
+	 * @return the underlying byte buffer
+	 */
+	public ByteBuffer buffer() {
+		return _buffer;
+	}
+
+	@Override
+	public void readFully(final byte[] bytes) throws IOException {
+		readFully(bytes, 0, bytes.length);
+	}
+
+	@Override
+	public void readFully(final byte[] bytes, final int offset, final int length)
+		throws IOException
+	{
+		try {
+			_buffer.get(bytes, offset, length);
+		} catch (BufferUnderflowException e) {
+			throw eof(e);
+		}
+	}
+
+	@Override
+	public int skipBytes(final int n) {
+		final int skip = Math.max(0, Math.min(n, _buffer.remaining()));
+		_buffer.position(_buffer.position() + skip);
+		return skip;
+	}
+
+	@Override
+	public boolean readBoolean() throws IOException {
+		return readByte() != 0;
+	}
+
+	@Override
+	public byte readByte() throws IOException {
+		try {
+			return _buffer.get();
+		} catch (BufferUnderflowException e) {
+			throw eof(e);
+		}
+	}
+
+	@Override
+	public int readUnsignedByte() throws IOException {
+		return readByte() & 0xFF;
+	}
+
+	@Override
+	public short readShort() throws IOException {
+		try {
+			return _buffer.getShort();
+		} catch (BufferUnderflowException e) {
+			throw eof(e);
+		}
+	}
+
+	@Override
+	public int readUnsignedShort() throws IOException {
+		return readShort() & 0xFFFF;
+	}
+
+	@Override
+	public char readChar() throws IOException {
+		try {
+			return _buffer.getChar();
+		} catch (BufferUnderflowException e) {
+			throw eof(e);
+		}
+	}
+
+	@Override
+	public int readInt() throws IOException {
+		try {
+			return _buffer.getInt();
+		} catch (BufferUnderflowException e) {
+			throw eof(e);
+		}
+	}
+
+	@Override
+	public long readLong() throws IOException {
+		try {
+			return _buffer.getLong();
+		} catch (BufferUnderflowException e) {
+			throw eof(e);
+		}
+	}
+
+	@Override
+	public float readFloat() throws IOException {
+		try {
+			return _buffer.getFloat();
+		} catch (BufferUnderflowException e) {
+			throw eof(e);
+		}
+	}
+
+	@Override
+	public double readDouble() throws IOException {
+		try {
+			return _buffer.getDouble();
+		} catch (BufferUnderflowException e) {
+			throw eof(e);
+		}
+	}
+
+	/**
+	 * This method is not supported.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public String readLine() {
+		throw new UnsupportedOperationException("readLine");
+	}
+
+	@Override
+	public String readUTF() throws IOException {
+		return DataInputStream.readUTF(this);
+	}
+
+	private static EOFException eof(final BufferUnderflowException cause) {
+		final EOFException e = new EOFException();
+		e.initCause(cause);
+		return e;
+	}
+
+}
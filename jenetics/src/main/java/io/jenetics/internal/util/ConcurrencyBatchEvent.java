@@ -0,0 +1,67 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of the execution of a batch of tasks, which are
+ * executed concurrently to other batches.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+@Name("io.jenetics.ConcurrencyBatch")
+@Label("Concurrency Batch")
+@Category({"Jenetics", "Concurrency"})
+@Description("Execution of a batch of concurrent tasks.")
+@StackTrace(false)
+public final class ConcurrencyBatchEvent extends Event {
+
+	@Label("Tasks")
+	public int tasks;
+
+	/**
+	 * Runs the given {@code batch} and records its execution.
+	 *
+	 * @param batch the batch to execute
+	 * @param tasks the number of tasks of the batch
+	 */
+	public static void run(final Runnable batch, final int tasks) {
+		final ConcurrencyBatchEvent event = new ConcurrencyBatchEvent();
+		event.begin();
+		try {
+			batch.run();
+		} finally {
+			event.end();
+			if (event.shouldCommit()) {
+				event.tasks = tasks;
+				event.commit();
+			}
+		}
+	}
+
+}
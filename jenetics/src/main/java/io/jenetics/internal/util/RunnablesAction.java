@@ -29,7 +29,7 @@ import io.jenetics.util.BaseSeq;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.2
+ * @version 6.2
  * @since 2.0
  */
 final class RunnablesAction extends RecursiveAction {
@@ -60,9 +60,7 @@ final class RunnablesAction extends RecursiveAction {
 		if ((_high - _low) <= Env.splitThreshold ||
 			getSurplusQueuedTaskCount() > Env.maxSurplusQueuedTaskCount)
 		{
-			for (int i = _low; i < _high; ++i) {
-				_runnables.get(i).run();
-			}
+			ConcurrencyBatchEvent.run(this::runAll, _high - _low);
 		} else {
 			final int mid = (_low + _high) >>> 1;
 			invokeAll(
@@ -72,6 +70,12 @@ final class RunnablesAction extends RecursiveAction {
 		}
 	}
 
+	private void runAll() {
+		for (int i = _low; i < _high; ++i) {
+			_runnables.get(i).run();
+		}
+	}
+
 	private static final class Env {
 		private static final int splitThreshold = max(
 			doPrivileged(
@@ -23,7 +23,7 @@ import io.jenetics.util.BaseSeq;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.0
+ * @version 6.2
  * @since 2.0
  */
 final class RunnablesRunnable implements Runnable {
@@ -44,6 +44,10 @@ final class RunnablesRunnable implements Runnable {
 
 	@Override
 	public void run() {
+		ConcurrencyBatchEvent.run(this::runAll, _end - _start);
+	}
+
+	private void runAll() {
 		for (int i = _start; i < _end; ++i) {
 			_runnables.get(i).run();
 		}
@@ -0,0 +1,407 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.stat;
+
+import static java.lang.Double.NaN;
+import static java.lang.Math.sqrt;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.stream.Collector;
+
+/**
+ * A state object for collecting the moments statistics of a fixed number of
+ * {@code double} columns. It is the columnar counterpart of the
+ * {@link DoubleMomentStatistics} class, where the state of every column is
+ * stored in primitive arrays. This makes it suitable for collecting the
+ * statistics of a large number of columns, e.g. the gene values of every gene
+ * position of a population, without creating an object per column.
+ *
+ * <pre>{@code
+ * final Stream<double[]> rows = ...;
+ * final ColumnMomentStatistics statistics = rows
+ *     .collect(toColumnMomentStatistics(10));
+ *
+ * final DoubleMoments moments = statistics.toDoubleMoments(3);
+ * }</pre>
+ *
+ * @implNote
+ * This implementation is not thread safe. However, it is safe to use
+ * {@link #toColumnMomentStatistics(int)} on a parallel stream, because the
+ * parallel implementation of
+ * {@link java.util.stream.Stream#collect Stream.collect()}
+ * provides the necessary partitioning, isolation, and merging of results for
+ * safe and efficient parallel execution. Statistics of disjoint data chunks
+ * can also be collected independently and merged with the
+ * {@link #combine(ColumnMomentStatistics)} method.
+ *
+ * @see DoubleMomentStatistics
+ * @see <a href="http://people.xiph.org/~tterribe/notes/homs.html">
+ *      Computing Higher-Order Moments Online</a>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 6.2
+ * @version 6.2
+ */
+public final class ColumnMomentStatistics {
+
+	private final long[] _n;
+	private final double[] _min;
+	private final double[] _max;
+	private final double[] _sum;
+
+	private final double[] _m1;
+	private final double[] _m2;
+	private final double[] _m3;
+	private final double[] _m4;
+
+	/**
+	 * Create a new, empty statistics object with the given number of columns.
+	 *
+	 * @param columns the number of columns
+	 * @throws IllegalArgumentException if {@code columns < 0}
+	 */
+	public ColumnMomentStatistics(final int columns) {
+		if (columns < 0) {
+			throw new IllegalArgumentException(format(
+				"Number of columns must not be negative: %d", columns
+			));
+		}
+
+		_n = new long[columns];
+		_min = new double[columns];
+		_max = new double[columns];
+		_sum = new double[columns];
+		_m1 = new double[columns];
+		_m2 = new double[columns];
+		_m3 = new double[columns];
+		_m4 = new double[columns];
+
+		Arrays.fill(_min, Double.POSITIVE_INFINITY);
+		Arrays.fill(_max, Double.NEGATIVE_INFINITY);
+	}
+
+	/**
+	 * Return the number of columns of {@code this} statistics object.
+	 *
+	 * @return the number of columns
+	 */
+	public int columns() {
+		return _n.length;
+	}
+
+	/**
+	 * Records a new value for the given {@code column}.
+	 *
+	 * @param column the column index
+	 * @param value the input {@code value}
+	 * @throws IndexOutOfBoundsException if the column index is out of range
+	 */
+	public void accept(final int column, final double value) {
+		final long nl = ++_n[column];
+
+		final double n = nl;
+		final double d = value - _m1[column];
+		final double dN = d/n;
+		final double dN2 = dN*dN;
+		final double t1 = d*dN*(n - 1.0);
+
+		_m1[column] += dN;
+		_m4[column] += t1*dN2*(n*n - 3.0*n + 3.0) +
+			6.0*dN2*_m2[column] - 4.0*dN*_m3[column];
+		_m3[column] += t1*dN*(n - 2.0) - 3.0*dN*_m2[column];
+		_m2[column] += t1;
+
+		if (value < _min[column]) _min[column] = value;
+		if (value > _max[column]) _max[column] = value;
+		_sum[column] += value;
+	}
+
+	/**
+	 * Records a new row of values. The value at index {@code i} of the given
+	 * {@code row} is recorded for column {@code i}.
+	 *
+	 * @param row the row values
+	 * @throws NullPointerException if the given {@code row} is {@code null}
+	 * @throws IllegalArgumentException if the length of the {@code row} is
+	 *         greater than the number of columns
+	 */
+	public void accept(final double[] row) {
+		if (row.length > columns()) {
+			throw new IllegalArgumentException(format(
+				"Row length is greater than the number of columns: %d > %d",
+				row.length, columns()
+			));
+		}
+
+		for (int i = 0; i < row.length; ++i) {
+			accept(i, row[i]);
+		}
+	}
+
+	/**
+	 * Combine the column statistics of the {@code other} object with
+	 * {@code this} one.
+	 *
+	 * @param other the other statistics object to combine with {@code this}
+	 *        one
+	 * @return {@code this} statistics object
+	 * @throws NullPointerException if the {@code other} statistics object is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the number of columns of the two
+	 *         statistics object differ
+	 */
+	public ColumnMomentStatistics combine(final ColumnMomentStatistics other) {
+		requireNonNull(other);
+		if (other.columns() != columns()) {
+			throw new IllegalArgumentException(format(
+				"Number of columns differ: %d != %d",
+				columns(), other.columns()
+			));
+		}
+
+		for (int i = 0; i < _n.length; ++i) {
+			combine(i, other);
+		}
+
+		return this;
+	}
+
+	private void combine(final int i, final ColumnMomentStatistics b) {
+		if (b._n[i] == 0) {
+			return;
+		}
+
+		final double m2 = _m2[i];
+		final double m3 = _m3[i];
+
+		final double pn = _n[i];
+		final double bn = b._n[i];
+		final double n = pn + bn;
+		final double nn = n*n;
+
+		final double d = b._m1[i] - _m1[i];
+		final double dd = d*d;
+
+		_n[i] += b._n[i];
+		_m1[i] += d*bn/n;
+		_m2[i] += b._m2[i] + dd*pn*bn/n;
+		_m3[i] += b._m3[i] +
+			dd*d*(pn*bn*(pn - bn)/nn) +
+			3.0*d*(pn*b._m2[i] - bn*m2)/n;
+		_m4[i] += b._m4[i] +
+			dd*dd*(pn*bn*(pn*pn - pn*bn + bn*bn)/(nn*n)) +
+			6.0*dd*(pn*pn*b._m2[i] + bn*bn*m2)/nn +
+			4.0*d*(pn*b._m3[i] - bn*m3)/n;
+
+		_min[i] = Math.min(_min[i], b._min[i]);
+		_max[i] = Math.max(_max[i], b._max[i]);
+		_sum[i] += b._sum[i];
+	}
+
+	/**
+	 * Returns the count of values recorded for the given {@code column}.
+	 *
+	 * @param column the column index
+	 * @return the count of recorded values
+	 */
+	public long count(final int column) {
+		return _n[column];
+	}
+
+	/**
+	 * Return the minimum value recorded for the given {@code column}, or
+	 * {@code Double.POSITIVE_INFINITY} if no values have been recorded.
+	 *
+	 * @param column the column index
+	 * @return the minimum value, or {@code Double.POSITIVE_INFINITY} if none
+	 */
+	public double min(final int column) {
+		return _min[column];
+	}
+
+	/**
+	 * Return the maximum value recorded for the given {@code column}, or
+	 * {@code Double.NEGATIVE_INFINITY} if no values have been recorded.
+	 *
+	 * @param column the column index
+	 * @return the maximum value, or {@code Double.NEGATIVE_INFINITY} if none
+	 */
+	public double max(final int column) {
+		return _max[column];
+	}
+
+	/**
+	 * Return the sum of values recorded for the given {@code column}, or zero
+	 * if no values have been recorded.
+	 *
+	 * @param column the column index
+	 * @return the sum of values, or zero if none
+	 */
+	public double sum(final int column) {
+		return _sum[column];
+	}
+
+	/**
+	 * Return the arithmetic mean of values recorded for the given
+	 * {@code column}, or {@code Double.NaN} if no values have been recorded.
+	 *
+	 * @param column the column index
+	 * @return the arithmetic mean of values, or {@code NaN} if none
+	 */
+	public double mean(final int column) {
+		return _n[column] == 0L ? NaN : _m1[column];
+	}
+
+	/**
+	 * Return the variance of values recorded for the given {@code column}, or
+	 * {@code Double.NaN} if no values have been recorded.
+	 *
+	 * @param column the column index
+	 * @return the variance of values, or {@code NaN} if none
+	 */
+	public double variance(final int column) {
+		final long n = _n[column];
+
+		double var = NaN;
+		if (n == 1L) {
+			var = _m2[column];
+		} else if (n > 1L) {
+			var = _m2[column]/(n - 1.0);
+		}
+
+		return var;
+	}
+
+	/**
+	 * Return the skewness of values recorded for the given {@code column}, or
+	 * {@code Double.NaN} if less than three values have been recorded.
+	 *
+	 * @param column the column index
+	 * @return the skewness of values, or {@code NaN} if less than three values
+	 *         have been recorded
+	 */
+	public double skewness(final int column) {
+		final long n = _n[column];
+
+		double skewness = NaN;
+		if (n >= 3L) {
+			final double var = _m2[column]/(n - 1.0);
+			skewness = var < 10E-20
+				? 0.0d
+				: (n*_m3[column])/((n - 1.0)*(n - 2.0)*sqrt(var)*var);
+		}
+
+		return skewness;
+	}
+
+	/**
+	 * Return the kurtosis of values recorded for the given {@code column}, or
+	 * {@code Double.NaN} if less than four values have been recorded.
+	 *
+	 * @param column the column index
+	 * @return the kurtosis of values, or {@code NaN} if less than four values
+	 *         have been recorded
+	 */
+	public double kurtosis(final int column) {
+		final long n = _n[column];
+
+		double kurtosis = NaN;
+		if (n > 3L) {
+			final double var = _m2[column]/(n - 1);
+			kurtosis = var < 10E-20
+				? 0.0
+				: (n*(n + 1.0)*_m4[column] -
+					3.0*_m2[column]*_m2[column]*(n - 1.0))/
+					((n - 1.0)*(n - 2.0)*(n - 3.0)*var*var);
+		}
+
+		return kurtosis;
+	}
+
+	/**
+	 * Return a {@code DoubleMoments} object of the current statistics of the
+	 * given {@code column}.
+	 *
+	 * @param column the column index
+	 * @return a {@code DoubleMoments} object of the given {@code column}
+	 */
+	public DoubleMoments toDoubleMoments(final int column) {
+		return DoubleMoments.of(
+			count(column),
+			min(column),
+			max(column),
+			sum(column),
+			mean(column),
+			variance(column),
+			skewness(column),
+			kurtosis(column)
+		);
+	}
+
+	/**
+	 * Return the {@code DoubleMoments} objects of all columns.
+	 *
+	 * @return the {@code DoubleMoments} objects of all columns
+	 */
+	public DoubleMoments[] toDoubleMoments() {
+		final DoubleMoments[] moments = new DoubleMoments[columns()];
+		for (int i = 0; i < moments.length; ++i) {
+			moments[i] = toDoubleMoments(i);
+		}
+		return moments;
+	}
+
+	@Override
+	public String toString() {
+		return format("ColumnMomentStatistics[columns=%d]", columns());
+	}
+
+	/**
+	 * Return a {@code Collector} which collects the column statistics of the
+	 * streamed {@code double[]} rows.
+	 *
+	 * <pre>{@code
+	 * final Stream<double[]> rows = ...
+	 * final ColumnMomentStatistics statistics = rows
+	 *     .collect(toColumnMomentStatistics(10));
+	 * }</pre>
+	 *
+	 * @param columns the number of columns
+	 * @return a {@code Collector} implementing the column statistics reduction
+	 * @throws IllegalArgumentException if {@code columns < 0}
+	 */
+	public static Collector<double[], ?, ColumnMomentStatistics>
+	toColumnMomentStatistics(final int columns) {
+		if (columns < 0) {
+			throw new IllegalArgumentException(format(
+				"Number of columns must not be negative: %d", columns
+			));
+		}
+
+		return Collector.of(
+			() -> new ColumnMomentStatistics(columns),
+			ColumnMomentStatistics::accept,
+			ColumnMomentStatistics::combine
+		);
+	}
+
+}
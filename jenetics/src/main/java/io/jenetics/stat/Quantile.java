@@ -61,8 +61,10 @@ import java.util.stream.Collector;
  * Using this class in the {@code collect} method of an parallel stream can
  * lead to an reduced accuracy of the quantile value. Since this implementation
  * is an estimation algorithm, combining the estimations will only work for
- * large streams ({@code size >> 1000}).
+ * large streams ({@code size >> 1000}). If the quantiles of parallel streams
+ * must be merged, the {@link QuantileSketch} should be used instead.
  *
+ * @see QuantileSketch
  * @see <a href="http://en.wikipedia.org/wiki/Quantile">Wikipedia: Quantile</a>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -0,0 +1,474 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.stat;
+
+import static java.lang.Math.ceil;
+import static java.lang.Math.pow;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+
+import io.jenetics.util.ProxySorter;
+
+/**
+ * Mergeable, streaming quantile estimator with bounded memory. The
+ * implementation is based on the KLL sketch, published by
+ * <p>
+ * <strong>Zohar KARNIN, Kevin LANG and Edo LIBERTY</strong>:
+ * <em>Optimal Quantile Approximation in Streams</em>
+ * [<a href="https://arxiv.org/abs/1603.05346">FOCS 2016</a>]
+ * <p>
+ * In contrast to the {@link Quantile} class, the quantile value is not fixed
+ * when the sketch is created. Every quantile can be queried from one sketch,
+ * and two sketches can be merged without loss of accuracy. This makes it
+ * possible to collect the sketches of parallel stream segments or of
+ * independently running evolution engines, and merge them afterwards.
+ *
+ * <pre>{@code
+ * final DoubleStream stream = ...
+ * final QuantileSketch sketch = stream.parallel().collect(
+ *         QuantileSketch::new,
+ *         QuantileSketch::accept,
+ *         QuantileSketch::combine
+ *     );
+ *
+ * final double median = sketch.quantile(0.5);
+ * final double[] quartiles = sketch.quantiles(0.25, 0.5, 0.75);
+ * }</pre>
+ *
+ * The size of the sketch is controlled by the parameter {@code k}. The number
+ * of stored values is bounded by approximately {@code 3*k}, independent of the
+ * number of accepted values, and the rank error of the estimated quantiles is
+ * in the order of {@code 1.7/k}. The <em>minimum</em> and the <em>maximum</em>
+ * values are tracked exactly.
+ *
+ * @implNote
+ * This implementation is not thread safe. However, it is safe to use on a
+ * parallel stream, because the parallel implementation of
+ * {@link java.util.stream.Stream#collect Stream.collect()} provides the
+ * necessary partitioning, isolation, and merging of results for safe and
+ * efficient parallel execution. The compaction of the sketch levels is
+ * deterministic: the same sequence of accepted and combined values always
+ * results in the same quantile estimations.
+ *
+ * @see Quantile
+ * @see <a href="http://en.wikipedia.org/wiki/Quantile">Wikipedia: Quantile</a>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 6.2
+ * @version 6.2
+ */
+public final class QuantileSketch implements DoubleConsumer {
+
+	/**
+	 * The default size parameter of the sketch.
+	 */
+	public static final int DEFAULT_K = 200;
+
+	private static final double C = 2.0/3.0;
+
+	private final int _k;
+
+	// The compactor levels. The values of level h have the weight 2^h.
+	private double[][] _levels = new double[0][];
+	private int[] _sizes = new int[0];
+	private boolean[] _offsets = new boolean[0];
+
+	private int _size = 0;
+	private int _maxSize = 0;
+
+	private long _count = 0;
+	private double _min = Double.POSITIVE_INFINITY;
+	private double _max = Double.NEGATIVE_INFINITY;
+
+	/**
+	 * Create a new quantile sketch with the given size parameter {@code k}.
+	 *
+	 * @param k the size parameter of the sketch. Greater values lead to more
+	 *        accurate quantiles, but also to a bigger memory footprint.
+	 * @throws IllegalArgumentException if {@code k < 8}
+	 */
+	public QuantileSketch(final int k) {
+		_k = checkK(k);
+		grow();
+	}
+
+	/**
+	 * Create a new quantile sketch with the {@link #DEFAULT_K} size parameter.
+	 */
+	public QuantileSketch() {
+		this(DEFAULT_K);
+	}
+
+	/**
+	 * Return the size parameter {@code k} of this sketch.
+	 *
+	 * @return the size parameter of this sketch
+	 */
+	public int k() {
+		return _k;
+	}
+
+	/**
+	 * Return the number of accepted values.
+	 *
+	 * @return the number of accepted values
+	 */
+	public long count() {
+		return _count;
+	}
+
+	/**
+	 * Return the minimum value accepted, or {@code Double.POSITIVE_INFINITY}
+	 * if no values have been accepted.
+	 *
+	 * @return the minimum value, or {@code Double.POSITIVE_INFINITY} if none
+	 */
+	public double min() {
+		return _min;
+	}
+
+	/**
+	 * Return the maximum value accepted, or {@code Double.NEGATIVE_INFINITY}
+	 * if no values have been accepted.
+	 *
+	 * @return the maximum value, or {@code Double.NEGATIVE_INFINITY} if none
+	 */
+	public double max() {
+		return _max;
+	}
+
+	// Return the number of currently stored values.
+	int size() {
+		return _size;
+	}
+
+	private void grow() {
+		final int h = _levels.length;
+		_levels = Arrays.copyOf(_levels, h + 1);
+		_sizes = Arrays.copyOf(_sizes, h + 1);
+		_offsets = Arrays.copyOf(_offsets, h + 1);
+		_levels[h] = new double[capacity(h)];
+
+		_maxSize = 0;
+		for (int i = 0; i < _levels.length; ++i) {
+			_maxSize += capacity(i);
+		}
+	}
+
+	private int capacity(final int level) {
+		final int depth = _levels.length - level - 1;
+		return (int)ceil(pow(C, depth)*_k) + 1;
+	}
+
+	private void add(final int level, final double value) {
+		if (_sizes[level] == _levels[level].length) {
+			_levels[level] = Arrays.copyOf(
+				_levels[level],
+				_levels[level].length*2
+			);
+		}
+		_levels[level][_sizes[level]++] = value;
+	}
+
+	/**
+	 * Accepts a new value.
+	 *
+	 * @param value the accepted value
+	 */
+	@Override
+	public void accept(final double value) {
+		if (Double.isNaN(value)) {
+			return;
+		}
+
+		add(0, value);
+		++_size;
+		++_count;
+		if (value < _min) _min = value;
+		if (value > _max) _max = value;
+
+		if (_size >= _maxSize) {
+			compress();
+		}
+	}
+
+	private void compress() {
+		for (int h = 0; h < _levels.length; ++h) {
+			if (_sizes[h] >= capacity(h)) {
+				if (h + 1 >= _levels.length) {
+					grow();
+				}
+				compact(h);
+				break;
+			}
+		}
+	}
+
+	/*
+	 * Sorts the given level and moves every second value to the next level.
+	 * If the number of values is odd, the last value is kept.
+	 */
+	private void compact(final int level) {
+		final double[] values = _levels[level];
+		final int size = _sizes[level];
+		Arrays.sort(values, 0, size);
+
+		final int n = size - (size & 1);
+		final int offset = _offsets[level] ? 1 : 0;
+		_offsets[level] = !_offsets[level];
+
+		for (int i = offset; i < n; i += 2) {
+			add(level + 1, values[i]);
+		}
+
+		if ((size & 1) == 1) {
+			values[0] = values[size - 1];
+			_sizes[level] = 1;
+		} else {
+			_sizes[level] = 0;
+		}
+
+		_size -= n/2;
+	}
+
+	/**
+	 * Combine {@code this} quantile sketch with the {@code other} one.
+	 *
+	 * @param other the other quantile sketch
+	 * @return {@code this} quantile sketch
+	 * @throws NullPointerException if the {@code other} sketch is {@code null}
+	 * @throws IllegalArgumentException if the size parameter {@code k} of the
+	 *         {@code other} sketch differs from {@code this} one
+	 */
+	public QuantileSketch combine(final QuantileSketch other) {
+		requireNonNull(other);
+		if (other._k != _k) {
+			throw new IllegalArgumentException(format(
+				"Can't combine sketches with different size parameter: %d != %d",
+				_k, other._k
+			));
+		}
+
+		while (_levels.length < other._levels.length) {
+			grow();
+		}
+		for (int h = 0; h < other._levels.length; ++h) {
+			for (int i = 0; i < other._sizes[h]; ++i) {
+				add(h, other._levels[h][i]);
+			}
+			_size += other._sizes[h];
+		}
+
+		_count += other._count;
+		_min = Math.min(_min, other._min);
+		_max = Math.max(_max, other._max);
+
+		while (_size >= _maxSize) {
+			compress();
+		}
+
+		return this;
+	}
+
+	/**
+	 * Return the estimated value of the given {@code quantile}.
+	 *
+	 * @param quantile the wished quantile
+	 * @return the estimated value of the given {@code quantile}, or
+	 *         {@code Double.NaN} if no value has been accepted
+	 * @throws IllegalArgumentException if the {@code quantile} is not in the
+	 *         range {@code [0, 1]}
+	 */
+	public double quantile(final double quantile) {
+		return quantiles(quantile)[0];
+	}
+
+	/**
+	 * Return the estimated values of the given {@code quantiles}.
+	 *
+	 * @param quantiles the wished quantiles
+	 * @return the estimated values of the given {@code quantiles}. The values
+	 *         are {@code Double.NaN} if no value has been accepted.
+	 * @throws IllegalArgumentException if one of the {@code quantiles} is not
+	 *         in the range {@code [0, 1]}
+	 */
+	public double[] quantiles(final double... quantiles) {
+		for (double q : quantiles) {
+			check(q);
+		}
+
+		final double[] result = new double[quantiles.length];
+		if (_count == 0) {
+			Arrays.fill(result, Double.NaN);
+			return result;
+		}
+
+		final double[] values = new double[_size];
+		final long[] weights = new long[_size];
+		final int[] idx = sorted(values, weights);
+
+		long total = 0;
+		for (long w : weights) {
+			total += w;
+		}
+
+		for (int i = 0; i < quantiles.length; ++i) {
+			final double q = quantiles[i];
+			if (q == 0.0) {
+				result[i] = _min;
+			} else if (q == 1.0) {
+				result[i] = _max;
+			} else {
+				final double rank = q*total;
+				long cumulative = 0;
+				int j = 0;
+				while (j < idx.length - 1 && cumulative + weights[idx[j]] < rank) {
+					cumulative += weights[idx[j]];
+					++j;
+				}
+				result[i] = values[idx[j]];
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Return the estimated (normalized) rank of the given {@code value}, which
+	 * is the fraction of the accepted values which are smaller or equal than
+	 * the given {@code value}.
+	 *
+	 * @param value the value to estimate the rank for
+	 * @return the estimated rank of the given {@code value} in the range
+	 *         {@code [0, 1]}, or {@code Double.NaN} if no value has been
+	 *         accepted
+	 */
+	public double rank(final double value) {
+		if (_count == 0) {
+			return Double.NaN;
+		}
+
+		long total = 0;
+		long less = 0;
+		for (int h = 0; h < _levels.length; ++h) {
+			final long weight = 1L << h;
+			for (int i = 0; i < _sizes[h]; ++i) {
+				total += weight;
+				if (_levels[h][i] <= value) {
+					less += weight;
+				}
+			}
+		}
+
+		return (double)less/total;
+	}
+
+	// Fills the values and weights and returns the sorted value indexes.
+	private int[] sorted(final double[] values, final long[] weights) {
+		int index = 0;
+		for (int h = 0; h < _levels.length; ++h) {
+			for (int i = 0; i < _sizes[h]; ++i) {
+				values[index] = _levels[h][i];
+				weights[index] = 1L << h;
+				++index;
+			}
+		}
+
+		return ProxySorter.sort(values);
+	}
+
+	private static int checkK(final int k) {
+		if (k < 8) {
+			throw new IllegalArgumentException(format(
+				"Size parameter k must be at least 8: %d", k
+			));
+		}
+		return k;
+	}
+
+	private static void check(final double quantile) {
+		if (quantile < 0.0 || quantile > 1.0) {
+			throw new IllegalArgumentException(format(
+				"Quantile (%s) not in the valid range of [0, 1]", quantile
+			));
+		}
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"QuantileSketch[k=%d, N=%d, stored=%d, ∧=%s, ∨=%s]",
+			_k, _count, _size, _min, _max
+		);
+	}
+
+	/**
+	 * Return a {@code Collector} which applies an double-producing mapping
+	 * function to each input element, and returns the quantile sketch of the
+	 * resulting values.
+	 *
+	 * <pre>{@code
+	 * final Stream<SomeObject> stream = ...
+	 * final QuantileSketch sketch = stream
+	 *     .collect(toQuantileSketch(v -> v.doubleValue()));
+	 * }</pre>
+	 *
+	 * @param mapper a mapping function to apply to each element
+	 * @param <T> the type of the input elements
+	 * @return a {@code Collector} implementing the quantile sketch reduction
+	 * @throws NullPointerException if the given {@code mapper} is {@code null}
+	 */
+	public static <T> Collector<T, ?, QuantileSketch>
+	toQuantileSketch(final ToDoubleFunction<? super T> mapper) {
+		return toQuantileSketch(DEFAULT_K, mapper);
+	}
+
+	/**
+	 * Return a {@code Collector} which applies an double-producing mapping
+	 * function to each input element, and returns the quantile sketch of the
+	 * resulting values.
+	 *
+	 * @param k the size parameter of the created sketches
+	 * @param mapper a mapping function to apply to each element
+	 * @param <T> the type of the input elements
+	 * @return a {@code Collector} implementing the quantile sketch reduction
+	 * @throws NullPointerException if the given {@code mapper} is {@code null}
+	 * @throws IllegalArgumentException if {@code k < 8}
+	 */
+	public static <T> Collector<T, ?, QuantileSketch> toQuantileSketch(
+		final int k,
+		final ToDoubleFunction<? super T> mapper
+	) {
+		requireNonNull(mapper);
+		checkK(k);
+
+		return Collector.of(
+			() -> new QuantileSketch(k),
+			(r, t) -> r.accept(mapper.applyAsDouble(t)),
+			QuantileSketch::combine
+		);
+	}
+
+}
@@ -66,15 +66,16 @@ import java.util.stream.Collector;
  * {@link java.util.stream.Stream#peek(Consumer)} or
  * {@link java.util.stream.Stream#forEach(Consumer)} method. Obtaining a
  * synchronized view of the accumulator with the {@link #synced()} method, will
- * solve this problem. If the accumulator is used as {@link Collector}, the
- * usage in parallel streams is safe.
+ * solve this problem. The {@link #striped()} method returns a thread-safe view,
+ * which doesn't serialize the accumulating threads. If the accumulator is used
+ * as {@link Collector}, the usage in parallel streams is safe.
  *
  * @param <T> the type of input elements to the accumulate operation
  * @param <A> the accumulator type
  * @param <R> the result type of the accumulated operation
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.1
+ * @version 6.2
  * @since 6.1
  */
 public interface Accumulator<T, A extends Accumulator<T, A, R>, R>
@@ -153,6 +154,44 @@ public interface Accumulator<T, A extends Accumulator<T, A, R>, R>
 		return synced(this);
 	}
 
+	/**
+	 * Returns a thread-safe accumulator backed by {@code this} accumulator,
+	 * which doesn't serialize the accumulating threads. Every accumulating
+	 * thread gets its own accumulator <em>cell</em>, created with the
+	 * {@link #supplier()} of {@code this} accumulator. The cells are merged,
+	 * by using the {@link #combine(Accumulator)} method, when the
+	 * {@link #result()} is requested. The returned accumulator is well suited
+	 * for accumulating a large number of elements concurrently, when the
+	 * intermediate results are requested rarely.
+	 *
+	 * <pre>{@code
+	 * final Accumulator<Integer, ?, Long> accu =
+	 *     Accumulator.of(Collectors.counting()).striped();
+	 *
+	 * IntStream.range(0, 1_000_000).boxed().parallel()
+	 *     .forEach(accu);
+	 * }</pre>
+	 *
+	 * @apiNote
+	 * The accumulator must implement the {@link #combine(Accumulator)} method,
+	 * and the {@link #result()} method must not be called concurrently with
+	 * the {@code combine} method of the same accumulator.
+	 *
+	 * @see #synced()
+	 *
+	 * @since 6.2
+	 *
+	 * @return a thread-safe accumulator, which uses one accumulator cell per
+	 *         accumulating thread
+	 */
+	default Accumulator<T, ?, R> striped() {
+		@SuppressWarnings("unchecked")
+		final A self = (A)this;
+		return this instanceof StripedAccumulator
+			? this
+			: new StripedAccumulator<>(self);
+	}
+
 	/**
 	 * Create a new accumulator from the given {@code collector}.
 	 *
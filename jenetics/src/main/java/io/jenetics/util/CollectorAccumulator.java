@@ -31,7 +31,7 @@ import java.util.stream.Collector;
  * @param <R> the result type of the accumulated operation
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.1
+ * @version 6.2
  * @since 6.1
  */
 final class CollectorAccumulator<T, A, R>
@@ -52,7 +52,10 @@ final class CollectorAccumulator<T, A, R>
 			_collection = _collector.supplier().get();
 		}
 
-		_collector.combiner().apply(_collection, other._collection);
+		if (other._collection != null) {
+			_collection = _collector.combiner()
+				.apply(_collection, other._collection);
+		}
 		return this;
 	}
 
@@ -0,0 +1,439 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * Reactive {@link Flow.Publisher} of the elements of a Java {@link Stream},
+ * which respects the demand of its subscribers. In contrast to the
+ * {@link StreamPublisher}, slow subscribers never block the attached stream.
+ * Every subscriber has a buffer for exactly one element, and the
+ * {@link Overflow} strategy defines what happens with new elements, if the
+ * subscriber has no outstanding demand.
+ *
+ * <pre>{@code
+ * final Stream<EvolutionResult<DoubleGene, Double>> stream = engine.stream()
+ *     .limit(bySteadyFitness(100));
+ *
+ * // Only the latest result is shown. The next generation is only evolved,
+ * // if the dashboard requests the next result.
+ * try (var publisher = new DemandStreamPublisher<
+ *         EvolutionResult<DoubleGene, Double>>(Overflow.LATEST, true))
+ * {
+ *     publisher.subscribe(dashboard);
+ *     publisher.attach(stream);
+ *     ...
+ * }
+ * }</pre>
+ *
+ * If the publisher is created <em>on-demand</em>, the next element is only
+ * pulled from the attached stream, if at least one subscriber has requested
+ * it. For an evolution stream, this means that the next generation is only
+ * evolved when a subscriber requests it. Otherwise, the stream is consumed
+ * as fast as possible, independently of the subscribers. Additionally, it is
+ * possible to publish only every <em>n</em>-th element of the stream, via the
+ * {@code sampling} parameter.
+ *
+ * @implNote
+ * The attached stream is consumed by a task of the given {@link Executor},
+ * which doesn't block while waiting for the subscribers' demand. This class
+ * is thread safe.
+ *
+ * @see StreamPublisher
+ *
+ * @param <T> the element type of the publisher
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+public final class DemandStreamPublisher<T>
+	implements Flow.Publisher<T>, AutoCloseable
+{
+
+	/**
+	 * Defines how elements are treated, which are published to a subscriber
+	 * without outstanding demand.
+	 */
+	public enum Overflow {
+
+		/**
+		 * Only the latest element is kept and delivered when the subscriber
+		 * requests the next element. Older, undelivered elements are
+		 * discarded. The completion signal is sent after the latest element
+		 * has been delivered.
+		 */
+		LATEST,
+
+		/**
+		 * New elements are dropped, if the subscriber has no outstanding
+		 * demand or the previous element hasn't been delivered yet.
+		 */
+		DROP
+
+	}
+
+	private final Executor _executor;
+	private final Overflow _overflow;
+	private final int _sampling;
+	private final boolean _onDemand;
+
+	private final List<DemandSubscription> _subscriptions =
+		new CopyOnWriteArrayList<>();
+	private final AtomicInteger _wip = new AtomicInteger();
+
+	private final Object _lock = new Object(){};
+	private volatile Iterator<? extends T> _iterator;
+	private long _count = 0;
+
+	private volatile boolean _done = false;
+	private volatile Throwable _error;
+
+	/**
+	 * Create a new demand aware stream publisher.
+	 *
+	 * @param executor the executor used for consuming the attached stream and
+	 *        delivering the elements to the subscribers
+	 * @param overflow the overflow strategy for subscribers without
+	 *        outstanding demand
+	 * @param sampling only every {@code sampling}-th element of the attached
+	 *        stream is published
+	 * @param onDemand if {@code true}, the next element is only pulled from
+	 *        the attached stream, if at least one subscriber requested it
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if {@code sampling < 1}
+	 */
+	public DemandStreamPublisher(
+		final Executor executor,
+		final Overflow overflow,
+		final int sampling,
+		final boolean onDemand
+	) {
+		if (sampling < 1) {
+			throw new IllegalArgumentException(format(
+				"Sampling interval must be greater than zero: %d", sampling
+			));
+		}
+
+		_executor = requireNonNull(executor);
+		_overflow = requireNonNull(overflow);
+		_sampling = sampling;
+		_onDemand = onDemand;
+	}
+
+	/**
+	 * Create a new demand aware stream publisher, which uses the
+	 * {@link ForkJoinPool#commonPool()} and publishes every element of the
+	 * attached stream.
+	 *
+	 * @param overflow the overflow strategy for subscribers without
+	 *        outstanding demand
+	 * @param onDemand if {@code true}, the next element is only pulled from
+	 *        the attached stream, if at least one subscriber requested it
+	 * @throws NullPointerException if the {@code overflow} strategy is
+	 *         {@code null}
+	 */
+	public DemandStreamPublisher(final Overflow overflow, final boolean onDemand) {
+		this(ForkJoinPool.commonPool(), overflow, 1, onDemand);
+	}
+
+	/**
+	 * Create a new on-demand stream publisher, with the {@link Overflow#LATEST}
+	 * overflow strategy, which uses the {@link ForkJoinPool#commonPool()}.
+	 */
+	public DemandStreamPublisher() {
+		this(Overflow.LATEST, true);
+	}
+
+	/**
+	 * Return the overflow strategy of the publisher.
+	 *
+	 * @return the overflow strategy of the publisher
+	 */
+	public Overflow overflow() {
+		return _overflow;
+	}
+
+	/**
+	 * Return the sampling interval of the publisher.
+	 *
+	 * @return the sampling interval of the publisher
+	 */
+	public int sampling() {
+		return _sampling;
+	}
+
+	/**
+	 * Return {@code true} if the attached stream is only consumed on the
+	 * demand of the subscribers.
+	 *
+	 * @return {@code true} if the publisher is demand-driven
+	 */
+	public boolean isOnDemand() {
+		return _onDemand;
+	}
+
+	/**
+	 * Attaches the given stream to the publisher. This method automatically
+	 * starts the publishing of the elements read from the stream.
+	 *
+	 * @param stream the {@code stream} to attach
+	 * @throws NullPointerException if the given {@code stream} is {@code null}
+	 * @throws IllegalStateException if a stream is already attached to this
+	 *         publisher or the publisher has been closed
+	 */
+	public void attach(final Stream<? extends T> stream) {
+		requireNonNull(stream);
+
+		synchronized (_lock) {
+			if (_iterator != null) {
+				throw new IllegalStateException("Already attached stream.");
+			}
+			if (_done) {
+				throw new IllegalStateException("Publisher has been closed.");
+			}
+			_iterator = stream.iterator();
+		}
+
+		signal();
+	}
+
+	@Override
+	public void subscribe(final Subscriber<? super T> subscriber) {
+		final DemandSubscription subscription =
+			new DemandSubscription(requireNonNull(subscriber));
+
+		_subscriptions.add(subscription);
+		subscription.drain();
+	}
+
+	/**
+	 * Return the number of current subscribers.
+	 *
+	 * @return the number of current subscribers
+	 */
+	public int numberOfSubscribers() {
+		return _subscriptions.size();
+	}
+
+	/**
+	 * Unless already closed, stops consuming the attached stream and issues
+	 * {@code onComplete} signals to current subscribers. Upon return, this
+	 * method does NOT guarantee that all subscribers have yet completed.
+	 */
+	@Override
+	public void close() {
+		complete(null);
+	}
+
+	private void complete(final Throwable error) {
+		synchronized (_lock) {
+			if (_done) {
+				return;
+			}
+			_error = error;
+			_done = true;
+		}
+
+		_subscriptions.forEach(DemandSubscription::drain);
+	}
+
+	/* *************************************************************************
+	 * Consuming the attached stream.
+	 * ************************************************************************/
+
+	// Schedules the stream consumption task, if not already running.
+	private void signal() {
+		if (_iterator != null && _wip.getAndIncrement() == 0) {
+			_executor.execute(this::produce);
+		}
+	}
+
+	private void produce() {
+		int missed = 1;
+		do {
+			try {
+				while (!_done && (!_onDemand || ready())) {
+					if (!_iterator.hasNext()) {
+						complete(null);
+					} else {
+						final T element = _iterator.next();
+						if (++_count%_sampling == 0) {
+							publish(element);
+						}
+					}
+				}
+			} catch (Throwable e) {
+				complete(e);
+			}
+
+			missed = _wip.addAndGet(-missed);
+		} while (missed != 0);
+	}
+
+	// Return true if at least one subscriber is ready to receive an element.
+	private boolean ready() {
+		for (DemandSubscription subscription : _subscriptions) {
+			if (subscription.ready()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void publish(final T element) {
+		for (DemandSubscription subscription : _subscriptions) {
+			subscription.offer(element);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"DemandStreamPublisher[overflow=%s, sampling=%d, onDemand=%s]",
+			_overflow, _sampling, _onDemand
+		);
+	}
+
+	/**
+	 * Subscription with a buffer for one element. All subscriber signals are
+	 * emitted serially by the {@link #drain()} task.
+	 */
+	private final class DemandSubscription implements Subscription {
+		private final Subscriber<? super T> _subscriber;
+
+		private final AtomicLong _demand = new AtomicLong();
+		private final AtomicReference<T> _slot = new AtomicReference<>();
+		private final AtomicInteger _wip = new AtomicInteger();
+
+		private volatile boolean _cancelled = false;
+		private volatile Throwable _invalidRequest;
+		private boolean _subscribed = false;
+
+		DemandSubscription(final Subscriber<? super T> subscriber) {
+			_subscriber = subscriber;
+		}
+
+		boolean ready() {
+			return !_cancelled && _demand.get() > 0 && _slot.get() == null;
+		}
+
+		void offer(final T element) {
+			if (_cancelled) {
+				return;
+			}
+
+			if (_overflow == Overflow.LATEST) {
+				_slot.set(element);
+			} else if (_demand.get() > 0) {
+				_slot.compareAndSet(null, element);
+			}
+			drain();
+		}
+
+		@Override
+		public void request(final long n) {
+			if (n <= 0) {
+				_invalidRequest = new IllegalArgumentException(format(
+					"Number of requested elements must be positive: %d", n
+				));
+			} else {
+				_demand.getAndUpdate(d -> d + n < 0 ? Long.MAX_VALUE : d + n);
+			}
+
+			drain();
+			if (_onDemand) {
+				signal();
+			}
+		}
+
+		@Override
+		public void cancel() {
+			_cancelled = true;
+			_slot.set(null);
+			_subscriptions.remove(this);
+			if (_onDemand) {
+				signal();
+			}
+		}
+
+		void drain() {
+			if (_wip.getAndIncrement() == 0) {
+				_executor.execute(this::emit);
+			}
+		}
+
+		private void emit() {
+			int missed = 1;
+			do {
+				if (!_subscribed) {
+					_subscribed = true;
+					_subscriber.onSubscribe(this);
+				}
+
+				while (!_cancelled && _demand.get() > 0 && _slot.get() != null) {
+					_demand.decrementAndGet();
+					final T element = _slot.getAndSet(null);
+					try {
+						_subscriber.onNext(element);
+					} catch (Throwable e) {
+						cancel();
+						_subscriber.onError(e);
+					}
+					if (_onDemand) {
+						signal();
+					}
+				}
+
+				if (!_cancelled && _invalidRequest != null) {
+					cancel();
+					_subscriber.onError(_invalidRequest);
+				} else if (!_cancelled && _done) {
+					final Throwable error = _error;
+					if (error != null) {
+						cancel();
+						_subscriber.onError(error);
+					} else if (_slot.get() == null) {
+						cancel();
+						_subscriber.onComplete();
+					}
+				}
+
+				missed = _wip.addAndGet(-missed);
+			} while (missed != 0);
+		}
+	}
+
+}
@@ -21,6 +21,7 @@ package io.jenetics.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Consumer;
@@ -85,12 +86,33 @@ import java.util.function.Supplier;
  * }</pre>
  * <p>
  *
+ * <b>Reproducible parallel PRN generation</b><br>
+ *
+ * Sharing one seeded PRNG between the concurrently executed tasks of the
+ * evolution engine leads to contention and makes the results depend on the
+ * thread scheduling. A {@link SplitRandom} engine can be split into
+ * independent child engines instead. The evolution {@code Engine} splits off
+ * a child engine, via {@link #split()}, for every concurrently executed task.
+ * This gives reproducible results for a given seed, also for parallel
+ * executors.
+ *
+ * <pre>{@code
+ * final EvolutionResult<DoubleGene, Double> result =
+ *     with(new SplitRandom(1234), r ->
+ *         engine.stream()
+ *             .limit(100)
+ *             .collect(toBestEvolutionResult())
+ *     );
+ * }</pre>
+ * <p>
+ *
  * @see Random
  * @see ThreadLocalRandom
+ * @see SplitRandom
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 3.0
+ * @version 6.2
  */
 public final class RandomRegistry {
 	private RandomRegistry() {}
@@ -107,6 +129,27 @@ public final class RandomRegistry {
 		return CONTEXT.get().get();
 	}
 
+	/**
+	 * Return a new, independent random engine, split off from the current
+	 * random engine, if the current engine is a {@link SplitRandom}. The
+	 * returned engine can be used for a concurrently executed task, e.g. via
+	 * {@link #with(Random, Function)}, without sharing PRNG state with other
+	 * tasks. The split must be done in the thread which <i>owns</i> the
+	 * current random engine, before the task is started.
+	 *
+	 * @since 6.2
+	 *
+	 * @return a new random engine split off from the current one, or
+	 *         {@link Optional#empty()} if the current random engine is not
+	 *         splittable
+	 */
+	public static Optional<SplitRandom> split() {
+		final Random random = random();
+		return random instanceof SplitRandom
+			? Optional.of(((SplitRandom)random).split())
+			: Optional.empty();
+	}
+
 	/**
 	 * Set the new global {@link Random} object for the GA. The given
 	 * {@link Random} <b>must</b> be thread safe, which is the case for the
@@ -0,0 +1,160 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * {@link Random} engine, which is backed by a {@link SplittableRandom}. It can
+ * be <em>split</em> into independent child engines, which allows to run
+ * parallel computations without sharing PRNG state, while keeping the results
+ * reproducible. For a given seed, the engines, created by {@link #split()},
+ * only depends on the number of preceding splits and generated random values
+ * of the parent engine.
+ *
+ * <pre>{@code
+ * // The engine splits the random engine for every concurrent task, which
+ * // leads to reproducible results, even for parallel executors.
+ * final EvolutionResult<DoubleGene, Double> result = RandomRegistry.with(
+ *     new SplitRandom(1234),
+ *     r -> engine.stream()
+ *         .limit(100)
+ *         .collect(toBestEvolutionResult())
+ * );
+ * }</pre>
+ *
+ * @implNote
+ * Like the {@link SplittableRandom}, this class is <em>not</em> thread safe.
+ * Every thread must use its own engine, split off from a common parent.
+ * Instances of this class are not serializable.
+ *
+ * @see RandomRegistry#split()
+ * @see SplittableRandom
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 6.2
+ * @version 6.2
+ */
+public final class SplitRandom extends Random {
+	private static final long serialVersionUID = 1L;
+
+	private final SplittableRandom _random;
+
+	private SplitRandom(final SplittableRandom random) {
+		super(0);
+		_random = requireNonNull(random);
+	}
+
+	/**
+	 * Create a new random engine with the given {@code seed}.
+	 *
+	 * @param seed the initial seed
+	 */
+	public SplitRandom(final long seed) {
+		this(new SplittableRandom(seed));
+	}
+
+	/**
+	 * Create a new random engine with a seed, which is likely to be different
+	 * from other engines.
+	 */
+	public SplitRandom() {
+		this(new SplittableRandom());
+	}
+
+	/**
+	 * Create a new, independent random engine, which shares no mutable state
+	 * with {@code this} one. This method changes the state of {@code this}
+	 * random engine.
+	 *
+	 * @return a new, independent random engine
+	 */
+	public SplitRandom split() {
+		return new SplitRandom(_random.split());
+	}
+
+	@Override
+	protected int next(final int bits) {
+		return _random.nextInt() >>> (Integer.SIZE - bits);
+	}
+
+	@Override
+	public int nextInt() {
+		return _random.nextInt();
+	}
+
+	@Override
+	public int nextInt(final int bound) {
+		return _random.nextInt(bound);
+	}
+
+	@Override
+	public long nextLong() {
+		return _random.nextLong();
+	}
+
+	@Override
+	public boolean nextBoolean() {
+		return _random.nextBoolean();
+	}
+
+	@Override
+	public double nextDouble() {
+		return _random.nextDouble();
+	}
+
+	@Override
+	public void nextBytes(final byte[] bytes) {
+		_random.nextBytes(bytes);
+	}
+
+	/**
+	 * The seed of a {@code SplitRandom} can't be changed after creation.
+	 *
+	 * @param seed the new seed
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void setSeed(final long seed) {
+		// Called by the constructor of the Random super class.
+		if (_random != null) {
+			throw new UnsupportedOperationException(
+				"The seed of a SplitRandom can't be changed."
+			);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "SplitRandom";
+	}
+
+	private void writeObject(final ObjectOutputStream out)
+		throws NotSerializableException
+	{
+		throw new NotSerializableException(getClass().getName());
+	}
+
+}
@@ -68,10 +68,16 @@ import java.util.stream.Stream;
  * }
  * }</pre>
  *
+ * The {@link #submit(Object)} method blocks the attached stream, if the buffer
+ * of a subscriber is full. Use the {@link DemandStreamPublisher}, if slow
+ * subscribers must not slow down the stream.
+ *
+ * @see DemandStreamPublisher
+ *
  * @param <T> the element type of the publisher
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.0
+ * @version 6.2
  * @since 6.0
  */
 public class StreamPublisher<T> extends SubmissionPublisher<T> {
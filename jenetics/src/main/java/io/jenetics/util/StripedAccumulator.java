@@ -0,0 +1,157 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import static java.util.Collections.addAll;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe accumulator, which accumulates the values of every thread in a
+ * separate <em>cell</em>. The cells are created with the
+ * {@link Accumulator#supplier()} of the backing accumulator and are moved into
+ * the backing accumulator, with the {@link Accumulator#combine(Accumulator)}
+ * method, when the {@link #result()} is requested. A moved cell continues with
+ * a new accumulator, so the backing accumulator never shares its state with a
+ * cell. Since every cell is only updated by its owning thread, the
+ * accumulating threads don't contend with each other.
+ * <p>
+ * Accepting a value doesn't lock. The owning thread takes the accumulator out
+ * of its cell, updates it and puts it back with a compare-and-set. If the
+ * cell has been drained in the meantime, the updated accumulator is handed
+ * over to the draining thread instead. Only the {@link #result()} call waits
+ * for such a hand-over.
+ *
+ * @param <T> the type of input elements to the accumulate operation
+ * @param <A> the accumulator type
+ * @param <R> the result type of the accumulated operation
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.2
+ * @since 6.2
+ */
+final class StripedAccumulator<T, A extends Accumulator<T, A, R>, R>
+	implements Accumulator<T, StripedAccumulator<T, A, R>, R>
+{
+
+	private final A _accumulator;
+	private final Set<Characteristics> _characteristics;
+
+	private final Queue<Cell<A>> _cells = new ConcurrentLinkedQueue<>();
+	private final ThreadLocal<Cell<A>> _cell =
+		ThreadLocal.withInitial(this::newCell);
+
+	StripedAccumulator(final A accumulator) {
+		_accumulator = requireNonNull(accumulator);
+
+		final var cs = EnumSet.noneOf(Characteristics.class);
+		addAll(cs, _accumulator.characteristics().toArray(Characteristics[]::new));
+		addAll(cs, Characteristics.CONCURRENT);
+		_characteristics = Collections.unmodifiableSet(cs);
+	}
+
+	private Cell<A> newCell() {
+		final Cell<A> cell = new Cell<>(_accumulator.supplier().get());
+		_cells.add(cell);
+		return cell;
+	}
+
+	@Override
+	public StripedAccumulator<T, A, R>
+	combine(final StripedAccumulator<T, A, R> other) {
+		synchronized (other._accumulator) {
+			other.drain();
+		}
+		synchronized (_accumulator) {
+			_accumulator.combine(other._accumulator);
+		}
+		return this;
+	}
+
+	@Override
+	public void accept(final T value) {
+		final Cell<A> cell = _cell.get();
+
+		// The cell is never empty when its owner takes the accumulator,
+		// since only the owner empties it and a drain refills it.
+		final A accumulator = cell.accumulator.getAndSet(null);
+		try {
+			accumulator.accept(value);
+		} finally {
+			if (!cell.accumulator.compareAndSet(null, accumulator)) {
+				cell.handover.set(accumulator);
+			}
+		}
+	}
+
+	@Override
+	public R result() {
+		synchronized (_accumulator) {
+			drain();
+			return _accumulator.result();
+		}
+	}
+
+	// Moves the content of all cells into the backing accumulator. The
+	// combine method may take over the state of the combined cell, which is
+	// the reason why the cell must continue with a new accumulator. If the
+	// owner is just updating the accumulator of the cell, the updated
+	// accumulator is awaited from the hand-over slot. Must be called while
+	// holding the lock of the backing accumulator.
+	private void drain() {
+		for (Cell<A> cell : _cells) {
+			A accumulator = cell.accumulator
+				.getAndSet(_accumulator.supplier().get());
+
+			while (accumulator == null) {
+				Thread.onSpinWait();
+				accumulator = cell.handover.getAndSet(null);
+			}
+			_accumulator.combine(accumulator);
+		}
+	}
+
+	@Override
+	public Supplier<StripedAccumulator<T, A, R>> supplier() {
+		return () -> new StripedAccumulator<>(_accumulator.supplier().get());
+	}
+
+	@Override
+	public Set<Characteristics> characteristics() {
+		return _characteristics;
+	}
+
+	private static final class Cell<A> {
+		final AtomicReference<A> accumulator;
+		final AtomicReference<A> handover = new AtomicReference<>();
+
+		Cell(final A accumulator) {
+			this.accumulator = new AtomicReference<>(accumulator);
+		}
+	}
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.stat.LongMomentStatistics;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class BitFlipMutatorTest {
+
+	@Test(dataProvider = "probabilities")
+	public void mutateChromosome(final Double p) {
+		final BitFlipMutator<Integer> mutator = new BitFlipMutator<>(p);
+		final Random random = new Random(123);
+		final int length = 10_000;
+
+		final LongMomentStatistics statistics = new LongMomentStatistics();
+		for (int i = 0; i < 100; ++i) {
+			final BitChromosome chromosome = BitChromosome.of(length, 0.5);
+			final MutatorResult<Chromosome<BitGene>> result =
+				mutator.mutate(chromosome, p, random);
+
+			final BitChromosome mutated = (BitChromosome)result.result();
+			Assert.assertEquals(mutated.length(), length);
+
+			int diff = 0;
+			for (int j = 0; j < length; ++j) {
+				if (chromosome.booleanValue(j) != mutated.booleanValue(j)) {
+					++diff;
+				}
+			}
+			Assert.assertEquals(result.mutations(), diff);
+			if (diff > 0) {
+				Assert.assertEquals(
+					mutated.oneProbability(),
+					mutated.bitCount()/(double)length
+				);
+			}
+
+			statistics.accept(diff);
+		}
+
+		Assert.assertEquals(
+			statistics.mean(),
+			length*p,
+			5*Math.sqrt(length*p*(1 - p)/100) + 1E-10
+		);
+	}
+
+	@DataProvider(name = "probabilities")
+	public Object[][] probabilities() {
+		return new Object[][] {{0.0}, {0.0001}, {0.01}, {0.3}, {0.5}, {1.0}};
+	}
+
+	@Test
+	public void alter() {
+		final ISeq<Phenotype<BitGene, Integer>> population =
+			Genotype.of(BitChromosome.of(1000, 0.5), 3).instances()
+				.limit(100)
+				.map(gt -> Phenotype.<BitGene, Integer>of(gt, 1))
+				.collect(ISeq.toISeq());
+
+		final AltererResult<BitGene, Integer> result =
+			new BitFlipMutator<Integer>(0.1).alter(population, 2);
+
+		int diff = 0;
+		for (int i = 0; i < population.size(); ++i) {
+			final Genotype<BitGene> gt1 = population.get(i).genotype();
+			final Genotype<BitGene> gt2 = result.population().get(i).genotype();
+			for (int j = 0; j < gt1.length(); ++j) {
+				for (int k = 0; k < gt1.get(j).length(); ++k) {
+					if (gt1.get(j).get(k) != gt2.get(j).get(k)) {
+						++diff;
+					}
+				}
+			}
+		}
+
+		Assert.assertEquals(result.alterations(), diff);
+		Assert.assertTrue(diff > 0);
+	}
+
+}
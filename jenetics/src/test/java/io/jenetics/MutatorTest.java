@@ -19,8 +19,16 @@
  */
 package io.jenetics;
 
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import io.jenetics.internal.math.Probabilities;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  */
@@ -32,4 +40,34 @@ public class MutatorTest extends MutatorTester {
 		return new Mutator<>(p);
 	}
 
+	@Test(dataProvider = "interleavedProbabilities")
+	public void interleavedRandomSequence(final double p) {
+		final Chromosome<DoubleGene> chromosome =
+			RandomRegistry.with(new Random(12), r -> DoubleChromosome.of(0, 10, 50));
+
+		final Chromosome<DoubleGene> actual =
+			RandomRegistry.with(new Random(345), random ->
+				new Mutator<DoubleGene, Double>(p)
+					.mutate(chromosome, p, random)
+					.result()
+			);
+
+		// Random sequence of the previous releases: one index draw per gene,
+		// directly followed by the draw of the mutated gene.
+		final int P = Probabilities.toInt(p);
+		final Chromosome<DoubleGene> expected =
+			RandomRegistry.with(new Random(345), random ->
+				chromosome.newInstance(chromosome.stream()
+					.map(gene -> random.nextInt() < P ? gene.newInstance() : gene)
+					.collect(ISeq.toISeq()))
+			);
+
+		Assert.assertEquals(actual, expected);
+	}
+
+	@DataProvider(name = "interleavedProbabilities")
+	public Object[][] interleavedProbabilities() {
+		return new Object[][] {{0.1}, {0.25}, {0.5}, {0.9}, {1.0}};
+	}
+
 }
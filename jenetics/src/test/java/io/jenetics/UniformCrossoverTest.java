@@ -94,4 +94,37 @@ public class UniformCrossoverTest extends AltererTester {
 		});
 	}
 
+	@Test
+	public void bitChromosomeCrossover() {
+		final ISeq<Phenotype<BitGene, Double>> population =
+			Genotype.of(BitChromosome.of(1000, 0.5)).instances()
+				.limit(2)
+				.map(gt -> Phenotype.<BitGene, Double>of(gt, 1))
+				.collect(ISeq.toISeq());
+
+		final MSeq<Phenotype<BitGene, Double>> pop = population.copy();
+		final UniformCrossover<BitGene, Double> crossover =
+			new UniformCrossover<>(1.0, 0.3);
+		crossover.recombine(pop, new int[]{0, 1}, 2);
+
+		final BitChromosome a = (BitChromosome)population.get(0).genotype().chromosome();
+		final BitChromosome b = (BitChromosome)population.get(1).genotype().chromosome();
+		final BitChromosome ca = (BitChromosome)pop.get(0).genotype().chromosome();
+		final BitChromosome cb = (BitChromosome)pop.get(1).genotype().chromosome();
+
+		int swapped = 0;
+		for (int i = 0; i < a.length(); ++i) {
+			final boolean same = ca.booleanValue(i) == a.booleanValue(i) &&
+				cb.booleanValue(i) == b.booleanValue(i);
+			final boolean swap = ca.booleanValue(i) == b.booleanValue(i) &&
+				cb.booleanValue(i) == a.booleanValue(i);
+
+			Assert.assertTrue(same || swap);
+			if (!same) ++swapped;
+		}
+
+		Assert.assertEquals(ca.bitCount() + cb.bitCount(), a.bitCount() + b.bitCount());
+		Assert.assertTrue(swapped > 0);
+	}
+
 }
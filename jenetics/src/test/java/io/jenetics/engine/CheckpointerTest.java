@@ -0,0 +1,225 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.CharacterChromosome;
+import io.jenetics.CharacterGene;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.NanoClock;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class CheckpointerTest {
+
+	private static Engine<DoubleGene, Double> engine(
+		final Checkpointer<DoubleGene, Double> checkpointer
+	) {
+		return Engine
+			.builder(
+				gt -> gt.gene().doubleValue(),
+				Genotype.of(DoubleChromosome.of(0, 10, 3))
+			)
+			.populationSize(20)
+			.interceptor(checkpointer)
+			.build();
+	}
+
+	private static List<String> files(final Path directory) throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files
+				.map(file -> file.getFileName().toString())
+				.sorted()
+				.collect(Collectors.toList());
+		}
+	}
+
+	private static void delete(final Path directory) throws IOException {
+		try (Stream<Path> files = Files.walk(directory)) {
+			for (Path file : files.sorted(Comparator.reverseOrder())
+					.collect(Collectors.toList()))
+			{
+				Files.deleteIfExists(file);
+			}
+		}
+	}
+
+	@Test
+	public void rotation() throws IOException {
+		final Path dir = Files.createTempDirectory("jenetics-checkpoints-");
+		try {
+			final Checkpointer<DoubleGene, Double> checkpointer = Checkpointer
+				.of(dir, 5, Duration.ofDays(1), 2, NanoClock.systemUTC());
+
+			try (checkpointer) {
+				engine(checkpointer).stream()
+					.limit(20)
+					.forEach(r -> {
+						// Give the background writer a chance.
+						if (r.generation()%5 == 0) {
+							try {
+								Thread.sleep(50);
+							} catch (InterruptedException e) {
+								Thread.currentThread().interrupt();
+							}
+						}
+					});
+			}
+
+			final List<String> files = files(dir);
+			Assert.assertTrue(files.size() <= 2, files.toString());
+			Assert.assertTrue(files.contains("checkpoint-20.snapshot"), files.toString());
+		} finally {
+			delete(dir);
+		}
+	}
+
+	@Test
+	public void resume() throws IOException {
+		final Path dir = Files.createTempDirectory("jenetics-checkpoints-");
+		try {
+			final EvolutionResult<DoubleGene, Double> last;
+			try (var checkpointer = Checkpointer.<DoubleGene, Double>of(dir, 10)) {
+				last = engine(checkpointer).stream()
+					.limit(10)
+					.reduce((a, b) -> b)
+					.orElseThrow();
+			}
+
+			final EvolutionStart<DoubleGene, Double> start = Checkpointer
+				.<DoubleGene, Double>read(dir)
+				.orElseThrow();
+			Assert.assertEquals(start.generation(), 11);
+			Assert.assertEquals(start.population(), last.population());
+			Assert.assertTrue(start.population().forAll(Phenotype::isEvaluated));
+
+			final EvolutionInit<DoubleGene> init = Checkpointer
+				.<DoubleGene>init(dir)
+				.orElseThrow();
+			Assert.assertEquals(init.generation(), 11);
+			Assert.assertEquals(
+				init.population(),
+				last.population().map(Phenotype::genotype)
+			);
+
+			final EvolutionResult<DoubleGene, Double> resumed;
+			try (var checkpointer = Checkpointer.<DoubleGene, Double>of(dir, 10)) {
+				resumed = engine(checkpointer).stream(() -> start)
+					.limit(1)
+					.reduce((a, b) -> b)
+					.orElseThrow();
+			}
+			Assert.assertEquals(resumed.generation(), 11);
+		} finally {
+			delete(dir);
+		}
+	}
+
+	@Test
+	public void serializationFallback() throws IOException {
+		final Path dir = Files.createTempDirectory("jenetics-checkpoints-");
+		try {
+			final EvolutionResult<CharacterGene, Integer> last;
+			try (var checkpointer = Checkpointer.<CharacterGene, Integer>of(dir, 3)) {
+				final Engine<CharacterGene, Integer> engine = Engine
+					.builder(
+						gt -> (int)gt.chromosome().stream()
+							.filter(g -> g.allele() == 'a')
+							.count(),
+						Genotype.of(CharacterChromosome.of(10))
+					)
+					.populationSize(10)
+					.interceptor(checkpointer)
+					.build();
+
+				last = engine.stream()
+					.limit(3)
+					.reduce((a, b) -> b)
+					.orElseThrow();
+			}
+
+			Assert.assertEquals(files(dir), List.of("checkpoint-3.ser"));
+
+			final EvolutionStart<CharacterGene, Integer> start = Checkpointer
+				.<CharacterGene, Integer>read(dir)
+				.orElseThrow();
+			Assert.assertEquals(start.generation(), 4);
+			Assert.assertEquals(start.population(), last.population());
+		} finally {
+			delete(dir);
+		}
+	}
+
+	@Test
+	public void skipCorruptCheckpoint() throws IOException {
+		final Path dir = Files.createTempDirectory("jenetics-checkpoints-");
+		try {
+			try (var checkpointer = Checkpointer.<DoubleGene, Double>of(dir, 5)) {
+				RandomRegistry.with(new Random(123), r ->
+					engine(checkpointer).stream()
+						.limit(5)
+						.count()
+				);
+			}
+			Files.write(dir.resolve("checkpoint-10.snapshot"), new byte[]{1, 2, 3});
+
+			final EvolutionStart<DoubleGene, Double> start = Checkpointer
+				.<DoubleGene, Double>read(dir)
+				.orElseThrow();
+			Assert.assertEquals(start.generation(), 6);
+		} finally {
+			delete(dir);
+		}
+	}
+
+	@Test
+	public void emptyDirectory() throws IOException {
+		final Path dir = Files.createTempDirectory("jenetics-checkpoints-");
+		try {
+			Assert.assertFalse(Checkpointer.read(dir).isPresent());
+			Assert.assertFalse(Checkpointer.init(dir.resolve("missing")).isPresent());
+		} finally {
+			delete(dir);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidGenerations() {
+		Checkpointer.of(Path.of("checkpoints"), 0);
+	}
+
+}
@@ -19,6 +19,9 @@
  */
 package io.jenetics.engine;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -27,6 +30,7 @@ import io.jenetics.DoubleGene;
 import io.jenetics.Genotype;
 import io.jenetics.Phenotype;
 import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -51,4 +55,52 @@ public class ConcurrentEvaluatorTest {
 		evaluated.forEach(pt -> Assert.assertEquals(pt.genotype().gene().allele(), pt.fitness()));
 	}
 
+	@Test
+	public void evaluatePartiallyEvaluated() {
+		final ISeq<Phenotype<DoubleGene, Double>> phenotypes =
+			Genotype.of(DoubleChromosome.of(0, 1)).instances()
+				.limit(100)
+				.map(gt -> Phenotype.<DoubleGene, Double>of(gt, 1))
+				.collect(ISeq.toISeq())
+				.map(pt -> RandomRegistry.random().nextBoolean()
+					? pt.withFitness(-1.0)
+					: pt);
+
+		final ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			final Evaluator<DoubleGene, Double> evaluator =
+				new ConcurrentEvaluator<>(gt -> gt.gene().doubleValue(), executor);
+
+			final ISeq<Phenotype<DoubleGene, Double>> evaluated =
+				evaluator.eval(phenotypes);
+
+			final ISeq<Phenotype<DoubleGene, Double>> expected =
+				phenotypes.stream()
+					.filter(Phenotype::isEvaluated)
+					.collect(ISeq.toISeq())
+					.append(phenotypes.stream()
+						.filter(Phenotype::nonEvaluated)
+						.map(pt -> pt.withFitness(pt.genotype().gene().doubleValue()))
+						.collect(ISeq.toISeq()));
+
+			Assert.assertEquals(evaluated, expected);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void evaluateEvaluated() {
+		final ISeq<Phenotype<DoubleGene, Double>> phenotypes =
+			Genotype.of(DoubleChromosome.of(0, 1)).instances()
+				.limit(10)
+				.map(gt -> Phenotype.<DoubleGene, Double>of(gt, 1, 1.0))
+				.collect(ISeq.toISeq());
+
+		final Evaluator<DoubleGene, Double> evaluator =
+			new ConcurrentEvaluator<>(gt -> gt.gene().doubleValue(), Runnable::run);
+
+		Assert.assertSame(evaluator.eval(phenotypes), phenotypes);
+	}
+
 }
@@ -51,8 +51,10 @@ import io.jenetics.Genotype;
 import io.jenetics.IntegerChromosome;
 import io.jenetics.IntegerGene;
 import io.jenetics.LongChromosome;
+import io.jenetics.MeanAlterer;
 import io.jenetics.Mutator;
 import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
 import io.jenetics.RouletteWheelSelector;
 import io.jenetics.Selector;
 import io.jenetics.SwapMutator;
@@ -62,6 +64,8 @@ import io.jenetics.util.DoubleRange;
 import io.jenetics.util.IO;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.SplitRandom;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -473,6 +477,81 @@ public class EngineTest {
 	}
 	*/
 
+	@Test
+	public void reproducibleParallelEvolution() {
+		final Problem<double[], DoubleGene, Double> problem = Problem.of(
+			v -> v[0]*v[1] - v[2],
+			Codecs.ofVector(DoubleRange.of(0, 10), 3)
+		);
+
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+				.executor(executor)
+				.populationSize(200)
+				.alterers(new Mutator<>(0.2), new MeanAlterer<>(0.3))
+				.build();
+
+			final Function<Long, ISeq<Phenotype<DoubleGene, Double>>> evolve =
+				seed -> RandomRegistry.with(new SplitRandom(seed), r ->
+					engine.stream()
+						.limit(20)
+						.collect(EvolutionResult.toBestEvolutionResult())
+						.population()
+				);
+
+			final ISeq<Phenotype<DoubleGene, Double>> population = evolve.apply(123L);
+			for (int i = 0; i < 5; ++i) {
+				Assert.assertEquals(evolve.apply(123L), population);
+			}
+			Assert.assertNotEquals(evolve.apply(124L), population);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void reproducibleParallelRepair() {
+		final Codec<double[], DoubleGene> codec =
+			Codecs.ofVector(DoubleRange.of(0, 10), 3);
+		final Problem<double[], DoubleGene, Double> problem = Problem.of(
+			v -> v[0]*v[1] - v[2],
+			codec
+		);
+
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+				.executor(executor)
+				.constraint(RetryConstraint.of(pt ->
+					codec.decode(pt.genotype())[0] < 5))
+				.populationSize(1000)
+				.alterers(new Mutator<>(0.2), new MeanAlterer<>(0.3))
+				.build();
+
+			final Function<Long, EvolutionResult<DoubleGene, Double>> evolve =
+				seed -> RandomRegistry.with(new SplitRandom(seed), r ->
+					engine.stream()
+						.limit(10)
+						.collect(EvolutionResult.toBestEvolutionResult())
+				);
+
+			final EvolutionResult<DoubleGene, Double> result = evolve.apply(456L);
+			Assert.assertEquals(result.population().size(), 1000);
+			Assert.assertTrue(result.invalidCount() > 0);
+			Assert.assertTrue(result.durations().repairDuration().toNanos() > 0);
+
+			for (int i = 0; i < 3; ++i) {
+				Assert.assertEquals(
+					evolve.apply(456L).population(),
+					result.population()
+				);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 	// https://github.com/jenetics/jenetics/issues/234
 	@Test
 	public void constantPopulationForZeroSurvivors() {
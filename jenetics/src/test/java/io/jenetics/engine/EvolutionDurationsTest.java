@@ -21,12 +21,16 @@ package io.jenetics.engine;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Duration;
 import java.util.Random;
 
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import io.jenetics.util.Factory;
+import io.jenetics.util.IO;
 import io.jenetics.util.ObjectTester;
 import io.jenetics.util.RandomRegistry;
 
@@ -48,14 +52,85 @@ public class EvolutionDurationsTest extends ObjectTester<EvolutionDurations> {
 				Duration.ofMillis(random.nextInt(1_000_000)),
 				Duration.ofMillis(random.nextInt(1_000_000)),
 				Duration.ofMillis(random.nextInt(1_000_000)),
+				Duration.ofMillis(random.nextInt(1_000_000)),
 				Duration.ofMillis(random.nextInt(1_000_000))
 			);
 		};
 	}
 
+	@Test
+	public void plusRepairDuration() {
+		final EvolutionDurations durations = EvolutionDurations.of(
+			Duration.ofMillis(1),
+			Duration.ofMillis(2),
+			Duration.ofMillis(3),
+			Duration.ofMillis(4),
+			Duration.ofMillis(5),
+			Duration.ofMillis(6),
+			Duration.ofMillis(7),
+			Duration.ofMillis(8)
+		);
+
+		final EvolutionDurations sum = durations.plus(durations);
+		Assert.assertEquals(sum.repairDuration(), Duration.ofMillis(12));
+		Assert.assertEquals(sum.evaluationDuration(), Duration.ofMillis(14));
+		Assert.assertEquals(sum.evolveDuration(), Duration.ofMillis(16));
+	}
+
+	@Test
+	public void zeroRepairDuration() {
+		final EvolutionDurations durations = EvolutionDurations.of(
+			Duration.ofMillis(1),
+			Duration.ofMillis(2),
+			Duration.ofMillis(3),
+			Duration.ofMillis(4),
+			Duration.ofMillis(5),
+			Duration.ofMillis(6),
+			Duration.ofMillis(7)
+		);
+
+		Assert.assertEquals(durations.repairDuration(), Duration.ZERO);
+		Assert.assertEquals(durations.evaluationDuration(), Duration.ofMillis(6));
+		Assert.assertEquals(durations.evolveDuration(), Duration.ofMillis(7));
+	}
+
 	@Test
 	public void equalsVerifier() {
 		EqualsVerifier.forClass(EvolutionDurations.class).verify();
 	}
 
+	@Test
+	public void deserializeWithoutRepairDuration() throws IOException {
+		final String resource = "/io/jenetics/serialization/EvolutionDurations.object";
+		try (InputStream in = getClass().getResourceAsStream(resource)) {
+			final EvolutionDurations durations =
+				(EvolutionDurations)IO.object.read(in);
+
+			Assert.assertEquals(
+				durations,
+				EvolutionDurations.of(
+					Duration.ofMillis(1),
+					Duration.ofMillis(2),
+					Duration.ofMillis(3),
+					Duration.ofMillis(4),
+					Duration.ofMillis(5),
+					Duration.ofMillis(6),
+					Duration.ofSeconds(7, 8)
+				)
+			);
+			Assert.assertEquals(durations.repairDuration(), Duration.ZERO);
+		}
+	}
+
+	@Test
+	public void serializeRepairDuration() throws IOException {
+		final EvolutionDurations durations = factory().newInstance();
+		final byte[] data = IO.object.toByteArray(durations);
+
+		final EvolutionDurations read =
+			(EvolutionDurations)IO.object.fromByteArray(data);
+		Assert.assertEquals(read, durations);
+		Assert.assertEquals(read.repairDuration(), durations.repairDuration());
+	}
+
 }
@@ -0,0 +1,129 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class EvolutionStageEventTest {
+
+	private static List<RecordedEvent> record(final Runnable task)
+		throws IOException
+	{
+		final Path path = Files.createTempFile("jenetics-", ".jfr");
+		try (var recording = new Recording()) {
+			recording.enable("io.jenetics.Evolve");
+			recording.enable("io.jenetics.EvolutionStage");
+			recording.enable("io.jenetics.ConstraintRepair");
+			recording.enable("io.jenetics.ConcurrencyBatch");
+			recording.start();
+			task.run();
+			recording.stop();
+			recording.dump(path);
+
+			return RecordingFile.readAllEvents(path);
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test
+	public void evolutionEvents() throws IOException {
+		final Constraint<DoubleGene, Double> constraint = Constraint.of(
+			pt -> pt.genotype().gene().doubleValue() < 5,
+			(pt, gen) -> Phenotype.of(
+				Genotype.of(DoubleChromosome.of(0, 5)),
+				gen
+			)
+		);
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				gt -> gt.gene().doubleValue(),
+				Genotype.of(DoubleChromosome.of(0, 10))
+			)
+			.constraint(constraint)
+			.populationSize(50)
+			.build();
+
+		final List<RecordedEvent> events = record(() ->
+			engine.stream().limit(5).forEach(r -> {})
+		);
+
+		final Map<String, List<RecordedEvent>> types = events.stream()
+			.collect(groupingBy(e -> e.getEventType().getName()));
+
+		final List<RecordedEvent> evolves = types.get("io.jenetics.Evolve");
+		Assert.assertEquals(evolves.size(), 5);
+		Assert.assertEquals(
+			evolves.stream()
+				.map(e -> e.getLong("generation"))
+				.sorted()
+				.collect(toList()),
+			List.of(1L, 2L, 3L, 4L, 5L)
+		);
+		Assert.assertTrue(evolves.stream()
+			.allMatch(e -> e.getInt("populationSize") == 50));
+
+		final Set<String> stages = types.get("io.jenetics.EvolutionStage")
+			.stream()
+			.map(e -> e.getString("stage"))
+			.collect(toSet());
+		Assert.assertEquals(
+			stages,
+			Set.of(
+				EvolutionStageEvent.OFFSPRING_SELECTION,
+				EvolutionStageEvent.SURVIVORS_SELECTION,
+				EvolutionStageEvent.OFFSPRING_ALTER,
+				EvolutionStageEvent.OFFSPRING_FILTER,
+				EvolutionStageEvent.SURVIVORS_FILTER,
+				EvolutionStageEvent.EVALUATION,
+				EvolutionStageEvent.INTERCEPTOR_BEFORE,
+				EvolutionStageEvent.INTERCEPTOR_AFTER
+			)
+		);
+
+		Assert.assertFalse(types.get("io.jenetics.ConstraintRepair").isEmpty());
+	}
+
+}
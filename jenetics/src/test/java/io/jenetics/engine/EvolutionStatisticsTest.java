@@ -0,0 +1,129 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.stat.DoubleMomentStatistics;
+import io.jenetics.stat.MinMax;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class EvolutionStatisticsTest {
+
+	private static EvolutionResult<DoubleGene, Double> result(
+		final int size,
+		final long generation,
+		final long seed
+	) {
+		final Random random = new Random(seed);
+		final ISeq<Phenotype<DoubleGene, Double>> population = IntStream.range(0, size)
+			.mapToObj(i -> Phenotype.of(
+				Genotype.of(DoubleChromosome.of(0, 1)),
+				random.nextInt((int)generation + 1),
+				random.nextDouble()
+			))
+			.collect(ISeq.toISeq());
+
+		return EvolutionResult.of(
+			Optimize.MAXIMUM,
+			population,
+			generation,
+			EvolutionDurations.ZERO,
+			1,
+			2,
+			3
+		);
+	}
+
+	@Test
+	public void parallelNumberStatistics() {
+		final EvolutionStatistics<Double, DoubleMomentStatistics> serial =
+			EvolutionStatistics.ofNumber();
+		final EvolutionStatistics<Double, DoubleMomentStatistics> parallel =
+			EvolutionStatistics.ofNumber(ForkJoinPool.commonPool());
+
+		for (int i = 1; i <= 5; ++i) {
+			final EvolutionResult<DoubleGene, Double> result =
+				result(100_000, i*10, i);
+			serial.accept(result);
+			parallel.accept(result);
+		}
+
+		Assert.assertEquals(parallel.altered().sum(), serial.altered().sum());
+		Assert.assertEquals(parallel.killed().sum(), serial.killed().sum());
+		Assert.assertEquals(
+			parallel.phenotypeAge().count(),
+			serial.phenotypeAge().count()
+		);
+		Assert.assertEquals(
+			parallel.phenotypeAge().mean(),
+			serial.phenotypeAge().mean(),
+			1.0E-10
+		);
+		Assert.assertEquals(parallel.phenotypeAge().max(), serial.phenotypeAge().max());
+
+		Assert.assertEquals(parallel.fitness().count(), serial.fitness().count());
+		Assert.assertEquals(parallel.fitness().min(), serial.fitness().min());
+		Assert.assertEquals(parallel.fitness().max(), serial.fitness().max());
+		Assert.assertEquals(parallel.fitness().mean(), serial.fitness().mean(), 1.0E-10);
+		Assert.assertEquals(
+			parallel.fitness().variance(),
+			serial.fitness().variance(),
+			1.0E-10
+		);
+	}
+
+	@Test
+	public void parallelComparableStatistics() {
+		final EvolutionStatistics<Double, MinMax<Double>> serial =
+			EvolutionStatistics.ofComparable();
+		final EvolutionStatistics<Double, MinMax<Double>> parallel =
+			EvolutionStatistics.ofComparable(ForkJoinPool.commonPool());
+
+		for (int i = 1; i <= 3; ++i) {
+			final EvolutionResult<DoubleGene, Double> result =
+				result(50_000, i*10, i);
+			serial.accept(result);
+			parallel.accept(result);
+		}
+
+		Assert.assertEquals(parallel.fitness().count(), serial.fitness().count());
+		Assert.assertEquals(parallel.fitness().min(), serial.fitness().min());
+		Assert.assertEquals(parallel.fitness().max(), serial.fitness().max());
+		Assert.assertEquals(
+			parallel.phenotypeAge().count(),
+			serial.phenotypeAge().count()
+		);
+	}
+
+}
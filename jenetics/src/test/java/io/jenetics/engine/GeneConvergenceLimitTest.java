@@ -21,6 +21,9 @@ package io.jenetics.engine;
 
 import static java.lang.String.format;
 
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.IntStream;
@@ -36,6 +39,7 @@ import io.jenetics.Genotype;
 import io.jenetics.Optimize;
 import io.jenetics.Phenotype;
 import io.jenetics.prngine.Random32;
+import io.jenetics.stat.DoubleMoments;
 import io.jenetics.stat.DoubleSummary;
 import io.jenetics.util.DoubleRange;
 import io.jenetics.util.ISeq;
@@ -63,6 +67,54 @@ public class GeneConvergenceLimitTest {
 		Assert.assertEquals(l.test(result(pop)), proceed);
 	}
 
+	@Test(dataProvider = "limits")
+	public void limitWithExecutor(
+		final ISeq<Phenotype<DoubleGene, Double>> pop,
+		final double geneConvergence,
+		final double convergenceRage,
+		final boolean proceed
+	) {
+		final Predicate<EvolutionResult<DoubleGene, ?>> l =
+			Limits.byGeneConvergence(
+				stat -> stat.max()*geneConvergence <= stat.mean(),
+				convergenceRage,
+				ForkJoinPool.commonPool()
+			);
+
+		Assert.assertEquals(l.test(result(pop)), proceed);
+	}
+
+	@Test
+	public void bigPopulationUsesExecutor() {
+		final var population = RandomRegistry.with(new Random(123), r ->
+			IntStream.range(0, 1_000)
+				.mapToObj(i -> Phenotype.<DoubleGene, Double>of(
+					Genotype.of(DoubleChromosome.of(0, 10, 200)),
+					1
+				))
+				.collect(ISeq.toISeq())
+		);
+
+		final AtomicInteger tasks = new AtomicInteger();
+		final Executor executor = task -> {
+			tasks.incrementAndGet();
+			ForkJoinPool.commonPool().execute(task);
+		};
+
+		final Predicate<DoubleMoments> convergence =
+			stat -> stat.max()*0.7 <= stat.mean();
+		final Predicate<EvolutionResult<DoubleGene, ?>> serial =
+			Limits.byGeneConvergence(convergence, 0.5);
+		final Predicate<EvolutionResult<DoubleGene, ?>> concurrent =
+			Limits.byGeneConvergence(convergence, 0.5, executor);
+
+		Assert.assertEquals(
+			concurrent.test(result(population)),
+			serial.test(result(population))
+		);
+		Assert.assertTrue(tasks.get() > 0);
+	}
+
 	@DataProvider(name = "limits")
 	public Object[][] limits() {
 		return new Object[][] {
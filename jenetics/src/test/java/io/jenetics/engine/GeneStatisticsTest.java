@@ -0,0 +1,101 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.stat.ColumnMomentStatistics;
+import io.jenetics.stat.DoubleMomentStatistics;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class GeneStatisticsTest {
+
+	private static ISeq<Phenotype<DoubleGene, Double>> population(final int size) {
+		final Genotype<DoubleGene> gtf = Genotype.of(
+			DoubleChromosome.of(0, 10, 3),
+			DoubleChromosome.of(0, 10, 5)
+		);
+		return gtf.instances()
+			.limit(size)
+			.map(gt -> Phenotype.<DoubleGene, Double>of(gt, 1))
+			.collect(ISeq.toISeq());
+	}
+
+	@Test
+	public void statistics() {
+		final ISeq<Phenotype<DoubleGene, Double>> population = population(100);
+		final ColumnMomentStatistics statistics = GeneStatistics.of(population);
+
+		Assert.assertEquals(statistics.columns(), 8);
+		for (int i = 0; i < 2; ++i) {
+			for (int j = 0; j < population.get(0).genotype().get(i).length(); ++j) {
+				final int ch = i;
+				final int g = j;
+				final DoubleMomentStatistics expected = population.stream()
+					.collect(DoubleMomentStatistics.toDoubleMomentStatistics(
+						pt -> pt.genotype().get(ch).get(g).doubleValue()
+					));
+
+				final int column = i*3 + j;
+				Assert.assertEquals(statistics.count(column), expected.count());
+				Assert.assertEquals(statistics.min(column), expected.min());
+				Assert.assertEquals(statistics.max(column), expected.max());
+				Assert.assertEquals(statistics.mean(column), expected.mean(), 1.0E-10);
+				Assert.assertEquals(statistics.variance(column), expected.variance(), 1.0E-10);
+			}
+		}
+	}
+
+	@Test
+	public void parallelStatistics() {
+		final ISeq<Phenotype<DoubleGene, Double>> population = population(20_000);
+		final ColumnMomentStatistics expected = GeneStatistics.of(population);
+		final ColumnMomentStatistics statistics = GeneStatistics
+			.of(population, ForkJoinPool.commonPool());
+
+		Assert.assertEquals(statistics.columns(), expected.columns());
+		for (int i = 0; i < statistics.columns(); ++i) {
+			Assert.assertEquals(statistics.count(i), expected.count(i));
+			Assert.assertEquals(statistics.min(i), expected.min(i));
+			Assert.assertEquals(statistics.max(i), expected.max(i));
+			Assert.assertEquals(statistics.mean(i), expected.mean(i), 1.0E-10);
+			Assert.assertEquals(statistics.variance(i), expected.variance(i), 1.0E-8);
+		}
+	}
+
+	@Test
+	public void emptyPopulation() {
+		final ColumnMomentStatistics statistics =
+			GeneStatistics.of(ISeq.<Phenotype<DoubleGene, Double>>empty());
+
+		Assert.assertEquals(statistics.columns(), 0);
+	}
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.AnyChromosome;
+import io.jenetics.AnyGene;
+import io.jenetics.BitChromosome;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.LongChromosome;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.Factory;
+import io.jenetics.util.IO;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.IntRange;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class PopulationSnapshotTest {
+
+	@Test(dataProvider = "populations")
+	public <G extends Gene<?, G>> void writeRead(
+		final ISeq<Phenotype<G, Double>> population
+	)
+		throws IOException
+	{
+		final Path path = Files.createTempFile("jenetics-", ".snapshot");
+		try {
+			PopulationSnapshot.write(path, population);
+			final PopulationSnapshot<G, Double> snapshot =
+				PopulationSnapshot.open(path);
+
+			Assert.assertEquals(snapshot.size(), population.size());
+			Assert.assertEquals(snapshot.population(), population);
+			Assert.assertEquals(
+				snapshot.stream().parallel().collect(Collectors.toList()),
+				population.asList()
+			);
+			Assert.assertFalse(snapshot.result().isPresent());
+
+			for (int i = population.size(); --i >= 0;) {
+				Assert.assertEquals(snapshot.get(i), population.get(i));
+			}
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@DataProvider
+	public Object[][] populations() {
+		return new Object[][] {
+			{population(() -> Genotype.of(DoubleChromosome.of(-10, 10, 20), 3), 100)},
+			{population(() -> Genotype.of(DoubleChromosome.of(0, 1, IntRange.of(1, 30)), 4), 100)},
+			{population(() -> Genotype.of(IntegerChromosome.of(-1000, 1000, 50), 2), 100)},
+			{population(() -> Genotype.of(IntegerChromosome.of(Integer.MIN_VALUE, Integer.MAX_VALUE, 10)), 100)},
+			{population(() -> Genotype.of(LongChromosome.of(Long.MIN_VALUE, Long.MAX_VALUE, IntRange.of(5, 15)), 3), 100)},
+			{population(() -> Genotype.of(BitChromosome.of(123, 0.3), 2), 100)},
+			{population(() -> Genotype.of(BitChromosome.of(8, 0.5)), 1)},
+			{ISeq.empty()}
+		};
+	}
+
+	private static <G extends Gene<?, G>> ISeq<Phenotype<G, Double>>
+	population(final Factory<Genotype<G>> factory, final int size) {
+		return factory.instances()
+			.limit(size)
+			.map(gt -> gt.hashCode()%3 == 0
+				? Phenotype.<G, Double>of(gt, 7)
+				: Phenotype.of(gt, 7, gt.hashCode()/3.0))
+			.collect(ISeq.toISeq());
+	}
+
+	@Test(dataProvider = "fitnessFunctions")
+	public void writeReadFitness(final Function<Genotype<DoubleGene>, ?> fitness)
+		throws IOException
+	{
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		final ISeq<Phenotype<DoubleGene, ?>> population = (ISeq)
+			Genotype.of(DoubleChromosome.of(0, 1, 5)).instances()
+				.limit(50)
+				.map(gt -> Phenotype.of(gt, 1, (Comparable)fitness.apply(gt)))
+				.collect(ISeq.toISeq());
+
+		final Path path = Files.createTempFile("jenetics-", ".snapshot");
+		try {
+			PopulationSnapshot.write(path, (ISeq)population);
+			Assert.assertEquals(
+				PopulationSnapshot.open(path).population(),
+				population
+			);
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@DataProvider
+	public Object[][] fitnessFunctions() {
+		return new Object[][] {
+			{(Function<Genotype<DoubleGene>, ?>)gt -> gt.chromosome().gene().doubleValue()},
+			{(Function<Genotype<DoubleGene>, ?>)gt -> gt.chromosome().gene().intValue()},
+			{(Function<Genotype<DoubleGene>, ?>)gt -> gt.chromosome().gene().longValue()*Integer.MAX_VALUE}
+		};
+	}
+
+	@Test
+	public void writeReadResult() throws IOException {
+		final ISeq<Phenotype<DoubleGene, Double>> population =
+			population(() -> Genotype.of(DoubleChromosome.of(0, 1, 10)), 200);
+		final EvolutionResult<DoubleGene, Double> result = EvolutionResult.of(
+			Optimize.MINIMUM,
+			population,
+			23,
+			123,
+			EvolutionDurations.ZERO,
+			3,
+			4,
+			5
+		);
+
+		final Path path = Files.createTempFile("jenetics-", ".snapshot");
+		try {
+			PopulationSnapshot.write(path, result);
+			final PopulationSnapshot<DoubleGene, Double> snapshot =
+				PopulationSnapshot.open(path);
+
+			Assert.assertEquals(snapshot.result().orElseThrow(), result);
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test
+	public void compactness() throws IOException {
+		final ISeq<Phenotype<DoubleGene, Double>> population =
+			population(() -> Genotype.of(DoubleChromosome.of(0, 1, 10), 10), 100);
+
+		final Path path = Files.createTempFile("jenetics-", ".snapshot");
+		try {
+			PopulationSnapshot.write(path, population);
+			final long size = Files.size(path);
+
+			// Gene values and, at most, 40 bytes overhead per individual.
+			Assert.assertTrue(size < 100*(100*8 + 40), "Size: " + size);
+			Assert.assertTrue(
+				size < IO.object.toByteArray(population).length
+			);
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void writeDifferentLayouts() throws IOException {
+		final ISeq<Phenotype<DoubleGene, Double>> population = ISeq.of(
+			Phenotype.of(Genotype.of(DoubleChromosome.of(0, 1, 10)), 1),
+			Phenotype.of(Genotype.of(DoubleChromosome.of(0, 2, 10)), 1)
+		);
+
+		final Path path = Files.createTempFile("jenetics-", ".snapshot");
+		try {
+			PopulationSnapshot.write(path, population);
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void writeUnsupportedChromosome() throws IOException {
+		final var population = ISeq.of(
+			Phenotype.<AnyGene<Integer>, Double>of(
+				Genotype.of(AnyChromosome.of(() -> 1)), 1
+			)
+		);
+
+		final Path path = Files.createTempFile("jenetics-", ".snapshot");
+		try {
+			PopulationSnapshot.write(path, population);
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test(expectedExceptions = StreamCorruptedException.class)
+	public void openInvalidFile() throws IOException {
+		final Path path = Files.createTempFile("jenetics-", ".snapshot");
+		try {
+			Files.write(path, List.of("no snapshot"));
+			PopulationSnapshot.open(path);
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+}
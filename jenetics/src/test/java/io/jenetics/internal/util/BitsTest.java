@@ -514,4 +514,101 @@ public class BitsTest {
 		};
 	}
 
+	@Test(dataProvider = "wordLengths")
+	public void countWords(final Integer length) {
+		final byte[] data = Bits.newArray(length, 0.4, new Random(length));
+
+		int count = 0;
+		for (int i = 0; i < length; ++i) {
+			if (Bits.get(data, i)) ++count;
+		}
+		Assert.assertEquals(Bits.count(data), count);
+	}
+
+	@Test(dataProvider = "wordLengths")
+	public void swapRangeWords(final Integer length) {
+		final Random random = new Random(length);
+		for (int j = 0; j < 20; ++j) {
+			final byte[] a = Bits.newArray(length, 0.5, random);
+			final byte[] b = Bits.newArray(length, 0.5, random);
+			final int start = random.nextInt(length);
+			final int end = start + random.nextInt(length - start + 1);
+
+			final byte[] ea = a.clone();
+			final byte[] eb = b.clone();
+			for (int i = start; i < end; ++i) {
+				final boolean temp = Bits.get(ea, i);
+				Bits.set(ea, i, Bits.get(eb, i));
+				Bits.set(eb, i, temp);
+			}
+
+			Bits.swap(a, start, end, b, start);
+			Assert.assertEquals(a, ea);
+			Assert.assertEquals(b, eb);
+		}
+	}
+
+	@Test(dataProvider = "wordLengths")
+	public void swapMask(final Integer length) {
+		final Random random = new Random(length);
+		final byte[] a = Bits.newArray(length, 0.5, random);
+		final byte[] b = Bits.newArray(length, 0.5, random);
+		final byte[] mask = Bits.newArray(length, 0.3, random);
+
+		final byte[] ea = a.clone();
+		final byte[] eb = b.clone();
+		for (int i = 0; i < length; ++i) {
+			if (Bits.get(mask, i)) {
+				final boolean temp = Bits.get(ea, i);
+				Bits.set(ea, i, Bits.get(eb, i));
+				Bits.set(eb, i, temp);
+			}
+		}
+
+		Assert.assertEquals(Bits.swap(a, b, mask), Bits.count(mask));
+		Assert.assertEquals(a, ea);
+		Assert.assertEquals(b, eb);
+	}
+
+	@Test(dataProvider = "wordLengths")
+	public void flipMask(final Integer length) {
+		final Random random = new Random(length);
+		final byte[] data = Bits.newArray(length, 0.5, random);
+		final byte[] mask = Bits.newArray(length, 0.1, random);
+
+		final byte[] expected = data.clone();
+		for (int i = 0; i < length; ++i) {
+			if (Bits.get(mask, i)) {
+				Bits.flip(expected, i);
+			}
+		}
+
+		Assert.assertEquals(Bits.flip(data, mask), expected);
+	}
+
+	@Test(dataProvider = "wordLengths")
+	public void newRandomArray(final Integer length) {
+		for (double p : new double[]{0.0, 0.01, 0.5, 1.0}) {
+			final byte[] data = Bits.newArray(length, p, new Random());
+			Assert.assertEquals(data.length, Bits.toByteLength(length));
+
+			// No bits beyond the given length.
+			for (int i = length; i < data.length*8; ++i) {
+				Assert.assertFalse(Bits.get(data, i));
+			}
+		}
+		Assert.assertEquals(
+			Bits.count(Bits.newArray(length, 1.0, new Random())),
+			length.intValue()
+		);
+	}
+
+	@DataProvider(name = "wordLengths")
+	public Object[][] wordLengths() {
+		return new Object[][] {
+			{1}, {7}, {8}, {63}, {64}, {65}, {127}, {128}, {1000}, {4097}
+		};
+	}
+
+
 }
@@ -0,0 +1,138 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.stat;
+
+import static io.jenetics.stat.ColumnMomentStatistics.toColumnMomentStatistics;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class ColumnMomentStatisticsTest {
+
+	private static List<double[]> rows(final int size, final int columns) {
+		final Random random = new Random(123);
+		return Stream.generate(() -> random.doubles(columns).toArray())
+			.limit(size)
+			.collect(Collectors.toList());
+	}
+
+	@Test(dataProvider = "sampleCounts")
+	public void statistics(final Integer sampleCounts, final Double epsilon) {
+		final List<double[]> rows = rows(sampleCounts, 5);
+
+		final ColumnMomentStatistics statistics = rows.stream()
+			.collect(toColumnMomentStatistics(5));
+
+		Assert.assertEquals(statistics.columns(), 5);
+		for (int i = 0; i < statistics.columns(); ++i) {
+			final int column = i;
+			final DoubleMomentStatistics expected = rows.stream()
+				.collect(DoubleMomentStatistics
+					.toDoubleMomentStatistics(r -> r[column]));
+
+			assertEquals(statistics.toDoubleMoments(i), expected, epsilon);
+		}
+	}
+
+	@Test(dataProvider = "sampleCounts")
+	public void parallelStatistics(final Integer sampleCounts, final Double epsilon) {
+		final List<double[]> rows = rows(sampleCounts, 5);
+
+		final ColumnMomentStatistics statistics = rows.parallelStream()
+			.collect(toColumnMomentStatistics(5));
+
+		for (int i = 0; i < statistics.columns(); ++i) {
+			final int column = i;
+			final DoubleMomentStatistics expected = rows.stream()
+				.collect(DoubleMomentStatistics
+					.toDoubleMomentStatistics(r -> r[column]));
+
+			assertEquals(statistics.toDoubleMoments(i), expected, epsilon);
+		}
+	}
+
+	@DataProvider(name = "sampleCounts")
+	public Object[][] sampleCounts() {
+		return new Object[][] {
+			{0, 0.0},
+			{1, 0.0},
+			{2, 0.05},
+			{3, 0.05},
+			{4, 0.05},
+			{5, 0.05},
+			{10, 0.05},
+			{100, 0.05},
+			{1_000, 0.0001},
+			{10_000, 0.00001}
+		};
+	}
+
+	private static void assertEquals(
+		final DoubleMoments actual,
+		final DoubleMomentStatistics expected,
+		final double epsilon
+	) {
+		Assert.assertEquals(actual.count(), expected.count());
+		Assert.assertEquals(actual.min(), expected.min());
+		Assert.assertEquals(actual.max(), expected.max());
+		Assert.assertEquals(actual.sum(), expected.sum(), epsilon);
+		Assert.assertEquals(actual.mean(), expected.mean(), epsilon);
+		Assert.assertEquals(actual.variance(), expected.variance(), epsilon);
+		Assert.assertEquals(actual.skewness(), expected.skewness(), epsilon);
+		Assert.assertEquals(actual.kurtosis(), expected.kurtosis(), epsilon);
+	}
+
+	@Test
+	public void combineEmpty() {
+		final ColumnMomentStatistics statistics = new ColumnMomentStatistics(3);
+		statistics.accept(new double[]{1, 2, 3});
+		statistics.combine(new ColumnMomentStatistics(3));
+
+		Assert.assertEquals(statistics.count(0), 1L);
+		Assert.assertEquals(statistics.mean(2), 3.0);
+
+		final ColumnMomentStatistics empty = new ColumnMomentStatistics(3);
+		empty.combine(statistics);
+		Assert.assertEquals(empty.count(1), 1L);
+		Assert.assertEquals(empty.mean(1), 2.0);
+		Assert.assertEquals(empty.min(1), 2.0);
+		Assert.assertEquals(empty.max(1), 2.0);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void combineDifferentColumns() {
+		new ColumnMomentStatistics(3).combine(new ColumnMomentStatistics(4));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void acceptTooLongRow() {
+		new ColumnMomentStatistics(3).accept(new double[4]);
+	}
+
+}
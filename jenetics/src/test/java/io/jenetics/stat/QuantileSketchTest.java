@@ -0,0 +1,161 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.stat;
+
+import static java.lang.String.format;
+import static io.jenetics.stat.QuantileSketch.toQuantileSketch;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.DoubleStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class QuantileSketchTest {
+
+	private static double[] values(final int size, final long seed) {
+		final Random random = new Random(seed);
+		return random.doubles(size).map(v -> v*v*100).toArray();
+	}
+
+	// The normalized rank error of the estimated quantile.
+	private static double rankError(
+		final double[] sorted,
+		final double quantile,
+		final double value
+	) {
+		int index = Arrays.binarySearch(sorted, value);
+		if (index < 0) index = -index - 1;
+		return Math.abs((double)index/sorted.length - quantile);
+	}
+
+	@Test(dataProvider = "sizes")
+	public void quantiles(final Integer size) {
+		final double[] values = values(size, 123);
+		final QuantileSketch sketch = new QuantileSketch();
+		DoubleStream.of(values).forEach(sketch);
+
+		final double[] sorted = values.clone();
+		Arrays.sort(sorted);
+
+		Assert.assertEquals(sketch.count(), size.longValue());
+		Assert.assertEquals(sketch.min(), sorted[0]);
+		Assert.assertEquals(sketch.max(), sorted[sorted.length - 1]);
+		Assert.assertEquals(sketch.quantile(0), sorted[0]);
+		Assert.assertEquals(sketch.quantile(1), sorted[sorted.length - 1]);
+
+		for (double q = 0.05; q < 1; q += 0.05) {
+			final double error = rankError(sorted, q, sketch.quantile(q));
+			Assert.assertTrue(error < 0.02, format("Rank error: %s", error));
+		}
+	}
+
+	@Test(dataProvider = "sizes")
+	public void parallelQuantiles(final Integer size) {
+		final double[] values = values(size, 456);
+		final QuantileSketch sketch = DoubleStream.of(values).parallel()
+			.collect(
+				QuantileSketch::new,
+				QuantileSketch::accept,
+				QuantileSketch::combine
+			);
+
+		final double[] sorted = values.clone();
+		Arrays.sort(sorted);
+
+		Assert.assertEquals(sketch.count(), size.longValue());
+		final double[] qs = {0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99};
+		final double[] estimates = sketch.quantiles(qs);
+		for (int i = 0; i < qs.length; ++i) {
+			final double error = rankError(sorted, qs[i], estimates[i]);
+			Assert.assertTrue(error < 0.02, format("Rank error: %s", error));
+		}
+	}
+
+	@DataProvider(name = "sizes")
+	public Object[][] sizes() {
+		return new Object[][] {
+			{100}, {1_000}, {10_000}, {100_000}, {1_000_000}
+		};
+	}
+
+	@Test
+	public void boundedMemory() {
+		final QuantileSketch sketch = new QuantileSketch(100);
+		new Random(789).doubles(1_000_000).forEach(sketch);
+
+		Assert.assertEquals(sketch.count(), 1_000_000);
+		Assert.assertTrue(sketch.size() < 400, format("Size: %d", sketch.size()));
+	}
+
+	@Test
+	public void combineSketches() {
+		final double[] values = values(50_000, 987);
+		final QuantileSketch a = new QuantileSketch();
+		final QuantileSketch b = new QuantileSketch();
+		for (int i = 0; i < values.length; ++i) {
+			(i%2 == 0 ? a : b).accept(values[i]);
+		}
+		a.combine(b);
+
+		final double[] sorted = values.clone();
+		Arrays.sort(sorted);
+
+		Assert.assertEquals(a.count(), values.length);
+		Assert.assertEquals(a.rank(sorted[sorted.length/2]), 0.5, 0.02);
+		Assert.assertTrue(rankError(sorted, 0.5, a.quantile(0.5)) < 0.02);
+	}
+
+	@Test
+	public void collector() {
+		final QuantileSketch sketch = DoubleStream.iterate(0, d -> d + 1)
+			.limit(10_001)
+			.boxed()
+			.parallel()
+			.collect(toQuantileSketch(Double::doubleValue));
+
+		Assert.assertEquals(sketch.count(), 10_001);
+		Assert.assertEquals(sketch.quantile(0.5), 5_000, 200);
+	}
+
+	@Test
+	public void empty() {
+		final QuantileSketch sketch = new QuantileSketch();
+		Assert.assertEquals(sketch.count(), 0);
+		Assert.assertTrue(Double.isNaN(sketch.quantile(0.5)));
+		Assert.assertTrue(Double.isNaN(sketch.rank(1)));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidQuantile() {
+		new QuantileSketch().quantile(1.1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void combineDifferentK() {
+		new QuantileSketch(100).combine(new QuantileSketch(200));
+	}
+
+}
@@ -19,6 +19,8 @@
  */
 package io.jenetics.util;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -81,4 +83,85 @@ public class AccumulatorTest {
 		Assert.assertEquals(count, 100);
 	}
 
+	@Test
+	public void parallelStripedAccumulate() {
+		final Collector<Integer, ?, Long> counting = Collectors.counting();
+		final var accu = Accumulator.of(counting).striped();
+
+		IntStream.range(0, 10_000).boxed().parallel()
+			.forEach(accu);
+
+		Assert.assertEquals(accu.result().longValue(), 10_000);
+
+		IntStream.range(0, 10_000).boxed().parallel()
+			.forEach(accu);
+
+		Assert.assertEquals(accu.result().longValue(), 20_000);
+	}
+
+	@Test
+	public void parallelStripedCollect() {
+		final Collector<Integer, ?, Long> counting = Collectors.counting();
+		final var accu = Accumulator.of(counting).striped();
+
+		final long count = IntStream.range(0, 10_000).parallel().boxed()
+			.collect(accu);
+		Assert.assertEquals(count, 10_000);
+	}
+
+	@Test
+	public void parallelStripedSet() throws InterruptedException {
+		final var accu = Accumulator.of(Collectors.<Integer>toSet()).striped();
+
+		final var done = new AtomicBoolean(false);
+		final var error = new AtomicReference<Throwable>();
+		final var reader = new Thread(() -> {
+			try {
+				while (!done.get()) {
+					accu.result();
+				}
+			} catch (Throwable e) {
+				error.set(e);
+			}
+		});
+		reader.start();
+
+		try {
+			IntStream.range(0, 100_000).boxed().parallel()
+				.forEach(accu);
+		} finally {
+			done.set(true);
+			reader.join();
+		}
+
+		Assert.assertNull(error.get());
+		Assert.assertEquals(accu.result().size(), 100_000);
+	}
+
+	@Test
+	public void stripedAcceptFailure() {
+		final Collector<Integer, ?, Long> counting = Collector.of(
+			() -> new long[1],
+			(a, v) -> {
+				if (v < 0) {
+					throw new IllegalArgumentException("Negative: " + v);
+				}
+				++a[0];
+			},
+			(a, b) -> { a[0] += b[0]; return a; },
+			a -> a[0]
+		);
+		final var accu = Accumulator.of(counting).striped();
+
+		accu.accept(1);
+		try {
+			accu.accept(-1);
+			Assert.fail("Expected IllegalArgumentException.");
+		} catch (IllegalArgumentException expected) {
+		}
+		accu.accept(2);
+
+		Assert.assertEquals(accu.result().longValue(), 2);
+	}
+
 }
@@ -0,0 +1,260 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.engine.Codec;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.Problem;
+import io.jenetics.util.DemandStreamPublisher.Overflow;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class DemandStreamPublisherTest {
+
+	private final Problem<Integer, IntegerGene, Integer> _problem = Problem.of(
+		a -> a,
+		Codec.of(
+			Genotype.of(IntegerChromosome.of(0, 1000)),
+			g -> g.gene().allele()
+		)
+	);
+
+	private final Engine<IntegerGene, Integer> _engine = Engine
+		.builder(_problem)
+		.build();
+
+	/**
+	 * Subscriber which requests {@code batch} elements, every time the
+	 * previous batch has been received, until {@code limit} elements have
+	 * been requested.
+	 */
+	private static class Collecting<T> implements Subscriber<T> {
+		final List<T> elements = new CopyOnWriteArrayList<>();
+		final AtomicReference<Throwable> error = new AtomicReference<>();
+		final CountDownLatch terminated = new CountDownLatch(1);
+		final long initial;
+		Subscription subscription;
+
+		Collecting(final long initial) {
+			this.initial = initial;
+		}
+
+		@Override
+		public void onSubscribe(final Subscription subscription) {
+			this.subscription = subscription;
+			if (initial > 0) {
+				subscription.request(initial);
+			}
+		}
+
+		@Override
+		public void onNext(final T element) {
+			elements.add(element);
+		}
+
+		@Override
+		public void onError(final Throwable throwable) {
+			error.set(throwable);
+			terminated.countDown();
+		}
+
+		@Override
+		public void onComplete() {
+			terminated.countDown();
+		}
+
+		boolean await() throws InterruptedException {
+			return terminated.await(10, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	public void evolveOnDemand() throws InterruptedException {
+		final AtomicInteger evolved = new AtomicInteger();
+		final Stream<Long> stream = _engine.stream()
+			.peek(r -> evolved.incrementAndGet())
+			.map(EvolutionResult::generation);
+
+		try (var publisher = new DemandStreamPublisher<Long>()) {
+			final var subscriber = new Collecting<Long>(3);
+			publisher.subscribe(subscriber);
+			publisher.attach(stream);
+
+			while (subscriber.elements.size() < 3) {
+				Thread.sleep(5);
+			}
+			Thread.sleep(100);
+
+			Assert.assertEquals(subscriber.elements, List.of(1L, 2L, 3L));
+			Assert.assertEquals(evolved.get(), 3);
+
+			subscriber.subscription.request(2);
+			while (subscriber.elements.size() < 5) {
+				Thread.sleep(5);
+			}
+			Thread.sleep(100);
+
+			Assert.assertEquals(subscriber.elements, List.of(1L, 2L, 3L, 4L, 5L));
+			Assert.assertEquals(evolved.get(), 5);
+		}
+	}
+
+	@Test
+	public void sampling() throws InterruptedException {
+		final var publisher = new DemandStreamPublisher<Integer>(
+			Runnable::run, Overflow.LATEST, 10, true
+		);
+		final var subscriber = new Collecting<Integer>(Long.MAX_VALUE);
+		publisher.subscribe(subscriber);
+		publisher.attach(IntStream.rangeClosed(1, 100).boxed());
+
+		Assert.assertTrue(subscriber.await());
+		Assert.assertNull(subscriber.error.get());
+		Assert.assertEquals(
+			subscriber.elements,
+			List.of(10, 20, 30, 40, 50, 60, 70, 80, 90, 100)
+		);
+	}
+
+	@Test
+	public void latest() throws InterruptedException {
+		final var publisher = new DemandStreamPublisher<Integer>(
+			Overflow.LATEST, false
+		);
+		final var subscriber = new Collecting<Integer>(0);
+		publisher.subscribe(subscriber);
+		publisher.attach(IntStream.range(0, 1000).boxed());
+
+		// Completion is delayed, until the latest element is requested.
+		Assert.assertFalse(subscriber.terminated.await(100, TimeUnit.MILLISECONDS));
+
+		subscriber.subscription.request(10);
+		Assert.assertTrue(subscriber.await());
+		Assert.assertEquals(subscriber.elements, List.of(999));
+	}
+
+	@Test
+	public void drop() throws InterruptedException {
+		final var publisher = new DemandStreamPublisher<Integer>(
+			Overflow.DROP, false
+		);
+		final var subscriber = new Collecting<Integer>(0);
+		publisher.subscribe(subscriber);
+		publisher.attach(IntStream.range(0, 1000).boxed());
+
+		Assert.assertTrue(subscriber.await());
+		Assert.assertTrue(subscriber.elements.isEmpty());
+	}
+
+	@Test
+	public void slowSubscriber() throws InterruptedException {
+		final var publisher = new DemandStreamPublisher<Integer>(
+			Overflow.LATEST, false
+		);
+		final var subscriber = new Collecting<Integer>(1) {
+			@Override
+			public void onNext(final Integer element) {
+				super.onNext(element);
+				try {
+					Thread.sleep(1);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				subscription.request(1);
+			}
+		};
+		publisher.subscribe(subscriber);
+		publisher.attach(IntStream.range(0, 10_000).boxed());
+
+		Assert.assertTrue(subscriber.await());
+		final List<Integer> elements = subscriber.elements;
+		Assert.assertEquals(elements.get(elements.size() - 1).intValue(), 9999);
+		for (int i = 1; i < elements.size(); ++i) {
+			Assert.assertTrue(elements.get(i - 1) < elements.get(i));
+		}
+	}
+
+	@Test
+	public void streamError() throws InterruptedException {
+		final var publisher = new DemandStreamPublisher<Integer>();
+		final var subscriber = new Collecting<Integer>(Long.MAX_VALUE);
+		publisher.subscribe(subscriber);
+		publisher.attach(Stream.of(1, 2, 0).map(i -> 10/i));
+
+		Assert.assertTrue(subscriber.await());
+		Assert.assertTrue(subscriber.error.get() instanceof ArithmeticException);
+	}
+
+	@Test
+	public void invalidRequest() throws InterruptedException {
+		final var publisher = new DemandStreamPublisher<Integer>();
+		final var subscriber = new Collecting<Integer>(0);
+		publisher.subscribe(subscriber);
+		publisher.attach(Stream.of(1, 2, 3));
+
+		while (subscriber.subscription == null) {
+			Thread.sleep(5);
+		}
+		subscriber.subscription.request(0);
+
+		Assert.assertTrue(subscriber.await());
+		Assert.assertTrue(subscriber.error.get() instanceof IllegalArgumentException);
+		Assert.assertEquals(publisher.numberOfSubscribers(), 0);
+	}
+
+	@Test
+	public void subscribeAfterClose() throws InterruptedException {
+		final var publisher = new DemandStreamPublisher<Integer>();
+		publisher.close();
+
+		final var subscriber = new Collecting<Integer>(1);
+		publisher.subscribe(subscriber);
+		Assert.assertTrue(subscriber.await());
+		Assert.assertNull(subscriber.error.get());
+	}
+
+	@Test(expectedExceptions = IllegalStateException.class)
+	public void attachTwice() {
+		try (var publisher = new DemandStreamPublisher<Integer>()) {
+			publisher.attach(Stream.of(1));
+			publisher.attach(Stream.of(2));
+		}
+	}
+
+}
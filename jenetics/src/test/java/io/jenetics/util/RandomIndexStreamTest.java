@@ -29,6 +29,7 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import io.jenetics.internal.math.Probabilities;
+import io.jenetics.internal.math.Randoms;
 import io.jenetics.internal.util.IntRef;
 import io.jenetics.stat.Histogram;
 import io.jenetics.stat.LongMomentStatistics;
@@ -101,6 +102,99 @@ public class RandomIndexStreamTest {
 		//assertDistribution(histogram, new NormalDistribution<>(domain, mean, var));
 	}
 
+	@Test(dataProvider = "skipProbabilities")
+	public void skipIndexArray(final Double p) {
+		final Random random = new Random(123);
+		final int n = 100_000;
+
+		final LongMomentStatistics count = new LongMomentStatistics();
+		final long[] bins = new long[10];
+		for (int i = 0; i < 100; ++i) {
+			final int[] indexes = Randoms.skipIndexArray(random, 10, n + 10, p);
+			count.accept(indexes.length);
+
+			for (int j = 0; j < indexes.length; ++j) {
+				Assert.assertTrue(indexes[j] >= 10 && indexes[j] < n + 10);
+				if (j > 0) {
+					Assert.assertTrue(indexes[j - 1] < indexes[j]);
+				}
+				++bins[(indexes[j] - 10)*bins.length/n];
+			}
+		}
+
+		final double mean = n*p;
+		final double std = Math.sqrt(n*p*(1 - p)/100);
+		Assert.assertEquals(count.mean(), mean, 5*std);
+
+		final double expected = count.sum()/(double)bins.length;
+		for (long bin : bins) {
+			Assert.assertEquals(bin, expected, 5*Math.sqrt(expected) + 1);
+		}
+	}
+
+	@DataProvider(name = "skipProbabilities")
+	public Object[][] skipProbabilities() {
+		return new Object[][] {
+			{0.0001}, {0.001}, {0.01}, {0.05}, {0.099}, {0.1}, {0.3}, {0.7}
+		};
+	}
+
+	@Test
+	public void skipIndexesRandomCalls() {
+		final int[] calls = new int[1];
+		final Random random = new Random(1) {
+			private static final long serialVersionUID = 1L;
+			@Override
+			protected int next(final int bits) {
+				++calls[0];
+				return super.next(bits);
+			}
+		};
+
+		final int[] indexes = Randoms.skipIndexArray(random, 100_000, 0.001);
+		Assert.assertTrue(indexes.length > 0);
+
+		// 'nextDouble' consumes two 'next' calls.
+		Assert.assertEquals(calls[0], 2*(indexes.length + 1));
+	}
+
+	@Test(dataProvider = "compatibleProbabilities")
+	public void skipIndexesCompatibility(final Double p) {
+		final int[] expected = indexes(new Random(11), 3, 1000, p).toArray();
+
+		Assert.assertEquals(
+			Randoms.skipIndexArray(new Random(11), 3, 1000, p),
+			expected
+		);
+		Assert.assertEquals(
+			Randoms.skipIndexes(new Random(11), 3, 1000, p).toArray(),
+			expected
+		);
+	}
+
+	@DataProvider(name = "compatibleProbabilities")
+	public Object[][] compatibleProbabilities() {
+		return new Object[][] {{0.0}, {0.1}, {0.5}, {0.9}, {1.0}};
+	}
+
+	@Test
+	public void skipIndexesStream() {
+		for (double p : new double[]{0.0, 0.001, 0.02, 0.5, 1.0}) {
+			Assert.assertEquals(
+				Randoms.skipIndexes(new Random(5), 10_000, p).toArray(),
+				Randoms.skipIndexArray(new Random(5), 10_000, p)
+			);
+		}
+
+		Assert.assertEquals(Randoms.skipIndexArray(new Random(), 5, 5, 0.01).length, 0);
+		Assert.assertEquals(Randoms.skipIndexArray(new Random(), 5, 5, 1.0).length, 0);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void skipIndexesInvalidProbability() {
+		Randoms.skipIndexArray(new Random(), 10, 1.5);
+	}
+
 	double var(final double p, final long N) {
 		return N*p*(1.0 - p);
 	}
@@ -0,0 +1,104 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SplitRandomTest {
+
+	@Test
+	public void sameSeed() {
+		final Random a = new SplitRandom(123);
+		final Random b = new SplitRandom(123);
+
+		for (int i = 0; i < 1000; ++i) {
+			Assert.assertEquals(a.nextLong(), b.nextLong());
+			Assert.assertEquals(a.nextInt(100), b.nextInt(100));
+			Assert.assertEquals(a.nextDouble(), b.nextDouble());
+			Assert.assertEquals(a.nextGaussian(), b.nextGaussian());
+		}
+	}
+
+	@Test
+	public void split() {
+		final SplitRandom a = new SplitRandom(123);
+		final SplitRandom b = new SplitRandom(123);
+
+		final SplitRandom a1 = a.split();
+		final SplitRandom a2 = a.split();
+		final SplitRandom b1 = b.split();
+		final SplitRandom b2 = b.split();
+
+		final long[] values = a1.longs(100).toArray();
+		Assert.assertEquals(b1.longs(100).toArray(), values);
+		Assert.assertEquals(a2.longs(100).toArray(), b2.longs(100).toArray());
+		Assert.assertNotEquals(a2.longs(100).toArray(), values);
+		Assert.assertEquals(a.nextLong(), b.nextLong());
+	}
+
+	@Test
+	public void nextIntRange() {
+		final Random random = new SplitRandom(1);
+		Assert.assertTrue(
+			IntStream.range(0, 10_000)
+				.map(i -> random.nextInt(10))
+				.allMatch(i -> i >= 0 && i < 10)
+		);
+		Assert.assertTrue(
+			IntStream.range(0, 10_000)
+				.mapToDouble(i -> random.nextFloat())
+				.allMatch(v -> v >= 0 && v < 1)
+		);
+	}
+
+	@Test(expectedExceptions = UnsupportedOperationException.class)
+	public void setSeed() {
+		new SplitRandom(1).setSeed(2);
+	}
+
+	@Test(expectedExceptions = NotSerializableException.class)
+	public void serialize() throws IOException {
+		IO.object.toByteArray(new SplitRandom(1));
+	}
+
+	@Test
+	public void registrySplit() {
+		Assert.assertFalse(
+			RandomRegistry.with(new Random(), r -> RandomRegistry.split())
+				.isPresent()
+		);
+
+		final long[] a = RandomRegistry.with(new SplitRandom(7), r ->
+			RandomRegistry.split().orElseThrow().longs(10).toArray());
+		final long[] b = RandomRegistry.with(new SplitRandom(7), r ->
+			RandomRegistry.split().orElseThrow().longs(10).toArray());
+		Assert.assertEquals(a, b);
+	}
+
+}